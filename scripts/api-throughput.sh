@@ -0,0 +1,15 @@
+#!/usr/bin/env bash
+# Compares read throughput of the servlet API (8080) and the functional API on Reactor Netty (8081).
+# Start the application with --golf.reactive.enabled=true and have wrk installed.
+set -euo pipefail
+
+DURATION=${DURATION:-30s}
+THREADS=${THREADS:-4}
+CONNECTIONS=${CONNECTIONS:-200}
+ENDPOINT=${ENDPOINT:-/api/players}
+
+for target in "servlet http://localhost:8080" "netty http://localhost:8081"; do
+    set -- $target
+    echo "== $1 =="
+    wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" --latency "$2$ENDPOINT"
+done
@@ -0,0 +1,29 @@
+#!/usr/bin/env bash
+# Measures time-to-first-request (JVM launch until GET / answers) for the default start, the faststart
+# profile and the faststart profile with the AppCDS archive. Build first with: mvn -Pappcds package -DskipTests
+set -euo pipefail
+
+RUNS=${RUNS:-5}
+PORT=${PORT:-18080}
+CP="target/enterprise-0.0.1-SNAPSHOT-appcds.jar:$(cat target/classpath.txt)"
+MAIN=com.golfhandicapcalculator.enterprise.EnterpriseApplication
+
+measure() {
+    local label=$1; shift
+    local total=0
+    for _ in $(seq "$RUNS"); do
+        local start end pid
+        start=$(date +%s%N)
+        java "$@" -cp "$CP" "$MAIN" --server.port="$PORT" > /dev/null 2>&1 &
+        pid=$!
+        until curl -sf -o /dev/null "http://localhost:$PORT/"; do sleep 0.02; done
+        end=$(date +%s%N)
+        kill "$pid"; wait "$pid" 2> /dev/null || true
+        total=$((total + (end - start) / 1000000))
+    done
+    echo "$label: $((total / RUNS)) ms to first request (mean of $RUNS)"
+}
+
+measure "default" -Xshare:auto
+measure "faststart" -Xshare:auto -Dspring.profiles.active=faststart
+measure "faststart+appcds" -XX:SharedArchiveFile=target/app.jsa -Dspring.profiles.active=faststart
@@ -0,0 +1,75 @@
+package com.golfhandicapcalculator.enterprise;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Compares one GolfHandicapCalculator call per player with the batch engine, single-threaded and on the
+ * fork-join pool, for a large field of players.
+ * Build with mvn -Pbenchmarks test-compile, then run with:
+ * java -cp target/classes:target/test-classes:... BatchHandicapCalculatorBenchmark [players] [rounds]
+ * Defaults to 100,000 players with 20 rounds each.
+ */
+public class BatchHandicapCalculatorBenchmark {
+
+    private static final int REPETITIONS = 20;
+
+    public static void main(String[] args) {
+        int players = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int roundsPerPlayer = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        Random random = new Random(42);
+        int rounds = players * roundsPerPlayer;
+        int[] scores = new int[rounds];
+        int[] pars = new int[rounds];
+        int[] slopes = new int[rounds];
+        for (int i = 0; i < rounds; i++) {
+            pars[i] = 70 + random.nextInt(3);
+            scores[i] = pars[i] + random.nextInt(25);
+            slopes[i] = 100 + random.nextInt(50);
+        }
+        int[] offsets = new int[players + 1];
+        for (int p = 0; p < players; p++) {
+            offsets[p + 1] = offsets[p] + roundsPerPlayer;
+        }
+        HandicapBatch batch = new HandicapBatch(scores, pars, slopes, offsets);
+        double[] handicaps = new double[players];
+
+        GolfHandicapCalculator calculator = new GolfHandicapCalculator();
+        Runnable perPlayer = () -> {
+            for (int p = 0; p < players; p++) {
+                double[] playerScores = new double[roundsPerPlayer];
+                double[] playerPars = new double[roundsPerPlayer];
+                double[] playerSlopes = new double[roundsPerPlayer];
+                for (int i = 0; i < roundsPerPlayer; i++) {
+                    playerScores[i] = scores[offsets[p] + i];
+                    playerPars[i] = pars[offsets[p] + i];
+                    playerSlopes[i] = slopes[offsets[p] + i];
+                }
+                handicaps[p] = calculator.calculateHandicap(playerScores, playerPars, playerSlopes);
+            }
+        };
+        BatchHandicapCalculator singleLoop = new BatchHandicapCalculator(ForkJoinPool.commonPool(), Integer.MAX_VALUE);
+        BatchHandicapCalculator forkJoin = new BatchHandicapCalculator(ForkJoinPool.commonPool(), 65_536);
+
+        System.out.printf("%d players, %d rounds, %d cores%n", players, rounds,
+                Runtime.getRuntime().availableProcessors());
+        measure("per-player calls", perPlayer, handicaps);
+        measure("batch, one loop", () -> singleLoop.calculateHandicaps(batch, handicaps), handicaps);
+        measure("batch, fork-join", () -> forkJoin.calculateHandicaps(batch, handicaps), handicaps);
+    }
+
+    private static void measure(String name, Runnable calculation, double[] handicaps) {
+        for (int i = 0; i < REPETITIONS; i++) {
+            calculation.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < REPETITIONS; i++) {
+            long start = System.nanoTime();
+            calculation.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%-18s %8.2f ms (checksum %.2f)%n", name, best / 1e6, Arrays.stream(handicaps).sum());
+    }
+}
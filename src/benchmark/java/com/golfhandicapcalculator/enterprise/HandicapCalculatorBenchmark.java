@@ -0,0 +1,76 @@
+package com.golfhandicapcalculator.enterprise;
+
+import com.golfhandicapcalculator.enterprise.dto.Score;
+import com.golfhandicapcalculator.enterprise.service.HandicapService;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares time and allocation per handicap calculation of the array API, fed by copying a player's scores into
+ * arrays the way HandicapService used to, with the primitive API reading the scores in place.
+ * Build with mvn -Pbenchmarks test-compile, then run with:
+ * java -cp target/classes:target/test-classes:... HandicapCalculatorBenchmark [rounds] [iterations]
+ * Defaults to 20 rounds and 5,000,000 iterations.
+ */
+public class HandicapCalculatorBenchmark {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 5_000_000;
+
+        List<Score> scores = new ArrayList<>();
+        for (int i = 0; i < rounds; i++) {
+            Score score = new Score();
+            score.setScore(78 + i % 15);
+            score.setPar(i % 3 == 0 ? 71 : 72);
+            score.setSlope(113 + i % 30);
+            scores.add(score);
+        }
+        GolfHandicapCalculator calculator = new GolfHandicapCalculator();
+        HandicapService service = new HandicapService(calculator);
+
+        Calculation arrays = () -> {
+            double[] scoreValues = scores.stream().mapToDouble(Score::getScore).toArray();
+            double[] parValues = scores.stream().mapToDouble(Score::getPar).toArray();
+            double[] slopeValues = scores.stream().mapToDouble(Score::getSlope).toArray();
+            Double handicap = calculator.calculateHandicap(scoreValues, parValues, slopeValues);
+            return handicap != null ? handicap : 0.0;
+        };
+        Calculation inPlace = () -> service.calculatePlayerHandicap(scores);
+
+        // warm both paths up before measuring either
+        run(arrays, iterations);
+        run(inPlace, iterations);
+        report("double[] arrays", arrays, iterations);
+        report("RoundReader", inPlace, iterations);
+    }
+
+    private static void report(String name, Calculation calculation, int iterations) {
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = THREADS.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        double sink = run(calculation, iterations);
+        long nanos = System.nanoTime() - start;
+        long bytes = THREADS.getThreadAllocatedBytes(threadId) - bytesBefore;
+        System.out.printf("%-16s %8.1f ns/op %8.1f bytes/op (handicap %.2f)%n", name,
+                (double) nanos / iterations, (double) bytes / iterations, sink / iterations);
+    }
+
+    private static double run(Calculation calculation, int iterations) {
+        double sink = 0;
+        for (int i = 0; i < iterations; i++) {
+            sink += calculation.handicap();
+        }
+        return sink;
+    }
+
+    @FunctionalInterface
+    private interface Calculation {
+        double handicap();
+    }
+}
@@ -0,0 +1,73 @@
+package com.golfhandicapcalculator.enterprise.dao.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Measures startup-to-ready time of the journal store for a large journal.
+ * Build with mvn -Pbenchmarks test-compile, then run with:
+ * java -cp target/classes:target/test-classes:... JournalReplayBenchmark [scores] [players]
+ * Defaults to 1,000,000 scores spread over 10,000 players.
+ */
+public class JournalReplayBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int scoreCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int playerCount = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        Path directory = Files.createTempDirectory("journal-bench");
+
+        writeJournal(directory.resolve("journal.log"), scoreCount, playerCount);
+        System.out.printf("Journal size: %.1f MB%n", Files.size(directory.resolve("journal.log")) / 1e6);
+
+        long start = System.nanoTime();
+        JournalStore store = new JournalStore(directory.toString(), 2, Long.MAX_VALUE);
+        store.open();
+        long readyMillis = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("Replayed %d players and %d scores; ready in %d ms%n",
+                store.allPlayers().size(), scoreCount, readyMillis);
+
+        start = System.nanoTime();
+        store.snapshot();
+        System.out.printf("Snapshot written in %d ms%n", (System.nanoTime() - start) / 1_000_000);
+        store.close();
+
+        start = System.nanoTime();
+        store = new JournalStore(directory.toString(), 2, Long.MAX_VALUE);
+        store.open();
+        System.out.printf("Replayed from snapshot; ready in %d ms%n", (System.nanoTime() - start) / 1_000_000);
+        store.close();
+    }
+
+    private static void writeJournal(Path path, int scoreCount, int playerCount) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(8 * 1024 * 1024);
+            buffer.putInt(JournalCodec.MAGIC).putInt(JournalCodec.VERSION);
+            for (int p = 0; p < playerCount; p++) {
+                buffer = JournalCodec.writePlayerPut(buffer, 100L + p, "Player " + p, 0.0,
+                        JournalCodec.NO_CLUB);
+            }
+            for (int s = 0; s < scoreCount; s++) {
+                if (buffer.remaining() < 4096) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                buffer = JournalCodec.writeScorePut(buffer, 200L + s, 100L + (s % playerCount),
+                        70 + (s % 30), 72, 113 + (s % 20), JournalCodec.NO_TIMESTAMP,
+                        JournalCodec.NO_ADJUSTED_SCORE, null);
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.golfhandicapcalculator.enterprise;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Calculates the handicaps of thousands of players at once (nightly recalculations, tournament fields) from a
+ * {@link HandicapBatch}. All players are handled by one tight loop over the flat arrays instead of one
+ * {@link GolfHandicapCalculator} call per player; batches with more than
+ * {@code golf.batch-handicap.parallel-threshold} rounds are split by round count across the fork-join pool.
+ *
+ * Every player's differentials are summed in round order exactly as {@link GolfHandicapCalculator} does, so
+ * the results are identical to it. Players without rounds have no handicap; their entry is left at 0 and
+ * {@link HandicapBatch#hasRounds(int)} tells them apart from a handicap of 0.
+ */
+@Service
+public class BatchHandicapCalculator {
+
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+
+    @Autowired
+    public BatchHandicapCalculator(@Value("${golf.batch-handicap.parallel-threshold:65536}") int parallelThreshold) {
+        this(ForkJoinPool.commonPool(), parallelThreshold);
+    }
+
+    BatchHandicapCalculator(ForkJoinPool pool, int parallelThreshold) {
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException("parallelThreshold must be positive");
+        }
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * @return the handicap of each player of the batch, indexed like its offsets
+     */
+    public double[] calculateHandicaps(HandicapBatch batch) {
+        double[] handicaps = new double[batch.getPlayerCount()];
+        calculateHandicaps(batch, handicaps);
+        return handicaps;
+    }
+
+    /**
+     * Writes the handicap of each player of the batch into {@code handicaps}, so a caller recalculating
+     * repeatedly can reuse the result array.
+     */
+    public void calculateHandicaps(HandicapBatch batch, double[] handicaps) {
+        if (handicaps.length < batch.getPlayerCount()) {
+            throw new IllegalArgumentException("handicaps holds " + handicaps.length + " players, the batch has "
+                    + batch.getPlayerCount());
+        }
+        if (batch.getRoundCount() <= parallelThreshold) {
+            calculate(batch, 0, batch.getPlayerCount(), handicaps);
+        } else {
+            pool.invoke(new Slice(batch, 0, batch.getPlayerCount(), handicaps, parallelThreshold));
+        }
+    }
+
+    static void calculate(HandicapBatch batch, int fromPlayer, int toPlayer, double[] handicaps) {
+        int[] scores = batch.scores();
+        int[] pars = batch.pars();
+        int[] slopes = batch.slopes();
+        int[] offsets = batch.offsets();
+        int end = offsets[fromPlayer];
+        for (int p = fromPlayer; p < toPlayer; p++) {
+            int start = end;
+            end = offsets[p + 1];
+            if (start == end) {
+                handicaps[p] = 0;
+                continue;
+            }
+            double totalDifferential = 0;
+            for (int i = start; i < end; i++) {
+                totalDifferential += GolfHandicapCalculator.scoreDifferential(scores[i], pars[i], slopes[i]);
+            }
+            double average = totalDifferential / (end - start);
+            handicaps[p] = Math.round(average * 100.0) / 100.0; // round to 2 decimals
+        }
+    }
+
+    // a range of players, halved by round count until it is below the threshold
+    private static final class Slice extends RecursiveAction {
+
+        private final HandicapBatch batch;
+        private final int fromPlayer;
+        private final int toPlayer;
+        private final double[] handicaps;
+        private final int threshold;
+
+        Slice(HandicapBatch batch, int fromPlayer, int toPlayer, double[] handicaps, int threshold) {
+            this.batch = batch;
+            this.fromPlayer = fromPlayer;
+            this.toPlayer = toPlayer;
+            this.handicaps = handicaps;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int[] offsets = batch.offsets();
+            int firstRound = offsets[fromPlayer];
+            int lastRound = offsets[toPlayer];
+            if (lastRound - firstRound <= threshold || toPlayer - fromPlayer < 2) {
+                calculate(batch, fromPlayer, toPlayer, handicaps);
+                return;
+            }
+            // split at the player holding the middle round so both halves get about the same work
+            int middleRound = firstRound + (lastRound - firstRound) / 2;
+            int found = Arrays.binarySearch(offsets, fromPlayer, toPlayer + 1, middleRound);
+            int middle = found >= 0 ? found : -found - 1;
+            middle = Math.max(fromPlayer + 1, Math.min(toPlayer - 1, middle));
+            invokeAll(new Slice(batch, fromPlayer, middle, handicaps, threshold),
+                    new Slice(batch, middle, toPlayer, handicaps, threshold));
+        }
+    }
+}
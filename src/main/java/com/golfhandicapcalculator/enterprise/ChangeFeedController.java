@@ -0,0 +1,66 @@
+package com.golfhandicapcalculator.enterprise;
+
+import com.golfhandicapcalculator.enterprise.dto.ChangeFeedPage;
+import com.golfhandicapcalculator.enterprise.service.ChangeFeedCursorExpiredException;
+import com.golfhandicapcalculator.enterprise.service.ChangeFeedService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST API controller for the incremental change feed that downstream systems use to stay in sync.
+ */
+@RestController
+@RequestMapping("/api")
+@CrossOrigin(origins = "*")
+public class ChangeFeedController {
+
+    private final ChangeFeedService changeFeedService;
+
+    /**
+     * Constructs a new ChangeFeedController.
+     *
+     * @param changeFeedService service for reading the change log
+     */
+    @Autowired
+    public ChangeFeedController(ChangeFeedService changeFeedService) {
+        this.changeFeedService = changeFeedService;
+    }
+
+    /**
+     * Retrieves the player and score inserts, updates and deletes recorded after the cursor, oldest first.
+     * Entries only carry ids; the current state of changed players is read with {@code GET /api/players?ids}.
+     *
+     * @param after the {@code nextCursor} of the previous page, 0 to start from the beginning of the log
+     * @param limit the maximum number of changes to return, at most {@code golf.change-feed.max-page-size}
+     * @return ResponseEntity containing the changes and the cursor to continue from
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<ChangeFeedPage> getChanges(@RequestParam(defaultValue = "0") long after,
+                                                     @RequestParam(defaultValue = "1000") int limit) {
+        return ResponseEntity.ok(changeFeedService.readChanges(after, limit));
+    }
+
+    /**
+     * Reports a cursor whose unread deletes may have been compacted away as 410 Gone.
+     *
+     * @param e the exception raised by the change feed service
+     * @return ResponseEntity with 410 Gone and the error message
+     */
+    @ExceptionHandler(ChangeFeedCursorExpiredException.class)
+    public ResponseEntity<String> handleCursorExpired(ChangeFeedCursorExpiredException e) {
+        return ResponseEntity.status(HttpStatus.GONE).body(e.getMessage());
+    }
+
+    /**
+     * Handles out-of-range cursors and page sizes.
+     *
+     * @param e the exception describing the invalid input
+     * @return ResponseEntity with 400 Bad Request and the error message
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
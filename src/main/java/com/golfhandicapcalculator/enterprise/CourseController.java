@@ -0,0 +1,70 @@
+package com.golfhandicapcalculator.enterprise;
+
+import com.golfhandicapcalculator.enterprise.dto.Course;
+import com.golfhandicapcalculator.enterprise.service.CourseCatalog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST API controller for the course catalog.
+ * Scores can reference a course by `courseId` instead of carrying their own par and slope.
+ */
+@RestController
+@RequestMapping("/api")
+@CrossOrigin(origins = "*")
+public class CourseController {
+
+    private final CourseCatalog courseCatalog;
+
+    /**
+     * Constructs a new CourseController.
+     *
+     * @param courseCatalog the cached course lookup
+     */
+    @Autowired
+    public CourseController(CourseCatalog courseCatalog) {
+        this.courseCatalog = courseCatalog;
+    }
+
+    /**
+     * Retrieves all courses in the catalog.
+     *
+     * @return ResponseEntity containing a list of all Course objects
+     */
+    @GetMapping("/courses")
+    public ResponseEntity<List<Course>> getAllCourses() {
+        return ResponseEntity.ok(courseCatalog.getAllCourses());
+    }
+
+    /**
+     * Retrieves a specific course by its unique identifier.
+     *
+     * @param courseId the unique identifier of the course
+     * @return ResponseEntity containing the Course object if found, 404 Not Found otherwise
+     */
+    @GetMapping("/courses/{courseId}")
+    public ResponseEntity<Course> getCourse(@PathVariable Long courseId) {
+        Course course = courseCatalog.getCourse(courseId);
+        return course != null ? ResponseEntity.ok(course) : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Registers a new course after validating its par and slope.
+     *
+     * @param course the Course object to create
+     * @return ResponseEntity containing the created Course with HTTP status 201 Created,
+     *         or 400 Bad Request if the course is invalid
+     */
+    @PostMapping("/courses")
+    public ResponseEntity<Course> createCourse(@RequestBody Course course) {
+        try {
+            return new ResponseEntity<>(courseCatalog.registerCourse(course), HttpStatus.CREATED);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.golfhandicapcalculator.enterprise;
+
+import com.golfhandicapcalculator.enterprise.config.SqlProfiler;
+import com.golfhandicapcalculator.enterprise.dto.PlayerSummaryCheck;
+import com.golfhandicapcalculator.enterprise.service.IPlayerServices;
+import com.golfhandicapcalculator.enterprise.service.PlayerSummaryService;
+import com.golfhandicapcalculator.enterprise.service.cache.CacheInvalidationBus;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * REST API controller for administrative maintenance operations.
+ * All endpoints are prefixed with `/api/admin`.
+ */
+@RestController
+@RequestMapping("/api/admin")
+public class GolfHandicapAdminController {
+
+    private final IPlayerServices playerServices;
+    private final PlayerSummaryService summaryService;
+    private final ObjectProvider<CacheInvalidationBus> cacheInvalidationBus;
+    private final ObjectProvider<SqlProfiler> sqlProfiler;
+
+    /**
+     * Constructs a new GolfHandicapAdminController with the required services.
+     *
+     * @param playerServices service for managing player and score operations
+     * @param summaryService service maintaining the player summary read model
+     * @param cacheInvalidationBus cross-node cache invalidation, present when enabled
+     * @param sqlProfiler SQL statement profiler, present when enabled
+     */
+    @Autowired
+    public GolfHandicapAdminController(IPlayerServices playerServices, PlayerSummaryService summaryService,
+                                       ObjectProvider<CacheInvalidationBus> cacheInvalidationBus,
+                                       ObjectProvider<SqlProfiler> sqlProfiler) {
+        this.playerServices = playerServices;
+        this.summaryService = summaryService;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.sqlProfiler = sqlProfiler;
+    }
+
+    /**
+     * Purges every score recorded before the given instant with a single set-based delete.
+     * Handicaps are not recalculated; they are refreshed when each player next records a score.
+     *
+     * @param before ISO-8601 instant; scores recorded strictly before it are deleted
+     * @return ResponseEntity containing the number of scores purged
+     */
+    @DeleteMapping("/scores")
+    public ResponseEntity<Map<String, Integer>> purgeScores(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant before) {
+        return ResponseEntity.ok(Collections.singletonMap("purged", playerServices.purgeScoresRecordedBefore(before)));
+    }
+
+    /**
+     * Rebuilds the player summary read model from the players and scores. Summaries stay readable meanwhile.
+     *
+     * @return ResponseEntity containing the number of players summarized
+     */
+    @PostMapping("/player-summaries/rebuild")
+    public ResponseEntity<Map<String, Long>> rebuildPlayerSummaries() {
+        return ResponseEntity.ok(Collections.singletonMap("players", summaryService.rebuild()));
+    }
+
+    /**
+     * Compares the player summary read model with the players and scores it is derived from.
+     *
+     * @param repair whether to fix the missing, stale and orphaned summaries found
+     * @return ResponseEntity containing the differences found
+     */
+    @PostMapping("/player-summaries/check")
+    public ResponseEntity<PlayerSummaryCheck> checkPlayerSummaries(@RequestParam(defaultValue = "false") boolean repair) {
+        return ResponseEntity.ok(summaryService.checkConsistency(repair));
+    }
+
+    /**
+     * Reports how many cache invalidation batches this node has sent and received, and the invalidation lag
+     * between a change committing on one node and its cache entries being evicted here.
+     *
+     * @return ResponseEntity containing the counters, or 404 if cross-node invalidation is disabled
+     */
+    @GetMapping("/cache-invalidation")
+    public ResponseEntity<Map<String, Long>> getCacheInvalidationStatistics() {
+        CacheInvalidationBus bus = cacheInvalidationBus.getIfAvailable();
+        return bus != null ? ResponseEntity.ok(bus.getStatistics()) : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Returns the slowest SQL fingerprints since startup or the last reset, with their latency histograms,
+     * and the statements issued per request by each endpoint.
+     *
+     * @param top the number of fingerprints to return
+     * @param by what to rank the fingerprints by: mean, max, p99 or total
+     * @return ResponseEntity containing the fingerprints and endpoints, or 404 if SQL profiling is disabled
+     */
+    @GetMapping("/sql-profile")
+    public ResponseEntity<Map<String, Object>> getSqlProfile(@RequestParam(defaultValue = "20") int top,
+                                                             @RequestParam(defaultValue = "mean") String by) {
+        SqlProfiler profiler = sqlProfiler.getIfAvailable();
+        if (profiler == null) {
+            return ResponseEntity.notFound().build();
+        }
+        try {
+            Map<String, Object> profile = new LinkedHashMap<>();
+            profile.put("fingerprints", profiler.topFingerprints(Math.max(top, 0), by));
+            profile.put("requests", profiler.requestStatistics());
+            return ResponseEntity.ok(profile);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Discards the collected SQL statistics, e.g. before measuring a load test.
+     *
+     * @return ResponseEntity with no content, or 404 if SQL profiling is disabled
+     */
+    @DeleteMapping("/sql-profile")
+    public ResponseEntity<Void> resetSqlProfile() {
+        SqlProfiler profiler = sqlProfiler.getIfAvailable();
+        if (profiler == null) {
+            return ResponseEntity.notFound().build();
+        }
+        profiler.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -23,15 +23,178 @@ public class GolfHandicapCalculator {
 
         double totalDifferential = 0;
         for (int i = 0; i < count; i++) {
-            double slope = 113; // default baseline
-            if (slopes != null && slopes.length > i && slopes[i] >= 55 && slopes[i] <= 155) {
-                slope = slopes[i];
-            }
-            double differential = ((scores[i] - pars[i]) * 113) / slope;
-            totalDifferential += differential;
+            double slope = slopes != null ? slopes[i] : 113;
+            totalDifferential += scoreDifferential(scores[i], pars[i], slope);
         }
 
         double average = totalDifferential / count;
         return Math.round(average * 100.0) / 100.0; // round to 2 decimals
     }
+
+    // Same as calculateHandicap, for differentials that were computed when the scores were written
+    public Double calculateHandicapFromDifferentials(double[] differentials) {
+        if (differentials == null || differentials.length == 0) {
+            return null;
+        }
+
+        double totalDifferential = 0;
+        for (double differential : differentials) {
+            totalDifferential += differential;
+        }
+
+        double average = totalDifferential / differentials.length;
+        return Math.round(average * 100.0) / 100.0; // round to 2 decimals
+    }
+
+    /**
+     * Primitive counterpart of {@link #calculateHandicapFromDifferentials(double[])} for callers that reuse one
+     * buffer: only the first {@code count} differentials are used, and the handicap is written into
+     * {@code result} instead of being returned as a nullable Double.
+     *
+     * @return {@code result}, without a handicap if {@code count} is 0
+     */
+    public HandicapResult calculateHandicapFromDifferentials(double[] differentials, int count, HandicapResult result) {
+        if (count == 0) {
+            return result.clear();
+        }
+
+        double totalDifferential = 0;
+        for (int i = 0; i < count; i++) {
+            totalDifferential += differentials[i];
+        }
+        return calculateHandicapFromTotal(totalDifferential, count, result);
+    }
+
+    /**
+     * Same as {@link #calculateHandicapFromDifferentials(double[], int, HandicapResult)} for a caller that has
+     * already summed the differentials, e.g. one that extends a fixed history by a few rounds many times over.
+     *
+     * @return {@code result}, without a handicap if {@code count} is 0
+     */
+    public HandicapResult calculateHandicapFromTotal(double totalDifferential, int count, HandicapResult result) {
+        if (count == 0) {
+            return result.clear();
+        }
+
+        double average = totalDifferential / count;
+        return result.set(Math.round(average * 100.0) / 100.0); // round to 2 decimals
+    }
+
+    /**
+     * Primitive counterpart of {@link #calculateHandicap(double[], double[], double[])} that reads the rounds in
+     * place through a {@link RoundReader} instead of copying them into arrays, and writes the handicap into a
+     * caller-owned {@link HandicapResult}. Nothing is allocated, so it can run on every score write without
+     * creating garbage.
+     *
+     * @param rounds the rounds, in whatever form the reader understands
+     * @param reader reads the score, par and slope (or stored differential) of each round
+     * @param result receives the handicap rounded to two decimals
+     * @return {@code result}, without a handicap if there are no rounds
+     */
+    public <T> HandicapResult calculateHandicap(T rounds, RoundReader<? super T> reader, HandicapResult result) {
+        int count = reader.count(rounds);
+        if (count == 0) {
+            return result.clear();
+        }
+
+        double totalDifferential = 0;
+        for (int i = 0; i < count; i++) {
+            totalDifferential += reader.differential(rounds, i);
+        }
+
+        double average = totalDifferential / count;
+        return result.set(Math.round(average * 100.0) / 100.0); // round to 2 decimals
+    }
+
+    public static double scoreDifferential(double score, double par, double slope) {
+        if (!(slope >= 55 && slope <= 155)) {
+            slope = 113; // default baseline
+        }
+        return ((score - par) * 113) / slope;
+    }
+
+    /**
+     * The outcome of a primitive calculation: whether the rounds give a handicap and, if they do, its value.
+     * Callers that calculate repeatedly keep one instance and pass it to every call.
+     */
+    public static final class HandicapResult {
+
+        private boolean present;
+        private double handicap;
+
+        public boolean isPresent() {
+            return present;
+        }
+
+        /**
+         * @throws IllegalStateException if there were no rounds
+         */
+        public double getHandicap() {
+            if (!present) {
+                throw new IllegalStateException("There is no handicap without rounds");
+            }
+            return handicap;
+        }
+
+        public double orElse(double other) {
+            return present ? handicap : other;
+        }
+
+        HandicapResult set(double handicap) {
+            this.present = true;
+            this.handicap = handicap;
+            return this;
+        }
+
+        HandicapResult clear() {
+            this.present = false;
+            this.handicap = 0;
+            return this;
+        }
+    }
+
+    /**
+     * Reads rounds from a caller-owned source by index. Readers are stateless and shared, so reading a list of
+     * entities or a set of int arrays needs no adapter object per call.
+     */
+    public interface RoundReader<T> {
+
+        int count(T rounds);
+
+        int score(T rounds, int round);
+
+        int par(T rounds, int round);
+
+        int slope(T rounds, int round);
+
+        // sources that store the differential can return it instead of recomputing it
+        default double differential(T rounds, int round) {
+            return scoreDifferential(score(rounds, round), par(rounds, round), slope(rounds, round));
+        }
+    }
+
+    /**
+     * Reads rounds from three parallel int arrays: scores, pars and slopes, in that order.
+     */
+    public static final RoundReader<int[][]> INT_ARRAYS = new RoundReader<int[][]>() {
+        @Override
+        public int count(int[][] rounds) {
+            return Math.min(Math.min(rounds[0].length, rounds[1].length), rounds[2].length);
+        }
+
+        @Override
+        public int score(int[][] rounds, int round) {
+            return rounds[0][round];
+        }
+
+        @Override
+        public int par(int[][] rounds, int round) {
+            return rounds[1][round];
+        }
+
+        @Override
+        public int slope(int[][] rounds, int round) {
+            return rounds[2][round];
+        }
+    };
 }
@@ -1,15 +1,22 @@
 package com.golfhandicapcalculator.enterprise;
 
 import com.golfhandicapcalculator.enterprise.dto.Player;
+import com.golfhandicapcalculator.enterprise.dto.PlayerBatch;
 import com.golfhandicapcalculator.enterprise.dto.Score;
 import com.golfhandicapcalculator.enterprise.service.IPlayerServices;
+import com.golfhandicapcalculator.enterprise.service.IdempotencyConflictException;
+import com.golfhandicapcalculator.enterprise.service.IdempotencyService;
 import com.golfhandicapcalculator.enterprise.service.WeatherService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * REST API controller for golf handicap operations.
@@ -17,23 +24,28 @@ import java.util.List;
  * All endpoints are prefixed with `/api` and support cross-origin requests.
  */
 @RestController
+@Lazy(false)
 @RequestMapping("/api")
 @CrossOrigin(origins = "*")
 public class GolfHandicapController {
 
     private final IPlayerServices playerServices;
     private final WeatherService weatherService;
+    private final IdempotencyService idempotencyService;
 
     /**
      * Constructs a new GolfHandicapController with the required services.
      *
      * @param playerServices service for managing player and score operations
      * @param weatherService service for retrieving weather information
+     * @param idempotencyService service for deduplicating retried score submissions
      */
     @Autowired
-    public GolfHandicapController(IPlayerServices playerServices, WeatherService weatherService) {
+    public GolfHandicapController(IPlayerServices playerServices, WeatherService weatherService,
+                                  IdempotencyService idempotencyService) {
         this.playerServices = playerServices;
         this.weatherService = weatherService;
+        this.idempotencyService = idempotencyService;
     }
 
     // Player Management Endpoints
@@ -60,6 +72,30 @@ public class GolfHandicapController {
         return player != null ? ResponseEntity.ok(player) : ResponseEntity.notFound().build();
     }
 
+    /**
+     * Retrieves several players at once. Players already cached are served from the cache and the rest are
+     * loaded with a single query.
+     *
+     * @param ids the unique identifiers of the players, at most 500
+     * @return ResponseEntity containing the found players in request order and the ids that were not found
+     */
+    @GetMapping(value = "/players", params = "ids")
+    public ResponseEntity<PlayerBatch> getPlayers(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(playerServices.getPlayersByIds(ids));
+    }
+
+    /**
+     * Retrieves several players at once, taking the identifiers from the request body for lists too long
+     * for a query string.
+     *
+     * @param ids the unique identifiers of the players, at most 500
+     * @return ResponseEntity containing the found players in request order and the ids that were not found
+     */
+    @PostMapping("/players/batch")
+    public ResponseEntity<PlayerBatch> getPlayersBatch(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(playerServices.getPlayersByIds(ids));
+    }
+
     /**
      * Creates a new player in the system.
      *
@@ -95,6 +131,17 @@ public class GolfHandicapController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Deletes several players and all of their scores in a constant number of statements.
+     *
+     * @param ids the unique identifiers of the players to delete
+     * @return ResponseEntity containing the number of players deleted
+     */
+    @DeleteMapping(value = "/players", params = "ids")
+    public ResponseEntity<Map<String, Integer>> deletePlayers(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(Collections.singletonMap("deleted", playerServices.deletePlayers(ids)));
+    }
+
     // Score Management Endpoints
 
     /**
@@ -109,15 +156,38 @@ public class GolfHandicapController {
     }
 
     /**
-     * Adds a new score for a specific player.
+     * Retrieves the lowest differentials among a player's most recent scores.
+     *
+     * @param playerId the unique identifier of the player
+     * @param window the number of most recent scores to consider
+     * @param best the number of lowest differentials to return
+     * @return ResponseEntity containing the differentials in ascending order
+     */
+    @GetMapping("/players/{playerId}/differentials/best")
+    public ResponseEntity<List<Double>> getBestDifferentials(@PathVariable Long playerId,
+                                                             @RequestParam(defaultValue = "20") int window,
+                                                             @RequestParam(defaultValue = "8") int best) {
+        return ResponseEntity.ok(playerServices.getBestDifferentials(playerId, window, best));
+    }
+
+    /**
+     * Adds a new score for a specific player. When an Idempotency-Key header is sent, retries with the same key
+     * return the score saved by the first request instead of recording the round again.
      *
      * @param playerId the unique identifier of the player
+     * @param idempotencyKey optional client-chosen key identifying this submission
      * @param score the Score object to add
      * @return ResponseEntity containing the created Score object with HTTP status 201 Created
      */
     @PostMapping("/players/{playerId}/scores")
-    public ResponseEntity<Score> addScore(@PathVariable Long playerId, @RequestBody Score score) {
-        return new ResponseEntity<>(playerServices.addScoreToPlayer(playerId, score), HttpStatus.CREATED);
+    public ResponseEntity<Score> addScore(@PathVariable Long playerId,
+                                          @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                          @RequestBody Score score) {
+        Score saved = idempotencyKey != null
+                ? idempotencyService.submitScore(playerId, idempotencyKey,
+                        () -> playerServices.addScoreToPlayer(playerId, score))
+                : playerServices.addScoreToPlayer(playerId, score);
+        return new ResponseEntity<>(saved, HttpStatus.CREATED);
     }
 
     /**
@@ -137,6 +207,40 @@ public class GolfHandicapController {
 
     // Weather Endpoint
 
+    /**
+     * Translates invalid input reported by the service layer, such as an unknown course ID, into 400 Bad Request.
+     *
+     * @param e the exception raised by the service layer
+     * @return ResponseEntity containing the error message
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    /**
+     * Translates a path variable or request parameter that cannot be converted, such as a non-numeric id in
+     * {@code ?ids=1,abc}, into 400 Bad Request.
+     *
+     * @param e the exception raised while binding the request
+     * @return ResponseEntity containing the error message
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<String> handleTypeMismatch(MethodArgumentTypeMismatchException e) {
+        return ResponseEntity.badRequest().body(e.getName() + " has an invalid value: " + e.getValue());
+    }
+
+    /**
+     * Reports a retried score submission whose original request is still running as 409 Conflict.
+     *
+     * @param e the exception raised by the idempotency service
+     * @return ResponseEntity containing the error message
+     */
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<String> handleIdempotencyConflict(IdempotencyConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+
     /**
      * Retrieves weather information for a specific geographic location.
      *
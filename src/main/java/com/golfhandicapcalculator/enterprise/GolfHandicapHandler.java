@@ -0,0 +1,238 @@
+package com.golfhandicapcalculator.enterprise;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.golfhandicapcalculator.enterprise.dto.Player;
+import com.golfhandicapcalculator.enterprise.dto.Score;
+import com.golfhandicapcalculator.enterprise.service.IPlayerServices;
+import com.golfhandicapcalculator.enterprise.service.WeatherService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Functional counterpart of {@link GolfHandicapController} served by Reactor Netty.
+ *
+ * The services and DAOs block on JDBC, so every call runs on a bounded worker scheduler instead of the event loop.
+ * Each call and its JSON serialization share one transaction, which keeps lazy score collections readable without
+ * open-session-in-view, and the event loop only writes the finished bytes.
+ */
+public class GolfHandicapHandler {
+
+    private final IPlayerServices playerServices;
+    private final WeatherService weatherService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final Scheduler workers;
+
+    /**
+     * Constructs a new GolfHandicapHandler.
+     *
+     * @param playerServices service for managing player and score operations
+     * @param weatherService service for retrieving weather information
+     * @param objectMapper the application's JSON mapper
+     * @param transactionManager transaction manager used to span a call and its serialization
+     * @param workers bounded scheduler the blocking calls are offloaded to
+     */
+    public GolfHandicapHandler(IPlayerServices playerServices, WeatherService weatherService, ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager, Scheduler workers) {
+        this.playerServices = playerServices;
+        this.weatherService = weatherService;
+        this.objectMapper = objectMapper;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.workers = workers;
+    }
+
+    // Player Management Endpoints
+
+    /**
+     * Retrieves all players in the system.
+     *
+     * @param request the incoming request
+     * @return 200 OK with a list of all players
+     */
+    public Mono<ServerResponse> getAllPlayers(ServerRequest request) {
+        return respond(HttpStatus.OK, readTransaction, playerServices::getAllPlayers);
+    }
+
+    /**
+     * Retrieves several players at once, mirroring {@code GET /api/players?ids=} of the servlet API.
+     *
+     * @param request the incoming request carrying comma-separated or repeated {@code ids} query parameters
+     * @return 200 OK with the found players in request order and the ids that were not found
+     * @throws IllegalArgumentException if an id is not a number
+     */
+    public Mono<ServerResponse> getPlayers(ServerRequest request) {
+        List<Long> ids = new ArrayList<>();
+        for (String values : request.queryParams().getOrDefault("ids", Collections.emptyList())) {
+            for (String id : values.split(",")) {
+                if (!id.trim().isEmpty()) {
+                    ids.add(parseId("ids", id.trim()));
+                }
+            }
+        }
+        return respond(HttpStatus.OK, readTransaction, () -> playerServices.getPlayersByIds(ids));
+    }
+
+    /**
+     * Retrieves a specific player by their unique identifier.
+     *
+     * @param request the incoming request carrying the {@code playerId} path variable
+     * @return 200 OK with the player if found, 404 Not Found otherwise
+     */
+    public Mono<ServerResponse> getPlayer(ServerRequest request) {
+        Long playerId = playerId(request);
+        return respond(HttpStatus.OK, readTransaction, () -> playerServices.getPlayerById(playerId));
+    }
+
+    /**
+     * Creates a new player in the system.
+     *
+     * @param request the incoming request with a Player JSON body
+     * @return 201 Created with the created player
+     */
+    public Mono<ServerResponse> createPlayer(ServerRequest request) {
+        return request.bodyToMono(Player.class)
+                .flatMap(player -> respond(HttpStatus.CREATED, writeTransaction,
+                        () -> playerServices.createPlayer(player)));
+    }
+
+    /**
+     * Updates an existing player's information.
+     *
+     * @param request the incoming request carrying the {@code playerId} path variable and a Player JSON body
+     * @return 200 OK with the updated player
+     */
+    public Mono<ServerResponse> updatePlayer(ServerRequest request) {
+        Long playerId = playerId(request);
+        return request.bodyToMono(Player.class)
+                .flatMap(player -> respond(HttpStatus.OK, writeTransaction,
+                        () -> playerServices.updatePlayer(playerId, player)));
+    }
+
+    /**
+     * Deletes a player from the system.
+     *
+     * @param request the incoming request carrying the {@code playerId} path variable
+     * @return 204 No Content
+     */
+    public Mono<ServerResponse> deletePlayer(ServerRequest request) {
+        Long playerId = playerId(request);
+        return offload(() -> {
+            playerServices.deletePlayer(playerId);
+            return Boolean.TRUE;
+        }).then(ServerResponse.noContent().build());
+    }
+
+    // Score Management Endpoints
+
+    /**
+     * Retrieves all scores for a specific player.
+     *
+     * @param request the incoming request carrying the {@code playerId} path variable
+     * @return 200 OK with the player's scores
+     */
+    public Mono<ServerResponse> getPlayerScores(ServerRequest request) {
+        Long playerId = playerId(request);
+        return respond(HttpStatus.OK, readTransaction, () -> playerServices.getPlayerScores(playerId));
+    }
+
+    /**
+     * Adds a new score for a specific player.
+     *
+     * @param request the incoming request carrying the {@code playerId} path variable and a Score JSON body
+     * @return 201 Created with the created score
+     */
+    public Mono<ServerResponse> addScore(ServerRequest request) {
+        Long playerId = playerId(request);
+        return request.bodyToMono(Score.class)
+                .flatMap(score -> respond(HttpStatus.CREATED, writeTransaction,
+                        () -> playerServices.addScoreToPlayer(playerId, score)));
+    }
+
+    /**
+     * Updates an existing score for a specific player.
+     *
+     * @param request the incoming request carrying the {@code playerId} and {@code scoreId} path variables
+     *                and a Score JSON body
+     * @return 200 OK with the updated score
+     */
+    public Mono<ServerResponse> updateScore(ServerRequest request) {
+        Long playerId = playerId(request);
+        Long scoreId = parseId("scoreId", request.pathVariable("scoreId"));
+        return request.bodyToMono(Score.class)
+                .flatMap(score -> respond(HttpStatus.OK, writeTransaction,
+                        () -> playerServices.updatePlayerScore(playerId, scoreId, score)));
+    }
+
+    // Weather Endpoint
+
+    /**
+     * Retrieves weather information for a specific geographic location without leaving the event loop.
+     *
+     * @param request the incoming request carrying the {@code lat} and {@code lon} query parameters
+     * @return 200 OK with weather information as plain text, 400 Bad Request if a coordinate is missing
+     */
+    public Mono<ServerResponse> getWeather(ServerRequest request) {
+        String lat = request.queryParam("lat").orElse(null);
+        String lon = request.queryParam("lon").orElse(null);
+        if (lat == null || lon == null) {
+            return ServerResponse.badRequest().build();
+        }
+        return weatherService.getWeatherAsync(lat, lon)
+                .flatMap(weather -> ServerResponse.ok().contentType(MediaType.TEXT_PLAIN).bodyValue(weather));
+    }
+
+    private Mono<ServerResponse> respond(HttpStatus status, TransactionTemplate transaction, Callable<?> call) {
+        return offload(() -> transaction.execute(tx -> {
+            try {
+                Object result = call.call();
+                return result != null ? objectMapper.writeValueAsBytes(result) : null;
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }))
+                .flatMap(body -> ServerResponse.status(status).contentType(MediaType.APPLICATION_JSON).bodyValue(body))
+                .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    private <T> Mono<T> offload(Callable<T> call) {
+        return Mono.fromCallable(call)
+                .subscribeOn(workers)
+                .onErrorMap(RejectedExecutionException.class,
+                        e -> new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Worker queue is full", e));
+    }
+
+    private static Long playerId(ServerRequest request) {
+        return parseId("playerId", request.pathVariable("playerId"));
+    }
+
+    // NumberFormatException is an IllegalArgumentException too, but its message does not name the parameter
+    private static Long parseId(String name, String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be a number, not '" + value + "'");
+        }
+    }
+}
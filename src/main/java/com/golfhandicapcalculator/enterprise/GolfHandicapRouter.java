@@ -0,0 +1,71 @@
+package com.golfhandicapcalculator.enterprise;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.golfhandicapcalculator.enterprise.service.IPlayerServices;
+import com.golfhandicapcalculator.enterprise.service.WeatherService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.accept;
+import static org.springframework.web.reactive.function.server.RequestPredicates.path;
+import static org.springframework.web.reactive.function.server.RequestPredicates.queryParam;
+import static org.springframework.web.reactive.function.server.RouterFunctions.nest;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * Routes of the functional JSON API, mirroring the `/api` endpoints of {@link GolfHandicapController}.
+ * They are served by {@link com.golfhandicapcalculator.enterprise.config.ReactiveApiServer} on their own port.
+ */
+@Configuration
+@ConditionalOnProperty(name = "golf.reactive.enabled", havingValue = "true")
+public class GolfHandicapRouter {
+
+    /**
+     * Bounded scheduler for the blocking service calls, sized to the connection pool so callers queue here
+     * rather than inside Hikari.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler golfApiWorkers(@Value("${golf.reactive.worker-threads:10}") int workerThreads,
+                                    @Value("${golf.reactive.max-queued-tasks:1000}") int maxQueuedTasks) {
+        return Schedulers.newBoundedElastic(workerThreads, maxQueuedTasks, "golf-api");
+    }
+
+    @Bean
+    public GolfHandicapHandler golfHandicapHandler(IPlayerServices playerServices, WeatherService weatherService,
+                                                   ObjectMapper objectMapper,
+                                                   PlatformTransactionManager transactionManager,
+                                                   Scheduler golfApiWorkers) {
+        return new GolfHandicapHandler(playerServices, weatherService, objectMapper, transactionManager,
+                golfApiWorkers);
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> golfHandicapRoutes(GolfHandicapHandler handler) {
+        return nest(path("/api"), route()
+                .GET("/players", queryParam("ids", ids -> true), handler::getPlayers)
+                .GET("/players", handler::getAllPlayers)
+                .GET("/players/{playerId}", handler::getPlayer)
+                .POST("/players", accept(MediaType.APPLICATION_JSON), handler::createPlayer)
+                .PUT("/players/{playerId}", accept(MediaType.APPLICATION_JSON), handler::updatePlayer)
+                .DELETE("/players/{playerId}", handler::deletePlayer)
+                .GET("/players/{playerId}/scores", handler::getPlayerScores)
+                .POST("/players/{playerId}/scores", accept(MediaType.APPLICATION_JSON), handler::addScore)
+                .PUT("/players/{playerId}/scores/{scoreId}", accept(MediaType.APPLICATION_JSON), handler::updateScore)
+                .GET("/weather", handler::getWeather)
+                // malformed ids and other invalid input are a 400, as in the servlet controller; deferred so
+                // ids parsed before a handler returns its Mono are covered too
+                .filter((request, next) -> Mono.defer(() -> next.handle(request))
+                        .onErrorResume(IllegalArgumentException.class, e -> ServerResponse.badRequest()
+                                .contentType(MediaType.TEXT_PLAIN).bodyValue(e.getMessage())))
+                .build());
+    }
+}
@@ -3,12 +3,18 @@ package com.golfhandicapcalculator.enterprise;
 import com.golfhandicapcalculator.enterprise.dto.Player;
 import com.golfhandicapcalculator.enterprise.dto.Score;
 import com.golfhandicapcalculator.enterprise.service.IPlayerServices;
+import com.golfhandicapcalculator.enterprise.service.ScoreTableRenderer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Web controller for golf handicap web UI operations.
@@ -16,22 +22,31 @@ import java.util.List;
  * related to players, scores, and handicap calculations.
  */
 @Controller
+@Lazy(false)
 public class GolfHandicapWebController {
 
     private final GolfHandicapCalculator calculator;
     private final IPlayerServices playerServices;
+    private final ScoreTableRenderer scoreTableRenderer;
+    private final int pageSize;
 
     /**
      * Constructs a new GolfHandicapWebController with the required services.
      *
      * @param calculator the handicap calculator for computing golf handicaps
      * @param playerServices service for managing player and score operations
+     * @param scoreTableRenderer renderer for the score table fragments loaded on demand
+     * @param pageSize number of player cards shown per page
      */
     @Autowired
     public GolfHandicapWebController(GolfHandicapCalculator calculator,
-                                     IPlayerServices playerServices) {
+                                     IPlayerServices playerServices,
+                                     ScoreTableRenderer scoreTableRenderer,
+                                     @Value("${golf.web.page-size:25}") int pageSize) {
         this.calculator = calculator;
         this.playerServices = playerServices;
+        this.scoreTableRenderer = scoreTableRenderer;
+        this.pageSize = pageSize;
     }
 
     /**
@@ -45,18 +60,37 @@ public class GolfHandicapWebController {
     }
 
     /**
-     * Displays the main golf handicap page with a list of all players.
+     * Displays one page of players on the main golf handicap page.
+     * Only score counts are loaded; the score tables are fetched when a player's scores are expanded.
      *
+     * @param page the zero-based page number
      * @param model the Model object to pass data to the view
      * @return the name of the view template `golf-handicap`
      */
     @GetMapping("/golf-handicap")
-    public String home(Model model) {
-        List<Player> players = playerServices.getAllPlayers();
-        model.addAttribute("players", players);
+    public String home(@RequestParam(defaultValue = "0") int page, Model model) {
+        Page<Player> players = playerServices.getPlayersPage(Math.max(page, 0), pageSize);
+        List<Long> playerIds = players.getContent().stream()
+                .map(Player::getPlayerId)
+                .collect(Collectors.toList());
+        model.addAttribute("players", players.getContent());
+        model.addAttribute("page", players);
+        model.addAttribute("scoreCounts", playerServices.getScoreCounts(playerIds));
         return "golf-handicap";
     }
 
+    /**
+     * Returns the rendered score table of a single player for the home page.
+     *
+     * @param playerId the unique identifier of the player
+     * @return the score table HTML fragment
+     */
+    @GetMapping(value = "/golf-handicap/players/{playerId}/scores", produces = MediaType.TEXT_HTML_VALUE)
+    @ResponseBody
+    public String scoreTable(@PathVariable Long playerId) {
+        return scoreTableRenderer.render(playerId);
+    }
+
     /**
      * Processes handicap calculation based on submitted scores, pars, and slopes.
      * Adds the calculated handicap to the model and returns to the golf handicap page.
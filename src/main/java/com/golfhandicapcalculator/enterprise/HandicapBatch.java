@@ -0,0 +1,99 @@
+package com.golfhandicapcalculator.enterprise;
+
+import com.golfhandicapcalculator.enterprise.dto.Score;
+import java.util.List;
+
+/**
+ * The rounds of many players in struct-of-arrays form for {@link BatchHandicapCalculator}: flat score, par and
+ * slope arrays holding every player's rounds back to back, and per-player offsets into them. Player {@code p}
+ * owns rounds {@code offsets[p]} (inclusive) to {@code offsets[p + 1]} (exclusive), so {@code offsets} has one
+ * more entry than there are players and a player without rounds has two equal offsets. The scores are the gross
+ * scores the handicap counts: for a round entered hole by hole, its adjusted gross score; {@link #of(List)}
+ * picks them the way the stored differentials do.
+ *
+ * The arrays are used as given, not copied; callers must not change them while a calculation runs.
+ */
+public final class HandicapBatch {
+
+    private final int[] scores;
+    private final int[] pars;
+    private final int[] slopes;
+    private final int[] offsets;
+
+    public HandicapBatch(int[] scores, int[] pars, int[] slopes, int[] offsets) {
+        if (scores == null || pars == null || slopes == null || offsets == null) {
+            throw new IllegalArgumentException("scores, pars, slopes and offsets must not be null");
+        }
+        if (offsets.length == 0 || offsets[0] != 0) {
+            throw new IllegalArgumentException("offsets must start with 0");
+        }
+        for (int p = 1; p < offsets.length; p++) {
+            if (offsets[p] < offsets[p - 1]) {
+                throw new IllegalArgumentException("offsets must not decrease, but offsets[" + p + "] = "
+                        + offsets[p] + " < " + offsets[p - 1]);
+            }
+        }
+        int rounds = offsets[offsets.length - 1];
+        if (scores.length < rounds || pars.length < rounds || slopes.length < rounds) {
+            throw new IllegalArgumentException("offsets address " + rounds + " rounds, but scores, pars and slopes"
+                    + " hold " + Math.min(Math.min(scores.length, pars.length), slopes.length));
+        }
+        this.scores = scores;
+        this.pars = pars;
+        this.slopes = slopes;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Builds a batch from each player's scores, in player order.
+     */
+    public static HandicapBatch of(List<? extends List<Score>> scoresByPlayer) {
+        int[] offsets = new int[scoresByPlayer.size() + 1];
+        for (int p = 0; p < scoresByPlayer.size(); p++) {
+            offsets[p + 1] = offsets[p] + scoresByPlayer.get(p).size();
+        }
+        int rounds = offsets[offsets.length - 1];
+        int[] scores = new int[rounds];
+        int[] pars = new int[rounds];
+        int[] slopes = new int[rounds];
+        int round = 0;
+        for (List<Score> playerScores : scoresByPlayer) {
+            for (Score score : playerScores) {
+                scores[round] = score.getAdjustedScore() != null ? score.getAdjustedScore() : score.getScore();
+                pars[round] = score.getPar();
+                slopes[round] = score.getSlope();
+                round++;
+            }
+        }
+        return new HandicapBatch(scores, pars, slopes, offsets);
+    }
+
+    public int getPlayerCount() {
+        return offsets.length - 1;
+    }
+
+    public int getRoundCount() {
+        return offsets[offsets.length - 1];
+    }
+
+    // whether the player has a handicap at all
+    public boolean hasRounds(int player) {
+        return offsets[player + 1] > offsets[player];
+    }
+
+    int[] scores() {
+        return scores;
+    }
+
+    int[] pars() {
+        return pars;
+    }
+
+    int[] slopes() {
+        return slopes;
+    }
+
+    int[] offsets() {
+        return offsets;
+    }
+}
@@ -0,0 +1,53 @@
+package com.golfhandicapcalculator.enterprise;
+
+import com.golfhandicapcalculator.enterprise.dto.HandicapPoint;
+import com.golfhandicapcalculator.enterprise.service.HandicapHistoryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * REST API controller for charting how a player's handicap changed over time.
+ */
+@RestController
+@RequestMapping("/api")
+@CrossOrigin(origins = "*")
+public class HandicapHistoryController {
+
+    private final HandicapHistoryService historyService;
+
+    /**
+     * Constructs a new HandicapHistoryController.
+     *
+     * @param historyService service for reading handicap history
+     */
+    @Autowired
+    public HandicapHistoryController(HandicapHistoryService historyService) {
+        this.historyService = historyService;
+    }
+
+    /**
+     * Retrieves a player's handicap trend, downsampled for long ranges.
+     *
+     * @param playerId the unique identifier of the player
+     * @param from optional ISO-8601 start of the range, defaults to the beginning of the history
+     * @param to optional ISO-8601 end of the range, defaults to now
+     * @param maxPoints the maximum number of points to return
+     * @return ResponseEntity containing the handicap points in time order
+     */
+    @GetMapping("/players/{playerId}/handicap/history")
+    public ResponseEntity<List<HandicapPoint>> getHandicapHistory(
+            @PathVariable Long playerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "200") int maxPoints) {
+        return ResponseEntity.ok(historyService.getTrend(playerId,
+                from != null ? from : Instant.EPOCH,
+                to != null ? to : Instant.now(),
+                maxPoints));
+    }
+}
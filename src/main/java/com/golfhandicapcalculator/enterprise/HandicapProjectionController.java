@@ -0,0 +1,61 @@
+package com.golfhandicapcalculator.enterprise;
+
+import com.golfhandicapcalculator.enterprise.dto.HandicapProjection;
+import com.golfhandicapcalculator.enterprise.service.HandicapProjectionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST API controller for projecting how a player's handicap may develop over their next rounds.
+ */
+@RestController
+@RequestMapping("/api")
+@CrossOrigin(origins = "*")
+public class HandicapProjectionController {
+
+    private final HandicapProjectionService projectionService;
+
+    /**
+     * Constructs a new HandicapProjectionController.
+     *
+     * @param projectionService service for simulating future rounds
+     */
+    @Autowired
+    public HandicapProjectionController(HandicapProjectionService projectionService) {
+        this.projectionService = projectionService;
+    }
+
+    /**
+     * Simulates the player's next rounds by resampling their recorded differentials and returns percentile
+     * bands of the resulting handicap. With a target, also returns the chance of reaching it and the average
+     * score needed per round.
+     *
+     * @param playerId the unique identifier of the player
+     * @param rounds the number of future rounds to simulate
+     * @param target optional handicap the player is aiming for
+     * @param simulations optional number of simulated paths, defaults to {@code golf.projection.simulations}
+     * @param seed optional seed that makes the projection repeatable
+     * @return ResponseEntity containing the projection, 404 Not Found if the player does not exist
+     */
+    @GetMapping("/players/{playerId}/handicap/projection")
+    public ResponseEntity<HandicapProjection> getProjection(@PathVariable Long playerId,
+                                                            @RequestParam(defaultValue = "10") int rounds,
+                                                            @RequestParam(required = false) Double target,
+                                                            @RequestParam(required = false) Integer simulations,
+                                                            @RequestParam(required = false) Long seed) {
+        HandicapProjection projection = projectionService.project(playerId, rounds, simulations, target, seed);
+        return projection != null ? ResponseEntity.ok(projection) : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Handles out-of-range parameters and players without rounds.
+     *
+     * @param e the exception describing the invalid input
+     * @return ResponseEntity with 400 Bad Request and the error message
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
@@ -0,0 +1,58 @@
+package com.golfhandicapcalculator.enterprise;
+
+import com.golfhandicapcalculator.enterprise.service.PlayerEventStream;
+import com.golfhandicapcalculator.enterprise.service.event.PlayerChangeEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Server-sent events endpoint that pushes player and handicap changes to clubhouse displays and apps,
+ * replacing periodic polling of `/api/players`.
+ */
+@RestController
+@RequestMapping("/api")
+@CrossOrigin(origins = "*")
+public class PlayerEventController {
+
+    private final PlayerEventStream eventStream;
+    private final Duration heartbeatInterval;
+
+    /**
+     * Constructs a new PlayerEventController.
+     *
+     * @param eventStream the shared publisher of committed player changes
+     * @param heartbeatSeconds interval between keep-alive comments sent on idle streams
+     */
+    @Autowired
+    public PlayerEventController(PlayerEventStream eventStream,
+                                 @Value("${golf.events.heartbeat-seconds:15}") long heartbeatSeconds) {
+        this.eventStream = eventStream;
+        this.heartbeatInterval = Duration.ofSeconds(heartbeatSeconds);
+    }
+
+    /**
+     * Streams player creations, updates, deletions and handicap changes as they are committed.
+     *
+     * @param playerIds optional player IDs to restrict the stream to
+     * @return a stream of server-sent events named after the change type
+     */
+    @GetMapping(path = "/players/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<PlayerChangeEvent>> streamPlayerEvents(
+            @RequestParam(value = "playerIds", required = false) Set<Long> playerIds) {
+        Flux<ServerSentEvent<PlayerChangeEvent>> events = eventStream.stream(playerIds)
+                .map(event -> ServerSentEvent.builder(event)
+                        .event(event.getType().name())
+                        .build());
+        Flux<ServerSentEvent<PlayerChangeEvent>> heartbeats = Flux.interval(heartbeatInterval)
+                .map(tick -> ServerSentEvent.<PlayerChangeEvent>builder().comment("keep-alive").build())
+                .onBackpressureDrop();
+        return Flux.merge(events, heartbeats);
+    }
+}
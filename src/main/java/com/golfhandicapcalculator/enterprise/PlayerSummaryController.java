@@ -0,0 +1,76 @@
+package com.golfhandicapcalculator.enterprise;
+
+import com.golfhandicapcalculator.enterprise.dto.PlayerSummary;
+import com.golfhandicapcalculator.enterprise.service.PlayerSummaryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST API controller for the player summary read model. These endpoints read only the player_summary table
+ * and are the cheap way to list players with their round counts and differentials.
+ */
+@RestController
+@RequestMapping("/api")
+@CrossOrigin(origins = "*")
+public class PlayerSummaryController {
+
+    static final int MAX_PAGE_SIZE = 500;
+
+    private final PlayerSummaryService summaryService;
+
+    /**
+     * Constructs a new PlayerSummaryController.
+     *
+     * @param summaryService service serving the player summaries
+     */
+    @Autowired
+    public PlayerSummaryController(PlayerSummaryService summaryService) {
+        this.summaryService = summaryService;
+    }
+
+    /**
+     * Retrieves one page of player summaries ordered by player id.
+     *
+     * @param page the zero-based page number
+     * @param size the number of summaries per page, at most 500
+     * @return ResponseEntity containing the summaries, with the total number of players in {@code X-Total-Count}
+     */
+    @GetMapping("/player-summaries")
+    public ResponseEntity<List<PlayerSummary>> getSummaries(@RequestParam(defaultValue = "0") int page,
+                                                            @RequestParam(defaultValue = "25") int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        Page<PlayerSummary> summaries = summaryService.getSummariesPage(page, size);
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(summaries.getTotalElements()))
+                .body(summaries.getContent());
+    }
+
+    /**
+     * Retrieves the summary of one player.
+     *
+     * @param playerId the unique identifier of the player
+     * @return ResponseEntity containing the summary if found, 404 Not Found otherwise
+     */
+    @GetMapping("/player-summaries/{playerId}")
+    public ResponseEntity<PlayerSummary> getSummary(@PathVariable Long playerId) {
+        PlayerSummary summary = summaryService.getSummary(playerId);
+        return summary != null ? ResponseEntity.ok(summary) : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Handles invalid paging parameters.
+     *
+     * @param e the exception describing the invalid input
+     * @return ResponseEntity with 400 Bad Request and the error message
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
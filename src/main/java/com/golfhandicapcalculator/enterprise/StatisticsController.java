@@ -0,0 +1,39 @@
+package com.golfhandicapcalculator.enterprise;
+
+import com.golfhandicapcalculator.enterprise.service.ClubStatisticsService;
+import com.golfhandicapcalculator.enterprise.service.stats.ClubStatistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST API controller for club-wide statistics.
+ */
+@RestController
+@RequestMapping("/api")
+@CrossOrigin(origins = "*")
+public class StatisticsController {
+
+    private final ClubStatisticsService statisticsService;
+
+    /**
+     * Constructs a new StatisticsController.
+     *
+     * @param statisticsService service computing the cached club statistics
+     */
+    @Autowired
+    public StatisticsController(ClubStatisticsService statisticsService) {
+        this.statisticsService = statisticsService;
+    }
+
+    /**
+     * Retrieves club-wide statistics: player and round counts, average score-to-par, rounds per player,
+     * the handicap distribution and the differential distribution.
+     *
+     * @return ResponseEntity containing the club statistics
+     */
+    @GetMapping("/statistics")
+    public ResponseEntity<ClubStatistics> getStatistics() {
+        return ResponseEntity.ok(statisticsService.getStatistics());
+    }
+}
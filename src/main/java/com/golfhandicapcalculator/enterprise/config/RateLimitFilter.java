@@ -0,0 +1,161 @@
+package com.golfhandicapcalculator.enterprise.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+/**
+ * Protects the REST API from a single noisy client and from overload.
+ *
+ * Each client (by remote address) gets separate token buckets for reads, writes and the weather proxy;
+ * an empty bucket answers {@code 429} with {@code Retry-After}. Independently of any one client, the
+ * filter sheds load with {@code 503} when too many API requests are already in flight or when threads
+ * are queueing for a JDBC connection, so retries cannot pile up behind an exhausted pool.
+ * Behind a load balancer the remote address comes from {@code X-Forwarded-For} via
+ * {@code server.forward-headers-strategy}; without it every client would share the proxy's buckets.
+ */
+@Component
+@ConditionalOnProperty(name = "golf.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final TokenBucketLimiter reads;
+    private final TokenBucketLimiter writes;
+    private final TokenBucketLimiter weather;
+    private final int maxConcurrentRequests;
+    private final int maxThreadsAwaitingConnection;
+    private final IntSupplier threadsAwaitingConnection;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @Autowired
+    public RateLimitFilter(@Value("${golf.rate-limit.reads-per-second:50}") double readsPerSecond,
+                           @Value("${golf.rate-limit.reads-burst:100}") int readsBurst,
+                           @Value("${golf.rate-limit.writes-per-second:5}") double writesPerSecond,
+                           @Value("${golf.rate-limit.writes-burst:20}") int writesBurst,
+                           @Value("${golf.rate-limit.weather-per-second:1}") double weatherPerSecond,
+                           @Value("${golf.rate-limit.weather-burst:5}") int weatherBurst,
+                           @Value("${golf.load-shedding.max-concurrent-requests:150}") int maxConcurrentRequests,
+                           @Value("${golf.load-shedding.max-threads-awaiting-connection:10}") int maxThreadsAwaitingConnection,
+                           ObjectProvider<DataSource> dataSource) {
+        this(new TokenBucketLimiter(readsPerSecond, readsBurst),
+                new TokenBucketLimiter(writesPerSecond, writesBurst),
+                new TokenBucketLimiter(weatherPerSecond, weatherBurst),
+                maxConcurrentRequests, maxThreadsAwaitingConnection, threadsAwaitingConnection(dataSource.getIfAvailable()));
+    }
+
+    RateLimitFilter(TokenBucketLimiter reads, TokenBucketLimiter writes, TokenBucketLimiter weather,
+                    int maxConcurrentRequests, int maxThreadsAwaitingConnection, IntSupplier threadsAwaitingConnection) {
+        this.reads = reads;
+        this.writes = writes;
+        this.weather = weather;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.maxThreadsAwaitingConnection = maxThreadsAwaitingConnection;
+        this.threadsAwaitingConnection = threadsAwaitingConnection;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long waitNanos = bucketFor(request).tryAcquire(request.getRemoteAddr());
+        if (waitNanos > 0) {
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, waitNanos, "Rate limit exceeded");
+            return;
+        }
+        if (poolSaturated()) {
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, TimeUnit.SECONDS.toNanos(1),
+                    "Database connection pool is saturated");
+            return;
+        }
+        if (inFlight.incrementAndGet() > maxConcurrentRequests) {
+            inFlight.decrementAndGet();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, TimeUnit.SECONDS.toNanos(1), "Server is busy");
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Drops buckets that have refilled so the per-client maps stay bounded by the active clients.
+     */
+    @Scheduled(fixedDelayString = "${golf.rate-limit.eviction-millis:60000}")
+    public void evictIdleClients() {
+        reads.evictIdle();
+        writes.evictIdle();
+        weather.evictIdle();
+    }
+
+    private TokenBucketLimiter bucketFor(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/api/weather")) {
+            return weather;
+        }
+        HttpMethod method = HttpMethod.resolve(request.getMethod());
+        if (method == HttpMethod.GET || method == HttpMethod.HEAD || method == HttpMethod.OPTIONS) {
+            return reads;
+        }
+        return writes;
+    }
+
+    private boolean poolSaturated() {
+        return threadsAwaitingConnection.getAsInt() >= maxThreadsAwaitingConnection;
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, long retryAfterNanos, String message)
+            throws IOException {
+        long retryAfterSeconds = Math.max(1, (retryAfterNanos + 999_999_999L) / 1_000_000_000L);
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write(message);
+    }
+
+    private static IntSupplier threadsAwaitingConnection(DataSource dataSource) {
+        try {
+            if (dataSource != null && dataSource.isWrapperFor(HikariDataSource.class)) {
+                HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+                // Hikari only creates its pool on the first connection, so the MX bean is looked up on use
+                return () -> {
+                    HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+                    return pool != null ? pool.getThreadsAwaitingConnection() : 0;
+                };
+            }
+        } catch (SQLException e) {
+            log.debug("Could not unwrap the Hikari pool", e);
+        }
+        log.info("No Hikari pool found, load shedding will only limit concurrent requests");
+        return () -> 0;
+    }
+}
@@ -0,0 +1,77 @@
+package com.golfhandicapcalculator.enterprise.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * Runs the functional API routes on Reactor Netty next to the servlet container, so both stacks can be
+ * load-tested against the same services and database on the same machine.
+ */
+@Component
+@ConditionalOnProperty(name = "golf.reactive.enabled", havingValue = "true")
+public class ReactiveApiServer implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveApiServer.class);
+
+    private final HttpHandler httpHandler;
+    private final int port;
+
+    private volatile DisposableServer server;
+
+    public ReactiveApiServer(RouterFunction<ServerResponse> golfHandicapRoutes, ObjectMapper objectMapper,
+                             @Value("${golf.reactive.port:8081}") int port) {
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                })
+                .build();
+        this.httpHandler = RouterFunctions.toHttpHandler(golfHandicapRoutes, strategies);
+        this.port = port;
+    }
+
+    @Override
+    public void start() {
+        server = HttpServer.create()
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("Functional API listening on port {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer current = server;
+        if (current != null) {
+            current.disposeNow();
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Returns the bound port, which differs from the configured one when that is 0.
+     */
+    public int getPort() {
+        return server != null ? server.port() : port;
+    }
+}
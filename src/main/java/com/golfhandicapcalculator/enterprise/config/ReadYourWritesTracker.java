@@ -0,0 +1,51 @@
+package com.golfhandicapcalculator.enterprise.config;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which clients wrote recently so their reads can stay on the primary until replicas have
+ * caught up. Clients are identified by the {@code X-Client-Id} header, falling back to the remote address;
+ * work outside an HTTP request shares a single local key.
+ */
+public class ReadYourWritesTracker {
+
+    static final String CLIENT_ID_HEADER = "X-Client-Id";
+    private static final String LOCAL_CLIENT = "local";
+
+    private final long stickinessMillis;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(long stickinessMillis) {
+        this.stickinessMillis = stickinessMillis;
+    }
+
+    public String currentClient() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes) {
+            HttpServletRequest request = ((ServletRequestAttributes) attributes).getRequest();
+            String clientId = request.getHeader(CLIENT_ID_HEADER);
+            return clientId != null ? clientId : request.getRemoteAddr();
+        }
+        return LOCAL_CLIENT;
+    }
+
+    public void recordWrite(String client) {
+        lastWrites.put(client, System.currentTimeMillis());
+    }
+
+    public boolean isSticky(String client) {
+        Long lastWrite = lastWrites.get(client);
+        return lastWrite != null && System.currentTimeMillis() - lastWrite < stickinessMillis;
+    }
+
+    public void evictExpired() {
+        long cutoff = System.currentTimeMillis() - stickinessMillis;
+        lastWrites.values().removeIf(lastWrite -> lastWrite < cutoff);
+    }
+}
@@ -0,0 +1,70 @@
+package com.golfhandicapcalculator.enterprise.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the single MySQL datasource with a primary plus a pool of read replicas.
+ * Read-only transactions go to a replica whose lag is within tolerance; writes, and reads by a client
+ * that has just written, go to the primary.
+ *
+ * Enabled with {@code golf.datasource.replicas.enabled=true} and {@code golf.datasource.replicas.urls}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "golf.datasource.replicas.enabled", havingValue = "true")
+public class ReplicaRoutingConfiguration {
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${golf.datasource.replicas.stickiness-millis:5000}") long stickinessMillis) {
+        return new ReadYourWritesTracker(stickinessMillis);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties,
+                                 ReadYourWritesTracker tracker,
+                                 @Value("${golf.datasource.replicas.urls}") List<String> replicaUrls,
+                                 @Value("${golf.datasource.replicas.username:${spring.datasource.username}}") String username,
+                                 @Value("${golf.datasource.replicas.password:${spring.datasource.password}}") String password,
+                                 @Value("${golf.datasource.replicas.max-lag-seconds:5}") long maxLagSeconds,
+                                 @Value("${golf.datasource.replicas.lag-query:SHOW SLAVE STATUS}") String lagQuery,
+                                 @Value("${golf.datasource.replicas.lag-column:Seconds_Behind_Master}") String lagColumn) {
+        DataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            replicas.add(DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.getDriverClassName())
+                    .url(url)
+                    .username(username)
+                    .password(password)
+                    .build());
+        }
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas, tracker, maxLagSeconds,
+                lagQuery, lagColumn);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Scheduled(fixedDelayString = "${golf.datasource.replicas.lag-check-millis:2000}")
+    public void checkReplicaLag() {
+        if (routingDataSource != null) {
+            routingDataSource.checkReplicaLag();
+        }
+    }
+}
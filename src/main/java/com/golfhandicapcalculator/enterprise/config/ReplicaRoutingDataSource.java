@@ -0,0 +1,148 @@
+package com.golfhandicapcalculator.enterprise.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes read-only transactions to replicas and everything else to the primary.
+ *
+ * A replica is only used while its last measured lag is within the tolerance; if no replica qualifies,
+ * reads fall back to the primary. After a client commits a write, its reads also stay on the primary for
+ * the stickiness window so it always sees its own writes. Must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so the connection is fetched
+ * after the transaction's read-only flag is known.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    static final String PRIMARY = "primary";
+    private static final Object WRITE_MARKER = new Object();
+
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final Map<String, DataSource> replicas = new HashMap<>();
+    private final Map<String, Boolean> healthy = new HashMap<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ReadYourWritesTracker tracker;
+    private final long maxLagSeconds;
+    private final String lagQuery;
+    private final String lagColumn;
+
+    private volatile List<String> healthyReplicas = new ArrayList<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources,
+                                    ReadYourWritesTracker tracker, long maxLagSeconds,
+                                    String lagQuery, String lagColumn) {
+        this.tracker = tracker;
+        this.maxLagSeconds = maxLagSeconds;
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            String key = "replica-" + i;
+            replicaKeys.add(key);
+            replicas.put(key, replicaDataSources.get(i));
+            healthy.put(key, true);
+            targets.put(key, replicaDataSources.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        healthyReplicas = new ArrayList<>(replicaKeys);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        String client = tracker.currentClient();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWrite(client);
+            return PRIMARY;
+        }
+        List<String> candidates = healthyReplicas;
+        if (candidates.isEmpty() || tracker.isSticky(client)) {
+            return PRIMARY;
+        }
+        return candidates.get(Math.floorMod(nextReplica.getAndIncrement(), candidates.size()));
+    }
+
+    private void registerWrite(String client) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_MARKER)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(WRITE_MARKER, client);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tracker.recordWrite(client);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_MARKER);
+            }
+        });
+    }
+
+    /**
+     * Measures every replica's lag and rebuilds the set of replicas eligible for reads.
+     */
+    public void checkReplicaLag() {
+        List<String> eligible = new ArrayList<>();
+        for (String key : replicaKeys) {
+            Long lag = measureLag(replicas.get(key));
+            boolean ok = lag != null && lag <= maxLagSeconds;
+            if (ok != healthy.get(key)) {
+                log.warn("Replica {} is now {} (lag {} s, tolerance {} s)", key, ok ? "in rotation" : "out of rotation",
+                        lag, maxLagSeconds);
+                healthy.put(key, ok);
+            }
+            if (ok) {
+                eligible.add(key);
+            }
+        }
+        healthyReplicas = eligible;
+        tracker.evictExpired();
+    }
+
+    /**
+     * Returns the replica's lag in seconds, 0 if it reports no replication status, or null if it is
+     * unreachable or replication is broken.
+     */
+    private Long measureLag(DataSource replica) {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                return 0L;
+            }
+            long lag = resultSet.getLong(lagColumn);
+            return resultSet.wasNull() ? null : lag;
+        } catch (SQLException e) {
+            log.debug("Replica lag check failed", e);
+            return null;
+        }
+    }
+
+    List<String> getHealthyReplicas() {
+        return healthyReplicas;
+    }
+}
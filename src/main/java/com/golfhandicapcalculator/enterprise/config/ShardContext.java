@@ -0,0 +1,35 @@
+package com.golfhandicapcalculator.enterprise.config;
+
+import java.util.function.Supplier;
+
+/**
+ * The shard the current thread's next connection should come from, read by {@link ShardRoutingDataSource}.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs the work with the given shard selected, restoring the previous selection afterwards.
+     */
+    public static <T> T call(int shard, Supplier<T> work) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return work.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
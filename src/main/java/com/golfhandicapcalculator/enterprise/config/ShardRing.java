@@ -0,0 +1,52 @@
+package com.golfhandicapcalculator.enterprise.config;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Consistent-hash ring that places clubs on shards.
+ *
+ * Each shard owns a number of virtual points on a 64-bit ring and a club belongs to the first point at or
+ * after its own hash. Adding a shard therefore only moves the clubs that fall on the new shard's points,
+ * roughly 1/N of them, instead of reshuffling every club as a plain modulo would.
+ */
+public class ShardRing {
+
+    private final TreeMap<Long, Integer> points = new TreeMap<>();
+    private final int shardCount;
+
+    public ShardRing(int shardCount, int virtualNodes) {
+        if (shardCount < 1 || virtualNodes < 1) {
+            throw new IllegalArgumentException("At least one shard and one virtual node are required");
+        }
+        this.shardCount = shardCount;
+        for (int shard = 0; shard < shardCount; shard++) {
+            for (int node = 0; node < virtualNodes; node++) {
+                points.put(mix(((long) shard << 32) | node), shard);
+            }
+        }
+    }
+
+    /**
+     * Returns the shard index owning the club.
+     *
+     * @param clubId the club identifier
+     * @return the shard index, between 0 and the shard count
+     */
+    public int shardFor(long clubId) {
+        Map.Entry<Long, Integer> point = points.ceilingEntry(mix(clubId ^ 0x5DEECE66DL));
+        return (point != null ? point : points.firstEntry()).getValue();
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    // SplitMix64 finalizer: spreads sequential ids evenly over the ring
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
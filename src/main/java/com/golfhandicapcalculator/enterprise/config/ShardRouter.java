@@ -0,0 +1,189 @@
+package com.golfhandicapcalculator.enterprise.config;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Decides which shard a DAO call runs on and fans cross-shard calls out in parallel.
+ *
+ * New players are placed by a consistent hash of their club. Every shard hands out player and score ids from
+ * its own range (the shard index sits above bit 40), so any id routes straight back to its shard without a
+ * directory lookup. Single-shard calls join the caller's transaction; calls spanning several shards run on
+ * worker threads in one transaction per shard and their results are merged by the caller, which means
+ * cross-shard writes commit shard by shard rather than atomically.
+ *
+ * {@link #UNSHARDED} runs everything inline and is what the DAOs use when sharding is disabled.
+ */
+public class ShardRouter {
+
+    public static final ShardRouter UNSHARDED = new ShardRouter(null, null, null);
+
+    static final int ID_SHIFT = 40;
+
+    private final ShardRing ring;
+    private final ExecutorService executor;
+    private final PlatformTransactionManager transactionManager;
+
+    public ShardRouter(ShardRing ring, ExecutorService executor, PlatformTransactionManager transactionManager) {
+        this.ring = ring;
+        this.executor = executor;
+        this.transactionManager = transactionManager;
+    }
+
+    public boolean isSharded() {
+        return ring != null;
+    }
+
+    public int shardCount() {
+        return ring != null ? ring.getShardCount() : 1;
+    }
+
+    /**
+     * Returns the shard new players of the club are created on.
+     *
+     * @param clubId the club, null for players without one
+     * @return the shard index
+     */
+    public int shardForClub(Long clubId) {
+        return ring != null ? ring.shardFor(clubId != null ? clubId : 0L) : 0;
+    }
+
+    /**
+     * Returns the shard a player or score id was generated on.
+     *
+     * @param id the player or score identifier
+     * @return the shard index
+     */
+    public int shardForId(Long id) {
+        return ring != null ? (int) (id >>> ID_SHIFT) : 0;
+    }
+
+    /**
+     * Returns the first id handed out by the shard.
+     */
+    public static long firstIdOf(int shard) {
+        return ((long) shard << ID_SHIFT) + 1;
+    }
+
+    /**
+     * Runs the work on one shard within the caller's transaction.
+     *
+     * @throws IllegalStateException if the caller's transaction is already using another shard
+     */
+    public <T> T onShard(int shard, Supplier<T> work) {
+        if (ring == null) {
+            return work.get();
+        }
+        Integer pinned = ShardRoutingDataSource.pinnedShard();
+        if (pinned != null && pinned != shard) {
+            throw new IllegalStateException("Transaction is bound to shard " + pinned + " and cannot use shard " + shard);
+        }
+        return ShardContext.call(shard, work);
+    }
+
+    /**
+     * Runs the work on the shard the id was generated on, within the caller's transaction.
+     */
+    public <T> T onShardOf(Long id, Supplier<T> work) {
+        return onShard(shardForId(id), work);
+    }
+
+    /**
+     * Runs the work within the caller's transaction on the shard it is already bound to, or on the shard the
+     * id was generated on if it has not used one yet; without an id, on the default shard.
+     */
+    public <T> T onBoundShard(Long id, Supplier<T> work) {
+        if (ring == null) {
+            return work.get();
+        }
+        Integer pinned = ShardRoutingDataSource.pinnedShard();
+        int shard = pinned != null ? pinned : id != null ? shardForId(id) : ShardRoutingDataSource.DEFAULT_SHARD;
+        return ShardContext.call(shard, work);
+    }
+
+    /**
+     * Runs the work on the default shard in its own transaction, for data that is not sharded.
+     */
+    public <T> T onDefaultShard(boolean readOnly, Supplier<T> work) {
+        if (ring == null) {
+            return work.get();
+        }
+        Map<Integer, Supplier<T>> tasks = Collections.singletonMap(ShardRoutingDataSource.DEFAULT_SHARD, work);
+        return inParallel(tasks, readOnly).get(0);
+    }
+
+    /**
+     * Runs the work on every shard in parallel and returns the per-shard results in shard order.
+     */
+    public <T> List<T> onEachShard(boolean readOnly, IntFunction<T> work) {
+        if (ring == null) {
+            return Collections.singletonList(work.apply(0));
+        }
+        Map<Integer, Supplier<T>> tasks = new TreeMap<>();
+        for (int shard = 0; shard < ring.getShardCount(); shard++) {
+            int target = shard;
+            tasks.put(shard, () -> work.apply(target));
+        }
+        return inParallel(tasks, readOnly);
+    }
+
+    /**
+     * Splits the ids by shard and runs the work once per shard with that shard's ids. Ids on a single shard
+     * are handled in the caller's transaction, otherwise the shards are processed in parallel.
+     */
+    public <T> List<T> onShardsOf(Collection<Long> ids, boolean readOnly, Function<List<Long>, T> work) {
+        if (ring == null) {
+            return Collections.singletonList(work.apply(new ArrayList<>(ids)));
+        }
+        Map<Integer, List<Long>> byShard = new TreeMap<>();
+        for (Long id : ids) {
+            byShard.computeIfAbsent(shardForId(id), shard -> new ArrayList<>()).add(id);
+        }
+        if (byShard.size() == 1) {
+            Map.Entry<Integer, List<Long>> only = byShard.entrySet().iterator().next();
+            return Collections.singletonList(onShard(only.getKey(), () -> work.apply(only.getValue())));
+        }
+        Map<Integer, Supplier<T>> tasks = new TreeMap<>();
+        byShard.forEach((shard, shardIds) -> tasks.put(shard, () -> work.apply(shardIds)));
+        return inParallel(tasks, readOnly);
+    }
+
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private <T> List<T> inParallel(Map<Integer, Supplier<T>> tasks, boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        List<CompletableFuture<T>> futures = new ArrayList<>(tasks.size());
+        tasks.forEach((shard, work) -> futures.add(CompletableFuture.supplyAsync(
+                () -> ShardContext.call(shard, () -> template.execute(status -> work.get())), executor)));
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return results;
+    }
+}
@@ -0,0 +1,73 @@
+package com.golfhandicapcalculator.enterprise.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Spreads players and their scores over several MySQL databases by club.
+ * {@code spring.datasource.url} is shard 0, which also holds the unsharded tables (courses and the club-wide
+ * data); {@code golf.sharding.urls} adds shards 1..N. The shard list must only ever be appended to, because
+ * shard indexes are baked into the ids.
+ *
+ * Enabled with {@code golf.sharding.enabled=true}; not combinable with read replicas.
+ */
+@Configuration
+@ConditionalOnProperty(name = "golf.sharding.enabled", havingValue = "true")
+public class ShardRoutingConfiguration {
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties,
+                                @Value("${golf.sharding.urls}") List<String> shardUrls,
+                                @Value("${golf.sharding.username:${spring.datasource.username}}") String username,
+                                @Value("${golf.sharding.password:${spring.datasource.password}}") String password,
+                                @Value("${golf.sharding.schema-script:classpath:db/shard-schema.sql}") Resource schemaScript) {
+        List<DataSource> shards = new ArrayList<>();
+        shards.add(properties.initializeDataSourceBuilder().type(HikariDataSource.class).build());
+        for (String url : shardUrls) {
+            shards.add(DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.getDriverClassName())
+                    .url(url)
+                    .username(username)
+                    .password(password)
+                    .build());
+        }
+        ShardSchemaInitializer.initialize(shards, schemaScript);
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource(shards);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ShardRouter shardRouter(@Value("${golf.sharding.urls}") List<String> shardUrls,
+                                   @Value("${golf.sharding.virtual-nodes:64}") int virtualNodes,
+                                   @Lazy PlatformTransactionManager transactionManager) {
+        int shardCount = shardUrls.size() + 1;
+        // not a bean, so Spring Boot keeps its own task executor for MVC async requests
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService fanOutExecutor = Executors.newFixedThreadPool(2 * shardCount, runnable -> {
+            Thread thread = new Thread(runnable, "shard-fan-out-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        return new ShardRouter(new ShardRing(shardCount, virtualNodes), fanOutExecutor, transactionManager);
+    }
+}
@@ -0,0 +1,64 @@
+package com.golfhandicapcalculator.enterprise.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hands out connections from the shard selected in {@link ShardContext}, or shard 0 when none is selected.
+ *
+ * A transaction works on a single connection, so the shard of its first connection is recorded as the
+ * transaction's pinned shard; {@link ShardRouter} refuses to route a later statement of the same transaction
+ * elsewhere. Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * so the connection is only fetched once the DAO has selected the shard.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final int DEFAULT_SHARD = 0;
+    private static final Object PINNED_SHARD = new Object();
+
+    public ShardRoutingDataSource(List<DataSource> shards) {
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            targets.put(i, shards.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(shards.get(DEFAULT_SHARD));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer shard = ShardContext.current();
+        if (shard == null) {
+            shard = DEFAULT_SHARD;
+        }
+        pin(shard);
+        return shard;
+    }
+
+    /**
+     * Returns the shard the current transaction's connection came from, or null if it has none yet.
+     */
+    static Integer pinnedShard() {
+        return (Integer) TransactionSynchronizationManager.getResource(PINNED_SHARD);
+    }
+
+    private static void pin(int shard) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(PINNED_SHARD)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(PINNED_SHARD, shard);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PINNED_SHARD);
+            }
+        });
+    }
+}
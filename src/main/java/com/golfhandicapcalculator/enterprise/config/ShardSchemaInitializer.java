@@ -0,0 +1,62 @@
+package com.golfhandicapcalculator.enterprise.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Prepares every shard before the application uses it: creates the sharded tables and moves the player and
+ * score id sequences of shard N to start at {@link ShardRouter#firstIdOf(int)}, which is what lets an id
+ * identify its shard.
+ */
+public final class ShardSchemaInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardSchemaInitializer.class);
+
+    private static final String[][] SHARDED_IDS = {{"players", "player_id"}, {"scores", "score_id"}};
+
+    private ShardSchemaInitializer() {
+    }
+
+    public static void initialize(List<DataSource> shards, Resource schemaScript) {
+        for (int shard = 0; shard < shards.size(); shard++) {
+            DataSource dataSource = shards.get(shard);
+            DatabasePopulatorUtils.execute(new ResourceDatabasePopulator(schemaScript), dataSource);
+            if (shard > 0) {
+                alignIdSequences(dataSource, shard);
+            }
+        }
+    }
+
+    private static void alignIdSequences(DataSource dataSource, int shard) {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        boolean h2 = isH2(dataSource);
+        long firstId = ShardRouter.firstIdOf(shard);
+        for (String[] table : SHARDED_IDS) {
+            Long maxId = jdbc.queryForObject("SELECT MAX(" + table[1] + ") FROM " + table[0], Long.class);
+            if (maxId != null && maxId >= firstId) {
+                continue;
+            }
+            jdbc.execute(h2
+                    ? "ALTER TABLE " + table[0] + " ALTER COLUMN " + table[1] + " RESTART WITH " + firstId
+                    : "ALTER TABLE " + table[0] + " AUTO_INCREMENT = " + firstId);
+            log.info("Shard {}: {} ids start at {}", shard, table[0], firstId);
+        }
+    }
+
+    private static boolean isH2(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return "H2".equals(connection.getMetaData().getDatabaseProductName());
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot reach shard", e);
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package com.golfhandicapcalculator.enterprise.config;
+
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Collects SQL timings from {@link SqlProfilingDataSource} without logging every statement.
+ *
+ * Statements are grouped by fingerprint (the SQL with literals and IN lists replaced by placeholders and
+ * whitespace collapsed), each with a fixed-bucket latency histogram. Only statements slower than the
+ * slow-query threshold are logged. Statements executed on a thread between {@link #beginRequest()} and
+ * {@link #endRequest()} are also tallied for that request.
+ */
+public class SqlProfiler {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlProfiler.class);
+
+    // histogram bucket upper bounds in microseconds; the last bucket is unbounded
+    static final long[] BUCKET_MICROS = {100, 250, 500, 1_000, 2_500, 5_000, 10_000, 25_000, 50_000, 100_000,
+            250_000, 500_000, 1_000_000, 2_500_000, Long.MAX_VALUE};
+
+    static final String OTHER_FINGERPRINT = "(other statements)";
+    private static final int MAX_CACHED_SQL = 10_000;
+    private static final int MAX_FINGERPRINT_LENGTH = 2_000;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final long slowQueryNanos;
+    private final int maxFingerprints;
+    private final Map<String, String> fingerprintCache = new ConcurrentHashMap<>();
+    private final Map<String, FingerprintStats> fingerprints = new ConcurrentHashMap<>();
+    private final Map<String, RequestStats> requests = new ConcurrentHashMap<>();
+    private final ThreadLocal<RequestTally> currentRequest = new ThreadLocal<>();
+
+    public SqlProfiler(long slowQueryMillis, int maxFingerprints) {
+        this.slowQueryNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryMillis);
+        this.maxFingerprints = maxFingerprints;
+    }
+
+    /**
+     * Records one executed statement.
+     *
+     * @param sql the SQL as sent to the driver
+     * @param nanos the execution time
+     */
+    public void record(String sql, long nanos) {
+        String fingerprint = fingerprint(sql);
+        FingerprintStats stats = fingerprints.get(fingerprint);
+        if (stats == null) {
+            // the fingerprint table is bounded; statements beyond the limit share one entry
+            String key = fingerprints.size() < maxFingerprints ? fingerprint : OTHER_FINGERPRINT;
+            stats = fingerprints.computeIfAbsent(key, k -> new FingerprintStats());
+        }
+        stats.add(nanos);
+        RequestTally tally = currentRequest.get();
+        if (tally != null) {
+            tally.statements++;
+            tally.nanos += nanos;
+        }
+        if (nanos >= slowQueryNanos) {
+            log.warn("Slow SQL ({} ms): {}", TimeUnit.NANOSECONDS.toMillis(nanos), sql);
+        }
+    }
+
+    /**
+     * Starts counting the statements the current thread executes for a request.
+     */
+    public void beginRequest() {
+        currentRequest.set(new RequestTally());
+    }
+
+    /**
+     * Stops counting for the current thread and returns what was counted since {@link #beginRequest()}.
+     *
+     * @return the statement count and SQL time, or an empty tally if no request was started
+     */
+    public RequestTally endRequest() {
+        RequestTally tally = currentRequest.get();
+        currentRequest.remove();
+        return tally != null ? tally : new RequestTally();
+    }
+
+    /**
+     * Adds a finished request's tally to the statistics of its endpoint.
+     *
+     * @param endpoint the method and path pattern, e.g. {@code GET /api/players/{playerId}}
+     * @param tally what the request executed
+     */
+    public void recordRequest(String endpoint, RequestTally tally) {
+        requests.computeIfAbsent(endpoint, key -> new RequestStats()).add(tally);
+    }
+
+    /**
+     * Returns the slowest fingerprints.
+     *
+     * @param limit how many fingerprints to return
+     * @param sortBy one of {@code mean}, {@code max}, {@code p99} or {@code total}
+     * @return the fingerprints in descending order of the sort key
+     */
+    public List<FingerprintSnapshot> topFingerprints(int limit, String sortBy) {
+        Comparator<FingerprintSnapshot> order;
+        switch (sortBy) {
+            case "max":
+                order = Comparator.comparingDouble(FingerprintSnapshot::getMaxMillis);
+                break;
+            case "p99":
+                order = Comparator.comparingDouble(FingerprintSnapshot::getP99Millis);
+                break;
+            case "total":
+                order = Comparator.comparingDouble(FingerprintSnapshot::getTotalMillis);
+                break;
+            case "mean":
+                order = Comparator.comparingDouble(FingerprintSnapshot::getMeanMillis);
+                break;
+            default:
+                throw new IllegalArgumentException("sortBy must be mean, max, p99 or total");
+        }
+        return fingerprints.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(order.reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the per-endpoint request statistics, endpoints issuing the most statements per request first.
+     */
+    public List<RequestSnapshot> requestStatistics() {
+        return requests.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparingDouble(RequestSnapshot::getMeanStatements).reversed())
+                .collect(Collectors.toList());
+    }
+
+    public void reset() {
+        fingerprints.clear();
+        requests.clear();
+    }
+
+    String fingerprint(String sql) {
+        if (sql == null) {
+            return OTHER_FINGERPRINT;
+        }
+        String fingerprint = fingerprintCache.get(sql);
+        if (fingerprint == null) {
+            fingerprint = normalize(sql);
+            if (fingerprintCache.size() >= MAX_CACHED_SQL) {
+                fingerprintCache.clear();
+            }
+            fingerprintCache.put(sql, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    static String normalize(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = PLACEHOLDER_LIST.matcher(normalized).replaceAll("(...)");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        return normalized.length() > MAX_FINGERPRINT_LENGTH ? normalized.substring(0, MAX_FINGERPRINT_LENGTH) : normalized;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Statements executed by one request so far.
+     */
+    @Getter
+    public static class RequestTally {
+
+        private int statements;
+        private long nanos;
+
+        public double getMillis() {
+            return millis(nanos);
+        }
+    }
+
+    private static class FingerprintStats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_MICROS.length);
+
+        void add(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+            int bucket = 0;
+            while (micros > BUCKET_MICROS[bucket]) {
+                bucket++;
+            }
+            buckets.incrementAndGet(bucket);
+        }
+
+        FingerprintSnapshot snapshot(String fingerprint) {
+            long[] counts = new long[BUCKET_MICROS.length];
+            long total = 0;
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = buckets.get(i);
+                total += counts[i];
+            }
+            Map<String, Long> histogram = new LinkedHashMap<>();
+            for (int i = 0; i < counts.length; i++) {
+                histogram.put(i < counts.length - 1 ? String.valueOf(BUCKET_MICROS[i] / 1000.0) : "+Inf", counts[i]);
+            }
+            long executions = count.sum();
+            long nanos = totalNanos.sum();
+            return new FingerprintSnapshot(fingerprint, executions, millis(nanos),
+                    executions > 0 ? millis(nanos / executions) : 0, millis(maxNanos.get()),
+                    percentile(counts, total, 0.50), percentile(counts, total, 0.95), percentile(counts, total, 0.99),
+                    histogram);
+        }
+
+        // upper bound of the bucket holding the percentile; the open last bucket reports the observed maximum
+        private double percentile(long[] counts, long total, double quantile) {
+            long rank = (long) Math.ceil(total * quantile);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank && seen > 0) {
+                    return i < counts.length - 1 ? BUCKET_MICROS[i] / 1000.0 : millis(maxNanos.get());
+                }
+            }
+            return 0;
+        }
+    }
+
+    private static class RequestStats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalStatements = new LongAdder();
+        private final LongAccumulator maxStatements = new LongAccumulator(Math::max, 0);
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void add(RequestTally tally) {
+            count.increment();
+            totalStatements.add(tally.statements);
+            maxStatements.accumulate(tally.statements);
+            totalNanos.add(tally.nanos);
+            maxNanos.accumulate(tally.nanos);
+        }
+
+        RequestSnapshot snapshot(String endpoint) {
+            long requests = count.sum();
+            return new RequestSnapshot(endpoint, requests,
+                    requests > 0 ? totalStatements.sum() / (double) requests : 0, maxStatements.get(),
+                    requests > 0 ? millis(totalNanos.sum() / requests) : 0, millis(maxNanos.get()));
+        }
+    }
+
+    /**
+     * Latency statistics of one SQL fingerprint. Histogram keys are bucket upper bounds in milliseconds.
+     */
+    @Getter
+    public static class FingerprintSnapshot {
+
+        private final String fingerprint;
+        private final long count;
+        private final double totalMillis;
+        private final double meanMillis;
+        private final double maxMillis;
+        private final double p50Millis;
+        private final double p95Millis;
+        private final double p99Millis;
+        private final Map<String, Long> histogram;
+
+        FingerprintSnapshot(String fingerprint, long count, double totalMillis, double meanMillis, double maxMillis,
+                            double p50Millis, double p95Millis, double p99Millis, Map<String, Long> histogram) {
+            this.fingerprint = fingerprint;
+            this.count = count;
+            this.totalMillis = totalMillis;
+            this.meanMillis = meanMillis;
+            this.maxMillis = maxMillis;
+            this.p50Millis = p50Millis;
+            this.p95Millis = p95Millis;
+            this.p99Millis = p99Millis;
+            this.histogram = histogram;
+        }
+    }
+
+    /**
+     * SQL issued per request to one endpoint.
+     */
+    @Getter
+    public static class RequestSnapshot {
+
+        private final String endpoint;
+        private final long requests;
+        private final double meanStatements;
+        private final long maxStatements;
+        private final double meanSqlMillis;
+        private final double maxSqlMillis;
+
+        RequestSnapshot(String endpoint, long requests, double meanStatements, long maxStatements,
+                        double meanSqlMillis, double maxSqlMillis) {
+            this.endpoint = endpoint;
+            this.requests = requests;
+            this.meanStatements = meanStatements;
+            this.maxStatements = maxStatements;
+            this.meanSqlMillis = meanSqlMillis;
+            this.maxSqlMillis = maxSqlMillis;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.golfhandicapcalculator.enterprise.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Profiles the SQL the application executes in place of logging every statement.
+ *
+ * Every {@link DataSource} bean (the plain pool, or the replica or shard routing datasource) is wrapped in a
+ * {@link SqlProfilingDataSource}; statements slower than {@code golf.sql-profiling.slow-query-millis} are
+ * logged and the slowest fingerprints are served by {@code GET /api/admin/sql-profile}.
+ *
+ * Disabled with {@code golf.sql-profiling.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "golf.sql-profiling.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlProfilingConfiguration {
+
+    @Bean
+    public SqlProfiler sqlProfiler(@Value("${golf.sql-profiling.slow-query-millis:200}") long slowQueryMillis,
+                                   @Value("${golf.sql-profiling.max-fingerprints:1000}") int maxFingerprints) {
+        return new SqlProfiler(slowQueryMillis, maxFingerprints);
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlProfilingFilter> sqlProfilingFilter(
+            SqlProfiler profiler,
+            @Value("${golf.sql-profiling.request-statement-warn:50}") int statementWarnLimit) {
+        FilterRegistrationBean<SqlProfilingFilter> registration =
+                new FilterRegistrationBean<>(new SqlProfilingFilter(profiler, statementWarnLimit));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    // static so the post-processor is registered before the datasources are created
+    @Bean
+    public static BeanPostProcessor sqlProfilingDataSourcePostProcessor(ObjectProvider<SqlProfiler> profiler) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof SqlProfilingDataSource)) {
+                    return new SqlProfilingDataSource((DataSource) bean, profiler.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,118 @@
+package com.golfhandicapcalculator.enterprise.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Times every statement executed through the wrapped datasource and reports it to the {@link SqlProfiler}.
+ *
+ * Connections and statements are wrapped in JDK proxies, so only the {@code execute*} calls pay for a clock
+ * read; everything else is passed straight through. Unwrapping still reaches the pool underneath.
+ */
+public class SqlProfilingDataSource extends DelegatingDataSource {
+
+    private final SqlProfiler profiler;
+
+    public SqlProfilingDataSource(DataSource target, SqlProfiler profiler) {
+        super(target);
+        this.profiler = profiler;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return profile(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return profile(super.getConnection(username, password));
+    }
+
+    private Connection profile(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+
+        private final Connection connection;
+
+        ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SqlProfilingDataSource.invoke(connection, method, args);
+            switch (method.getName()) {
+                case "prepareCall":
+                    return statement(CallableStatement.class, (Statement) result, (String) args[0]);
+                case "prepareStatement":
+                    return statement(PreparedStatement.class, (Statement) result, (String) args[0]);
+                case "createStatement":
+                    return statement(Statement.class, (Statement) result, null);
+                default:
+                    return result;
+            }
+        }
+
+        private Object statement(Class<? extends Statement> type, Statement statement, String sql) {
+            return Proxy.newProxyInstance(SqlProfilingDataSource.class.getClassLoader(), new Class<?>[]{type},
+                    new StatementHandler(statement, sql));
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+
+        private final Statement statement;
+        private final String preparedSql;
+        private String batchSql;
+
+        StatementHandler(Statement statement, String preparedSql) {
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("addBatch") && args != null && args.length == 1) {
+                // plain statements batch different SQL; the first one names the batch
+                if (batchSql == null) {
+                    batchSql = (String) args[0];
+                }
+            } else if (name.startsWith("execute")) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0]
+                        : preparedSql != null ? preparedSql : batchSql;
+                long start = System.nanoTime();
+                try {
+                    return SqlProfilingDataSource.invoke(statement, method, args);
+                } finally {
+                    profiler.record(sql, System.nanoTime() - start);
+                    if (name.equals("executeBatch") || name.equals("executeLargeBatch")) {
+                        batchSql = null;
+                    }
+                }
+            }
+            return SqlProfilingDataSource.invoke(statement, method, args);
+        }
+    }
+}
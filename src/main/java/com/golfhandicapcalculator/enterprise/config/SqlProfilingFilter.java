@@ -0,0 +1,63 @@
+package com.golfhandicapcalculator.enterprise.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Counts the statements each request executes and the time spent in them, and adds the totals to the
+ * statistics of the request's endpoint. Requests issuing more statements than the warning limit are logged,
+ * which is usually an N+1 query.
+ *
+ * Statements run on other threads, such as cross-shard fan-out or asynchronous event listeners, are profiled
+ * but not attributed to the request.
+ */
+public class SqlProfilingFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlProfilingFilter.class);
+
+    private final SqlProfiler profiler;
+    private final int statementWarnLimit;
+
+    public SqlProfilingFilter(SqlProfiler profiler, int statementWarnLimit) {
+        this.profiler = profiler;
+        this.statementWarnLimit = statementWarnLimit;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        // the event stream keeps its request open; only the initial dispatch is counted
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        profiler.beginRequest();
+        SqlProfiler.RequestTally tally;
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            tally = profiler.endRequest();
+        }
+        if (tally.getStatements() == 0) {
+            return;
+        }
+        // keyed by the mapped pattern rather than the URI so the endpoint table stays bounded
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (pattern != null ? pattern : "(unmapped)");
+        profiler.recordRequest(endpoint, tally);
+        // only outliers are logged; the application package runs at DEBUG, so a per-request line would flood the log
+        if (tally.getStatements() > statementWarnLimit) {
+            log.warn("{} executed {} SQL statements in {} ms", endpoint, tally.getStatements(),
+                    Math.round(tally.getMillis()));
+        }
+    }
+}
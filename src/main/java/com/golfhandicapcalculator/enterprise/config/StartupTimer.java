@@ -0,0 +1,59 @@
+package com.golfhandicapcalculator.enterprise.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reports how long the node took to become ready and to serve its first request, both measured from
+ * JVM start so class loading and CDS effects are included.
+ *
+ * With {@code golf.startup.exit-after-ready=true} the application shuts down as soon as it is ready,
+ * which is how the AppCDS training run in the {@code appcds} Maven profile records the loaded classes.
+ */
+@Component
+public class StartupTimer implements ApplicationListener<ApplicationReadyEvent>, Filter {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimer.class);
+
+    private final boolean exitAfterReady;
+    private final AtomicBoolean firstRequestSeen = new AtomicBoolean();
+
+    public StartupTimer(@Value("${golf.startup.exit-after-ready:false}") boolean exitAfterReady) {
+        this.exitAfterReady = exitAfterReady;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        log.info("Time to ready: {} ms since JVM start", sinceJvmStart());
+        if (exitAfterReady) {
+            System.exit(SpringApplication.exit(event.getApplicationContext(), () -> 0));
+        }
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        chain.doFilter(request, response);
+        if (!firstRequestSeen.get() && firstRequestSeen.compareAndSet(false, true)) {
+            log.info("Time to first request: {} ms since JVM start", sinceJvmStart());
+        }
+    }
+
+    private static long sinceJvmStart() {
+        return System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+    }
+}
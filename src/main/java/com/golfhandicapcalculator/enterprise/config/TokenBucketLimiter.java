@@ -0,0 +1,70 @@
+package com.golfhandicapcalculator.enterprise.config;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client token bucket implemented as GCRA (generic cell rate algorithm).
+ *
+ * Instead of a token count and a refill timestamp, each client holds a single "theoretical arrival time"
+ * in an {@link AtomicLong}. A request is allowed when pushing that time one emission interval forward does
+ * not put it more than a full bucket ahead of now, so admitting a request is one read and one CAS with no
+ * locks and no background refill.
+ */
+public class TokenBucketLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long capacityNanos;
+    private final LongSupplier clock;
+    private final ConcurrentMap<String, AtomicLong> arrivals = new ConcurrentHashMap<>();
+
+    public TokenBucketLimiter(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucketLimiter(double permitsPerSecond, int burst, LongSupplier clock) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate and burst must be positive");
+        }
+        this.emissionIntervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.capacityNanos = emissionIntervalNanos * burst;
+        this.clock = clock;
+    }
+
+    /**
+     * Takes one permit for the client.
+     *
+     * @param client the client key
+     * @return 0 if the request is allowed, otherwise the nanoseconds until a permit becomes available
+     */
+    public long tryAcquire(String client) {
+        AtomicLong arrival = arrivals.computeIfAbsent(client, key -> new AtomicLong(Long.MIN_VALUE));
+        long now = clock.getAsLong();
+        while (true) {
+            long current = arrival.get();
+            long next = Math.max(current, now) + emissionIntervalNanos;
+            long ahead = next - now;
+            if (ahead > capacityNanos) {
+                return ahead - capacityNanos;
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Forgets clients whose bucket has refilled completely; they behave exactly like unseen clients, so
+     * removing them only bounds the map. A request racing the removal may get one extra permit.
+     */
+    public void evictIdle() {
+        long now = clock.getAsLong();
+        arrivals.entrySet().removeIf(entry -> entry.getValue().get() <= now);
+    }
+
+    int trackedClients() {
+        return arrivals.size();
+    }
+}
@@ -0,0 +1,14 @@
+package com.golfhandicapcalculator.enterprise.dao;
+
+import com.golfhandicapcalculator.enterprise.dto.ChangeFeedRelay;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+import javax.persistence.LockModeType;
+
+@Repository
+public interface ChangeFeedRelayRepository extends JpaRepository<ChangeFeedRelay, Integer> {
+    // serializes relays on every node until the caller's transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    ChangeFeedRelay findByRelayId(Integer relayId);
+}
@@ -0,0 +1,48 @@
+package com.golfhandicapcalculator.enterprise.dao;
+
+import com.golfhandicapcalculator.enterprise.dto.ChangeLogEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+
+    List<ChangeLogEntry> findByChangeIdGreaterThanOrderByChangeId(Long changeId, Pageable pageable);
+
+    @Query("SELECT MIN(c.changeId) FROM ChangeLogEntry c WHERE c.changedAt >= :since")
+    Long findFirstChangeIdSince(@Param("since") Instant since);
+
+    @Query("SELECT MAX(c.changeId) FROM ChangeLogEntry c")
+    Long findLastChangeId();
+
+    // entries followed by a later change of the same player or score, by the deletion of their player, or,
+    // for scores, by a purge of the rounds recorded before they changed
+    @Query("SELECT c.changeId FROM ChangeLogEntry c WHERE c.changedAt < :horizon AND c.operation <> :purge"
+            + " AND EXISTS (SELECT n.changeId FROM ChangeLogEntry n WHERE n.changeId > c.changeId"
+            + " AND ((n.entityType = c.entityType AND n.entityId = c.entityId)"
+            + " OR (n.entityType = :player AND n.operation = :delete AND n.playerId = c.playerId)"
+            + " OR (c.entityType = :score AND n.operation = :purge AND c.changedAt < n.purgedBefore)))"
+            + " ORDER BY c.changeId")
+    List<Long> findSupersededChangeIds(@Param("horizon") Instant horizon,
+                                       @Param("purge") ChangeLogEntry.Operation purge,
+                                       @Param("player") ChangeLogEntry.EntityType player,
+                                       @Param("delete") ChangeLogEntry.Operation delete,
+                                       @Param("score") ChangeLogEntry.EntityType score,
+                                       Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM ChangeLogEntry c WHERE c.changeId IN :changeIds")
+    int deleteByChangeIds(@Param("changeIds") Collection<Long> changeIds);
+
+    @Modifying
+    @Query("DELETE FROM ChangeLogEntry c WHERE c.changedAt < :cutoff AND c.operation IN :tombstones")
+    int deleteTombstonesBefore(@Param("cutoff") Instant cutoff,
+                               @Param("tombstones") Collection<ChangeLogEntry.Operation> tombstones);
+}
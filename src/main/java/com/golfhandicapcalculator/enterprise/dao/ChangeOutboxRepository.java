@@ -0,0 +1,26 @@
+package com.golfhandicapcalculator.enterprise.dao;
+
+import com.golfhandicapcalculator.enterprise.dto.ChangeOutboxEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ChangeOutboxRepository extends JpaRepository<ChangeOutboxEntry, Long> {
+
+    // locked until the relay deletes them, so a relay on another node waits instead of copying them again
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM ChangeOutboxEntry o ORDER BY o.outboxId")
+    List<ChangeOutboxEntry> findForRelay(Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM ChangeOutboxEntry o WHERE o.outboxId IN :outboxIds")
+    int deleteByOutboxIds(@Param("outboxIds") Collection<Long> outboxIds);
+}
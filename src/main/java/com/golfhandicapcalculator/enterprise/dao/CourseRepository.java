@@ -0,0 +1,9 @@
+package com.golfhandicapcalculator.enterprise.dao;
+
+import com.golfhandicapcalculator.enterprise.dto.Course;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CourseRepository extends JpaRepository<Course, Long> {
+}
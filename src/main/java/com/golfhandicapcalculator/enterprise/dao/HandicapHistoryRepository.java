@@ -0,0 +1,30 @@
+package com.golfhandicapcalculator.enterprise.dao;
+
+import com.golfhandicapcalculator.enterprise.dto.HandicapHistoryChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface HandicapHistoryRepository extends JpaRepository<HandicapHistoryChunk, Long> {
+    // the chunk new points are appended to, locked so concurrent appends for a player serialize
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    HandicapHistoryChunk findFirstByPlayerIdOrderByChunkIdDesc(Long playerId);
+
+    @Query("SELECT c FROM HandicapHistoryChunk c WHERE c.playerId = :playerId"
+            + " AND c.lastTimestamp >= :fromSecond AND c.firstTimestamp <= :toSecond ORDER BY c.chunkId")
+    List<HandicapHistoryChunk> findOverlapping(Long playerId, long fromSecond, long toSecond);
+
+    @Modifying
+    @Query("DELETE FROM HandicapHistoryChunk c WHERE c.playerId = :playerId")
+    int deleteByPlayerId(Long playerId);
+
+    @Modifying
+    @Query("DELETE FROM HandicapHistoryChunk c WHERE c.playerId IN :playerIds")
+    int deleteByPlayerIds(Collection<Long> playerIds);
+}
@@ -0,0 +1,19 @@
+package com.golfhandicapcalculator.enterprise.dao;
+
+import com.golfhandicapcalculator.enterprise.dto.ChangeLogEntry;
+import java.time.Instant;
+import java.util.List;
+
+public interface IChangeLogDAO {
+    // joins the caller's transaction, so the change is recorded exactly when the write commits
+    void recordChange(ChangeLogEntry entry);
+    // records several changes with one statement, in the caller's transaction like recordChange
+    void recordChanges(List<ChangeLogEntry> entries);
+    // appends up to limit recorded changes per shard to the log; returns how many were relayed
+    int relayChanges(int limit);
+    List<ChangeLogEntry> fetchChangesAfter(long changeId, int limit);
+    Long fetchFirstChangeIdSince(Instant since);
+    Long fetchLastChangeId();
+    int deleteChangesSupersededBefore(Instant horizon);
+    int deleteTombstonesBefore(Instant cutoff);
+}
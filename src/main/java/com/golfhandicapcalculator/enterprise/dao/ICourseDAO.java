@@ -0,0 +1,10 @@
+package com.golfhandicapcalculator.enterprise.dao;
+
+import com.golfhandicapcalculator.enterprise.dto.Course;
+import java.util.List;
+
+public interface ICourseDAO {
+    List<Course> fetchAllCourses();
+    Course fetchCourse(Long courseId);
+    Course saveCourse(Course course);
+}
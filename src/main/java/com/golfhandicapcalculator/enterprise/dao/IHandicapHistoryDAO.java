@@ -0,0 +1,13 @@
+package com.golfhandicapcalculator.enterprise.dao;
+
+import com.golfhandicapcalculator.enterprise.dto.HandicapPoint;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface IHandicapHistoryDAO {
+    void appendPoint(Long playerId, Instant at, double handicap);
+    List<HandicapPoint> fetchPoints(Long playerId, Instant from, Instant to);
+    void deleteHistory(Long playerId);
+    int deleteHistories(Collection<Long> playerIds);
+}
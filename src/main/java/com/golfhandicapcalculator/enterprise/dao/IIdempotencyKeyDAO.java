@@ -0,0 +1,9 @@
+package com.golfhandicapcalculator.enterprise.dao;
+
+import java.time.Instant;
+
+public interface IIdempotencyKeyDAO {
+    Long fetchScoreId(Long playerId, String key);
+    void saveKey(Long playerId, String key, Long scoreId);
+    int deleteKeysCreatedBefore(Instant cutoff);
+}
@@ -1,13 +1,20 @@
 package com.golfhandicapcalculator.enterprise.dao;
 
 import com.golfhandicapcalculator.enterprise.dto.Player;
+import java.util.Collection;
 import java.util.List;
 
 public interface IPlayerDAO {
     List<Player> fetchAllPlayers();
+    List<Player> fetchPlayersPage(int page, int size);
+    // the next players after the given id in id order, for full scans that must not re-read earlier pages
+    List<Player> fetchPlayersAfter(Long afterPlayerId, int limit);
+    long countPlayers();
     Player fetchPlayer(Long playerId);
+    List<Player> fetchPlayers(Collection<Long> playerIds);
     Player savePlayer(Player player);
     Player updatePlayer(Player player);
     void deletePlayer(Long playerId);
+    int deletePlayers(Collection<Long> playerIds);
     void updateHandicap(Long playerId, double newHandicap);
 }
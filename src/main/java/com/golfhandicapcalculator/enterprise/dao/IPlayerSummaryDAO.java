@@ -0,0 +1,17 @@
+package com.golfhandicapcalculator.enterprise.dao;
+
+import com.golfhandicapcalculator.enterprise.dto.PlayerSummary;
+import java.util.Collection;
+import java.util.List;
+
+public interface IPlayerSummaryDAO {
+    PlayerSummary fetchSummary(Long playerId);
+    List<PlayerSummary> fetchSummaries(Collection<Long> playerIds);
+    // ordered by player id
+    List<PlayerSummary> fetchSummariesPage(int page, int size);
+    // the next summaries after the given player id in id order
+    List<PlayerSummary> fetchSummariesAfter(Long afterPlayerId, int limit);
+    long countSummaries();
+    void saveSummaries(Collection<PlayerSummary> summaries);
+    int deleteSummaries(Collection<Long> playerIds);
+}
@@ -1,12 +1,22 @@
 package com.golfhandicapcalculator.enterprise.dao;
 
+import com.golfhandicapcalculator.enterprise.dto.PlayerSummary;
 import com.golfhandicapcalculator.enterprise.dto.Score;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface IScoreDAO {
     Score fetchScoreById(Long scoreId);
     List<Score> fetchScoresByPlayerId(Long playerId);
+    Map<Long, Long> countScoresByPlayerIds(Collection<Long> playerIds);
+    // only the round columns are filled in; players without scores are absent
+    Map<Long, PlayerSummary> summarizeScoresByPlayerIds(Collection<Long> playerIds);
+    List<Double> fetchBestDifferentials(Long playerId, int window, int best);
     Score saveScore(Score score);
     Score updateScore(Score score);
     void deleteScoresByPlayerId(Long playerId);
+    int deleteScoresByPlayerIds(Collection<Long> playerIds);
+    int deleteScoresRecordedBefore(Instant cutoff);
 }
@@ -0,0 +1,14 @@
+package com.golfhandicapcalculator.enterprise.dao;
+
+import java.util.Map;
+import java.util.stream.DoubleStream;
+
+public interface IStatisticsDAO {
+    long countPlayers();
+    long countRounds();
+    Double averageScoreToPar();
+    Map<Long, Long> countPlayersByRoundsPlayed();
+    Map<Integer, Long> countPlayersByHandicap();
+    // must be closed by the caller; JPA streams inside the surrounding read-only transaction
+    DoubleStream streamDifferentials();
+}
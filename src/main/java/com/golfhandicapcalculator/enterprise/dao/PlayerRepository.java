@@ -1,14 +1,33 @@
 package com.golfhandicapcalculator.enterprise.dao;
 
 import com.golfhandicapcalculator.enterprise.dto.Player;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface PlayerRepository extends JpaRepository<Player, Long> {
+    // one page without the count query findAll(Pageable) adds; callers count separately
+    List<Player> findAllBy(Pageable pageable);
+
+    // ids only: loading a page of entities and then their scores by subselect would repeat the query without its limit
+    @Query("SELECT p.playerId FROM Player p")
+    List<Long> findPlayerIds(Pageable pageable);
+
+    List<Player> findByPlayerIdGreaterThan(Long playerId, Pageable pageable);
+
     @Modifying
     @Query("UPDATE Player p SET p.handicap = :newHandicap WHERE p.playerId = :playerId")
     void updateHandicap(Long playerId, double newHandicap);
+
+    @Query("SELECT FLOOR(p.handicap), COUNT(p) FROM Player p GROUP BY FLOOR(p.handicap) ORDER BY FLOOR(p.handicap)")
+    List<Object[]> countByHandicapBucket();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Player p WHERE p.playerId IN :playerIds")
+    int deleteByPlayerIds(Collection<Long> playerIds);
 }
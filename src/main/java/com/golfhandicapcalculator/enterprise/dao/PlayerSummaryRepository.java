@@ -0,0 +1,22 @@
+package com.golfhandicapcalculator.enterprise.dao;
+
+import com.golfhandicapcalculator.enterprise.dto.PlayerSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PlayerSummaryRepository extends JpaRepository<PlayerSummary, Long> {
+    // one page without the count query findAll(Pageable) adds; callers count separately
+    List<PlayerSummary> findAllBy(Pageable pageable);
+
+    List<PlayerSummary> findByPlayerIdGreaterThan(Long playerId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM PlayerSummary s WHERE s.playerId IN :playerIds")
+    int deleteByPlayerIds(Collection<Long> playerIds);
+}
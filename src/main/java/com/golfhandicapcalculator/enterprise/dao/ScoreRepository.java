@@ -2,10 +2,66 @@ package com.golfhandicapcalculator.enterprise.dao;
 
 import com.golfhandicapcalculator.enterprise.dto.Score;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 
 @Repository
 public interface ScoreRepository extends JpaRepository<Score, Long> {
     List<Score> findByPlayer_PlayerId(Long playerId);
+
+    @Query("SELECT s.player.playerId, COUNT(s) FROM Score s WHERE s.player.playerId IN :playerIds GROUP BY s.player.playerId")
+    List<Object[]> countByPlayerIds(Collection<Long> playerIds);
+
+    // round count, last round and best/worst differential per player, for the player_summary read model
+    @Query("SELECT s.player.playerId, COUNT(s), MAX(s.recordedAt), MIN(s.differential), MAX(s.differential)"
+            + " FROM Score s WHERE s.player.playerId IN :playerIds GROUP BY s.player.playerId")
+    List<Object[]> summarizeByPlayerIds(Collection<Long> playerIds);
+
+    // lowest `best` differentials among the player's `window` most recent scores
+    @Query(value = "SELECT recent.differential FROM ("
+            + "SELECT differential FROM scores WHERE player_id = :playerId"
+            + " ORDER BY recorded_at DESC, score_id DESC LIMIT :window) recent"
+            + " ORDER BY recent.differential LIMIT :best", nativeQuery = true)
+    List<Double> findBestDifferentials(Long playerId, int window, int best);
+
+    @Query("SELECT AVG(s.score - s.par) FROM Score s")
+    Double averageScoreToPar();
+
+    // rounds played -> number of players with that many rounds
+    @Query(value = "SELECT per_player.rounds, COUNT(*) FROM ("
+            + "SELECT COUNT(*) AS rounds FROM scores GROUP BY player_id) per_player"
+            + " GROUP BY per_player.rounds ORDER BY per_player.rounds", nativeQuery = true)
+    List<Object[]> countPlayersByRoundsPlayed();
+
+    // MIN_VALUE fetch size makes MySQL Connector/J stream rows instead of buffering the whole result
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT s.differential FROM Score s WHERE s.differential IS NOT NULL")
+    Stream<Double> streamDifferentials();
+
+    // rows written before the differential column existed; same slope fallback as GolfHandicapCalculator
+    @Modifying
+    @Query(value = "UPDATE scores SET differential = (score - par) * 113"
+            + " / CASE WHEN slope BETWEEN 55 AND 155 THEN slope ELSE 113 END"
+            + " WHERE differential IS NULL", nativeQuery = true)
+    int backfillDifferentials();
+
+    // rows written before recorded_at existed, or whose value an update cleared
+    @Modifying
+    @Query("UPDATE Score s SET s.recordedAt = :recordedAt WHERE s.recordedAt IS NULL")
+    int backfillRecordedAt(Instant recordedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Score s WHERE s.player.playerId IN :playerIds")
+    int deleteByPlayerIds(Collection<Long> playerIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Score s WHERE s.recordedAt < :cutoff")
+    int deleteRecordedBefore(Instant cutoff);
 }
@@ -0,0 +1,108 @@
+package com.golfhandicapcalculator.enterprise.dao.history;
+
+import com.golfhandicapcalculator.enterprise.dto.HandicapHistoryChunk;
+import com.golfhandicapcalculator.enterprise.dto.HandicapPoint;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Packing of handicap points inside a {@link HandicapHistoryChunk}.
+ *
+ * Each point is two zigzag varints: seconds since the previous point and the change in handicap hundredths.
+ * The first point of a chunk is relative to the chunk's first timestamp and a handicap of zero. Handicaps
+ * move by small steps between rounds played days apart, so a typical point takes three to five bytes.
+ */
+public final class HandicapHistoryCodec {
+
+    public static final int MAX_CHUNK_BYTES = 8192;
+    private static final int MAX_POINT_BYTES = 15; // 64-bit and 32-bit varints
+
+    private HandicapHistoryCodec() {
+    }
+
+    public static int quantize(double handicap) {
+        return (int) Math.round(handicap * 100);
+    }
+
+    public static boolean hasRoom(HandicapHistoryChunk chunk) {
+        return chunk.getData().length + MAX_POINT_BYTES <= MAX_CHUNK_BYTES;
+    }
+
+    public static HandicapHistoryChunk newChunk(Long playerId, long epochSecond) {
+        HandicapHistoryChunk chunk = new HandicapHistoryChunk();
+        chunk.setPlayerId(playerId);
+        chunk.setFirstTimestamp(epochSecond);
+        chunk.setLastTimestamp(epochSecond);
+        return chunk;
+    }
+
+    /**
+     * Appends a point to the chunk. Callers check {@link #hasRoom} first. Timestamps earlier than the chunk's
+     * last point (clock skew between nodes) are clamped so points stay ordered.
+     */
+    public static void append(HandicapHistoryChunk chunk, long epochSecond, int hundredths) {
+        epochSecond = Math.max(epochSecond, chunk.getLastTimestamp());
+        long previousTimestamp = chunk.getPointCount() == 0 ? chunk.getFirstTimestamp() : chunk.getLastTimestamp();
+        int previousValue = chunk.getPointCount() == 0 ? 0 : chunk.getLastValue();
+
+        byte[] buffer = new byte[MAX_POINT_BYTES];
+        int length = writeVarLong(buffer, 0, zigzag(epochSecond - previousTimestamp));
+        length = writeVarLong(buffer, length, zigzag((long) hundredths - previousValue));
+
+        byte[] data = chunk.getData();
+        byte[] grown = Arrays.copyOf(data, data.length + length);
+        System.arraycopy(buffer, 0, grown, data.length, length);
+        chunk.setData(grown);
+        chunk.setLastTimestamp(epochSecond);
+        chunk.setLastValue(hundredths);
+        chunk.setPointCount(chunk.getPointCount() + 1);
+    }
+
+    /**
+     * Decodes the points of the chunk that fall within [fromSecond, toSecond] in a single pass.
+     */
+    public static void decode(HandicapHistoryChunk chunk, long fromSecond, long toSecond, List<HandicapPoint> out) {
+        byte[] data = chunk.getData();
+        long timestamp = chunk.getFirstTimestamp();
+        long value = 0;
+        int[] position = {0};
+        for (int i = 0; i < chunk.getPointCount(); i++) {
+            timestamp += unzigzag(readVarLong(data, position));
+            value += unzigzag(readVarLong(data, position));
+            if (timestamp >= fromSecond && timestamp <= toSecond) {
+                out.add(new HandicapPoint(Instant.ofEpochSecond(timestamp), value / 100.0));
+            }
+        }
+    }
+
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static int writeVarLong(byte[] buffer, int offset, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[offset++] = (byte) value;
+        return offset;
+    }
+
+    static long readVarLong(byte[] data, int[] position) {
+        long result = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = data[position[0]++];
+            result |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return result;
+    }
+}
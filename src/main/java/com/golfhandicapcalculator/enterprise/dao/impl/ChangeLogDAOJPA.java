@@ -0,0 +1,184 @@
+package com.golfhandicapcalculator.enterprise.dao.impl;
+
+import com.golfhandicapcalculator.enterprise.config.ShardRouter;
+import com.golfhandicapcalculator.enterprise.dao.ChangeFeedRelayRepository;
+import com.golfhandicapcalculator.enterprise.dao.ChangeLogRepository;
+import com.golfhandicapcalculator.enterprise.dao.ChangeOutboxRepository;
+import com.golfhandicapcalculator.enterprise.dao.IChangeLogDAO;
+import com.golfhandicapcalculator.enterprise.dto.ChangeFeedRelay;
+import com.golfhandicapcalculator.enterprise.dto.ChangeLogEntry;
+import com.golfhandicapcalculator.enterprise.dto.ChangeOutboxEntry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Repository
+@Primary
+@ConditionalOnProperty(name = "golf.persistence.mode", havingValue = "jpa", matchIfMissing = true)
+public class ChangeLogDAOJPA implements IChangeLogDAO {
+
+    // superseded entries are deleted by id in batches of this size
+    static final int COMPACTION_BATCH_SIZE = 1000;
+
+    static final String INSERT_OUTBOX_SQL = "INSERT INTO change_outbox"
+            + " (entity_type, operation, entity_id, player_id, changed_at, purged_before) VALUES (?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private ChangeOutboxRepository outboxRepository;
+
+    @Autowired
+    private ChangeFeedRelayRepository relayRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // the log is one sequence for all players, so it lives on the default shard; changes are recorded in the
+    // outbox of the shard the write's transaction is on, and relayed into the log after they commit
+    @Autowired(required = false)
+    private ShardRouter shardRouter = ShardRouter.UNSHARDED;
+
+    @Override
+    public void recordChange(ChangeLogEntry entry) {
+        ChangeOutboxEntry recorded = new ChangeOutboxEntry();
+        recorded.setEntityType(entry.getEntityType());
+        recorded.setOperation(entry.getOperation());
+        recorded.setEntityId(entry.getEntityId());
+        recorded.setPlayerId(entry.getPlayerId());
+        recorded.setChangedAt(entry.getChangedAt());
+        recorded.setPurgedBefore(entry.getPurgedBefore());
+        // any shard's outbox is relayed, so a write that touched several shards records all its changes on one
+        shardRouter.onBoundShard(entry.getPlayerId(), () -> outboxRepository.save(recorded));
+    }
+
+    /**
+     * Records the changes as one JDBC batch, which the driver rewrites into a single multi-row insert;
+     * Hibernate cannot batch inserts of identity-keyed rows.
+     */
+    @Override
+    public void recordChanges(List<ChangeLogEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(entries.size());
+        for (ChangeLogEntry entry : entries) {
+            args.add(new Object[]{entry.getEntityType().name(), entry.getOperation().name(), entry.getEntityId(),
+                    entry.getPlayerId(), Timestamp.from(entry.getChangedAt()),
+                    entry.getPurgedBefore() != null ? Timestamp.from(entry.getPurgedBefore()) : null});
+        }
+        shardRouter.onBoundShard(entries.get(0).getPlayerId(), () -> jdbcTemplate.batchUpdate(INSERT_OUTBOX_SQL, args));
+    }
+
+    @Override
+    public int relayChanges(int limit) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        int relayed = 0;
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            relayed += shardRouter.onShard(shard, () -> template.execute(status -> relayOutbox(limit)));
+        }
+        return relayed;
+    }
+
+    /**
+     * Moves the oldest recorded changes of the current shard into the log. Change ids are only handed out
+     * while the relay lock is held, and the lock is released by the commit, so no change id becomes visible
+     * before a lower one: a cursor can never pass a change that is still on its way.
+     *
+     * Unsharded, the outbox and the log share one transaction. Sharded, the log commits first and the outbox
+     * rows are deleted afterwards, so a failure in between relays those changes twice rather than never;
+     * consumers upsert by id, which makes a repeated entry harmless.
+     */
+    private int relayOutbox(int limit) {
+        List<ChangeOutboxEntry> recorded = outboxRepository.findForRelay(PageRequest.of(0, limit));
+        if (recorded.isEmpty()) {
+            return 0;
+        }
+        shardRouter.onDefaultShard(false, () -> {
+            lockRelay();
+            for (ChangeOutboxEntry change : recorded) {
+                changeLogRepository.save(toLogEntry(change));
+            }
+            return null;
+        });
+        outboxRepository.deleteByOutboxIds(recorded.stream().map(ChangeOutboxEntry::getOutboxId)
+                .collect(Collectors.toList()));
+        return recorded.size();
+    }
+
+    private void lockRelay() {
+        ChangeFeedRelay relay = relayRepository.findByRelayId(ChangeFeedRelay.RELAY_ID);
+        if (relay == null) {
+            // the first relay creates the row, and the insert locks it just the same
+            relay = new ChangeFeedRelay();
+            relay.setRelayId(ChangeFeedRelay.RELAY_ID);
+        }
+        relay.setRelayedAt(Instant.now());
+        relayRepository.saveAndFlush(relay);
+    }
+
+    private static ChangeLogEntry toLogEntry(ChangeOutboxEntry recorded) {
+        ChangeLogEntry entry = new ChangeLogEntry();
+        entry.setEntityType(recorded.getEntityType());
+        entry.setOperation(recorded.getOperation());
+        entry.setEntityId(recorded.getEntityId());
+        entry.setPlayerId(recorded.getPlayerId());
+        entry.setChangedAt(recorded.getChangedAt());
+        entry.setPurgedBefore(recorded.getPurgedBefore());
+        return entry;
+    }
+
+    @Override
+    public List<ChangeLogEntry> fetchChangesAfter(long changeId, int limit) {
+        return shardRouter.onDefaultShard(true, () ->
+                changeLogRepository.findByChangeIdGreaterThanOrderByChangeId(changeId, PageRequest.of(0, limit)));
+    }
+
+    @Override
+    public Long fetchFirstChangeIdSince(Instant since) {
+        return shardRouter.onDefaultShard(true, () -> changeLogRepository.findFirstChangeIdSince(since));
+    }
+
+    @Override
+    public Long fetchLastChangeId() {
+        return shardRouter.onDefaultShard(true, changeLogRepository::findLastChangeId);
+    }
+
+    @Override
+    public int deleteChangesSupersededBefore(Instant horizon) {
+        int deleted = 0;
+        List<Long> changeIds;
+        do {
+            changeIds = shardRouter.onDefaultShard(true, () -> changeLogRepository.findSupersededChangeIds(horizon,
+                    ChangeLogEntry.Operation.PURGE, ChangeLogEntry.EntityType.PLAYER, ChangeLogEntry.Operation.DELETE,
+                    ChangeLogEntry.EntityType.SCORE, PageRequest.of(0, COMPACTION_BATCH_SIZE)));
+            if (!changeIds.isEmpty()) {
+                // selected first: MySQL cannot delete from a table it reads in the same statement's subquery
+                List<Long> batch = changeIds;
+                deleted += shardRouter.onDefaultShard(false, () -> changeLogRepository.deleteByChangeIds(batch));
+            }
+        } while (changeIds.size() == COMPACTION_BATCH_SIZE);
+        return deleted;
+    }
+
+    @Override
+    public int deleteTombstonesBefore(Instant cutoff) {
+        return shardRouter.onDefaultShard(false, () -> changeLogRepository.deleteTombstonesBefore(cutoff,
+                EnumSet.of(ChangeLogEntry.Operation.DELETE, ChangeLogEntry.Operation.PURGE)));
+    }
+}
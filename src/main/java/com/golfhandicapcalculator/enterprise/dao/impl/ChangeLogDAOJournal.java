@@ -0,0 +1,67 @@
+package com.golfhandicapcalculator.enterprise.dao.impl;
+
+import com.golfhandicapcalculator.enterprise.dao.IChangeLogDAO;
+import com.golfhandicapcalculator.enterprise.dao.journal.JournalStore;
+import com.golfhandicapcalculator.enterprise.dto.ChangeLogEntry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * IChangeLogDAO implementation backed by the durable in-memory {@link JournalStore}, so feed cursors stay valid
+ * across restarts. There is a single store and every write is durable before its change is recorded, so changes
+ * go straight into the log and there is nothing to relay.
+ * Active when {@code golf.persistence.mode=journal}, replacing the JPA implementation.
+ */
+@Repository
+@Primary
+@ConditionalOnProperty(name = "golf.persistence.mode", havingValue = "journal")
+public class ChangeLogDAOJournal implements IChangeLogDAO {
+
+    @Autowired
+    private JournalStore journalStore;
+
+    @Override
+    public void recordChange(ChangeLogEntry entry) {
+        journalStore.appendChanges(Collections.singletonList(entry));
+    }
+
+    @Override
+    public void recordChanges(List<ChangeLogEntry> entries) {
+        journalStore.appendChanges(entries);
+    }
+
+    @Override
+    public int relayChanges(int limit) {
+        return 0;
+    }
+
+    @Override
+    public List<ChangeLogEntry> fetchChangesAfter(long changeId, int limit) {
+        return journalStore.changesAfter(changeId, limit);
+    }
+
+    @Override
+    public Long fetchFirstChangeIdSince(Instant since) {
+        return journalStore.firstChangeIdSince(since);
+    }
+
+    @Override
+    public Long fetchLastChangeId() {
+        return journalStore.lastChangeId();
+    }
+
+    @Override
+    public int deleteChangesSupersededBefore(Instant horizon) {
+        return journalStore.deleteChangesSupersededBefore(horizon);
+    }
+
+    @Override
+    public int deleteTombstonesBefore(Instant cutoff) {
+        return journalStore.deleteChangeTombstonesBefore(cutoff);
+    }
+}
@@ -0,0 +1,162 @@
+package com.golfhandicapcalculator.enterprise.dao.impl;
+
+import com.golfhandicapcalculator.enterprise.dao.IChangeLogDAO;
+import com.golfhandicapcalculator.enterprise.dto.ChangeLogEntry;
+import org.springframework.stereotype.Repository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Mock implementation of the IChangeLogDAO interface for testing and development purposes.
+ * Keeps the entries in an in-memory TreeMap ordered by change id, and recorded changes in a list until they
+ * are relayed.
+ * This implementation is annotated with @Repository to be detected by Spring's component scanning.
+ */
+@Repository
+public class ChangeLogDAOMock implements IChangeLogDAO {
+
+    private final TreeMap<Long, ChangeLogEntry> changeTable = new TreeMap<>();
+    private final List<ChangeLogEntry> outbox = new ArrayList<>();
+    private long nextChangeId = 1;
+
+    /**
+     * Records a change to be relayed into the log.
+     *
+     * @param entry the change to record
+     */
+    @Override
+    public synchronized void recordChange(ChangeLogEntry entry) {
+        outbox.add(entry);
+    }
+
+    /**
+     * Records several changes to be relayed into the log, in order.
+     *
+     * @param entries the changes to record
+     */
+    @Override
+    public synchronized void recordChanges(List<ChangeLogEntry> entries) {
+        outbox.addAll(entries);
+    }
+
+    /**
+     * Moves the oldest recorded changes into the log, assigning each the next change id.
+     *
+     * @param limit the maximum number of changes to relay
+     * @return the number of changes relayed
+     */
+    @Override
+    public synchronized int relayChanges(int limit) {
+        List<ChangeLogEntry> relayed = outbox.subList(0, Math.min(limit, outbox.size()));
+        for (ChangeLogEntry entry : relayed) {
+            entry.setChangeId(nextChangeId++);
+            changeTable.put(entry.getChangeId(), entry);
+        }
+        int count = relayed.size();
+        relayed.clear();
+        return count;
+    }
+
+    /**
+     * Fetches the entries following a change id.
+     *
+     * @param changeId the last change id already read, 0 to read from the start
+     * @param limit the maximum number of entries to return
+     * @return the entries in change id order, empty list if none follow
+     */
+    @Override
+    public synchronized List<ChangeLogEntry> fetchChangesAfter(long changeId, int limit) {
+        List<ChangeLogEntry> changes = new ArrayList<>();
+        for (ChangeLogEntry entry : changeTable.tailMap(changeId, false).values()) {
+            if (changes.size() == limit) {
+                break;
+            }
+            changes.add(entry);
+        }
+        return changes;
+    }
+
+    /**
+     * Fetches the id of the first entry recorded at or after an instant.
+     *
+     * @param since the earliest change time
+     * @return the change id, or null if nothing changed since
+     */
+    @Override
+    public synchronized Long fetchFirstChangeIdSince(Instant since) {
+        return changeTable.values().stream()
+                .filter(entry -> !entry.getChangedAt().isBefore(since))
+                .map(ChangeLogEntry::getChangeId)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Fetches the id of the latest entry.
+     *
+     * @return the change id, or null if the log is empty
+     */
+    @Override
+    public synchronized Long fetchLastChangeId() {
+        return changeTable.isEmpty() ? null : changeTable.lastKey();
+    }
+
+    /**
+     * Deletes entries recorded before the horizon that a later entry for the same player or score, the
+     * deletion of their player, or a purge covering the score makes redundant.
+     *
+     * @param horizon entries recorded at or after this instant are kept
+     * @return the number of entries deleted
+     */
+    @Override
+    public synchronized int deleteChangesSupersededBefore(Instant horizon) {
+        int deleted = 0;
+        Iterator<ChangeLogEntry> iterator = changeTable.values().iterator();
+        while (iterator.hasNext()) {
+            ChangeLogEntry entry = iterator.next();
+            if (entry.getChangedAt().isBefore(horizon) && entry.getOperation() != ChangeLogEntry.Operation.PURGE
+                    && isSuperseded(entry)) {
+                iterator.remove();
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Deletes delete and purge entries recorded before the cutoff.
+     *
+     * @param cutoff tombstones recorded at or after this instant are kept
+     * @return the number of entries deleted
+     */
+    @Override
+    public synchronized int deleteTombstonesBefore(Instant cutoff) {
+        int before = changeTable.size();
+        changeTable.values().removeIf(entry -> entry.getChangedAt().isBefore(cutoff)
+                && (entry.getOperation() == ChangeLogEntry.Operation.DELETE
+                || entry.getOperation() == ChangeLogEntry.Operation.PURGE));
+        return before - changeTable.size();
+    }
+
+    private boolean isSuperseded(ChangeLogEntry entry) {
+        for (ChangeLogEntry later : changeTable.tailMap(entry.getChangeId(), false).values()) {
+            boolean sameEntity = later.getEntityType() == entry.getEntityType()
+                    && later.getEntityId() != null && later.getEntityId().equals(entry.getEntityId());
+            boolean playerDeleted = later.getEntityType() == ChangeLogEntry.EntityType.PLAYER
+                    && later.getOperation() == ChangeLogEntry.Operation.DELETE
+                    && Objects.equals(later.getPlayerId(), entry.getPlayerId());
+            // a score changed before the purge cutoff was recorded before it too, so the purge deleted it
+            boolean scorePurged = entry.getEntityType() == ChangeLogEntry.EntityType.SCORE
+                    && later.getOperation() == ChangeLogEntry.Operation.PURGE && later.getPurgedBefore() != null
+                    && entry.getChangedAt().isBefore(later.getPurgedBefore());
+            if (sameEntity || playerDeleted || scorePurged) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
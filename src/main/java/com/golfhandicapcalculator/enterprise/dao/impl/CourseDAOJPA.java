@@ -0,0 +1,40 @@
+package com.golfhandicapcalculator.enterprise.dao.impl;
+
+import com.golfhandicapcalculator.enterprise.config.ShardRouter;
+import com.golfhandicapcalculator.enterprise.dao.CourseRepository;
+import com.golfhandicapcalculator.enterprise.dao.ICourseDAO;
+import com.golfhandicapcalculator.enterprise.dto.Course;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+@Primary
+@ConditionalOnProperty(name = "golf.persistence.mode", havingValue = "jpa", matchIfMissing = true)
+public class CourseDAOJPA implements ICourseDAO {
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    // the catalog is not sharded; with sharding it is read in its own transaction on the default shard so a
+    // score submission can look up its course without binding its transaction to that shard
+    @Autowired(required = false)
+    private ShardRouter shardRouter = ShardRouter.UNSHARDED;
+
+    @Override
+    public List<Course> fetchAllCourses() {
+        return shardRouter.onDefaultShard(true, courseRepository::findAll);
+    }
+
+    @Override
+    public Course fetchCourse(Long courseId) {
+        return shardRouter.onDefaultShard(true, () -> courseRepository.findById(courseId).orElse(null));
+    }
+
+    @Override
+    public Course saveCourse(Course course) {
+        return shardRouter.onDefaultShard(false, () -> courseRepository.save(course));
+    }
+}
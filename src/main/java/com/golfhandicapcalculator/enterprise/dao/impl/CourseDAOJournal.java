@@ -0,0 +1,38 @@
+package com.golfhandicapcalculator.enterprise.dao.impl;
+
+import com.golfhandicapcalculator.enterprise.dao.ICourseDAO;
+import com.golfhandicapcalculator.enterprise.dao.journal.JournalStore;
+import com.golfhandicapcalculator.enterprise.dto.Course;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+/**
+ * ICourseDAO implementation backed by the durable in-memory {@link JournalStore}.
+ * Active when {@code golf.persistence.mode=journal}, replacing the JPA implementation.
+ */
+@Repository
+@Primary
+@ConditionalOnProperty(name = "golf.persistence.mode", havingValue = "journal")
+public class CourseDAOJournal implements ICourseDAO {
+
+    @Autowired
+    private JournalStore journalStore;
+
+    @Override
+    public List<Course> fetchAllCourses() {
+        return journalStore.allCourses();
+    }
+
+    @Override
+    public Course fetchCourse(Long courseId) {
+        return journalStore.course(courseId);
+    }
+
+    @Override
+    public Course saveCourse(Course course) {
+        return journalStore.saveCourse(course);
+    }
+}
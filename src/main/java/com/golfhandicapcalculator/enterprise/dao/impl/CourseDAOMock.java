@@ -0,0 +1,74 @@
+package com.golfhandicapcalculator.enterprise.dao.impl;
+
+import com.golfhandicapcalculator.enterprise.dao.ICourseDAO;
+import com.golfhandicapcalculator.enterprise.dto.Course;
+import org.springframework.stereotype.Repository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mock implementation of the ICourseDAO interface for testing and development purposes.
+ * Uses an in-memory ConcurrentHashMap to store course data.
+ * This implementation is annotated with @Repository to be detected by Spring's component scanning.
+ */
+@Repository
+public class CourseDAOMock implements ICourseDAO {
+
+    private final Map<Long, Course> courseTable = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(300L);
+
+    /**
+     * Constructs a new CourseDAOMock instance and initializes it with sample data.
+     * Creates one default course entry with ID 300.
+     */
+    public CourseDAOMock() {
+        Course c1 = new Course();
+        c1.setCourseId(nextId.getAndIncrement());
+        c1.setName("Pine Valley");
+        c1.setTee("White");
+        c1.setPar(72);
+        c1.setSlope(120);
+        c1.setRating(71.2);
+        courseTable.put(c1.getCourseId(), c1);
+    }
+
+    /**
+     * Fetches all courses from the data store.
+     *
+     * @return a list of all Course objects, empty list if none exist
+     */
+    @Override
+    public List<Course> fetchAllCourses() {
+        return new ArrayList<>(courseTable.values());
+    }
+
+    /**
+     * Fetches a course by its unique identifier.
+     *
+     * @param courseId the unique identifier of the course to retrieve
+     * @return the Course object if found, null otherwise
+     */
+    @Override
+    public Course fetchCourse(Long courseId) {
+        return courseTable.get(courseId);
+    }
+
+    /**
+     * Saves a course to the data store.
+     * If the course does not have an ID or has ID 0, a new ID is assigned.
+     *
+     * @param course the Course object to save
+     * @return the saved Course object with its assigned ID
+     */
+    @Override
+    public Course saveCourse(Course course) {
+        if (course.getCourseId() == null || course.getCourseId() == 0) {
+            course.setCourseId(nextId.getAndIncrement());
+        }
+        courseTable.put(course.getCourseId(), course);
+        return course;
+    }
+}
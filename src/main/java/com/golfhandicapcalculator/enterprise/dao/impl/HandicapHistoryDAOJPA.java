@@ -0,0 +1,76 @@
+package com.golfhandicapcalculator.enterprise.dao.impl;
+
+import com.golfhandicapcalculator.enterprise.config.ShardRouter;
+import com.golfhandicapcalculator.enterprise.dao.HandicapHistoryRepository;
+import com.golfhandicapcalculator.enterprise.dao.IHandicapHistoryDAO;
+import com.golfhandicapcalculator.enterprise.dao.history.HandicapHistoryCodec;
+import com.golfhandicapcalculator.enterprise.dto.HandicapHistoryChunk;
+import com.golfhandicapcalculator.enterprise.dto.HandicapPoint;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@Primary
+@ConditionalOnProperty(name = "golf.persistence.mode", havingValue = "jpa", matchIfMissing = true)
+public class HandicapHistoryDAOJPA implements IHandicapHistoryDAO {
+
+    @Autowired
+    private HandicapHistoryRepository historyRepository;
+
+    // history is kept on the player's shard
+    @Autowired(required = false)
+    private ShardRouter shardRouter = ShardRouter.UNSHARDED;
+
+    @Override
+    public void appendPoint(Long playerId, Instant at, double handicap) {
+        shardRouter.onShardOf(playerId, () -> {
+            append(playerId, at, handicap);
+            return null;
+        });
+    }
+
+    @Override
+    public List<HandicapPoint> fetchPoints(Long playerId, Instant from, Instant to) {
+        return shardRouter.onShardOf(playerId, () -> {
+            List<HandicapPoint> points = new ArrayList<>();
+            for (HandicapHistoryChunk chunk : historyRepository.findOverlapping(
+                    playerId, from.getEpochSecond(), to.getEpochSecond())) {
+                HandicapHistoryCodec.decode(chunk, from.getEpochSecond(), to.getEpochSecond(), points);
+            }
+            return points;
+        });
+    }
+
+    @Override
+    public void deleteHistory(Long playerId) {
+        shardRouter.onShardOf(playerId, () -> historyRepository.deleteByPlayerId(playerId));
+    }
+
+    @Override
+    public int deleteHistories(Collection<Long> playerIds) {
+        if (playerIds.isEmpty()) {
+            return 0;
+        }
+        return shardRouter.onShardsOf(playerIds, false, historyRepository::deleteByPlayerIds)
+                .stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private void append(Long playerId, Instant at, double handicap) {
+        int value = HandicapHistoryCodec.quantize(handicap);
+        HandicapHistoryChunk chunk = historyRepository.findFirstByPlayerIdOrderByChunkIdDesc(playerId);
+        if (chunk != null && chunk.getPointCount() > 0 && chunk.getLastValue() == value) {
+            return;
+        }
+        if (chunk == null || !HandicapHistoryCodec.hasRoom(chunk)) {
+            chunk = HandicapHistoryCodec.newChunk(playerId, at.getEpochSecond());
+        }
+        HandicapHistoryCodec.append(chunk, at.getEpochSecond(), value);
+        historyRepository.save(chunk);
+    }
+}
@@ -0,0 +1,46 @@
+package com.golfhandicapcalculator.enterprise.dao.impl;
+
+import com.golfhandicapcalculator.enterprise.dao.IHandicapHistoryDAO;
+import com.golfhandicapcalculator.enterprise.dao.journal.JournalStore;
+import com.golfhandicapcalculator.enterprise.dto.HandicapPoint;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * IHandicapHistoryDAO implementation backed by the durable in-memory {@link JournalStore}, so the history
+ * survives restarts like the players and scores it belongs to.
+ * Active when {@code golf.persistence.mode=journal}, replacing the JPA implementation.
+ */
+@Repository
+@Primary
+@ConditionalOnProperty(name = "golf.persistence.mode", havingValue = "journal")
+public class HandicapHistoryDAOJournal implements IHandicapHistoryDAO {
+
+    @Autowired
+    private JournalStore journalStore;
+
+    @Override
+    public void appendPoint(Long playerId, Instant at, double handicap) {
+        journalStore.appendHistoryPoint(playerId, at, handicap);
+    }
+
+    @Override
+    public List<HandicapPoint> fetchPoints(Long playerId, Instant from, Instant to) {
+        return journalStore.historyPoints(playerId, from, to);
+    }
+
+    @Override
+    public void deleteHistory(Long playerId) {
+        journalStore.deleteHistory(playerId);
+    }
+
+    @Override
+    public int deleteHistories(Collection<Long> playerIds) {
+        return journalStore.deleteHistories(playerIds);
+    }
+}
@@ -0,0 +1,94 @@
+package com.golfhandicapcalculator.enterprise.dao.impl;
+
+import com.golfhandicapcalculator.enterprise.dao.IHandicapHistoryDAO;
+import com.golfhandicapcalculator.enterprise.dao.history.HandicapHistoryCodec;
+import com.golfhandicapcalculator.enterprise.dto.HandicapHistoryChunk;
+import com.golfhandicapcalculator.enterprise.dto.HandicapPoint;
+import org.springframework.stereotype.Repository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mock implementation of the IHandicapHistoryDAO interface for testing and development purposes.
+ * Keeps each player's packed chunks in an in-memory HashMap.
+ * This implementation is annotated with @Repository to be detected by Spring's component scanning.
+ */
+@Repository
+public class HandicapHistoryDAOMock implements IHandicapHistoryDAO {
+
+    private final Map<Long, List<HandicapHistoryChunk>> chunksByPlayer = new HashMap<>();
+
+    /**
+     * Appends a handicap point to the player's latest chunk, starting a new chunk when it is full.
+     * A point equal to the previous one is not stored.
+     *
+     * @param playerId the unique identifier of the player
+     * @param at the time the handicap changed
+     * @param handicap the new handicap
+     */
+    @Override
+    public synchronized void appendPoint(Long playerId, Instant at, double handicap) {
+        int value = HandicapHistoryCodec.quantize(handicap);
+        List<HandicapHistoryChunk> chunks = chunksByPlayer.computeIfAbsent(playerId, id -> new ArrayList<>());
+        HandicapHistoryChunk chunk = chunks.isEmpty() ? null : chunks.get(chunks.size() - 1);
+        if (chunk != null && chunk.getPointCount() > 0 && chunk.getLastValue() == value) {
+            return;
+        }
+        if (chunk == null || !HandicapHistoryCodec.hasRoom(chunk)) {
+            chunk = HandicapHistoryCodec.newChunk(playerId, at.getEpochSecond());
+            chunks.add(chunk);
+        }
+        HandicapHistoryCodec.append(chunk, at.getEpochSecond(), value);
+    }
+
+    /**
+     * Fetches a player's handicap points within a time range.
+     *
+     * @param playerId the unique identifier of the player
+     * @param from the inclusive start of the range
+     * @param to the inclusive end of the range
+     * @return the points in time order, empty list if none exist
+     */
+    @Override
+    public synchronized List<HandicapPoint> fetchPoints(Long playerId, Instant from, Instant to) {
+        List<HandicapPoint> points = new ArrayList<>();
+        for (HandicapHistoryChunk chunk : chunksByPlayer.getOrDefault(playerId, new ArrayList<>())) {
+            if (chunk.getLastTimestamp() >= from.getEpochSecond() && chunk.getFirstTimestamp() <= to.getEpochSecond()) {
+                HandicapHistoryCodec.decode(chunk, from.getEpochSecond(), to.getEpochSecond(), points);
+            }
+        }
+        return points;
+    }
+
+    /**
+     * Deletes a player's handicap history.
+     *
+     * @param playerId the unique identifier of the player
+     */
+    @Override
+    public synchronized void deleteHistory(Long playerId) {
+        chunksByPlayer.remove(playerId);
+    }
+
+    /**
+     * Deletes the handicap history of several players.
+     *
+     * @param playerIds the unique identifiers of the players
+     * @return the number of chunks deleted
+     */
+    @Override
+    public synchronized int deleteHistories(Collection<Long> playerIds) {
+        int deleted = 0;
+        for (Long playerId : playerIds) {
+            List<HandicapHistoryChunk> removed = chunksByPlayer.remove(playerId);
+            if (removed != null) {
+                deleted += removed.size();
+            }
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,163 @@
+package com.golfhandicapcalculator.enterprise.dao.impl;
+
+import com.golfhandicapcalculator.enterprise.config.ShardRouter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Coalescing write-behind buffer for player handicap updates.
+ *
+ * Handicap writes land in a per-player dirty map, so a burst of score entries for the same player
+ * collapses into the latest value. The map is flushed with batched updates every flush interval, as soon
+ * as it reaches the size threshold, and on shutdown. Reads overlay pending values, so callers never see
+ * a handicap older than the last one written. An entry is only cleared if it was not overwritten while
+ * its batch was being written.
+ *
+ * Enabled with {@code golf.write-behind.enabled=true}.
+ */
+@Component
+@ConditionalOnProperty(name = "golf.write-behind.enabled", havingValue = "true")
+public class HandicapWriteBehind {
+
+    private static final Logger log = LoggerFactory.getLogger(HandicapWriteBehind.class);
+
+    static final String UPDATE_SQL = "UPDATE players SET handicap = ? WHERE player_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long flushIntervalMillis;
+    private final int maxPending;
+    private final int batchSize;
+
+    private final Map<Long, Double> dirty = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private ScheduledExecutorService executor;
+
+    @Autowired(required = false)
+    private ShardRouter shardRouter = ShardRouter.UNSHARDED;
+
+    public HandicapWriteBehind(JdbcTemplate jdbcTemplate,
+                               @Value("${golf.write-behind.flush-interval-millis:500}") long flushIntervalMillis,
+                               @Value("${golf.write-behind.max-pending:500}") int maxPending,
+                               @Value("${golf.write-behind.batch-size:200}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxPending = maxPending;
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "handicap-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    public void put(Long playerId, double handicap) {
+        dirty.put(playerId, handicap);
+        if (dirty.size() >= maxPending && executor != null && flushRequested.compareAndSet(false, true)) {
+            executor.execute(this::flushQuietly);
+        }
+    }
+
+    /**
+     * Returns the handicap waiting to be written for a player, or null if nothing is pending.
+     */
+    public Double pending(Long playerId) {
+        return dirty.get(playerId);
+    }
+
+    public boolean hasPending() {
+        return !dirty.isEmpty();
+    }
+
+    /**
+     * Drops a pending update, used when the player row is rewritten or deleted directly.
+     */
+    public void discard(Long playerId) {
+        dirty.remove(playerId);
+    }
+
+    /**
+     * Writes all pending handicaps in batches and clears the entries that were not overwritten meanwhile.
+     *
+     * @return the number of rows written
+     */
+    public synchronized int flush() {
+        flushRequested.set(false);
+        if (dirty.isEmpty()) {
+            return 0;
+        }
+        // batches never span shards
+        Map<Integer, List<Map.Entry<Long, Double>>> snapshots = new TreeMap<>();
+        for (Map.Entry<Long, Double> entry : dirty.entrySet()) {
+            snapshots.computeIfAbsent(shardRouter.shardForId(entry.getKey()), shard -> new ArrayList<>())
+                    .add(Map.entry(entry.getKey(), entry.getValue()));
+        }
+
+        int written = 0;
+        for (Map.Entry<Integer, List<Map.Entry<Long, Double>>> shard : snapshots.entrySet()) {
+            written += shardRouter.onShard(shard.getKey(), () -> writeBatches(shard.getValue()));
+        }
+        log.debug("Flushed {} pending handicap updates", written);
+        return written;
+    }
+
+    private int writeBatches(List<Map.Entry<Long, Double>> snapshot) {
+        int written = 0;
+        for (int from = 0; from < snapshot.size(); from += batchSize) {
+            List<Map.Entry<Long, Double>> chunk = snapshot.subList(from, Math.min(from + batchSize, snapshot.size()));
+            List<Object[]> args = new ArrayList<>(chunk.size());
+            for (Map.Entry<Long, Double> entry : chunk) {
+                args.add(new Object[]{entry.getValue(), entry.getKey()});
+            }
+            jdbcTemplate.batchUpdate(UPDATE_SQL, args);
+            for (Map.Entry<Long, Double> entry : chunk) {
+                dirty.remove(entry.getKey(), entry.getValue());
+            }
+            written += chunk.size();
+        }
+        return written;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Handicap write-behind flush failed, will retry", e);
+        }
+    }
+}
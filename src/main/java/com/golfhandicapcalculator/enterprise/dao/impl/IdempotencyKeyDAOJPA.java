@@ -0,0 +1,48 @@
+package com.golfhandicapcalculator.enterprise.dao.impl;
+
+import com.golfhandicapcalculator.enterprise.config.ShardRouter;
+import com.golfhandicapcalculator.enterprise.dao.IIdempotencyKeyDAO;
+import com.golfhandicapcalculator.enterprise.dao.IdempotencyKeyRepository;
+import com.golfhandicapcalculator.enterprise.dto.IdempotencyKey;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Repository;
+import java.time.Instant;
+
+/**
+ * Durable record of the idempotency keys behind score submissions, so retries are recognised after a restart
+ * and across nodes. Only created when {@code golf.idempotency.persistent=true} in JPA mode.
+ */
+@Repository
+@ConditionalOnExpression("'${golf.persistence.mode:jpa}' == 'jpa' and '${golf.idempotency.persistent:false}' == 'true'")
+public class IdempotencyKeyDAOJPA implements IIdempotencyKeyDAO {
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    // keys are kept on the player's shard, next to the scores they point at
+    @Autowired(required = false)
+    private ShardRouter shardRouter = ShardRouter.UNSHARDED;
+
+    @Override
+    public Long fetchScoreId(Long playerId, String key) {
+        return shardRouter.onShardOf(playerId,
+                () -> idempotencyKeyRepository.findById(key).map(IdempotencyKey::getScoreId).orElse(null));
+    }
+
+    @Override
+    public void saveKey(Long playerId, String key, Long scoreId) {
+        IdempotencyKey idempotencyKey = new IdempotencyKey();
+        idempotencyKey.setKey(key);
+        idempotencyKey.setScoreId(scoreId);
+        idempotencyKey.setCreatedAt(Instant.now());
+        // flushed now so a key inserted concurrently by another node fails here, on the primary key
+        shardRouter.onShardOf(playerId, () -> idempotencyKeyRepository.saveAndFlush(idempotencyKey));
+    }
+
+    @Override
+    public int deleteKeysCreatedBefore(Instant cutoff) {
+        return shardRouter.onEachShard(false, shard -> idempotencyKeyRepository.deleteCreatedBefore(cutoff))
+                .stream().mapToInt(Integer::intValue).sum();
+    }
+}
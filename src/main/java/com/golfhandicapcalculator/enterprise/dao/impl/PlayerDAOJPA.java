@@ -1,50 +1,197 @@
 package com.golfhandicapcalculator.enterprise.dao.impl;
 
+import com.golfhandicapcalculator.enterprise.config.ShardRouter;
 import com.golfhandicapcalculator.enterprise.dao.IPlayerDAO;
 import com.golfhandicapcalculator.enterprise.dao.PlayerRepository;
 import com.golfhandicapcalculator.enterprise.dto.Player;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 @Repository
 @Primary
+@ConditionalOnProperty(name = "golf.persistence.mode", havingValue = "jpa", matchIfMissing = true)
 public class PlayerDAOJPA implements IPlayerDAO {
 
     @Autowired
     private PlayerRepository playerRepository;
 
+    @Autowired(required = false)
+    private HandicapWriteBehind handicapWriteBehind;
+
+    @Autowired(required = false)
+    private ShardRouter shardRouter = ShardRouter.UNSHARDED;
+
     @Override
     public List<Player> fetchAllPlayers() {
-        return playerRepository.findAll();
+        List<Player> players = merge(shardRouter.onEachShard(true, shard -> withScores(playerRepository.findAll())));
+        return withPendingHandicaps(players);
+    }
+
+    @Override
+    public List<Player> fetchPlayersPage(int page, int size) {
+        List<Player> players;
+        if (shardRouter.isSharded()) {
+            // every shard returns its first (page + 1) * size players; the merged list is then cut to the page
+            int limit = (page + 1) * size;
+            List<Player> merged = merge(shardRouter.onEachShard(true, shard -> withScores(playerRepository.findAllById(
+                    playerRepository.findPlayerIds(PageRequest.of(0, limit, Sort.by("playerId")))))));
+            players = merged.subList(Math.min(page * size, merged.size()), Math.min(limit, merged.size()));
+        } else {
+            players = playerRepository.findAllBy(PageRequest.of(page, size, Sort.by("playerId")));
+        }
+        return withPendingHandicaps(players);
+    }
+
+    @Override
+    public List<Player> fetchPlayersAfter(Long afterPlayerId, int limit) {
+        // every shard seeks past the key and returns at most limit players, so each call costs the same
+        // wherever the scan is; the merged list is then cut to the limit
+        PageRequest next = PageRequest.of(0, limit, Sort.by("playerId"));
+        List<Player> players = merge(shardRouter.onEachShard(true, shard ->
+                playerRepository.findByPlayerIdGreaterThan(afterPlayerId, next)));
+        if (players.size() > limit) {
+            players = players.subList(0, limit);
+        }
+        return withPendingHandicaps(players);
+    }
+
+    @Override
+    public long countPlayers() {
+        return shardRouter.onEachShard(true, shard -> playerRepository.count())
+                .stream().mapToLong(Long::longValue).sum();
     }
 
     @Override
     public Player fetchPlayer(Long playerId) {
-        return playerRepository.findById(playerId).orElse(null);
+        Player player = shardRouter.onShardOf(playerId, () -> playerRepository.findById(playerId).orElse(null));
+        return player != null && handicapWriteBehind != null ? withPendingHandicap(player) : player;
+    }
+
+    @Override
+    public List<Player> fetchPlayers(Collection<Long> playerIds) {
+        if (playerIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Player> players = merge(shardRouter.onShardsOf(playerIds, true,
+                shardIds -> withScores(playerRepository.findAllById(shardIds))));
+        return withPendingHandicaps(players);
     }
 
     @Override
     public Player savePlayer(Player player) {
-        return playerRepository.save(player);
+        int shard = player.getPlayerId() != null
+                ? shardRouter.shardForId(player.getPlayerId())
+                : shardRouter.shardForClub(player.getClubId());
+        return shardRouter.onShard(shard, () -> playerRepository.save(player));
     }
 
     @Override
     public Player updatePlayer(Player player) {
-        if (playerRepository.existsById(player.getPlayerId())) {
+        // the player stays on the shard its id belongs to; only joining a club placed on another shard is refused,
+        // since existing members keep their shard even after the ring has grown
+        return shardRouter.onShardOf(player.getPlayerId(), () -> {
+            Player stored = playerRepository.findById(player.getPlayerId()).orElse(null);
+            if (stored == null) {
+                return null;
+            }
+            if (player.getClubId() != null && !player.getClubId().equals(stored.getClubId())
+                    && shardRouter.shardForClub(player.getClubId()) != shardRouter.shardForId(player.getPlayerId())) {
+                throw new IllegalArgumentException("Players cannot move to a club on another shard");
+            }
+            if (handicapWriteBehind != null) {
+                handicapWriteBehind.discard(player.getPlayerId());
+            }
             return playerRepository.save(player);
-        }
-        return null;
+        });
     }
 
     @Override
     public void deletePlayer(Long playerId) {
-        playerRepository.deleteById(playerId);
+        deletePlayers(Collections.singletonList(playerId));
+    }
+
+    @Override
+    public int deletePlayers(Collection<Long> playerIds) {
+        if (playerIds.isEmpty()) {
+            return 0;
+        }
+        if (handicapWriteBehind != null) {
+            playerIds.forEach(handicapWriteBehind::discard);
+        }
+        return shardRouter.onShardsOf(playerIds, false, playerRepository::deleteByPlayerIds)
+                .stream().mapToInt(Integer::intValue).sum();
     }
 
     @Override
     public void updateHandicap(Long playerId, double newHandicap) {
-        playerRepository.updateHandicap(playerId, newHandicap);
+        if (handicapWriteBehind != null) {
+            handicapWriteBehind.put(playerId, newHandicap);
+            return;
+        }
+        shardRouter.onShardOf(playerId, () -> {
+            playerRepository.updateHandicap(playerId, newHandicap);
+            return null;
+        });
+    }
+
+    /**
+     * Loads the players' scores while the shard's transaction is still open. Fan-out reads return detached
+     * players, whose lazy scores could otherwise no longer be loaded when the response is serialized; the
+     * first collection pulls in the scores of every player of the query with one subselect.
+     */
+    private List<Player> withScores(List<Player> players) {
+        if (shardRouter.isSharded()) {
+            players.forEach(player -> Hibernate.initialize(player.getScores()));
+        }
+        return players;
+    }
+
+    private static List<Player> merge(List<List<Player>> perShard) {
+        if (perShard.size() == 1) {
+            return perShard.get(0);
+        }
+        List<Player> merged = new ArrayList<>();
+        perShard.forEach(merged::addAll);
+        merged.sort(Comparator.comparing(Player::getPlayerId));
+        return merged;
+    }
+
+    private List<Player> withPendingHandicaps(List<Player> players) {
+        if (handicapWriteBehind == null || !handicapWriteBehind.hasPending()) {
+            return players;
+        }
+        List<Player> result = new ArrayList<>(players.size());
+        for (Player player : players) {
+            result.add(withPendingHandicap(player));
+        }
+        return result;
+    }
+
+    /**
+     * Overlays a handicap still waiting in the write-behind buffer. The value goes on a detached copy: setting
+     * it on the entity would dirty it, and a caller's transaction would then flush an UPDATE at commit.
+     */
+    private Player withPendingHandicap(Player player) {
+        Double pending = handicapWriteBehind.pending(player.getPlayerId());
+        if (pending == null) {
+            return player;
+        }
+        Player copy = new Player();
+        copy.setPlayerId(player.getPlayerId());
+        copy.setName(player.getName());
+        copy.setHandicap(pending);
+        copy.setClubId(player.getClubId());
+        copy.setScores(player.getScores());
+        return copy;
     }
 }
@@ -0,0 +1,79 @@
+package com.golfhandicapcalculator.enterprise.dao.impl;
+
+import com.golfhandicapcalculator.enterprise.dao.IPlayerDAO;
+import com.golfhandicapcalculator.enterprise.dao.journal.JournalStore;
+import com.golfhandicapcalculator.enterprise.dto.Player;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * IPlayerDAO implementation backed by the durable in-memory {@link JournalStore}.
+ * Active when {@code golf.persistence.mode=journal}, replacing the JPA implementation.
+ */
+@Repository
+@Primary
+@ConditionalOnProperty(name = "golf.persistence.mode", havingValue = "journal")
+public class PlayerDAOJournal implements IPlayerDAO {
+
+    @Autowired
+    private JournalStore journalStore;
+
+    @Override
+    public List<Player> fetchAllPlayers() {
+        return journalStore.allPlayers();
+    }
+
+    @Override
+    public List<Player> fetchPlayersPage(int page, int size) {
+        return journalStore.playersPage(page, size);
+    }
+
+    @Override
+    public List<Player> fetchPlayersAfter(Long afterPlayerId, int limit) {
+        return journalStore.playersAfter(afterPlayerId, limit);
+    }
+
+    @Override
+    public long countPlayers() {
+        return journalStore.playerCount();
+    }
+
+    @Override
+    public Player fetchPlayer(Long playerId) {
+        return journalStore.player(playerId);
+    }
+
+    @Override
+    public List<Player> fetchPlayers(Collection<Long> playerIds) {
+        return journalStore.players(playerIds);
+    }
+
+    @Override
+    public Player savePlayer(Player player) {
+        return journalStore.savePlayer(player);
+    }
+
+    @Override
+    public Player updatePlayer(Player player) {
+        return journalStore.updatePlayer(player);
+    }
+
+    @Override
+    public void deletePlayer(Long playerId) {
+        journalStore.deletePlayer(playerId);
+    }
+
+    @Override
+    public int deletePlayers(Collection<Long> playerIds) {
+        return journalStore.deletePlayers(playerIds);
+    }
+
+    @Override
+    public void updateHandicap(Long playerId, double newHandicap) {
+        journalStore.updateHandicap(playerId, newHandicap);
+    }
+}
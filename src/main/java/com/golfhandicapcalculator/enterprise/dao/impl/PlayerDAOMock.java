@@ -4,9 +4,13 @@ import com.golfhandicapcalculator.enterprise.dao.IPlayerDAO;
 import com.golfhandicapcalculator.enterprise.dto.Player;
 import org.springframework.stereotype.Repository;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * Mock implementation of the IPlayerDAO interface for testing and development purposes.
@@ -41,6 +45,48 @@ public class PlayerDAOMock implements IPlayerDAO {
         return new ArrayList<>(playerTable.values());
     }
 
+    /**
+     * Fetches one page of players ordered by their identifier.
+     *
+     * @param page the zero-based page number
+     * @param size the maximum number of players per page
+     * @return the players on the requested page, empty list past the last page
+     */
+    @Override
+    public List<Player> fetchPlayersPage(int page, int size) {
+        return playerTable.values().stream()
+                .sorted(Comparator.comparing(Player::getPlayerId))
+                .skip((long) page * size)
+                .limit(size)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Fetches the players that follow the given identifier, ordered by their identifier.
+     *
+     * @param afterPlayerId the identifier to continue after
+     * @param limit the maximum number of players to return
+     * @return the next players, empty list past the last player
+     */
+    @Override
+    public List<Player> fetchPlayersAfter(Long afterPlayerId, int limit) {
+        return playerTable.values().stream()
+                .filter(player -> player.getPlayerId() > afterPlayerId)
+                .sorted(Comparator.comparing(Player::getPlayerId))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Counts the players in the data store.
+     *
+     * @return the number of players
+     */
+    @Override
+    public long countPlayers() {
+        return playerTable.size();
+    }
+
     /**
      * Fetches a player by their unique identifier.
      *
@@ -52,6 +98,20 @@ public class PlayerDAOMock implements IPlayerDAO {
         return playerTable.get(playerId);
     }
 
+    /**
+     * Fetches several players by their unique identifiers.
+     *
+     * @param playerIds the unique identifiers of the players to retrieve
+     * @return the players that exist, in no particular order
+     */
+    @Override
+    public List<Player> fetchPlayers(Collection<Long> playerIds) {
+        return playerIds.stream()
+                .map(playerTable::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Saves a new player to the data store.
      * If the player does not have an ID or has ID 0, a new ID is assigned.
@@ -93,6 +153,23 @@ public class PlayerDAOMock implements IPlayerDAO {
         playerTable.remove(playerId);
     }
 
+    /**
+     * Deletes several players from the data store.
+     *
+     * @param playerIds the unique identifiers of the players to delete
+     * @return the number of players that existed and were deleted
+     */
+    @Override
+    public int deletePlayers(Collection<Long> playerIds) {
+        int deleted = 0;
+        for (Long playerId : playerIds) {
+            if (playerTable.remove(playerId) != null) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
     /**
      * Updates the handicap for a specific player.
      * Prints a confirmation message to the console after updating.
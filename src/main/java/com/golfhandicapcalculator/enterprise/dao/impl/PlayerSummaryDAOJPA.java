@@ -0,0 +1,104 @@
+package com.golfhandicapcalculator.enterprise.dao.impl;
+
+import com.golfhandicapcalculator.enterprise.config.ShardRouter;
+import com.golfhandicapcalculator.enterprise.dao.IPlayerSummaryDAO;
+import com.golfhandicapcalculator.enterprise.dao.PlayerSummaryRepository;
+import com.golfhandicapcalculator.enterprise.dto.PlayerSummary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@Primary
+@ConditionalOnProperty(name = "golf.persistence.mode", havingValue = "jpa", matchIfMissing = true)
+public class PlayerSummaryDAOJPA implements IPlayerSummaryDAO {
+
+    @Autowired
+    private PlayerSummaryRepository summaryRepository;
+
+    // summaries are kept on the player's shard
+    @Autowired(required = false)
+    private ShardRouter shardRouter = ShardRouter.UNSHARDED;
+
+    @Override
+    public PlayerSummary fetchSummary(Long playerId) {
+        return shardRouter.onShardOf(playerId, () -> summaryRepository.findById(playerId).orElse(null));
+    }
+
+    @Override
+    public List<PlayerSummary> fetchSummaries(Collection<Long> playerIds) {
+        if (playerIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return merge(shardRouter.onShardsOf(playerIds, true, summaryRepository::findAllById));
+    }
+
+    @Override
+    public List<PlayerSummary> fetchSummariesPage(int page, int size) {
+        if (!shardRouter.isSharded()) {
+            return summaryRepository.findAllBy(PageRequest.of(page, size, Sort.by("playerId")));
+        }
+        // same scheme as the player pages: the first (page + 1) * size rows of every shard, merged and cut
+        int limit = (page + 1) * size;
+        List<PlayerSummary> merged = merge(shardRouter.onEachShard(true, shard ->
+                summaryRepository.findAllBy(PageRequest.of(0, limit, Sort.by("playerId")))));
+        return merged.subList(Math.min(page * size, merged.size()), Math.min(limit, merged.size()));
+    }
+
+    @Override
+    public List<PlayerSummary> fetchSummariesAfter(Long afterPlayerId, int limit) {
+        PageRequest next = PageRequest.of(0, limit, Sort.by("playerId"));
+        List<PlayerSummary> merged = merge(shardRouter.onEachShard(true, shard ->
+                summaryRepository.findByPlayerIdGreaterThan(afterPlayerId, next)));
+        return merged.size() > limit ? merged.subList(0, limit) : merged;
+    }
+
+    @Override
+    public long countSummaries() {
+        return shardRouter.onEachShard(true, shard -> summaryRepository.count())
+                .stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public void saveSummaries(Collection<PlayerSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+        Map<Long, PlayerSummary> byId = new HashMap<>();
+        summaries.forEach(summary -> byId.put(summary.getPlayerId(), summary));
+        shardRouter.onShardsOf(byId.keySet(), false, playerIds -> {
+            List<PlayerSummary> shardSummaries = new ArrayList<>(playerIds.size());
+            playerIds.forEach(playerId -> shardSummaries.add(byId.get(playerId)));
+            return summaryRepository.saveAll(shardSummaries);
+        });
+    }
+
+    @Override
+    public int deleteSummaries(Collection<Long> playerIds) {
+        if (playerIds.isEmpty()) {
+            return 0;
+        }
+        return shardRouter.onShardsOf(playerIds, false, summaryRepository::deleteByPlayerIds)
+                .stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private static List<PlayerSummary> merge(List<List<PlayerSummary>> perShard) {
+        if (perShard.size() == 1) {
+            return perShard.get(0);
+        }
+        List<PlayerSummary> merged = new ArrayList<>();
+        perShard.forEach(merged::addAll);
+        merged.sort(Comparator.comparing(PlayerSummary::getPlayerId));
+        return merged;
+    }
+}
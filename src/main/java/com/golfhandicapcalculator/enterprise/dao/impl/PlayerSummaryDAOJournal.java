@@ -0,0 +1,83 @@
+package com.golfhandicapcalculator.enterprise.dao.impl;
+
+import com.golfhandicapcalculator.enterprise.dao.IPlayerSummaryDAO;
+import com.golfhandicapcalculator.enterprise.dao.journal.JournalStore;
+import com.golfhandicapcalculator.enterprise.dto.Player;
+import com.golfhandicapcalculator.enterprise.dto.PlayerSummary;
+import com.golfhandicapcalculator.enterprise.dto.Score;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * IPlayerSummaryDAO implementation over the durable in-memory {@link JournalStore}. The store already keeps each
+ * player's scores in memory, so summaries are computed from the player on every read instead of being stored:
+ * they are never stale and survive restarts with the players. Saves and deletes therefore have nothing to do.
+ * Active when {@code golf.persistence.mode=journal}, replacing the JPA implementation.
+ */
+@Repository
+@Primary
+@ConditionalOnProperty(name = "golf.persistence.mode", havingValue = "journal")
+public class PlayerSummaryDAOJournal implements IPlayerSummaryDAO {
+
+    @Autowired
+    private JournalStore journalStore;
+
+    @Override
+    public PlayerSummary fetchSummary(Long playerId) {
+        Player player = journalStore.player(playerId);
+        return player != null ? summarize(player) : null;
+    }
+
+    @Override
+    public List<PlayerSummary> fetchSummaries(Collection<Long> playerIds) {
+        return summarize(journalStore.players(playerIds));
+    }
+
+    @Override
+    public List<PlayerSummary> fetchSummariesPage(int page, int size) {
+        return summarize(journalStore.playersPage(page, size));
+    }
+
+    @Override
+    public List<PlayerSummary> fetchSummariesAfter(Long afterPlayerId, int limit) {
+        return summarize(journalStore.playersAfter(afterPlayerId, limit));
+    }
+
+    @Override
+    public long countSummaries() {
+        return journalStore.playerCount();
+    }
+
+    @Override
+    public void saveSummaries(Collection<PlayerSummary> summaries) {
+    }
+
+    @Override
+    public int deleteSummaries(Collection<Long> playerIds) {
+        return 0;
+    }
+
+    private static List<PlayerSummary> summarize(List<Player> players) {
+        List<PlayerSummary> summaries = new ArrayList<>(players.size());
+        for (Player player : players) {
+            summaries.add(summarize(player));
+        }
+        return summaries;
+    }
+
+    private static PlayerSummary summarize(Player player) {
+        PlayerSummary summary = new PlayerSummary();
+        summary.setPlayerId(player.getPlayerId());
+        summary.setName(player.getName());
+        summary.setHandicap(player.getHandicap());
+        for (Score score : player.getScores()) {
+            summary.addRound(score.getRecordedAt(), score.getDifferential());
+        }
+        return summary;
+    }
+}
@@ -0,0 +1,115 @@
+package com.golfhandicapcalculator.enterprise.dao.impl;
+
+import com.golfhandicapcalculator.enterprise.dao.IPlayerSummaryDAO;
+import com.golfhandicapcalculator.enterprise.dto.PlayerSummary;
+import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Mock implementation of the IPlayerSummaryDAO interface for testing and development purposes.
+ * Keeps the summaries in an in-memory TreeMap ordered by player id.
+ * This implementation is annotated with @Repository to be detected by Spring's component scanning.
+ */
+@Repository
+public class PlayerSummaryDAOMock implements IPlayerSummaryDAO {
+
+    private final TreeMap<Long, PlayerSummary> summaryTable = new TreeMap<>();
+
+    /**
+     * Fetches the summary of a player.
+     *
+     * @param playerId the unique identifier of the player
+     * @return the summary, or null if the player has none
+     */
+    @Override
+    public synchronized PlayerSummary fetchSummary(Long playerId) {
+        return summaryTable.get(playerId);
+    }
+
+    /**
+     * Fetches the summaries of several players.
+     *
+     * @param playerIds the unique identifiers of the players
+     * @return the summaries found, ordered by player id
+     */
+    @Override
+    public synchronized List<PlayerSummary> fetchSummaries(Collection<Long> playerIds) {
+        return playerIds.stream()
+                .distinct()
+                .map(summaryTable::get)
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(PlayerSummary::getPlayerId))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Fetches one page of summaries ordered by player id.
+     *
+     * @param page the zero-based page number
+     * @param size the maximum number of summaries per page
+     * @return the summaries on the requested page, empty list past the last page
+     */
+    @Override
+    public synchronized List<PlayerSummary> fetchSummariesPage(int page, int size) {
+        return summaryTable.values().stream()
+                .skip((long) page * size)
+                .limit(size)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Fetches the summaries that follow the given player id, ordered by player id.
+     *
+     * @param afterPlayerId the player id to continue after
+     * @param limit the maximum number of summaries to return
+     * @return the next summaries, empty list past the last summary
+     */
+    @Override
+    public synchronized List<PlayerSummary> fetchSummariesAfter(Long afterPlayerId, int limit) {
+        return summaryTable.tailMap(afterPlayerId, false).values().stream()
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Counts the stored summaries.
+     *
+     * @return the number of summaries
+     */
+    @Override
+    public synchronized long countSummaries() {
+        return summaryTable.size();
+    }
+
+    /**
+     * Inserts or replaces the given summaries.
+     *
+     * @param summaries the summaries to store
+     */
+    @Override
+    public synchronized void saveSummaries(Collection<PlayerSummary> summaries) {
+        summaries.forEach(summary -> summaryTable.put(summary.getPlayerId(), summary));
+    }
+
+    /**
+     * Deletes the summaries of the given players.
+     *
+     * @param playerIds the unique identifiers of the players
+     * @return the number of summaries deleted
+     */
+    @Override
+    public synchronized int deleteSummaries(Collection<Long> playerIds) {
+        int deleted = 0;
+        for (Long playerId : playerIds) {
+            if (summaryTable.remove(playerId) != null) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+}
@@ -1,46 +1,117 @@
 package com.golfhandicapcalculator.enterprise.dao.impl;
 
+import com.golfhandicapcalculator.enterprise.config.ShardRouter;
 import com.golfhandicapcalculator.enterprise.dao.IScoreDAO;
 import com.golfhandicapcalculator.enterprise.dao.ScoreRepository;
+import com.golfhandicapcalculator.enterprise.dto.PlayerSummary;
 import com.golfhandicapcalculator.enterprise.dto.Score;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Repository;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 @Primary
+@ConditionalOnProperty(name = "golf.persistence.mode", havingValue = "jpa", matchIfMissing = true)
 public class ScoreDAOJPA implements IScoreDAO {
 
     @Autowired
     private ScoreRepository scoreRepository;
 
+    @Autowired(required = false)
+    private ShardRouter shardRouter = ShardRouter.UNSHARDED;
+
     @Override
     public Score fetchScoreById(Long scoreId) {
-        return scoreRepository.findById(scoreId).orElse(null);
+        return shardRouter.onShardOf(scoreId, () -> scoreRepository.findById(scoreId).orElse(null));
     }
 
     @Override
     public List<Score> fetchScoresByPlayerId(Long playerId) {
-        return scoreRepository.findByPlayer_PlayerId(playerId);
+        return shardRouter.onShardOf(playerId, () -> scoreRepository.findByPlayer_PlayerId(playerId));
+    }
+
+    @Override
+    public Map<Long, Long> countScoresByPlayerIds(Collection<Long> playerIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (playerIds.isEmpty()) {
+            return counts;
+        }
+        for (List<Object[]> rows : shardRouter.onShardsOf(playerIds, true, scoreRepository::countByPlayerIds)) {
+            for (Object[] row : rows) {
+                counts.put((Long) row[0], (Long) row[1]);
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<Long, PlayerSummary> summarizeScoresByPlayerIds(Collection<Long> playerIds) {
+        Map<Long, PlayerSummary> summaries = new HashMap<>();
+        if (playerIds.isEmpty()) {
+            return summaries;
+        }
+        for (List<Object[]> rows : shardRouter.onShardsOf(playerIds, true, scoreRepository::summarizeByPlayerIds)) {
+            for (Object[] row : rows) {
+                PlayerSummary summary = new PlayerSummary();
+                summary.setPlayerId((Long) row[0]);
+                summary.setRoundCount((Long) row[1]);
+                summary.setLastRoundAt((Instant) row[2]);
+                summary.setBestDifferential((Double) row[3]);
+                summary.setWorstDifferential((Double) row[4]);
+                summaries.put(summary.getPlayerId(), summary);
+            }
+        }
+        return summaries;
+    }
+
+    @Override
+    public List<Double> fetchBestDifferentials(Long playerId, int window, int best) {
+        return shardRouter.onShardOf(playerId, () -> scoreRepository.findBestDifferentials(playerId, window, best));
     }
 
     @Override
     public Score saveScore(Score score) {
-        return scoreRepository.save(score);
+        // scores live with their player
+        return shardRouter.onShardOf(score.getPlayerId(), () -> scoreRepository.save(score));
     }
 
     @Override
     public Score updateScore(Score score) {
-        if (scoreRepository.existsById(score.getScoreId())) {
+        return shardRouter.onShardOf(score.getScoreId(), () -> {
+            Score stored = scoreRepository.findById(score.getScoreId()).orElse(null);
+            if (stored == null) {
+                return null;
+            }
+            // the round keeps the time it was first recorded; the request body does not carry it
+            score.setRecordedAt(stored.getRecordedAt());
             return scoreRepository.save(score);
-        }
-        return null;
+        });
     }
 
     @Override
     public void deleteScoresByPlayerId(Long playerId) {
-        List<Score> scores = scoreRepository.findByPlayer_PlayerId(playerId);
-        scoreRepository.deleteAll(scores);
+        deleteScoresByPlayerIds(Collections.singletonList(playerId));
+    }
+
+    @Override
+    public int deleteScoresByPlayerIds(Collection<Long> playerIds) {
+        if (playerIds.isEmpty()) {
+            return 0;
+        }
+        return shardRouter.onShardsOf(playerIds, false, scoreRepository::deleteByPlayerIds)
+                .stream().mapToInt(Integer::intValue).sum();
+    }
+
+    @Override
+    public int deleteScoresRecordedBefore(Instant cutoff) {
+        return shardRouter.onEachShard(false, shard -> scoreRepository.deleteRecordedBefore(cutoff))
+                .stream().mapToInt(Integer::intValue).sum();
     }
 }
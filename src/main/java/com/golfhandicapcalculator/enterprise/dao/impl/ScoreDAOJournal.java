@@ -0,0 +1,88 @@
+package com.golfhandicapcalculator.enterprise.dao.impl;
+
+import com.golfhandicapcalculator.enterprise.dao.IScoreDAO;
+import com.golfhandicapcalculator.enterprise.dao.journal.JournalStore;
+import com.golfhandicapcalculator.enterprise.dto.PlayerSummary;
+import com.golfhandicapcalculator.enterprise.dto.Score;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * IScoreDAO implementation backed by the durable in-memory {@link JournalStore}.
+ * Active when {@code golf.persistence.mode=journal}, replacing the JPA implementation.
+ */
+@Repository
+@Primary
+@ConditionalOnProperty(name = "golf.persistence.mode", havingValue = "journal")
+public class ScoreDAOJournal implements IScoreDAO {
+
+    @Autowired
+    private JournalStore journalStore;
+
+    @Override
+    public Score fetchScoreById(Long scoreId) {
+        return journalStore.score(scoreId);
+    }
+
+    @Override
+    public List<Score> fetchScoresByPlayerId(Long playerId) {
+        return journalStore.scoresByPlayer(playerId);
+    }
+
+    @Override
+    public Map<Long, Long> countScoresByPlayerIds(Collection<Long> playerIds) {
+        return journalStore.scoreCounts(playerIds);
+    }
+
+    @Override
+    public Map<Long, PlayerSummary> summarizeScoresByPlayerIds(Collection<Long> playerIds) {
+        Map<Long, PlayerSummary> summaries = new HashMap<>();
+        for (Long playerId : playerIds) {
+            for (Score score : journalStore.scoresByPlayer(playerId)) {
+                summaries.computeIfAbsent(playerId, id -> {
+                    PlayerSummary summary = new PlayerSummary();
+                    summary.setPlayerId(id);
+                    return summary;
+                }).addRound(score.getRecordedAt(), score.getDifferential());
+            }
+        }
+        return summaries;
+    }
+
+    @Override
+    public List<Double> fetchBestDifferentials(Long playerId, int window, int best) {
+        return journalStore.bestDifferentials(playerId, window, best);
+    }
+
+    @Override
+    public Score saveScore(Score score) {
+        return journalStore.saveScore(score);
+    }
+
+    @Override
+    public Score updateScore(Score score) {
+        return journalStore.updateScore(score);
+    }
+
+    @Override
+    public void deleteScoresByPlayerId(Long playerId) {
+        journalStore.deleteScoresByPlayer(playerId);
+    }
+
+    @Override
+    public int deleteScoresByPlayerIds(Collection<Long> playerIds) {
+        return journalStore.deleteScoresByPlayers(playerIds);
+    }
+
+    @Override
+    public int deleteScoresRecordedBefore(Instant cutoff) {
+        return journalStore.purgeScoresBefore(cutoff);
+    }
+}
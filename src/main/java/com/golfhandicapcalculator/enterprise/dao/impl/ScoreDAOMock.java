@@ -1,8 +1,13 @@
 package com.golfhandicapcalculator.enterprise.dao.impl;
 
 import com.golfhandicapcalculator.enterprise.dao.IScoreDAO;
+import com.golfhandicapcalculator.enterprise.dto.PlayerSummary;
 import com.golfhandicapcalculator.enterprise.dto.Score;
 import org.springframework.stereotype.Repository;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -32,6 +37,7 @@ public class ScoreDAOMock implements IScoreDAO {
         s1.setScore(85);
         s1.setPar(72);
         s1.setSlope(120);
+        s1.setRecordedAt(Instant.now());
         scoreTable.put(s1.getScoreId(), s1);
     }
 
@@ -61,6 +67,61 @@ public class ScoreDAOMock implements IScoreDAO {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Counts the scores of each of the given players.
+     *
+     * @param playerIds the unique identifiers of the players
+     * @return score counts keyed by player ID; players without scores are absent
+     */
+    @Override
+    public Map<Long, Long> countScoresByPlayerIds(Collection<Long> playerIds) {
+        return scoreTable.values().stream()
+                .filter(s -> s.getPlayerId() != null && playerIds.contains(s.getPlayerId()))
+                .collect(Collectors.groupingBy(Score::getPlayerId, Collectors.counting()));
+    }
+
+    /**
+     * Summarizes the rounds of each of the given players.
+     *
+     * @param playerIds the unique identifiers of the players
+     * @return summaries with only the round columns filled in, keyed by player ID; players without scores are absent
+     */
+    @Override
+    public Map<Long, PlayerSummary> summarizeScoresByPlayerIds(Collection<Long> playerIds) {
+        Map<Long, PlayerSummary> summaries = new HashMap<>();
+        for (Score score : scoreTable.values()) {
+            if (score.getPlayerId() != null && playerIds.contains(score.getPlayerId())) {
+                summaries.computeIfAbsent(score.getPlayerId(), id -> {
+                    PlayerSummary summary = new PlayerSummary();
+                    summary.setPlayerId(id);
+                    return summary;
+                }).addRound(score.getRecordedAt(), score.getDifferential());
+            }
+        }
+        return summaries;
+    }
+
+    /**
+     * Fetches the lowest differentials among a player's most recent scores.
+     *
+     * @param playerId the unique identifier of the player
+     * @param window the number of most recent scores to consider
+     * @param best the number of lowest differentials to return
+     * @return up to {@code best} differentials in ascending order
+     */
+    @Override
+    public List<Double> fetchBestDifferentials(Long playerId, int window, int best) {
+        return fetchScoresByPlayerId(playerId).stream()
+                .filter(s -> s.getDifferential() != null)
+                .sorted(Comparator.comparing(Score::getRecordedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                        .thenComparing(Score::getScoreId, Comparator.reverseOrder()))
+                .limit(window)
+                .map(Score::getDifferential)
+                .sorted()
+                .limit(best)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Saves a new score to the data store.
      * If the score does not have an ID or has ID 0, a new ID is assigned.
@@ -73,19 +134,24 @@ public class ScoreDAOMock implements IScoreDAO {
         if (score.getScoreId() == null || score.getScoreId() == 0) {
             score.setScoreId(nextId++);
         }
+        if (score.getRecordedAt() == null) {
+            score.setRecordedAt(Instant.now());
+        }
         scoreTable.put(score.getScoreId(), score);
         return score;
     }
 
     /**
-     * Updates an existing score in the data store.
+     * Updates an existing score in the data store, keeping the time it was recorded.
      *
      * @param score the Score object with updated information
      * @return the updated Score object if found and updated, null if the score ID does not exist
      */
     @Override
     public Score updateScore(Score score) {
-        if (scoreTable.containsKey(score.getScoreId())) {
+        Score stored = scoreTable.get(score.getScoreId());
+        if (stored != null) {
+            score.setRecordedAt(stored.getRecordedAt());
             scoreTable.put(score.getScoreId(), score);
             return score;
         }
@@ -105,4 +171,32 @@ public class ScoreDAOMock implements IScoreDAO {
                 && score.getPlayer().getPlayerId().equals(playerId));
         System.out.println("DAO Mock: Deleted all scores for Player " + playerId);
     }
+
+    /**
+     * Deletes all scores associated with any of the given players.
+     *
+     * @param playerIds the unique identifiers of the players whose scores should be deleted
+     * @return the number of scores deleted
+     */
+    @Override
+    public int deleteScoresByPlayerIds(Collection<Long> playerIds) {
+        int before = scoreTable.size();
+        scoreTable.values().removeIf(score -> score.getPlayerId() != null
+                && playerIds.contains(score.getPlayerId()));
+        return before - scoreTable.size();
+    }
+
+    /**
+     * Deletes all scores recorded before the given instant.
+     *
+     * @param cutoff scores recorded strictly before this instant are deleted
+     * @return the number of scores deleted
+     */
+    @Override
+    public int deleteScoresRecordedBefore(Instant cutoff) {
+        int before = scoreTable.size();
+        scoreTable.values().removeIf(score -> score.getRecordedAt() != null
+                && score.getRecordedAt().isBefore(cutoff));
+        return before - scoreTable.size();
+    }
 }
@@ -0,0 +1,57 @@
+package com.golfhandicapcalculator.enterprise.dao.impl;
+
+import com.golfhandicapcalculator.enterprise.config.ShardRouter;
+import com.golfhandicapcalculator.enterprise.dao.ScoreRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
+
+/**
+ * Fills in the stored differential of scores written before the column existed, in one statement at startup.
+ * Scores without a recorded time (written before the column existed, or cleared by an update before updates
+ * kept it) are stamped with the startup time, so the archival purge counts them from the upgrade. Disable with {@code golf.differential.backfill-on-startup=false} once every row has been migrated.
+ */
+@Component
+@ConditionalOnProperty(name = "golf.persistence.mode", havingValue = "jpa", matchIfMissing = true)
+public class ScoreDifferentialBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(ScoreDifferentialBackfill.class);
+
+    private final ScoreRepository scoreRepository;
+    private final boolean enabled;
+
+    @Autowired(required = false)
+    private ShardRouter shardRouter = ShardRouter.UNSHARDED;
+
+    public ScoreDifferentialBackfill(ScoreRepository scoreRepository,
+                                     @Value("${golf.differential.backfill-on-startup:true}") boolean enabled) {
+        this.scoreRepository = scoreRepository;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+        int updated = shardRouter.onEachShard(false, shard -> scoreRepository.backfillDifferentials())
+                .stream().mapToInt(Integer::intValue).sum();
+        if (updated > 0) {
+            log.info("Stored differentials for {} existing scores", updated);
+        }
+        Instant now = Instant.now();
+        int stamped = shardRouter.onEachShard(false, shard -> scoreRepository.backfillRecordedAt(now))
+                .stream().mapToInt(Integer::intValue).sum();
+        if (stamped > 0) {
+            log.info("Stamped {} existing scores without a recorded time with {}", stamped, now);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.golfhandicapcalculator.enterprise.dao.impl;
+
+import com.golfhandicapcalculator.enterprise.config.ShardRouter;
+import com.golfhandicapcalculator.enterprise.dao.IStatisticsDAO;
+import com.golfhandicapcalculator.enterprise.dao.PlayerRepository;
+import com.golfhandicapcalculator.enterprise.dao.ScoreRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
+
+@Repository
+@Primary
+@ConditionalOnProperty(name = "golf.persistence.mode", havingValue = "jpa", matchIfMissing = true)
+public class StatisticsDAOJPA implements IStatisticsDAO {
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private ScoreRepository scoreRepository;
+
+    // with sharding every aggregate runs on all shards in parallel and the partial results are combined here
+    @Autowired(required = false)
+    private ShardRouter shardRouter = ShardRouter.UNSHARDED;
+
+    @Override
+    public long countPlayers() {
+        return shardRouter.onEachShard(true, shard -> playerRepository.count())
+                .stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public long countRounds() {
+        return shardRouter.onEachShard(true, shard -> scoreRepository.count())
+                .stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public Double averageScoreToPar() {
+        if (!shardRouter.isSharded()) {
+            return scoreRepository.averageScoreToPar();
+        }
+        // per-shard averages weighted by their round counts
+        List<double[]> partials = shardRouter.onEachShard(true, shard -> {
+            Double average = scoreRepository.averageScoreToPar();
+            return average != null ? new double[]{average, scoreRepository.count()} : null;
+        });
+        double total = 0;
+        double rounds = 0;
+        for (double[] partial : partials) {
+            if (partial != null) {
+                total += partial[0] * partial[1];
+                rounds += partial[1];
+            }
+        }
+        return rounds > 0 ? total / rounds : null;
+    }
+
+    @Override
+    public Map<Long, Long> countPlayersByRoundsPlayed() {
+        Map<Long, Long> counts = new TreeMap<>();
+        for (List<Object[]> rows : shardRouter.onEachShard(true, shard -> scoreRepository.countPlayersByRoundsPlayed())) {
+            for (Object[] row : rows) {
+                counts.merge(((Number) row[0]).longValue(), ((Number) row[1]).longValue(), Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<Integer, Long> countPlayersByHandicap() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        for (List<Object[]> rows : shardRouter.onEachShard(true, shard -> playerRepository.countByHandicapBucket())) {
+            for (Object[] row : rows) {
+                counts.merge(((Number) row[0]).intValue(), ((Number) row[1]).longValue(), Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public DoubleStream streamDifferentials() {
+        if (!shardRouter.isSharded()) {
+            return scoreRepository.streamDifferentials().mapToDouble(Double::doubleValue);
+        }
+        // a stream is tied to its shard's connection, so each shard's differentials are drained on its own thread
+        List<double[]> perShard = shardRouter.onEachShard(true, shard -> {
+            try (Stream<Double> differentials = scoreRepository.streamDifferentials()) {
+                return differentials.mapToDouble(Double::doubleValue).toArray();
+            }
+        });
+        return perShard.stream().flatMapToDouble(DoubleStream::of);
+    }
+}
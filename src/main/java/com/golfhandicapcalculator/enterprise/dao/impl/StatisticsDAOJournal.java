@@ -0,0 +1,69 @@
+package com.golfhandicapcalculator.enterprise.dao.impl;
+
+import com.golfhandicapcalculator.enterprise.dao.IStatisticsDAO;
+import com.golfhandicapcalculator.enterprise.dao.journal.JournalStore;
+import com.golfhandicapcalculator.enterprise.dto.Score;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+
+/**
+ * IStatisticsDAO implementation over the durable in-memory {@link JournalStore}. Each aggregate is computed from
+ * one copy of the store, so it is consistent even while players and scores are being written.
+ * Active when {@code golf.persistence.mode=journal}, replacing the JPA implementation.
+ */
+@Repository
+@Primary
+@ConditionalOnProperty(name = "golf.persistence.mode", havingValue = "journal")
+public class StatisticsDAOJournal implements IStatisticsDAO {
+
+    @Autowired
+    private JournalStore journalStore;
+
+    @Override
+    public long countPlayers() {
+        return journalStore.playerCount();
+    }
+
+    @Override
+    public long countRounds() {
+        return journalStore.scoreCount();
+    }
+
+    @Override
+    public Double averageScoreToPar() {
+        OptionalDouble average = journalStore.allPlayers().stream()
+                .flatMap(p -> p.getScores().stream())
+                .mapToInt(s -> s.getScore() - s.getPar())
+                .average();
+        return average.isPresent() ? average.getAsDouble() : null;
+    }
+
+    @Override
+    public Map<Long, Long> countPlayersByRoundsPlayed() {
+        return journalStore.allPlayers().stream()
+                .filter(p -> !p.getScores().isEmpty())
+                .collect(Collectors.groupingBy(p -> (long) p.getScores().size(), TreeMap::new, Collectors.counting()));
+    }
+
+    @Override
+    public Map<Integer, Long> countPlayersByHandicap() {
+        return journalStore.allPlayers().stream()
+                .collect(Collectors.groupingBy(p -> (int) Math.floor(p.getHandicap()), TreeMap::new,
+                        Collectors.counting()));
+    }
+
+    @Override
+    public DoubleStream streamDifferentials() {
+        return journalStore.allPlayers().stream()
+                .flatMap(p -> p.getScores().stream())
+                .filter(s -> s.getDifferential() != null)
+                .mapToDouble(Score::getDifferential);
+    }
+}
@@ -0,0 +1,116 @@
+package com.golfhandicapcalculator.enterprise.dao.impl;
+
+import com.golfhandicapcalculator.enterprise.dao.IPlayerDAO;
+import com.golfhandicapcalculator.enterprise.dao.IScoreDAO;
+import com.golfhandicapcalculator.enterprise.dao.IStatisticsDAO;
+import com.golfhandicapcalculator.enterprise.dto.Player;
+import com.golfhandicapcalculator.enterprise.dto.Score;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+
+/**
+ * Mock implementation of the IStatisticsDAO interface for testing and development purposes.
+ * Aggregates over the players and scores held by the player and score DAOs.
+ * This implementation is annotated with @Repository to be detected by Spring's component scanning.
+ */
+@Repository
+public class StatisticsDAOMock implements IStatisticsDAO {
+
+    private final IPlayerDAO playerDAO;
+    private final IScoreDAO scoreDAO;
+
+    /**
+     * Constructs a new StatisticsDAOMock over the given DAOs.
+     *
+     * @param playerDAO the player store to aggregate over
+     * @param scoreDAO the score store to aggregate over
+     */
+    @Autowired
+    public StatisticsDAOMock(IPlayerDAO playerDAO, IScoreDAO scoreDAO) {
+        this.playerDAO = playerDAO;
+        this.scoreDAO = scoreDAO;
+    }
+
+    /**
+     * Counts all players.
+     *
+     * @return the number of players
+     */
+    @Override
+    public long countPlayers() {
+        return playerDAO.countPlayers();
+    }
+
+    /**
+     * Counts all rounds.
+     *
+     * @return the number of scores
+     */
+    @Override
+    public long countRounds() {
+        return allScores().size();
+    }
+
+    /**
+     * Averages strokes over par across all rounds.
+     *
+     * @return the average score-to-par, null if there are no rounds
+     */
+    @Override
+    public Double averageScoreToPar() {
+        List<Score> scores = allScores();
+        return scores.isEmpty() ? null
+                : scores.stream().mapToInt(s -> s.getScore() - s.getPar()).average().getAsDouble();
+    }
+
+    /**
+     * Counts players by the number of rounds they have played.
+     *
+     * @return rounds played mapped to the number of players; players without rounds are absent
+     */
+    @Override
+    public Map<Long, Long> countPlayersByRoundsPlayed() {
+        return allScores().stream()
+                .collect(Collectors.groupingBy(Score::getPlayerId, Collectors.counting()))
+                .values().stream()
+                .collect(Collectors.groupingBy(rounds -> rounds, TreeMap::new, Collectors.counting()));
+    }
+
+    /**
+     * Counts players per whole-stroke handicap bucket.
+     *
+     * @return bucket lower bound mapped to the number of players
+     */
+    @Override
+    public Map<Integer, Long> countPlayersByHandicap() {
+        return playerDAO.fetchAllPlayers().stream()
+                .collect(Collectors.groupingBy(p -> (int) Math.floor(p.getHandicap()), TreeMap::new,
+                        Collectors.counting()));
+    }
+
+    /**
+     * Streams the stored differential of every round.
+     *
+     * @return the differentials
+     */
+    @Override
+    public DoubleStream streamDifferentials() {
+        return allScores().stream()
+                .filter(s -> s.getDifferential() != null)
+                .mapToDouble(Score::getDifferential);
+    }
+
+    private List<Score> allScores() {
+        List<Score> scores = new ArrayList<>();
+        for (Player player : playerDAO.fetchAllPlayers()) {
+            scores.addAll(scoreDAO.fetchScoresByPlayerId(player.getPlayerId()));
+        }
+        return scores;
+    }
+}
@@ -0,0 +1,258 @@
+package com.golfhandicapcalculator.enterprise.dao.journal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * Binary layout of the journal and snapshot files.
+ *
+ * Every file starts with a header (magic, format version and, for snapshots, the next ids to hand out)
+ * followed by records framed as {@code [int length][int crc32][byte type][payload]}. The length covers
+ * type and payload, and the CRC32 is taken over the same bytes so a torn or corrupted tail can be detected
+ * and cut off during replay.
+ */
+final class JournalCodec {
+
+    static final int MAGIC = 0x47484A4C; // "GHJL"
+    static final int VERSION = 1;
+
+    static final int JOURNAL_HEADER_SIZE = 8;
+    static final int SNAPSHOT_HEADER_SIZE = 24;
+    static final int FRAME_HEADER_SIZE = 8;
+
+    static final byte PLAYER_PUT = 1;
+    static final byte PLAYER_DELETE = 2;
+    static final byte HANDICAP = 3;
+    static final byte SCORE_PUT = 4;
+    static final byte SCORES_DELETE_BY_PLAYER = 5;
+    static final byte SCORE_PUT_AT = 6; // SCORE_PUT plus the recording time
+    static final byte SCORES_PURGE_BEFORE = 7;
+    static final byte PLAYER_PUT_CLUB = 8; // PLAYER_PUT plus the club id
+    static final byte HISTORY_POINT = 9;
+    static final byte HISTORY_DELETE = 10;
+    static final byte HISTORY_CHUNK = 11; // a packed chunk of history points, written by snapshots
+    static final byte SCORE_PUT_CARD = 12; // SCORE_PUT_AT plus the adjusted score and the packed scorecard
+    static final byte COURSE_PUT = 13;
+    static final byte CHANGE_PUT = 14;
+    static final byte CHANGES_SUPERSEDED_BEFORE = 15;
+    static final byte CHANGE_TOMBSTONES_BEFORE = 16;
+    static final byte NEXT_CHANGE_ID = 17; // written by snapshots, as compaction may have removed the newest entry
+
+    static final long NO_TIMESTAMP = Long.MIN_VALUE;
+    static final long NO_CLUB = Long.MIN_VALUE;
+    static final int NO_ADJUSTED_SCORE = Integer.MIN_VALUE;
+    static final long NO_ID = Long.MIN_VALUE;
+
+    private JournalCodec() {
+    }
+
+    static ByteBuffer ensureCapacity(ByteBuffer buffer, int additional) {
+        if (buffer.remaining() >= additional) {
+            return buffer;
+        }
+        int required = buffer.position() + additional;
+        ByteBuffer grown = ByteBuffer.allocateDirect(Math.max(buffer.capacity() * 2, required));
+        buffer.flip();
+        grown.put(buffer);
+        return grown;
+    }
+
+    static ByteBuffer writePlayerPut(ByteBuffer buffer, long playerId, String name, double handicap, long clubId) {
+        byte[] nameBytes = name != null ? name.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        buffer = begin(buffer, PLAYER_PUT_CLUB, 8 + 8 + 8 + 4 + nameBytes.length);
+        int start = buffer.position();
+        buffer.putLong(playerId).putDouble(handicap).putLong(clubId).putInt(nameBytes.length).put(nameBytes);
+        return end(buffer, start);
+    }
+
+    static ByteBuffer writePlayerDelete(ByteBuffer buffer, long playerId) {
+        buffer = begin(buffer, PLAYER_DELETE, 8);
+        int start = buffer.position();
+        buffer.putLong(playerId);
+        return end(buffer, start);
+    }
+
+    static ByteBuffer writeHandicap(ByteBuffer buffer, long playerId, double handicap) {
+        buffer = begin(buffer, HANDICAP, 16);
+        int start = buffer.position();
+        buffer.putLong(playerId).putDouble(handicap);
+        return end(buffer, start);
+    }
+
+    // a round entered as a total has no scorecard, written as zero bytes
+    static ByteBuffer writeScorePut(ByteBuffer buffer, long scoreId, long playerId, int score, int par, int slope,
+                                    long recordedAtMillis, int adjustedScore, byte[] scorecard) {
+        int cardLength = scorecard != null ? scorecard.length : 0;
+        buffer = begin(buffer, SCORE_PUT_CARD, 8 + 8 + 12 + 8 + 4 + 4 + cardLength);
+        int start = buffer.position();
+        buffer.putLong(scoreId).putLong(playerId).putInt(score).putInt(par).putInt(slope).putLong(recordedAtMillis)
+                .putInt(adjustedScore).putInt(cardLength);
+        if (scorecard != null) {
+            buffer.put(scorecard);
+        }
+        return end(buffer, start);
+    }
+
+    static ByteBuffer writeScoresPurgeBefore(ByteBuffer buffer, long cutoffMillis) {
+        buffer = begin(buffer, SCORES_PURGE_BEFORE, 8);
+        int start = buffer.position();
+        buffer.putLong(cutoffMillis);
+        return end(buffer, start);
+    }
+
+    static ByteBuffer writeScoresDeleteByPlayer(ByteBuffer buffer, long playerId) {
+        buffer = begin(buffer, SCORES_DELETE_BY_PLAYER, 8);
+        int start = buffer.position();
+        buffer.putLong(playerId);
+        return end(buffer, start);
+    }
+
+    static ByteBuffer writeHistoryPoint(ByteBuffer buffer, long playerId, long epochSecond, int hundredths) {
+        buffer = begin(buffer, HISTORY_POINT, 8 + 8 + 4);
+        int start = buffer.position();
+        buffer.putLong(playerId).putLong(epochSecond).putInt(hundredths);
+        return end(buffer, start);
+    }
+
+    static ByteBuffer writeHistoryDelete(ByteBuffer buffer, long playerId) {
+        buffer = begin(buffer, HISTORY_DELETE, 8);
+        int start = buffer.position();
+        buffer.putLong(playerId);
+        return end(buffer, start);
+    }
+
+    static ByteBuffer writeHistoryChunk(ByteBuffer buffer, long playerId, long firstTimestamp, long lastTimestamp,
+                                        int lastValue, int pointCount, byte[] data) {
+        buffer = begin(buffer, HISTORY_CHUNK, 8 + 8 + 8 + 4 + 4 + 4 + data.length);
+        int start = buffer.position();
+        buffer.putLong(playerId).putLong(firstTimestamp).putLong(lastTimestamp).putInt(lastValue).putInt(pointCount)
+                .putInt(data.length).put(data);
+        return end(buffer, start);
+    }
+
+    static ByteBuffer writeCoursePut(ByteBuffer buffer, long courseId, String name, String tee, int par, int slope,
+                                     double rating) {
+        byte[] nameBytes = utf8(name);
+        byte[] teeBytes = utf8(tee);
+        buffer = begin(buffer, COURSE_PUT, 8 + 4 + 4 + 8 + 4 + length(nameBytes) + 4 + length(teeBytes));
+        int start = buffer.position();
+        buffer.putLong(courseId).putInt(par).putInt(slope).putDouble(rating);
+        putString(buffer, nameBytes);
+        putString(buffer, teeBytes);
+        return end(buffer, start);
+    }
+
+    // entity type and operation are stored as enum ordinals, so new constants must be appended
+    static ByteBuffer writeChangePut(ByteBuffer buffer, long changeId, int entityType, int operation, long entityId,
+                                     long playerId, long changedAtMillis, long purgedBeforeMillis) {
+        buffer = begin(buffer, CHANGE_PUT, 8 + 1 + 1 + 8 + 8 + 8 + 8);
+        int start = buffer.position();
+        buffer.putLong(changeId).put((byte) entityType).put((byte) operation).putLong(entityId).putLong(playerId)
+                .putLong(changedAtMillis).putLong(purgedBeforeMillis);
+        return end(buffer, start);
+    }
+
+    static ByteBuffer writeChangesSupersededBefore(ByteBuffer buffer, long horizonMillis) {
+        buffer = begin(buffer, CHANGES_SUPERSEDED_BEFORE, 8);
+        int start = buffer.position();
+        buffer.putLong(horizonMillis);
+        return end(buffer, start);
+    }
+
+    static ByteBuffer writeChangeTombstonesBefore(ByteBuffer buffer, long cutoffMillis) {
+        buffer = begin(buffer, CHANGE_TOMBSTONES_BEFORE, 8);
+        int start = buffer.position();
+        buffer.putLong(cutoffMillis);
+        return end(buffer, start);
+    }
+
+    static ByteBuffer writeNextChangeId(ByteBuffer buffer, long nextChangeId) {
+        buffer = begin(buffer, NEXT_CHANGE_ID, 8);
+        int start = buffer.position();
+        buffer.putLong(nextChangeId);
+        return end(buffer, start);
+    }
+
+    static byte[] readBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    // a null string is written with length -1
+    static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Checks the frame starting at the buffer's position. On success the buffer is left positioned at the
+     * record type and the payload length (type byte included) is returned; otherwise -1 is returned and
+     * the position is unchanged.
+     */
+    static int validateFrame(ByteBuffer buffer, CRC32 crc) {
+        int frameStart = buffer.position();
+        if (buffer.remaining() < FRAME_HEADER_SIZE + 1) {
+            return -1;
+        }
+        int length = buffer.getInt();
+        int expectedCrc = buffer.getInt();
+        if (length < 1 || length > buffer.remaining()) {
+            buffer.position(frameStart);
+            return -1;
+        }
+        int bodyStart = buffer.position();
+        int limit = buffer.limit();
+        buffer.limit(bodyStart + length);
+        crc.reset();
+        crc.update(buffer);
+        buffer.limit(limit);
+        buffer.position(bodyStart);
+        if ((int) crc.getValue() != expectedCrc) {
+            buffer.position(frameStart);
+            return -1;
+        }
+        return length;
+    }
+
+    private static byte[] utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes != null ? bytes.length : 0;
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(bytes.length).put(bytes);
+        }
+    }
+
+    private static ByteBuffer begin(ByteBuffer buffer, byte type, int payloadLength) {
+        buffer = ensureCapacity(buffer, FRAME_HEADER_SIZE + 1 + payloadLength);
+        buffer.putInt(1 + payloadLength);
+        buffer.putInt(0); // crc placeholder, patched in end()
+        buffer.put(type);
+        return buffer;
+    }
+
+    private static ByteBuffer end(ByteBuffer buffer, int payloadStart) {
+        int typePosition = payloadStart - 1;
+        ByteBuffer body = buffer.duplicate();
+        body.position(typePosition);
+        body.limit(buffer.position());
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        buffer.putInt(typePosition - 4, (int) crc.getValue());
+        return buffer;
+    }
+}
@@ -0,0 +1,1179 @@
+package com.golfhandicapcalculator.enterprise.dao.journal;
+
+import com.golfhandicapcalculator.enterprise.dao.history.HandicapHistoryCodec;
+import com.golfhandicapcalculator.enterprise.dto.ChangeLogEntry;
+import com.golfhandicapcalculator.enterprise.dto.Course;
+import com.golfhandicapcalculator.enterprise.dto.HandicapHistoryChunk;
+import com.golfhandicapcalculator.enterprise.dto.HandicapPoint;
+import com.golfhandicapcalculator.enterprise.dto.Player;
+import com.golfhandicapcalculator.enterprise.dto.Score;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+/**
+ * In-memory player, score, handicap history, course and change log store made durable by an append-only journal.
+ *
+ * Every mutation is applied to memory and encoded into a pending buffer; a single flusher thread writes
+ * the buffer and calls {@code force} once per group-commit window, so concurrent writers share one fsync.
+ * Writers block until the batch holding their record is durable. Once enough records have accumulated the
+ * flusher writes a compacted snapshot of the whole store and truncates the journal. On startup the snapshot
+ * and then the journal are replayed through memory-mapped reads, stopping at the first torn or corrupted
+ * record. Reads return copies, so callers never see or change the store's state outside the lock.
+ *
+ * Enabled with {@code golf.persistence.mode=journal}.
+ */
+@Component
+@ConditionalOnProperty(name = "golf.persistence.mode", havingValue = "journal")
+public class JournalStore {
+
+    private static final Logger log = LoggerFactory.getLogger(JournalStore.class);
+
+    private final Path directory;
+    private final long groupCommitMillis;
+    private final long snapshotThreshold;
+
+    private final Object lock = new Object();
+    // held while the journal file is written or replaced; writers only append to memory under lock
+    private final Object fileLock = new Object();
+    private final TreeMap<Long, Player> players = new TreeMap<>(); // id order backs the paged listing
+    private final Map<Long, Score> scores = new HashMap<>();
+    // packed like the handicap_history table, so snapshots store the chunks as they are
+    private final Map<Long, List<HandicapHistoryChunk>> history = new HashMap<>();
+    private final TreeMap<Long, Course> courses = new TreeMap<>();
+    // the change feed; there is no outbox, as every write is already durable when its change is recorded
+    private final TreeMap<Long, ChangeLogEntry> changes = new TreeMap<>();
+    private long nextPlayerId = 100L;
+    private long nextScoreId = 200L;
+    private long nextCourseId = 300L;
+    private long nextChangeId = 1L;
+
+    private FileChannel journal;
+    private ByteBuffer pending = ByteBuffer.allocateDirect(64 * 1024);
+    private ByteBuffer writing = ByteBuffer.allocateDirect(64 * 1024);
+    private long appendedSeq;
+    private long durableSeq;
+    private long recordsSinceSnapshot;
+    private IOException failure;
+    private volatile boolean running;
+    private Thread flusher;
+
+    public JournalStore(@Value("${golf.journal.directory:./data/journal}") String directory,
+                        @Value("${golf.journal.group-commit-millis:2}") long groupCommitMillis,
+                        @Value("${golf.journal.snapshot-threshold:100000}") long snapshotThreshold) {
+        this.directory = Paths.get(directory);
+        this.groupCommitMillis = groupCommitMillis;
+        this.snapshotThreshold = snapshotThreshold;
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        long start = System.nanoTime();
+        Files.createDirectories(directory);
+        long fromSnapshot = replay(snapshotPath(), JournalCodec.SNAPSHOT_HEADER_SIZE);
+        Path journalPath = journalPath();
+        long fromJournal = replay(journalPath, JournalCodec.JOURNAL_HEADER_SIZE);
+
+        journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        if (journal.size() < JournalCodec.JOURNAL_HEADER_SIZE) {
+            resetJournal();
+        }
+        journal.position(journal.size());
+        recordsSinceSnapshot = fromJournal;
+
+        running = true;
+        flusher = new Thread(this::flushLoop, "journal-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("Journal store ready: {} players, {} scores, {} records replayed in {} ms",
+                players.size(), scores.size(), fromSnapshot + fromJournal, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        synchronized (lock) {
+            running = false;
+            lock.notifyAll();
+        }
+        if (flusher != null) {
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    // Reads
+
+    public List<Player> allPlayers() {
+        synchronized (lock) {
+            List<Player> result = new ArrayList<>(players.size());
+            for (Player player : players.values()) {
+                result.add(copyOf(player));
+            }
+            return result;
+        }
+    }
+
+    public List<Player> playersPage(int page, int size) {
+        synchronized (lock) {
+            List<Player> result = new ArrayList<>(size);
+            Iterator<Player> it = players.values().iterator();
+            for (long skip = (long) page * size; skip > 0 && it.hasNext(); skip--) {
+                it.next();
+            }
+            while (result.size() < size && it.hasNext()) {
+                result.add(copyOf(it.next()));
+            }
+            return result;
+        }
+    }
+
+    public List<Player> playersAfter(long afterPlayerId, int limit) {
+        synchronized (lock) {
+            List<Player> result = new ArrayList<>(limit);
+            for (Player player : players.tailMap(afterPlayerId, false).values()) {
+                if (result.size() == limit) {
+                    break;
+                }
+                result.add(copyOf(player));
+            }
+            return result;
+        }
+    }
+
+    public int playerCount() {
+        synchronized (lock) {
+            return players.size();
+        }
+    }
+
+    public Map<Long, Long> scoreCounts(Collection<Long> playerIds) {
+        synchronized (lock) {
+            Map<Long, Long> counts = new LinkedHashMap<>();
+            for (Long playerId : playerIds) {
+                Player player = players.get(playerId);
+                if (player != null) {
+                    counts.put(playerId, (long) player.getScores().size());
+                }
+            }
+            return counts;
+        }
+    }
+
+    public List<Double> bestDifferentials(Long playerId, int window, int best) {
+        List<Double> differentials = new ArrayList<>();
+        synchronized (lock) {
+            Player player = players.get(playerId);
+            List<Score> recent = player != null ? new ArrayList<>(player.getScores()) : new ArrayList<>();
+            recent.sort(Comparator.comparing(Score::getRecordedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(Score::getScoreId, Comparator.reverseOrder()));
+            for (Score score : recent.subList(0, Math.min(window, recent.size()))) {
+                differentials.add(score.getDifferential());
+            }
+        }
+        differentials.sort(null);
+        return new ArrayList<>(differentials.subList(0, Math.min(best, differentials.size())));
+    }
+
+    public Player player(Long playerId) {
+        synchronized (lock) {
+            Player player = players.get(playerId);
+            return player != null ? copyOf(player) : null;
+        }
+    }
+
+    public List<Player> players(Collection<Long> playerIds) {
+        synchronized (lock) {
+            List<Player> result = new ArrayList<>(playerIds.size());
+            for (Long playerId : playerIds) {
+                Player player = players.get(playerId);
+                if (player != null) {
+                    result.add(copyOf(player));
+                }
+            }
+            return result;
+        }
+    }
+
+    public Score score(Long scoreId) {
+        synchronized (lock) {
+            Score score = scores.get(scoreId);
+            if (score == null) {
+                return null;
+            }
+            Score copy = copyOf(score, null);
+            copy.setPlayerId(score.getPlayerId());
+            return copy;
+        }
+    }
+
+    public List<Score> scoresByPlayer(Long playerId) {
+        synchronized (lock) {
+            Player player = players.get(playerId);
+            return player != null ? copyOf(player).getScores() : new ArrayList<>();
+        }
+    }
+
+    public List<HandicapPoint> historyPoints(Long playerId, Instant from, Instant to) {
+        synchronized (lock) {
+            List<HandicapPoint> points = new ArrayList<>();
+            for (HandicapHistoryChunk chunk : history.getOrDefault(playerId, new ArrayList<>())) {
+                if (chunk.getLastTimestamp() >= from.getEpochSecond()
+                        && chunk.getFirstTimestamp() <= to.getEpochSecond()) {
+                    HandicapHistoryCodec.decode(chunk, from.getEpochSecond(), to.getEpochSecond(), points);
+                }
+            }
+            return points;
+        }
+    }
+
+    public long scoreCount() {
+        synchronized (lock) {
+            return scores.size();
+        }
+    }
+
+    public List<Course> allCourses() {
+        synchronized (lock) {
+            List<Course> result = new ArrayList<>(courses.size());
+            for (Course course : courses.values()) {
+                result.add(copyOf(course));
+            }
+            return result;
+        }
+    }
+
+    public Course course(Long courseId) {
+        synchronized (lock) {
+            Course course = courses.get(courseId);
+            return course != null ? copyOf(course) : null;
+        }
+    }
+
+    public List<ChangeLogEntry> changesAfter(long changeId, int limit) {
+        synchronized (lock) {
+            List<ChangeLogEntry> result = new ArrayList<>(Math.min(limit, changes.size()));
+            for (ChangeLogEntry entry : changes.tailMap(changeId, false).values()) {
+                if (result.size() == limit) {
+                    break;
+                }
+                result.add(copyOf(entry));
+            }
+            return result;
+        }
+    }
+
+    public Long firstChangeIdSince(Instant since) {
+        synchronized (lock) {
+            for (ChangeLogEntry entry : changes.values()) {
+                if (!entry.getChangedAt().isBefore(since)) {
+                    return entry.getChangeId();
+                }
+            }
+            return null;
+        }
+    }
+
+    public Long lastChangeId() {
+        synchronized (lock) {
+            return changes.isEmpty() ? null : changes.lastKey();
+        }
+    }
+
+    // Writes
+
+    public Player savePlayer(Player player) {
+        long seq;
+        synchronized (lock) {
+            if (player.getPlayerId() == null || player.getPlayerId() == 0) {
+                player.setPlayerId(nextPlayerId);
+            }
+            pending = JournalCodec.writePlayerPut(pending, player.getPlayerId(), player.getName(), player.getHandicap(),
+                    clubOf(player));
+            applyPlayerPut(player.getPlayerId(), player.getName(), player.getHandicap(), clubOf(player));
+            seq = ++appendedSeq;
+        }
+        awaitDurable(seq);
+        return player(player.getPlayerId());
+    }
+
+    public Player updatePlayer(Player player) {
+        long seq;
+        synchronized (lock) {
+            if (!players.containsKey(player.getPlayerId())) {
+                return null;
+            }
+            pending = JournalCodec.writePlayerPut(pending, player.getPlayerId(), player.getName(), player.getHandicap(),
+                    clubOf(player));
+            applyPlayerPut(player.getPlayerId(), player.getName(), player.getHandicap(), clubOf(player));
+            seq = ++appendedSeq;
+        }
+        awaitDurable(seq);
+        return player(player.getPlayerId());
+    }
+
+    public void deletePlayer(Long playerId) {
+        long seq;
+        synchronized (lock) {
+            pending = JournalCodec.writePlayerDelete(pending, playerId);
+            applyPlayerDelete(playerId);
+            seq = ++appendedSeq;
+        }
+        awaitDurable(seq);
+    }
+
+    public int deletePlayers(Collection<Long> playerIds) {
+        long seq;
+        int deleted = 0;
+        synchronized (lock) {
+            for (Long playerId : playerIds) {
+                if (players.containsKey(playerId)) {
+                    pending = JournalCodec.writePlayerDelete(pending, playerId);
+                    applyPlayerDelete(playerId);
+                    deleted++;
+                }
+            }
+            seq = deleted > 0 ? ++appendedSeq : durableSeq;
+        }
+        awaitDurable(seq);
+        return deleted;
+    }
+
+    public void updateHandicap(Long playerId, double handicap) {
+        long seq;
+        synchronized (lock) {
+            if (!players.containsKey(playerId)) {
+                return;
+            }
+            pending = JournalCodec.writeHandicap(pending, playerId, handicap);
+            applyHandicap(playerId, handicap);
+            seq = ++appendedSeq;
+        }
+        awaitDurable(seq);
+    }
+
+    public Score saveScore(Score score) {
+        long seq;
+        synchronized (lock) {
+            Long playerId = score.getPlayerId();
+            if (playerId == null || !players.containsKey(playerId)) {
+                throw new DataIntegrityViolationException("No player with id " + playerId + " for score");
+            }
+            if (score.getScoreId() == null || score.getScoreId() == 0) {
+                score.setScoreId(nextScoreId);
+            }
+            Score existing = scores.get(score.getScoreId());
+            if (score.getRecordedAt() == null) {
+                score.setRecordedAt(existing != null && existing.getRecordedAt() != null
+                        ? existing.getRecordedAt() : Instant.now());
+            }
+            long recordedAt = score.getRecordedAt().toEpochMilli();
+            int adjustedScore = adjustedScoreOf(score);
+            pending = JournalCodec.writeScorePut(pending, score.getScoreId(), playerId,
+                    score.getScore(), score.getPar(), score.getSlope(), recordedAt, adjustedScore, score.getScorecard());
+            applyScorePut(score.getScoreId(), playerId, score.getScore(), score.getPar(), score.getSlope(), recordedAt,
+                    adjustedScore, score.getScorecard());
+            seq = ++appendedSeq;
+        }
+        awaitDurable(seq);
+        return score(score.getScoreId());
+    }
+
+    public Score updateScore(Score score) {
+        synchronized (lock) {
+            if (!scores.containsKey(score.getScoreId())) {
+                return null;
+            }
+        }
+        return saveScore(score);
+    }
+
+    public void deleteScoresByPlayer(Long playerId) {
+        long seq;
+        synchronized (lock) {
+            pending = JournalCodec.writeScoresDeleteByPlayer(pending, playerId);
+            applyScoresDeleteByPlayer(playerId);
+            seq = ++appendedSeq;
+        }
+        awaitDurable(seq);
+    }
+
+    public int deleteScoresByPlayers(Collection<Long> playerIds) {
+        long seq;
+        int deleted = 0;
+        synchronized (lock) {
+            for (Long playerId : playerIds) {
+                Player player = players.get(playerId);
+                if (player != null && !player.getScores().isEmpty()) {
+                    deleted += player.getScores().size();
+                    pending = JournalCodec.writeScoresDeleteByPlayer(pending, playerId);
+                    applyScoresDeleteByPlayer(playerId);
+                }
+            }
+            seq = deleted > 0 ? ++appendedSeq : durableSeq;
+        }
+        awaitDurable(seq);
+        return deleted;
+    }
+
+    public int purgeScoresBefore(Instant cutoff) {
+        long seq;
+        int purged;
+        synchronized (lock) {
+            pending = JournalCodec.writeScoresPurgeBefore(pending, cutoff.toEpochMilli());
+            purged = applyScoresPurgeBefore(cutoff.toEpochMilli());
+            seq = ++appendedSeq;
+        }
+        awaitDurable(seq);
+        return purged;
+    }
+
+    public void appendHistoryPoint(Long playerId, Instant at, double handicap) {
+        long seq;
+        synchronized (lock) {
+            int value = HandicapHistoryCodec.quantize(handicap);
+            HandicapHistoryChunk last = lastHistoryChunk(playerId);
+            if (last != null && last.getPointCount() > 0 && last.getLastValue() == value) {
+                return;
+            }
+            // journaled with the clamp the codec applies, so replayed points are in order
+            long epochSecond = last != null ? Math.max(at.getEpochSecond(), last.getLastTimestamp())
+                    : at.getEpochSecond();
+            pending = JournalCodec.writeHistoryPoint(pending, playerId, epochSecond, value);
+            applyHistoryPoint(playerId, epochSecond, value);
+            seq = ++appendedSeq;
+        }
+        awaitDurable(seq);
+    }
+
+    public void deleteHistory(Long playerId) {
+        long seq;
+        synchronized (lock) {
+            if (!history.containsKey(playerId)) {
+                return;
+            }
+            pending = JournalCodec.writeHistoryDelete(pending, playerId);
+            history.remove(playerId);
+            seq = ++appendedSeq;
+        }
+        awaitDurable(seq);
+    }
+
+    public int deleteHistories(Collection<Long> playerIds) {
+        long seq;
+        int deleted = 0;
+        synchronized (lock) {
+            for (Long playerId : playerIds) {
+                List<HandicapHistoryChunk> removed = history.remove(playerId);
+                if (removed != null) {
+                    pending = JournalCodec.writeHistoryDelete(pending, playerId);
+                    deleted += removed.size();
+                }
+            }
+            seq = deleted > 0 ? ++appendedSeq : durableSeq;
+        }
+        awaitDurable(seq);
+        return deleted;
+    }
+
+    public Course saveCourse(Course course) {
+        long seq;
+        synchronized (lock) {
+            if (course.getCourseId() == null || course.getCourseId() == 0) {
+                course.setCourseId(nextCourseId);
+            }
+            pending = JournalCodec.writeCoursePut(pending, course.getCourseId(), course.getName(), course.getTee(),
+                    course.getPar(), course.getSlope(), course.getRating());
+            applyCoursePut(course.getCourseId(), course.getName(), course.getTee(), course.getPar(), course.getSlope(),
+                    course.getRating());
+            seq = ++appendedSeq;
+        }
+        awaitDurable(seq);
+        return course(course.getCourseId());
+    }
+
+    /**
+     * Appends changes to the log in order, each with the next change id.
+     */
+    public void appendChanges(List<ChangeLogEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        long seq;
+        synchronized (lock) {
+            for (ChangeLogEntry entry : entries) {
+                long changeId = nextChangeId;
+                long changedAt = entry.getChangedAt().toEpochMilli();
+                long purgedBefore = entry.getPurgedBefore() != null ? entry.getPurgedBefore().toEpochMilli()
+                        : JournalCodec.NO_TIMESTAMP;
+                pending = JournalCodec.writeChangePut(pending, changeId, entry.getEntityType().ordinal(),
+                        entry.getOperation().ordinal(), idOf(entry.getEntityId()), idOf(entry.getPlayerId()),
+                        changedAt, purgedBefore);
+                applyChangePut(changeId, entry.getEntityType().ordinal(), entry.getOperation().ordinal(),
+                        idOf(entry.getEntityId()), idOf(entry.getPlayerId()), changedAt, purgedBefore);
+            }
+            seq = ++appendedSeq;
+        }
+        awaitDurable(seq);
+    }
+
+    public int deleteChangesSupersededBefore(Instant horizon) {
+        long seq;
+        int deleted;
+        synchronized (lock) {
+            deleted = applyChangesSupersededBefore(horizon.toEpochMilli());
+            if (deleted > 0) {
+                pending = JournalCodec.writeChangesSupersededBefore(pending, horizon.toEpochMilli());
+            }
+            seq = deleted > 0 ? ++appendedSeq : durableSeq;
+        }
+        awaitDurable(seq);
+        return deleted;
+    }
+
+    public int deleteChangeTombstonesBefore(Instant cutoff) {
+        long seq;
+        int deleted;
+        synchronized (lock) {
+            deleted = applyChangeTombstonesBefore(cutoff.toEpochMilli());
+            if (deleted > 0) {
+                pending = JournalCodec.writeChangeTombstonesBefore(pending, cutoff.toEpochMilli());
+            }
+            seq = deleted > 0 ? ++appendedSeq : durableSeq;
+        }
+        awaitDurable(seq);
+        return deleted;
+    }
+
+    // State transitions shared by the live write path and replay
+
+    private void applyPlayerPut(long playerId, String name, double handicap, long clubId) {
+        Player player = players.get(playerId);
+        if (player == null) {
+            player = new Player();
+            player.setPlayerId(playerId);
+            players.put(playerId, player);
+        }
+        player.setName(name);
+        player.setHandicap(handicap);
+        player.setClubId(clubId != JournalCodec.NO_CLUB ? clubId : null);
+        nextPlayerId = Math.max(nextPlayerId, playerId + 1);
+    }
+
+    private void applyPlayerDelete(long playerId) {
+        Player removed = players.remove(playerId);
+        if (removed != null) {
+            for (Score score : removed.getScores()) {
+                scores.remove(score.getScoreId());
+            }
+        }
+    }
+
+    private void applyHandicap(long playerId, double handicap) {
+        Player player = players.get(playerId);
+        if (player != null) {
+            player.setHandicap(handicap);
+        }
+    }
+
+    private void applyScorePut(long scoreId, long playerId, int value, int par, int slope, long recordedAtMillis,
+                               int adjustedScore, byte[] scorecard) {
+        Player player = players.get(playerId);
+        if (player == null) {
+            return;
+        }
+        Score score = scores.get(scoreId);
+        if (score == null) {
+            score = new Score();
+            score.setScoreId(scoreId);
+            scores.put(scoreId, score);
+        } else if (score.getPlayer() != player) {
+            score.getPlayer().getScores().remove(score);
+        }
+        if (score.getPlayer() != player) {
+            score.setPlayer(player);
+            player.getScores().add(score);
+        }
+        score.setScore(value);
+        score.setPar(par);
+        score.setSlope(slope);
+        score.setAdjustedScore(adjustedScore != JournalCodec.NO_ADJUSTED_SCORE ? adjustedScore : null);
+        score.setScorecard(scorecard != null && scorecard.length > 0 ? scorecard.clone() : null);
+        score.updateDifferential();
+        if (recordedAtMillis != JournalCodec.NO_TIMESTAMP) {
+            score.setRecordedAt(Instant.ofEpochMilli(recordedAtMillis));
+        }
+        nextScoreId = Math.max(nextScoreId, scoreId + 1);
+    }
+
+    private void applyHistoryPoint(long playerId, long epochSecond, int value) {
+        HandicapHistoryChunk chunk = lastHistoryChunk(playerId);
+        if (chunk != null && chunk.getPointCount() > 0
+                && (chunk.getLastValue() == value || epochSecond < chunk.getLastTimestamp())) {
+            return; // already in the snapshot the journal is replayed over
+        }
+        if (chunk == null || !HandicapHistoryCodec.hasRoom(chunk)) {
+            chunk = HandicapHistoryCodec.newChunk(playerId, epochSecond);
+            history.computeIfAbsent(playerId, id -> new ArrayList<>()).add(chunk);
+        }
+        HandicapHistoryCodec.append(chunk, epochSecond, value);
+    }
+
+    private HandicapHistoryChunk lastHistoryChunk(long playerId) {
+        List<HandicapHistoryChunk> chunks = history.get(playerId);
+        return chunks == null || chunks.isEmpty() ? null : chunks.get(chunks.size() - 1);
+    }
+
+    private void applyScoresDeleteByPlayer(long playerId) {
+        Player player = players.get(playerId);
+        if (player != null) {
+            for (Score score : player.getScores()) {
+                scores.remove(score.getScoreId());
+            }
+            player.getScores().clear();
+        }
+    }
+
+    private int applyScoresPurgeBefore(long cutoffMillis) {
+        int purged = 0;
+        Iterator<Score> iterator = scores.values().iterator();
+        while (iterator.hasNext()) {
+            Score score = iterator.next();
+            if (score.getRecordedAt() != null && score.getRecordedAt().toEpochMilli() < cutoffMillis) {
+                score.getPlayer().getScores().remove(score);
+                iterator.remove();
+                purged++;
+            }
+        }
+        return purged;
+    }
+
+    private void applyCoursePut(long courseId, String name, String tee, int par, int slope, double rating) {
+        Course course = courses.computeIfAbsent(courseId, id -> {
+            Course created = new Course();
+            created.setCourseId(id);
+            return created;
+        });
+        course.setName(name);
+        course.setTee(tee);
+        course.setPar(par);
+        course.setSlope(slope);
+        course.setRating(rating);
+        nextCourseId = Math.max(nextCourseId, courseId + 1);
+    }
+
+    private void applyChangePut(long changeId, int entityType, int operation, long entityId, long playerId,
+                                long changedAtMillis, long purgedBeforeMillis) {
+        ChangeLogEntry entry = new ChangeLogEntry();
+        entry.setChangeId(changeId);
+        entry.setEntityType(ChangeLogEntry.EntityType.values()[entityType]);
+        entry.setOperation(ChangeLogEntry.Operation.values()[operation]);
+        entry.setEntityId(entityId != JournalCodec.NO_ID ? entityId : null);
+        entry.setPlayerId(playerId != JournalCodec.NO_ID ? playerId : null);
+        entry.setChangedAt(Instant.ofEpochMilli(changedAtMillis));
+        entry.setPurgedBefore(purgedBeforeMillis != JournalCodec.NO_TIMESTAMP
+                ? Instant.ofEpochMilli(purgedBeforeMillis) : null);
+        changes.put(changeId, entry);
+        nextChangeId = Math.max(nextChangeId, changeId + 1);
+    }
+
+    /*
+     * Same rule as the change_log compaction query: an entry older than the horizon goes when a later entry
+     * is for the same player or score, deletes its player, or purges a range its score was changed in. One pass
+     * from the newest entry backwards collects what the later entries cover. Purges themselves are kept.
+     */
+    private int applyChangesSupersededBefore(long horizonMillis) {
+        Set<Long> laterPlayers = new HashSet<>();
+        Set<Long> laterScores = new HashSet<>();
+        Set<Long> deletedPlayers = new HashSet<>();
+        Instant latestPurgedBefore = null;
+        int deleted = 0;
+        Iterator<ChangeLogEntry> iterator = changes.descendingMap().values().iterator();
+        while (iterator.hasNext()) {
+            ChangeLogEntry entry = iterator.next();
+            boolean score = entry.getEntityType() == ChangeLogEntry.EntityType.SCORE;
+            Set<Long> sameType = score ? laterScores : laterPlayers;
+            boolean superseded = entry.getOperation() != ChangeLogEntry.Operation.PURGE
+                    && entry.getChangedAt().toEpochMilli() < horizonMillis
+                    && (entry.getEntityId() != null && sameType.contains(entry.getEntityId())
+                    || entry.getPlayerId() != null && deletedPlayers.contains(entry.getPlayerId())
+                    || score && latestPurgedBefore != null && entry.getChangedAt().isBefore(latestPurgedBefore));
+            if (entry.getEntityId() != null) {
+                sameType.add(entry.getEntityId());
+            }
+            if (!score && entry.getOperation() == ChangeLogEntry.Operation.DELETE) {
+                deletedPlayers.add(entry.getPlayerId());
+            }
+            if (entry.getOperation() == ChangeLogEntry.Operation.PURGE && entry.getPurgedBefore() != null
+                    && (latestPurgedBefore == null || entry.getPurgedBefore().isAfter(latestPurgedBefore))) {
+                latestPurgedBefore = entry.getPurgedBefore();
+            }
+            if (superseded) {
+                iterator.remove();
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    private int applyChangeTombstonesBefore(long cutoffMillis) {
+        int before = changes.size();
+        changes.values().removeIf(entry -> entry.getChangedAt().toEpochMilli() < cutoffMillis
+                && (entry.getOperation() == ChangeLogEntry.Operation.DELETE
+                || entry.getOperation() == ChangeLogEntry.Operation.PURGE));
+        return before - changes.size();
+    }
+
+    // Group commit
+
+    private void awaitDurable(long seq) {
+        synchronized (lock) {
+            lock.notifyAll();
+            while (durableSeq < seq && failure == null) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new DataAccessResourceFailureException("Interrupted waiting for journal commit", e);
+                }
+            }
+            if (failure != null) {
+                throw new DataAccessResourceFailureException("Journal write failed", failure);
+            }
+        }
+    }
+
+    private void flushLoop() {
+        while (true) {
+            long target;
+            synchronized (lock) {
+                while (running && appendedSeq == durableSeq) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                if (appendedSeq == durableSeq) {
+                    return; // shutting down and fully flushed
+                }
+            }
+            if (groupCommitMillis > 0 && running) {
+                try {
+                    Thread.sleep(groupCommitMillis); // let concurrent writers join this batch
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            synchronized (lock) {
+                ByteBuffer full = pending;
+                pending = writing;
+                writing = full;
+                target = appendedSeq;
+            }
+            try {
+                synchronized (fileLock) {
+                    writing.flip();
+                    while (writing.hasRemaining()) {
+                        journal.write(writing);
+                    }
+                    writing.clear();
+                    journal.force(false);
+                }
+                synchronized (lock) {
+                    // a snapshot taken meanwhile may already have released these writers
+                    if (target > durableSeq) {
+                        recordsSinceSnapshot += target - durableSeq;
+                        durableSeq = target;
+                    }
+                    lock.notifyAll();
+                }
+                if (recordsSinceSnapshot >= snapshotThreshold) {
+                    snapshot();
+                }
+            } catch (IOException e) {
+                log.error("Journal write failed, rejecting further writes", e);
+                synchronized (lock) {
+                    failure = e;
+                    lock.notifyAll();
+                }
+                return;
+            }
+        }
+    }
+
+    // Snapshots
+
+    /**
+     * Writes every player, score, handicap history chunk, course and change log entry to a fresh snapshot file, atomically replaces the
+     * previous snapshot and truncates the journal. The state is copied under the lock and written outside it,
+     * so writers keep appending while the file is written. Records appended before the copy are covered by the
+     * snapshot and their writers released; records pending at that point stay pending and are flushed to the
+     * fresh journal. Replaying a journal over a snapshot that already contains some of its records is harmless
+     * because every record type is idempotent.
+     */
+    void snapshot() throws IOException {
+        synchronized (fileLock) {
+            long start = System.nanoTime();
+            List<Player> playersCopy;
+            List<HandicapHistoryChunk> historyCopy = new ArrayList<>();
+            List<Course> coursesCopy = new ArrayList<>();
+            List<ChangeLogEntry> changesCopy = new ArrayList<>();
+            long playerIdCopy;
+            long scoreIdCopy;
+            long changeIdCopy;
+            long seq;
+            int scoreCount;
+            synchronized (lock) {
+                playersCopy = new ArrayList<>(players.size());
+                for (Player player : players.values()) {
+                    playersCopy.add(copyOf(player));
+                }
+                // appends replace a chunk's data array, so copying the fields is enough
+                for (List<HandicapHistoryChunk> chunks : history.values()) {
+                    for (HandicapHistoryChunk chunk : chunks) {
+                        historyCopy.add(copyOf(chunk));
+                    }
+                }
+                for (Course course : courses.values()) {
+                    coursesCopy.add(copyOf(course));
+                }
+                for (ChangeLogEntry entry : changes.values()) {
+                    changesCopy.add(copyOf(entry));
+                }
+                changeIdCopy = nextChangeId;
+                playerIdCopy = nextPlayerId;
+                scoreIdCopy = nextScoreId;
+                scoreCount = scores.size();
+                seq = appendedSeq;
+            }
+
+            Path tmp = directory.resolve("snapshot.tmp");
+            try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(1024 * 1024);
+                buffer.putInt(JournalCodec.MAGIC).putInt(JournalCodec.VERSION)
+                        .putLong(playerIdCopy).putLong(scoreIdCopy);
+                for (Player player : playersCopy) {
+                    buffer = drainIfFull(out, buffer);
+                    buffer = JournalCodec.writePlayerPut(buffer, player.getPlayerId(), player.getName(),
+                            player.getHandicap(), clubOf(player));
+                    for (Score score : player.getScores()) {
+                        buffer = drainIfFull(out, buffer);
+                        buffer = JournalCodec.writeScorePut(buffer, score.getScoreId(), player.getPlayerId(),
+                                score.getScore(), score.getPar(), score.getSlope(),
+                                score.getRecordedAt() != null ? score.getRecordedAt().toEpochMilli()
+                                        : JournalCodec.NO_TIMESTAMP, adjustedScoreOf(score), score.getScorecard());
+                    }
+                }
+                for (HandicapHistoryChunk chunk : historyCopy) {
+                    buffer = drainIfFull(out, buffer);
+                    buffer = JournalCodec.writeHistoryChunk(buffer, chunk.getPlayerId(),
+                            chunk.getFirstTimestamp(), chunk.getLastTimestamp(), chunk.getLastValue(),
+                            chunk.getPointCount(), chunk.getData());
+                }
+                for (Course course : coursesCopy) {
+                    buffer = drainIfFull(out, buffer);
+                    buffer = JournalCodec.writeCoursePut(buffer, course.getCourseId(), course.getName(),
+                            course.getTee(), course.getPar(), course.getSlope(), course.getRating());
+                }
+                for (ChangeLogEntry entry : changesCopy) {
+                    buffer = drainIfFull(out, buffer);
+                    buffer = JournalCodec.writeChangePut(buffer, entry.getChangeId(),
+                            entry.getEntityType().ordinal(), entry.getOperation().ordinal(),
+                            idOf(entry.getEntityId()), idOf(entry.getPlayerId()), entry.getChangedAt().toEpochMilli(),
+                            entry.getPurgedBefore() != null ? entry.getPurgedBefore().toEpochMilli()
+                                    : JournalCodec.NO_TIMESTAMP);
+                }
+                buffer = JournalCodec.writeNextChangeId(buffer, changeIdCopy);
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                out.force(true);
+            }
+            Files.move(tmp, snapshotPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            forceDirectory();
+            // the journal only holds records flushed before the copy was taken, all covered by the snapshot
+            resetJournal();
+            synchronized (lock) {
+                if (seq > durableSeq) {
+                    durableSeq = seq;
+                }
+                recordsSinceSnapshot = 0;
+                lock.notifyAll();
+            }
+            log.info("Journal snapshot written: {} players, {} scores in {} ms",
+                    playersCopy.size(), scoreCount, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    // makes the rename of the snapshot durable; directories cannot be opened for fsync on Windows
+    private void forceDirectory() throws IOException {
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            if (!System.getProperty("os.name", "").startsWith("Windows")) {
+                throw e;
+            }
+        }
+    }
+
+    private ByteBuffer drainIfFull(FileChannel out, ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < 4096) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            buffer.clear();
+        }
+        return buffer;
+    }
+
+    private void resetJournal() throws IOException {
+        journal.truncate(0);
+        ByteBuffer header = ByteBuffer.allocate(JournalCodec.JOURNAL_HEADER_SIZE);
+        header.putInt(JournalCodec.MAGIC).putInt(JournalCodec.VERSION).flip();
+        journal.write(header, 0);
+        journal.force(true);
+        journal.position(JournalCodec.JOURNAL_HEADER_SIZE);
+    }
+
+    // Replay
+
+    private long replay(Path path, int headerSize) throws IOException {
+        if (!Files.exists(path) || Files.size(path) < headerSize) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(path + " is larger than 2 GB; it should have been compacted by a snapshot");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != JournalCodec.MAGIC || buffer.getInt() != JournalCodec.VERSION) {
+                throw new IOException(path + " is not a version " + JournalCodec.VERSION + " journal file");
+            }
+            if (headerSize == JournalCodec.SNAPSHOT_HEADER_SIZE) {
+                nextPlayerId = Math.max(nextPlayerId, buffer.getLong());
+                nextScoreId = Math.max(nextScoreId, buffer.getLong());
+            }
+
+            CRC32 crc = new CRC32();
+            long records = 0;
+            int length;
+            while ((length = JournalCodec.validateFrame(buffer, crc)) > 0) {
+                int next = buffer.position() + length;
+                applyRecord(buffer);
+                buffer.position(next);
+                records++;
+            }
+            if (buffer.position() < size) {
+                log.warn("Discarding {} bytes of torn or corrupted records at the end of {}",
+                        size - buffer.position(), path);
+                channel.truncate(buffer.position());
+            }
+            return records;
+        }
+    }
+
+    private void applyRecord(ByteBuffer buffer) throws IOException {
+        byte type = buffer.get();
+        switch (type) {
+            case JournalCodec.PLAYER_PUT: {
+                long playerId = buffer.getLong();
+                double handicap = buffer.getDouble();
+                applyPlayerPut(playerId, JournalCodec.readString(buffer), handicap, JournalCodec.NO_CLUB);
+                break;
+            }
+            case JournalCodec.PLAYER_PUT_CLUB: {
+                long playerId = buffer.getLong();
+                double handicap = buffer.getDouble();
+                long clubId = buffer.getLong();
+                applyPlayerPut(playerId, JournalCodec.readString(buffer), handicap, clubId);
+                break;
+            }
+            case JournalCodec.PLAYER_DELETE:
+                applyPlayerDelete(buffer.getLong());
+                break;
+            case JournalCodec.HANDICAP:
+                applyHandicap(buffer.getLong(), buffer.getDouble());
+                break;
+            case JournalCodec.SCORE_PUT:
+                applyScorePut(buffer.getLong(), buffer.getLong(), buffer.getInt(), buffer.getInt(), buffer.getInt(),
+                        JournalCodec.NO_TIMESTAMP, JournalCodec.NO_ADJUSTED_SCORE, null);
+                break;
+            case JournalCodec.SCORE_PUT_AT:
+                applyScorePut(buffer.getLong(), buffer.getLong(), buffer.getInt(), buffer.getInt(), buffer.getInt(),
+                        buffer.getLong(), JournalCodec.NO_ADJUSTED_SCORE, null);
+                break;
+            case JournalCodec.SCORE_PUT_CARD:
+                applyScorePut(buffer.getLong(), buffer.getLong(), buffer.getInt(), buffer.getInt(), buffer.getInt(),
+                        buffer.getLong(), buffer.getInt(), JournalCodec.readBytes(buffer));
+                break;
+            case JournalCodec.SCORES_DELETE_BY_PLAYER:
+                applyScoresDeleteByPlayer(buffer.getLong());
+                break;
+            case JournalCodec.SCORES_PURGE_BEFORE:
+                applyScoresPurgeBefore(buffer.getLong());
+                break;
+            case JournalCodec.HISTORY_POINT:
+                applyHistoryPoint(buffer.getLong(), buffer.getLong(), buffer.getInt());
+                break;
+            case JournalCodec.HISTORY_DELETE:
+                history.remove(buffer.getLong());
+                break;
+            case JournalCodec.HISTORY_CHUNK: {
+                HandicapHistoryChunk chunk = HandicapHistoryCodec.newChunk(buffer.getLong(), buffer.getLong());
+                chunk.setLastTimestamp(buffer.getLong());
+                chunk.setLastValue(buffer.getInt());
+                chunk.setPointCount(buffer.getInt());
+                chunk.setData(JournalCodec.readBytes(buffer));
+                history.computeIfAbsent(chunk.getPlayerId(), id -> new ArrayList<>()).add(chunk);
+                break;
+            }
+            case JournalCodec.COURSE_PUT: {
+                long courseId = buffer.getLong();
+                int par = buffer.getInt();
+                int slope = buffer.getInt();
+                double rating = buffer.getDouble();
+                String name = JournalCodec.readString(buffer);
+                applyCoursePut(courseId, name, JournalCodec.readString(buffer), par, slope, rating);
+                break;
+            }
+            case JournalCodec.CHANGE_PUT:
+                applyChangePut(buffer.getLong(), buffer.get(), buffer.get(), buffer.getLong(), buffer.getLong(),
+                        buffer.getLong(), buffer.getLong());
+                break;
+            case JournalCodec.CHANGES_SUPERSEDED_BEFORE:
+                applyChangesSupersededBefore(buffer.getLong());
+                break;
+            case JournalCodec.CHANGE_TOMBSTONES_BEFORE:
+                applyChangeTombstonesBefore(buffer.getLong());
+                break;
+            case JournalCodec.NEXT_CHANGE_ID:
+                nextChangeId = Math.max(nextChangeId, buffer.getLong());
+                break;
+            default:
+                throw new IOException("Unknown journal record type " + type);
+        }
+    }
+
+    private static Player copyOf(Player player) {
+        Player copy = new Player();
+        copy.setPlayerId(player.getPlayerId());
+        copy.setName(player.getName());
+        copy.setHandicap(player.getHandicap());
+        copy.setClubId(player.getClubId());
+        List<Score> scoresCopy = new ArrayList<>(player.getScores().size());
+        for (Score score : player.getScores()) {
+            scoresCopy.add(copyOf(score, copy));
+        }
+        copy.setScores(scoresCopy);
+        return copy;
+    }
+
+    private static Score copyOf(Score score, Player owner) {
+        Score copy = new Score();
+        copy.setScoreId(score.getScoreId());
+        copy.setPlayer(owner);
+        copy.setScore(score.getScore());
+        copy.setPar(score.getPar());
+        copy.setSlope(score.getSlope());
+        copy.setRecordedAt(score.getRecordedAt());
+        copy.setAdjustedScore(score.getAdjustedScore());
+        copy.setScorecard(score.getScorecard() != null ? score.getScorecard().clone() : null);
+        copy.setDifferential(score.getDifferential());
+        return copy;
+    }
+
+    private static HandicapHistoryChunk copyOf(HandicapHistoryChunk chunk) {
+        HandicapHistoryChunk copy = new HandicapHistoryChunk();
+        copy.setPlayerId(chunk.getPlayerId());
+        copy.setFirstTimestamp(chunk.getFirstTimestamp());
+        copy.setLastTimestamp(chunk.getLastTimestamp());
+        copy.setLastValue(chunk.getLastValue());
+        copy.setPointCount(chunk.getPointCount());
+        copy.setData(chunk.getData());
+        return copy;
+    }
+
+    private static Course copyOf(Course course) {
+        Course copy = new Course();
+        copy.setCourseId(course.getCourseId());
+        copy.setName(course.getName());
+        copy.setTee(course.getTee());
+        copy.setPar(course.getPar());
+        copy.setSlope(course.getSlope());
+        copy.setRating(course.getRating());
+        return copy;
+    }
+
+    private static ChangeLogEntry copyOf(ChangeLogEntry entry) {
+        ChangeLogEntry copy = new ChangeLogEntry();
+        copy.setChangeId(entry.getChangeId());
+        copy.setEntityType(entry.getEntityType());
+        copy.setOperation(entry.getOperation());
+        copy.setEntityId(entry.getEntityId());
+        copy.setPlayerId(entry.getPlayerId());
+        copy.setChangedAt(entry.getChangedAt());
+        copy.setPurgedBefore(entry.getPurgedBefore());
+        return copy;
+    }
+
+    private static long idOf(Long id) {
+        return id != null ? id : JournalCodec.NO_ID;
+    }
+
+    private static long clubOf(Player player) {
+        return player.getClubId() != null ? player.getClubId() : JournalCodec.NO_CLUB;
+    }
+
+    private static int adjustedScoreOf(Score score) {
+        return score.getAdjustedScore() != null ? score.getAdjustedScore() : JournalCodec.NO_ADJUSTED_SCORE;
+    }
+
+    private Path journalPath() {
+        return directory.resolve("journal.log");
+    }
+
+    private Path snapshotPath() {
+        return directory.resolve("snapshot.dat");
+    }
+}
@@ -0,0 +1,34 @@
+package com.golfhandicapcalculator.enterprise.dao.journal;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * Transaction manager used when the journal replaces the database.
+ * Each journal write is individually durable and cannot be rolled back, so transactions only provide
+ * the synchronization callbacks that {@code @Transactional} services and listeners rely on.
+ */
+@Component
+@ConditionalOnProperty(name = "golf.persistence.mode", havingValue = "journal")
+public class JournalTransactionManager extends AbstractPlatformTransactionManager {
+
+    @Override
+    protected Object doGetTransaction() {
+        return new Object();
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.golfhandicapcalculator.enterprise.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import java.util.List;
+
+@Getter
+@Setter
+public class ChangeFeedPage {
+
+    // in change id order
+    private List<ChangeLogEntry> changes;
+
+    // pass as "after" to read the next page; unchanged when there was nothing new
+    private long nextCursor;
+
+    // the page was full, so more changes are waiting
+    private boolean hasMore;
+}
@@ -0,0 +1,26 @@
+package com.golfhandicapcalculator.enterprise.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import javax.persistence.*;
+import java.time.Instant;
+
+/**
+ * The single row the change feed relay locks while it appends to the change log. Holding it from the first
+ * insert until commit means change ids are handed out in commit order, even with a relay on every node.
+ */
+@Entity
+@Table(name = "change_feed_relay")
+@Getter
+@Setter
+public class ChangeFeedRelay {
+
+    public static final int RELAY_ID = 1;
+
+    @Id
+    @Column(name = "relay_id")
+    private Integer relayId;
+
+    @Column(name = "relayed_at")
+    private Instant relayedAt;
+}
@@ -0,0 +1,61 @@
+package com.golfhandicapcalculator.enterprise.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import javax.persistence.*;
+import java.time.Instant;
+
+/**
+ * One insert, update or delete of a player or score, as served by the change feed. Entries only carry ids;
+ * consumers fetch the current state of whatever changed, so an insert or update is applied as an upsert.
+ * The change id is the feed cursor and only ever increases.
+ */
+@Entity
+@Table(name = "change_log", indexes = {
+        @Index(name = "idx_change_log_entity", columnList = "entity_type, entity_id"),
+        @Index(name = "idx_change_log_changed", columnList = "changed_at")
+})
+@Getter
+@Setter
+public class ChangeLogEntry {
+
+    public enum EntityType {
+        PLAYER,
+        SCORE
+    }
+
+    public enum Operation {
+        INSERT,
+        UPDATE,
+        // deleting a player also deletes their scores
+        DELETE,
+        // every score recorded before purgedBefore was deleted
+        PURGE
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "change_id")
+    private Long changeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 8)
+    private EntityType entityType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", nullable = false, length = 8)
+    private Operation operation;
+
+    // player or score id, null for a purge
+    @Column(name = "entity_id")
+    private Long entityId;
+
+    @Column(name = "player_id")
+    private Long playerId;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+
+    @Column(name = "purged_before")
+    private Instant purgedBefore;
+}
@@ -0,0 +1,43 @@
+package com.golfhandicapcalculator.enterprise.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import javax.persistence.*;
+import java.time.Instant;
+
+/**
+ * A change waiting to be relayed into the change log. It is written on a shard in the transaction
+ * that made the change, so it exists exactly when that change committed; the relay then copies it into
+ * {@code change_log}, where it receives its feed position, and deletes it.
+ */
+@Entity
+@Table(name = "change_outbox")
+@Getter
+@Setter
+public class ChangeOutboxEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long outboxId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 8)
+    private ChangeLogEntry.EntityType entityType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", nullable = false, length = 8)
+    private ChangeLogEntry.Operation operation;
+
+    @Column(name = "entity_id")
+    private Long entityId;
+
+    @Column(name = "player_id")
+    private Long playerId;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+
+    @Column(name = "purged_before")
+    private Instant purgedBefore;
+}
@@ -0,0 +1,33 @@
+package com.golfhandicapcalculator.enterprise.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import javax.persistence.*;
+
+/**
+ * A course played from a particular set of tees. Par, slope and course rating are entered once here,
+ * so rounds can be submitted by course ID instead of retyping them for every score.
+ */
+@Entity
+@Table(name = "courses")
+@Getter
+@Setter
+public class Course {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long courseId;
+
+    @Column(nullable = false)
+    private String name;
+
+    private String tee;
+
+    @Column(nullable = false)
+    private int par;
+
+    @Column(nullable = false)
+    private int slope;
+
+    private double rating;
+}
@@ -0,0 +1,44 @@
+package com.golfhandicapcalculator.enterprise.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import javax.persistence.*;
+
+/**
+ * A run of consecutive handicap points for one player, packed by
+ * {@link com.golfhandicapcalculator.enterprise.dao.history.HandicapHistoryCodec}.
+ * The first and last timestamps bound the chunk so a range read only touches overlapping chunks, and the
+ * last point is kept unpacked so appending never has to decode the data.
+ */
+@Entity
+@Table(name = "handicap_history", indexes = {
+        @Index(name = "idx_handicap_history_player_range", columnList = "player_id, first_timestamp, last_timestamp")
+})
+@Getter
+@Setter
+public class HandicapHistoryChunk {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long chunkId;
+
+    @Column(name = "player_id", nullable = false)
+    private Long playerId;
+
+    // epoch seconds
+    @Column(name = "first_timestamp", nullable = false)
+    private long firstTimestamp;
+
+    @Column(name = "last_timestamp", nullable = false)
+    private long lastTimestamp;
+
+    // handicap in hundredths
+    @Column(name = "last_value", nullable = false)
+    private int lastValue;
+
+    @Column(name = "point_count", nullable = false)
+    private int pointCount;
+
+    @Column(name = "data", nullable = false, length = 8192)
+    private byte[] data = new byte[0];
+}
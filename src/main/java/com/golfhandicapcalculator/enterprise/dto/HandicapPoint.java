@@ -0,0 +1,16 @@
+package com.golfhandicapcalculator.enterprise.dto;
+
+import lombok.Getter;
+import java.time.Instant;
+
+@Getter
+public class HandicapPoint {
+
+    private final Instant timestamp;
+    private final double handicap;
+
+    public HandicapPoint(Instant timestamp, double handicap) {
+        this.timestamp = timestamp;
+        this.handicap = handicap;
+    }
+}
@@ -0,0 +1,38 @@
+package com.golfhandicapcalculator.enterprise.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import java.util.Map;
+
+@Getter
+@Setter
+public class HandicapProjection {
+
+    private Long playerId;
+
+    // rounds already recorded, which every simulated path starts from
+    private int historicalRounds;
+    private double currentHandicap;
+
+    // future rounds simulated per path
+    private int rounds;
+
+    // simulated paths; fewer than requested when the latency budget ran out first
+    private int simulations;
+    private boolean complete;
+    private long elapsedMillis;
+
+    // "p5", "p25", "p50", "p75", "p95" -> projected handicap after the simulated rounds
+    private Map<String, Double> percentiles;
+    private double meanHandicap;
+
+    // only set when a target handicap was requested
+    private Double targetHandicap;
+    private Double targetProbability;
+    private Double requiredAverageDifferential;
+
+    // average score needed per round at the par and slope of the player's most recent round
+    private Double requiredAverageScore;
+    private Integer coursePar;
+    private Integer courseSlope;
+}
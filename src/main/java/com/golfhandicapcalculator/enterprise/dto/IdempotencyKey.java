@@ -0,0 +1,26 @@
+package com.golfhandicapcalculator.enterprise.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import javax.persistence.*;
+import java.time.Instant;
+
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+        @Index(name = "idx_idempotency_keys_created", columnList = "created_at")
+})
+@Getter
+@Setter
+public class IdempotencyKey {
+
+    // "<playerId>:<Idempotency-Key header>"
+    @Id
+    @Column(name = "idempotency_key", length = 150)
+    private String key;
+
+    @Column(name = "score_id", nullable = false)
+    private Long scoreId;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
@@ -2,12 +2,16 @@ package com.golfhandicapcalculator.enterprise.dto;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import javax.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "players")
+@Table(name = "players", indexes = {
+        @Index(name = "idx_players_club", columnList = "club_id")
+})
 @Setter
 @Getter
 public class Player {
@@ -21,6 +25,12 @@ public class Player {
 
     private double handicap;
 
+    // the club (tenant) the player belongs to; with sharding enabled it decides the player's shard
+    @Column(name = "club_id")
+    private Long clubId;
+
+    // serializing a list of players loads all their scores with one subselect instead of one query per player
     @OneToMany(mappedBy = "player", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Fetch(FetchMode.SUBSELECT)
     private List<Score> scores = new ArrayList<>();
 }
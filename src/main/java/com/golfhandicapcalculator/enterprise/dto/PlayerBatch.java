@@ -0,0 +1,18 @@
+package com.golfhandicapcalculator.enterprise.dto;
+
+import lombok.Getter;
+import java.util.List;
+
+@Getter
+public class PlayerBatch {
+
+    // found players, in the order their ids were requested
+    private final List<Player> players;
+
+    private final List<Long> notFound;
+
+    public PlayerBatch(List<Player> players, List<Long> notFound) {
+        this.players = players;
+        this.notFound = notFound;
+    }
+}
@@ -0,0 +1,53 @@
+package com.golfhandicapcalculator.enterprise.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import javax.persistence.*;
+import java.time.Instant;
+
+/**
+ * Denormalized read model of a player: everything the player list and profile show, kept in one row so reads
+ * never join or aggregate {@code scores}. Maintained by PlayerSummaryService from the player write paths.
+ */
+@Entity
+@Table(name = "player_summary")
+@Setter
+@Getter
+public class PlayerSummary {
+
+    @Id
+    @Column(name = "player_id")
+    private Long playerId;
+
+    @Column(nullable = false)
+    private String name;
+
+    private double handicap;
+
+    @Column(name = "round_count", nullable = false)
+    private long roundCount;
+
+    @Column(name = "last_round_at")
+    private Instant lastRoundAt;
+
+    // lowest and highest score differential, null until the player has a round with a differential
+    @Column(name = "best_differential")
+    private Double bestDifferential;
+
+    @Column(name = "worst_differential")
+    private Double worstDifferential;
+
+    /**
+     * Folds one round into the round columns.
+     */
+    public void addRound(Instant recordedAt, Double differential) {
+        roundCount++;
+        if (recordedAt != null && (lastRoundAt == null || recordedAt.isAfter(lastRoundAt))) {
+            lastRoundAt = recordedAt;
+        }
+        if (differential != null) {
+            bestDifferential = bestDifferential == null ? differential : Math.min(bestDifferential, differential);
+            worstDifferential = worstDifferential == null ? differential : Math.max(worstDifferential, differential);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.golfhandicapcalculator.enterprise.dto;
+
+import lombok.Getter;
+import java.util.List;
+
+/**
+ * Outcome of comparing the player_summary read model with the players and scores it is derived from.
+ * The id lists are capped; the counts are exact.
+ */
+@Getter
+public class PlayerSummaryCheck {
+
+    private final long playersChecked;
+    private final long missingCount;
+    private final long staleCount;
+    private final long orphanedCount;
+    private final List<Long> missingPlayerIds;
+    private final List<Long> stalePlayerIds;
+    private final List<Long> orphanedPlayerIds;
+    private final boolean repaired;
+
+    public PlayerSummaryCheck(long playersChecked, long missingCount, long staleCount, long orphanedCount,
+                              List<Long> missingPlayerIds, List<Long> stalePlayerIds, List<Long> orphanedPlayerIds,
+                              boolean repaired) {
+        this.playersChecked = playersChecked;
+        this.missingCount = missingCount;
+        this.staleCount = staleCount;
+        this.orphanedCount = orphanedCount;
+        this.missingPlayerIds = missingPlayerIds;
+        this.stalePlayerIds = stalePlayerIds;
+        this.orphanedPlayerIds = orphanedPlayerIds;
+        this.repaired = repaired;
+    }
+
+    public boolean isConsistent() {
+        return missingCount == 0 && staleCount == 0 && orphanedCount == 0;
+    }
+}
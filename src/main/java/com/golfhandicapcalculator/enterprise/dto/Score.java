@@ -1,12 +1,18 @@
 package com.golfhandicapcalculator.enterprise.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.golfhandicapcalculator.enterprise.GolfHandicapCalculator;
 import lombok.Getter;
 import lombok.Setter;
 import javax.persistence.*;
+import java.time.Instant;
 
 @Entity
-@Table(name = "scores")
+@Table(name = "scores", indexes = {
+        @Index(name = "idx_scores_player_differential", columnList = "player_id, differential"),
+        @Index(name = "idx_scores_player_recorded", columnList = "player_id, recorded_at")
+})
 @Getter
 @Setter
 public class Score {
@@ -24,11 +30,37 @@ public class Score {
     @Column(nullable = false)
     private int slope;
 
+    // stamped by the server when the round is recorded
+    @Column(name = "recorded_at", updatable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Instant recordedAt;
+
+    // hole-by-hole strokes and pars packed by Scorecard; null for rounds entered as a total
+    @Column(name = "scorecard", length = Scorecard.BYTES)
+    @JsonIgnore
+    private byte[] scorecard;
+
+    // gross score capped at net double bogey per hole, derived from the scorecard when the round is recorded
+    @Column(name = "adjusted_score")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Integer adjustedScore;
+
+    // ((adjusted score, or score - par) * 113) / slope, kept in step with the round on every write
+    @Column(name = "differential")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Double differential;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "player_id", nullable = false)
     @JsonIgnore
     private Player player;
 
+    // set when the round was submitted by course; par and slope are then copied from the course
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "course_id")
+    @JsonIgnore
+    private Course course;
+
     @Transient
     public Long getPlayerId() {
         return player != null ? player.getPlayerId() : null;
@@ -40,4 +72,49 @@ public class Score {
         }
         this.player.setPlayerId(playerId);
     }
+
+    @Transient
+    public Long getCourseId() {
+        return course != null ? course.getCourseId() : null;
+    }
+
+    public void setCourseId(Long courseId) {
+        if (courseId == null) {
+            this.course = null;
+            return;
+        }
+        if (this.course == null) {
+            this.course = new Course();
+        }
+        this.course.setCourseId(courseId);
+    }
+
+    @Transient
+    @JsonProperty("holes")
+    public Scorecard getHoles() {
+        return scorecard != null ? Scorecard.wrap(scorecard) : null;
+    }
+
+    @JsonProperty("holes")
+    public void setHoles(Scorecard holes) {
+        this.scorecard = holes != null ? holes.toBytes() : null;
+    }
+
+    public void updateDifferential() {
+        differential = GolfHandicapCalculator.scoreDifferential(adjustedScore != null ? adjustedScore : score, par,
+                slope);
+    }
+
+    @PrePersist
+    void onCreate() {
+        if (recordedAt == null) {
+            recordedAt = Instant.now();
+        }
+        updateDifferential();
+    }
+
+    @PreUpdate
+    void onUpdate() {
+        updateDifferential();
+    }
 }
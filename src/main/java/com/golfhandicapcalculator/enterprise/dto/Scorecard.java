@@ -0,0 +1,152 @@
+package com.golfhandicapcalculator.enterprise.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Hole-by-hole strokes and pars of an 18-hole round, packed into the 16-byte {@code scores.scorecard} column.
+ *
+ * Each hole takes 7 bits, least significant bit first: 5 bits of strokes (1 to 31) and 2 bits of par minus 3
+ * (par 3 to 6). A Scorecard is a view over the packed bytes, not a copy: the round total, par and adjusted
+ * gross score are read straight from the column without decoding it into arrays. The strokes and pars arrays
+ * exist only for JSON.
+ */
+public final class Scorecard {
+
+    public static final int HOLES = 18;
+    public static final int BYTES = 16;
+    public static final int MAX_STROKES = 31;
+
+    private static final int BITS_PER_HOLE = 7;
+    private static final int STROKES_MASK = 0x1F;
+
+    private final byte[] packed;
+
+    private Scorecard(byte[] packed) {
+        this.packed = packed;
+    }
+
+    /**
+     * Packs the strokes and pars of all 18 holes.
+     *
+     * @throws IllegalArgumentException if a hole is missing or its strokes or par are out of range
+     */
+    @JsonCreator
+    public static Scorecard of(@JsonProperty("strokes") int[] strokes, @JsonProperty("pars") int[] pars) {
+        if (strokes == null || pars == null || strokes.length != HOLES || pars.length != HOLES) {
+            throw new IllegalArgumentException("A scorecard needs strokes and pars for all " + HOLES + " holes");
+        }
+        byte[] packed = new byte[BYTES];
+        for (int hole = 0; hole < HOLES; hole++) {
+            if (strokes[hole] < 1 || strokes[hole] > MAX_STROKES) {
+                throw new IllegalArgumentException("Strokes on hole " + (hole + 1) + " must be between 1 and "
+                        + MAX_STROKES);
+            }
+            if (pars[hole] < 3 || pars[hole] > 6) {
+                throw new IllegalArgumentException("Par of hole " + (hole + 1) + " must be between 3 and 6");
+            }
+            int field = strokes[hole] | (pars[hole] - 3) << 5;
+            int bit = hole * BITS_PER_HOLE;
+            packed[bit >>> 3] |= (byte) (field << (bit & 7));
+            if ((bit & 7) > 8 - BITS_PER_HOLE) {
+                packed[(bit >>> 3) + 1] |= (byte) (field >>> (8 - (bit & 7)));
+            }
+        }
+        return new Scorecard(packed);
+    }
+
+    /**
+     * Wraps a packed column value without copying it.
+     */
+    public static Scorecard wrap(byte[] packed) {
+        if (packed.length != BYTES) {
+            throw new IllegalArgumentException("A packed scorecard has " + BYTES + " bytes, not " + packed.length);
+        }
+        return new Scorecard(packed);
+    }
+
+    public byte[] toBytes() {
+        return packed;
+    }
+
+    // hole is 0-based
+    public int strokes(int hole) {
+        return field(hole) & STROKES_MASK;
+    }
+
+    public int par(int hole) {
+        return 3 + (field(hole) >>> 5);
+    }
+
+    // gross score of the round
+    public int total() {
+        int total = 0;
+        for (int hole = 0; hole < HOLES; hole++) {
+            total += field(hole) & STROKES_MASK;
+        }
+        return total;
+    }
+
+    public int par() {
+        int par = 3 * HOLES;
+        for (int hole = 0; hole < HOLES; hole++) {
+            par += field(hole) >>> 5;
+        }
+        return par;
+    }
+
+    /**
+     * Gross score with every hole capped at net double bogey: par plus two plus the strokes the player receives
+     * on that hole. The course has no stroke indexes yet, so a course handicap that is not a multiple of 18
+     * gives its extra strokes to the lowest-numbered holes. Plus handicaps receive no strokes.
+     */
+    public int adjustedGross(int courseHandicap) {
+        int received = Math.max(0, courseHandicap);
+        int everyHole = received / HOLES;
+        int extraHoles = received % HOLES;
+        int adjusted = 0;
+        for (int hole = 0; hole < HOLES; hole++) {
+            int field = field(hole);
+            int limit = 3 + (field >>> 5) + 2 + everyHole + (hole < extraHoles ? 1 : 0);
+            adjusted += Math.min(field & STROKES_MASK, limit);
+        }
+        return adjusted;
+    }
+
+    /**
+     * Course handicap for a round: the handicap index scaled by the slope, with the same baseline as
+     * {@code GolfHandicapCalculator.scoreDifferential} for slopes outside the rated range.
+     */
+    public static int courseHandicap(double handicapIndex, int slope) {
+        double effectiveSlope = slope >= 55 && slope <= 155 ? slope : 113;
+        return (int) Math.round(handicapIndex * effectiveSlope / 113);
+    }
+
+    @JsonProperty("strokes")
+    public int[] strokes() {
+        int[] strokes = new int[HOLES];
+        for (int hole = 0; hole < HOLES; hole++) {
+            strokes[hole] = strokes(hole);
+        }
+        return strokes;
+    }
+
+    @JsonProperty("pars")
+    public int[] pars() {
+        int[] pars = new int[HOLES];
+        for (int hole = 0; hole < HOLES; hole++) {
+            pars[hole] = par(hole);
+        }
+        return pars;
+    }
+
+    private int field(int hole) {
+        int bit = hole * BITS_PER_HOLE;
+        int index = bit >>> 3;
+        int window = packed[index] & 0xFF;
+        if (index + 1 < BYTES) {
+            window |= (packed[index + 1] & 0xFF) << 8;
+        }
+        return (window >>> (bit & 7)) & 0x7F;
+    }
+}
@@ -0,0 +1,12 @@
+package com.golfhandicapcalculator.enterprise.service;
+
+/**
+ * Raised when a change feed cursor is older than {@code golf.change-feed.tombstone-retention-days}, so deletes
+ * the consumer has not read yet may already have been compacted away and it has to download everything again.
+ */
+public class ChangeFeedCursorExpiredException extends RuntimeException {
+
+    public ChangeFeedCursorExpiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,193 @@
+package com.golfhandicapcalculator.enterprise.service;
+
+import com.golfhandicapcalculator.enterprise.dao.IChangeLogDAO;
+import com.golfhandicapcalculator.enterprise.dto.ChangeFeedPage;
+import com.golfhandicapcalculator.enterprise.dto.ChangeLogEntry;
+import com.golfhandicapcalculator.enterprise.service.event.PlayerChangeEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Records every player and score write in the change log and serves it as a feed that downstream systems
+ * page through with a cursor instead of downloading every player.
+ *
+ * Changes are recorded in an outbox inside the transaction that made them, so a rolled back write leaves no
+ * entry, and a relay moves committed changes into the log every {@code relay-millis}. The relay numbers them
+ * under a lock held until its own commit, so change ids become visible in order and a cursor never passes a
+ * change that is still on its way. The log is compacted like a keyed topic: once an entry is older than {@code compact-after-minutes} it is
+ * dropped if a later entry covers the same player or score, so the log holds one entry per live record plus
+ * recent history. Deletes are kept for {@code tombstone-retention-days}; a consumer whose cursor is older than
+ * that is told to resynchronise rather than silently miss them.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ChangeFeedService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeedService.class);
+
+    private final IChangeLogDAO changeLogDAO;
+    private final int maxPageSize;
+    private final int relayBatchSize;
+    private final long compactAfterMillis;
+    private final long tombstoneRetentionMillis;
+    private final LongSupplier clock;
+
+    @Autowired
+    public ChangeFeedService(IChangeLogDAO changeLogDAO,
+                             @Value("${golf.change-feed.max-page-size:10000}") int maxPageSize,
+                             @Value("${golf.change-feed.relay-batch-size:1000}") int relayBatchSize,
+                             @Value("${golf.change-feed.compact-after-minutes:60}") long compactAfterMinutes,
+                             @Value("${golf.change-feed.tombstone-retention-days:7}") long tombstoneRetentionDays) {
+        this(changeLogDAO, maxPageSize, relayBatchSize, TimeUnit.MINUTES.toMillis(compactAfterMinutes),
+                TimeUnit.DAYS.toMillis(tombstoneRetentionDays), System::currentTimeMillis);
+    }
+
+    ChangeFeedService(IChangeLogDAO changeLogDAO, int maxPageSize, int relayBatchSize, long compactAfterMillis,
+                      long tombstoneRetentionMillis, LongSupplier clock) {
+        this.changeLogDAO = changeLogDAO;
+        this.maxPageSize = maxPageSize;
+        this.relayBatchSize = relayBatchSize;
+        this.compactAfterMillis = compactAfterMillis;
+        this.tombstoneRetentionMillis = tombstoneRetentionMillis;
+        this.clock = clock;
+    }
+
+    @EventListener
+    @Transactional
+    public void onPlayerChange(PlayerChangeEvent event) {
+        switch (event.getType()) {
+            case PLAYER_CREATED:
+                append(ChangeLogEntry.EntityType.PLAYER, ChangeLogEntry.Operation.INSERT, event.getPlayerId(), event);
+                break;
+            case PLAYER_UPDATED:
+            case HANDICAP_UPDATED:
+                append(ChangeLogEntry.EntityType.PLAYER, ChangeLogEntry.Operation.UPDATE, event.getPlayerId(), event);
+                break;
+            case PLAYER_DELETED:
+                append(ChangeLogEntry.EntityType.PLAYER, ChangeLogEntry.Operation.DELETE, event.getPlayerId(), event);
+                break;
+            case PLAYERS_DELETED:
+                appendDeletes(event);
+                break;
+            case SCORE_ADDED:
+                append(ChangeLogEntry.EntityType.SCORE, ChangeLogEntry.Operation.INSERT, event.getScoreId(), event);
+                break;
+            case SCORE_UPDATED:
+                append(ChangeLogEntry.EntityType.SCORE, ChangeLogEntry.Operation.UPDATE, event.getScoreId(), event);
+                break;
+            case SCORES_PURGED:
+                append(ChangeLogEntry.EntityType.SCORE, ChangeLogEntry.Operation.PURGE, null, event);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} changes following the cursor.
+     *
+     * @param after the last change id the consumer has applied, 0 to read from the start of the log
+     * @throws IllegalArgumentException if the cursor or limit is out of range
+     * @throws ChangeFeedCursorExpiredException if deletes after the cursor may already have been compacted away
+     */
+    public ChangeFeedPage readChanges(long after, int limit) {
+        if (after < 0) {
+            throw new IllegalArgumentException("after must not be negative");
+        }
+        if (limit < 1 || limit > maxPageSize) {
+            throw new IllegalArgumentException("limit must be between 1 and " + maxPageSize);
+        }
+        long now = clock.getAsLong();
+        if (after > 0 && isExpired(after, Instant.ofEpochMilli(now - tombstoneRetentionMillis))) {
+            throw new ChangeFeedCursorExpiredException("Cursor " + after + " is older than the change log"
+                    + " retention; download all players again and continue from cursor 0");
+        }
+
+        List<ChangeLogEntry> changes = changeLogDAO.fetchChangesAfter(after, limit);
+        ChangeFeedPage page = new ChangeFeedPage();
+        page.setChanges(new ArrayList<>(changes));
+        page.setNextCursor(changes.isEmpty() ? after : changes.get(changes.size() - 1).getChangeId());
+        page.setHasMore(changes.size() == limit);
+        return page;
+    }
+
+    /**
+     * Moves committed changes from the outbox into the log. Each shard is relayed in its own transaction, so
+     * the relay must not join one.
+     */
+    @Scheduled(fixedDelayString = "${golf.change-feed.relay-millis:200}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void relay() {
+        try {
+            changeLogDAO.relayChanges(relayBatchSize);
+        } catch (RuntimeException e) {
+            log.warn("Change feed relay failed, will retry", e);
+        }
+    }
+
+    /**
+     * Drops superseded entries older than {@code golf.change-feed.compact-after-minutes}, then deletes older
+     * than {@code golf.change-feed.tombstone-retention-days}.
+     */
+    @Scheduled(fixedDelayString = "${golf.change-feed.compaction-millis:600000}")
+    @Transactional
+    public void compact() {
+        long now = clock.getAsLong();
+        int superseded = changeLogDAO.deleteChangesSupersededBefore(Instant.ofEpochMilli(now - compactAfterMillis));
+        int tombstones = changeLogDAO.deleteTombstonesBefore(Instant.ofEpochMilli(now - tombstoneRetentionMillis));
+        if (superseded + tombstones > 0) {
+            log.debug("Compacted the change log: {} superseded entries and {} expired deletes removed",
+                    superseded, tombstones);
+        }
+    }
+
+    // a cursor is expired when changes older than the tombstone retention follow it, since deletes among
+    // them may have been removed
+    private boolean isExpired(long after, Instant retentionHorizon) {
+        Long firstRetained = changeLogDAO.fetchFirstChangeIdSince(retentionHorizon);
+        if (firstRetained != null) {
+            return after < firstRetained - 1;
+        }
+        Long last = changeLogDAO.fetchLastChangeId();
+        return last != null && after < last;
+    }
+
+    private void append(ChangeLogEntry.EntityType entityType, ChangeLogEntry.Operation operation, Long entityId,
+                        PlayerChangeEvent event) {
+        changeLogDAO.recordChange(entry(entityType, operation, entityId, event.getPlayerId(), event));
+    }
+
+    // a bulk delete is recorded as one DELETE entry per player, written together
+    private void appendDeletes(PlayerChangeEvent event) {
+        List<ChangeLogEntry> entries = new ArrayList<>(event.getPlayerIds().size());
+        for (Long playerId : event.getPlayerIds()) {
+            entries.add(entry(ChangeLogEntry.EntityType.PLAYER, ChangeLogEntry.Operation.DELETE, playerId, playerId,
+                    event));
+        }
+        changeLogDAO.recordChanges(entries);
+    }
+
+    private static ChangeLogEntry entry(ChangeLogEntry.EntityType entityType, ChangeLogEntry.Operation operation,
+                                        Long entityId, Long playerId, PlayerChangeEvent event) {
+        ChangeLogEntry entry = new ChangeLogEntry();
+        entry.setEntityType(entityType);
+        entry.setOperation(operation);
+        entry.setEntityId(entityId);
+        entry.setPlayerId(playerId);
+        entry.setChangedAt(Instant.ofEpochMilli(event.getTimestamp()));
+        entry.setPurgedBefore(event.getPurgedBefore());
+        return entry;
+    }
+}
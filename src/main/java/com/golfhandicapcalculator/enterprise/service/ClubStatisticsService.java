@@ -0,0 +1,62 @@
+package com.golfhandicapcalculator.enterprise.service;
+
+import com.golfhandicapcalculator.enterprise.dao.IStatisticsDAO;
+import com.golfhandicapcalculator.enterprise.service.event.PlayerChangeEvent;
+import com.golfhandicapcalculator.enterprise.service.stats.ClubStatistics;
+import com.golfhandicapcalculator.enterprise.service.stats.DifferentialStatistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.DoubleStream;
+
+/**
+ * Club-wide statistics for the club pros. Counts, averages and distributions are GROUP BY queries; the
+ * differential distribution, which needs quantiles SQL cannot give us, is one parallel pass over the
+ * streamed differentials. The result is cached until the next committed change to players or scores.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ClubStatisticsService {
+
+    static final String CACHE_NAME = "clubStatistics";
+
+    private final IStatisticsDAO statisticsDAO;
+
+    @Autowired
+    public ClubStatisticsService(IStatisticsDAO statisticsDAO) {
+        this.statisticsDAO = statisticsDAO;
+    }
+
+    @Cacheable(cacheNames = CACHE_NAME, key = "'club'")
+    public ClubStatistics getStatistics() {
+        ClubStatistics statistics = new ClubStatistics();
+        statistics.setPlayerCount(statisticsDAO.countPlayers());
+        statistics.setRoundCount(statisticsDAO.countRounds());
+        statistics.setAverageScoreToPar(statisticsDAO.averageScoreToPar());
+
+        Map<Long, Long> roundsPerPlayer = new TreeMap<>(statisticsDAO.countPlayersByRoundsPlayed());
+        long playersWithRounds = roundsPerPlayer.values().stream().mapToLong(Long::longValue).sum();
+        if (statistics.getPlayerCount() > playersWithRounds) {
+            roundsPerPlayer.put(0L, statistics.getPlayerCount() - playersWithRounds);
+        }
+        statistics.setRoundsPerPlayer(roundsPerPlayer);
+        statistics.setHandicapDistribution(statisticsDAO.countPlayersByHandicap());
+
+        try (DoubleStream differentials = statisticsDAO.streamDifferentials()) {
+            statistics.setDifferentials(differentials.parallel().collect(
+                    DifferentialStatistics::new, DifferentialStatistics::accept, DifferentialStatistics::combine));
+        }
+        return statistics;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(cacheNames = CACHE_NAME, allEntries = true)
+    public void onPlayerChange(PlayerChangeEvent event) {
+        // any committed change to players or scores invalidates the cached statistics
+    }
+}
@@ -0,0 +1,52 @@
+package com.golfhandicapcalculator.enterprise.service;
+
+import com.golfhandicapcalculator.enterprise.dao.ICourseDAO;
+import com.golfhandicapcalculator.enterprise.dto.Course;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
+
+/**
+ * Course and tee lookup for score submission. Courses are validated once when they are registered and are then
+ * served from an in-memory read-through cache, since they change far less often than scores are posted.
+ */
+@Service
+@CacheConfig(cacheNames = "course")
+@Transactional(readOnly = true)
+public class CourseCatalog {
+
+    private final ICourseDAO courseDAO;
+
+    @Autowired
+    public CourseCatalog(ICourseDAO courseDAO) {
+        this.courseDAO = courseDAO;
+    }
+
+    public List<Course> getAllCourses() {
+        return courseDAO.fetchAllCourses();
+    }
+
+    @Cacheable(key = "#courseId", unless = "#result == null")
+    public Course getCourse(Long courseId) {
+        return courseDAO.fetchCourse(courseId);
+    }
+
+    @Transactional
+    @CachePut(key = "#result.courseId")
+    public Course registerCourse(Course course) {
+        if (course.getName() == null || course.getName().trim().isEmpty()) {
+            throw new IllegalArgumentException("Course name is required");
+        }
+        if (course.getPar() <= 0) {
+            throw new IllegalArgumentException("Course par must be positive");
+        }
+        if (course.getSlope() < 55 || course.getSlope() > 155) {
+            throw new IllegalArgumentException("Course slope must be between 55 and 155");
+        }
+        return courseDAO.saveCourse(course);
+    }
+}
@@ -0,0 +1,82 @@
+package com.golfhandicapcalculator.enterprise.service;
+
+import com.golfhandicapcalculator.enterprise.dao.IHandicapHistoryDAO;
+import com.golfhandicapcalculator.enterprise.dto.HandicapPoint;
+import com.golfhandicapcalculator.enterprise.service.event.PlayerChangeEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records every handicap change as a point in the player's history and serves downsampled trends for charts.
+ * Points are appended inside the transaction that changed the handicap, so history and handicap commit together.
+ */
+@Service
+@Transactional(readOnly = true)
+public class HandicapHistoryService {
+
+    private final IHandicapHistoryDAO historyDAO;
+
+    @Autowired
+    public HandicapHistoryService(IHandicapHistoryDAO historyDAO) {
+        this.historyDAO = historyDAO;
+    }
+
+    @EventListener
+    @Transactional
+    public void onPlayerChange(PlayerChangeEvent event) {
+        switch (event.getType()) {
+            case PLAYER_CREATED:
+            case PLAYER_UPDATED:
+            case HANDICAP_UPDATED:
+                if (event.getHandicap() != null) {
+                    historyDAO.appendPoint(event.getPlayerId(), Instant.ofEpochMilli(event.getTimestamp()),
+                            event.getHandicap());
+                }
+                break;
+            case PLAYER_DELETED:
+                historyDAO.deleteHistory(event.getPlayerId());
+                break;
+            case PLAYERS_DELETED:
+                historyDAO.deleteHistories(event.getPlayerIds());
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Returns the player's handicap points within the range, reduced to at most {@code maxPoints}.
+     * The handicap is a step function, so each time bucket is represented by its last point.
+     */
+    public List<HandicapPoint> getTrend(Long playerId, Instant from, Instant to, int maxPoints) {
+        List<HandicapPoint> points = historyDAO.fetchPoints(playerId, from, to);
+        if (maxPoints < 2 || points.size() <= maxPoints) {
+            return points;
+        }
+        long start = points.get(0).getTimestamp().getEpochSecond();
+        long end = points.get(points.size() - 1).getTimestamp().getEpochSecond();
+        // the first point keeps its own slot; the rest of the range is split into equal buckets
+        int buckets = maxPoints - 1;
+        double bucketSeconds = Math.max(1.0, (end - start) / (double) buckets);
+
+        List<HandicapPoint> sampled = new ArrayList<>(maxPoints);
+        sampled.add(points.get(0));
+        long currentBucket = -1;
+        for (int i = 1; i < points.size(); i++) {
+            HandicapPoint point = points.get(i);
+            long bucket = Math.min(buckets - 1, (long) ((point.getTimestamp().getEpochSecond() - start) / bucketSeconds));
+            if (bucket == currentBucket) {
+                sampled.set(sampled.size() - 1, point);
+            } else {
+                sampled.add(point);
+                currentBucket = bucket;
+            }
+        }
+        return sampled;
+    }
+}
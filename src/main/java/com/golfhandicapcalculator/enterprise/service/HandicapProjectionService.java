@@ -0,0 +1,197 @@
+package com.golfhandicapcalculator.enterprise.service;
+
+import com.golfhandicapcalculator.enterprise.GolfHandicapCalculator;
+import com.golfhandicapcalculator.enterprise.GolfHandicapCalculator.HandicapResult;
+import com.golfhandicapcalculator.enterprise.dto.HandicapProjection;
+import com.golfhandicapcalculator.enterprise.dto.Score;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Projects a player's handicap over their next rounds by Monte Carlo simulation. Each simulated path appends
+ * rounds drawn from the player's own recorded differentials to their history and runs it through
+ * {@link GolfHandicapCalculator}, so the projection follows whatever rules the calculator applies. The history
+ * is summed once per request; a path only adds its drawn rounds to that total.
+ *
+ * Paths are simulated in fixed-size chunks on the fork-join pool. Every chunk has its own
+ * {@link SplittableRandom}, split from one root generator before the chunks start, and writes to its own range
+ * of the result array, so threads share nothing while simulating and a given seed always gives the same
+ * result. Chunks stop once the latency budget is spent, seeded or not, and the projection reports how many paths
+ * it used; only a complete seeded projection is repeatable.
+ */
+@Service
+public class HandicapProjectionService {
+
+    static final int CHUNK_SIZE = 4096;
+    static final int[] PERCENTILES = {5, 25, 50, 75, 95};
+
+    private final IPlayerServices playerServices;
+    private final GolfHandicapCalculator calculator;
+    private final ForkJoinPool pool;
+    private final int defaultSimulations;
+    private final int maxSimulations;
+    private final int maxRounds;
+    private final long latencyBudgetNanos;
+
+    @Autowired
+    public HandicapProjectionService(IPlayerServices playerServices, GolfHandicapCalculator calculator,
+                                     @Value("${golf.projection.simulations:100000}") int defaultSimulations,
+                                     @Value("${golf.projection.max-simulations:1000000}") int maxSimulations,
+                                     @Value("${golf.projection.max-rounds:100}") int maxRounds,
+                                     @Value("${golf.projection.latency-budget-millis:250}") long latencyBudgetMillis) {
+        this(playerServices, calculator, ForkJoinPool.commonPool(), defaultSimulations, maxSimulations, maxRounds,
+                latencyBudgetMillis);
+    }
+
+    HandicapProjectionService(IPlayerServices playerServices, GolfHandicapCalculator calculator, ForkJoinPool pool,
+                              int defaultSimulations, int maxSimulations, int maxRounds, long latencyBudgetMillis) {
+        this.playerServices = playerServices;
+        this.calculator = calculator;
+        this.pool = pool;
+        this.defaultSimulations = defaultSimulations;
+        this.maxSimulations = maxSimulations;
+        this.maxRounds = maxRounds;
+        this.latencyBudgetNanos = TimeUnit.MILLISECONDS.toNanos(latencyBudgetMillis);
+    }
+
+    /**
+     * Simulates the player's next {@code rounds} rounds.
+     *
+     * @param simulations the number of paths to simulate, or null for the configured default
+     * @param target a handicap to report the chance of reaching and the scores needed for, or null
+     * @param seed makes the simulation repeatable if it completes within the latency budget, or null for a random one
+     * @return the projection, or null if the player does not exist
+     * @throws IllegalArgumentException if the parameters are out of range or the player has no rounds
+     */
+    public HandicapProjection project(Long playerId, int rounds, Integer simulations, Double target, Long seed) {
+        if (rounds < 1 || rounds > maxRounds) {
+            throw new IllegalArgumentException("rounds must be between 1 and " + maxRounds);
+        }
+        int requested = simulations != null ? simulations : defaultSimulations;
+        if (requested < 1 || requested > maxSimulations) {
+            throw new IllegalArgumentException("simulations must be between 1 and " + maxSimulations);
+        }
+        List<Score> scores = playerServices.getPlayerScores(playerId);
+        if (scores.isEmpty()) {
+            if (playerServices.getPlayerById(playerId) == null) {
+                return null;
+            }
+            throw new IllegalArgumentException("Player " + playerId + " has no recorded rounds to project from");
+        }
+
+        long start = System.nanoTime();
+        double[] history = new double[scores.size()];
+        double recordedTotal = 0;
+        for (int i = 0; i < history.length; i++) {
+            history[i] = HandicapService.SCORES.differential(scores, i);
+            recordedTotal += history[i];
+        }
+        SplittableRandom random = seed != null ? new SplittableRandom(seed) : new SplittableRandom();
+        double[] results = simulate(history, recordedTotal, rounds, requested, random, start + latencyBudgetNanos);
+
+        HandicapProjection projection = new HandicapProjection();
+        projection.setPlayerId(playerId);
+        projection.setHistoricalRounds(history.length);
+        projection.setCurrentHandicap(calculator.calculateHandicapFromDifferentials(history, history.length,
+                new HandicapResult()).getHandicap());
+        projection.setRounds(rounds);
+        projection.setSimulations(results.length);
+        projection.setComplete(results.length == requested);
+        projection.setPercentiles(percentiles(results));
+        projection.setMeanHandicap(round(Arrays.stream(results).sum() / results.length, 100));
+        if (target != null) {
+            long reached = Arrays.stream(results).filter(handicap -> handicap <= target).count();
+            // the new rounds have to bring the average of all rounds down (or up) to the target
+            double required = (target * (history.length + rounds) - recordedTotal) / rounds;
+            Score latest = scores.stream()
+                    .max(Comparator.comparing(Score::getRecordedAt, Comparator.nullsFirst(Comparator.naturalOrder())))
+                    .get();
+            projection.setTargetHandicap(target);
+            projection.setTargetProbability(round((double) reached / results.length, 1000));
+            projection.setRequiredAverageDifferential(round(required, 100));
+            projection.setRequiredAverageScore(round(latest.getPar() + required * effectiveSlope(latest) / 113, 10));
+            projection.setCoursePar(latest.getPar());
+            projection.setCourseSlope(latest.getSlope());
+        }
+        projection.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return projection;
+    }
+
+    /**
+     * Runs the paths in chunks on the pool and returns the projected handicaps in ascending order. The first
+     * chunk always completes so there is a result even when the deadline has already passed.
+     */
+    double[] simulate(double[] history, double historyTotal, int rounds, int simulations, SplittableRandom root,
+                      long deadlineNanos) {
+        int chunkCount = (simulations + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        double[] results = new double[simulations];
+        List<ForkJoinTask<Integer>> chunks = new ArrayList<>(chunkCount);
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            int from = chunk * CHUNK_SIZE;
+            int to = Math.min(simulations, from + CHUNK_SIZE);
+            SplittableRandom random = root.split();
+            long deadline = chunk == 0 ? Long.MAX_VALUE : deadlineNanos;
+            chunks.add(pool.submit(() -> simulateChunk(history, historyTotal, rounds, random, results, from, to,
+                    deadline)));
+        }
+
+        int completed = 0;
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            int done = chunks.get(chunk).join();
+            System.arraycopy(results, chunk * CHUNK_SIZE, results, completed, done);
+            completed += done;
+        }
+        double[] projected = Arrays.copyOf(results, completed);
+        Arrays.sort(projected);
+        return projected;
+    }
+
+    private int simulateChunk(double[] history, double historyTotal, int rounds, SplittableRandom random,
+                              double[] results, int from, int to, long deadlineNanos) {
+        int pathLength = history.length + rounds;
+        HandicapResult handicap = new HandicapResult();
+        for (int simulation = from; simulation < to; simulation++) {
+            if ((simulation - from) % 256 == 0 && deadlineNanos != Long.MAX_VALUE
+                    && System.nanoTime() - deadlineNanos > 0) {
+                return simulation - from;
+            }
+            // same order of additions as summing the whole path, so the result does not change
+            double total = historyTotal;
+            for (int round = 0; round < rounds; round++) {
+                total += history[random.nextInt(history.length)];
+            }
+            results[simulation] = calculator.calculateHandicapFromTotal(total, pathLength, handicap).getHandicap();
+        }
+        return to - from;
+    }
+
+    // nearest-rank percentiles of the sorted results
+    static Map<String, Double> percentiles(double[] sorted) {
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        for (int percentile : PERCENTILES) {
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            percentiles.put("p" + percentile, sorted[Math.max(0, rank - 1)]);
+        }
+        return percentiles;
+    }
+
+    private static double effectiveSlope(Score score) {
+        // same baseline as GolfHandicapCalculator.scoreDifferential for unrated courses
+        return score.getSlope() >= 55 && score.getSlope() <= 155 ? score.getSlope() : 113;
+    }
+
+    private static double round(double value, int scale) {
+        return Math.round(value * scale) / (double) scale;
+    }
+}
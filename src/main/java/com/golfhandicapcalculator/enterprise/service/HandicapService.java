@@ -1,6 +1,8 @@
 package com.golfhandicapcalculator.enterprise.service;
 
 import com.golfhandicapcalculator.enterprise.GolfHandicapCalculator;
+import com.golfhandicapcalculator.enterprise.GolfHandicapCalculator.HandicapResult;
+import com.golfhandicapcalculator.enterprise.GolfHandicapCalculator.RoundReader;
 import com.golfhandicapcalculator.enterprise.dto.Score;
 import org.springframework.stereotype.Service;
 import java.util.List;
@@ -8,6 +10,9 @@ import java.util.List;
 @Service
 public class HandicapService {
 
+    // one result per thread, reused by every calculation on it
+    private static final ThreadLocal<HandicapResult> RESULT = ThreadLocal.withInitial(HandicapResult::new);
+
     private final GolfHandicapCalculator calculator;
 
     public HandicapService(GolfHandicapCalculator calculator) {
@@ -17,16 +22,45 @@ public class HandicapService {
         this.calculator = calculator;
     }
 
+    /**
+     * Reads a player's scores in place, preferring the differential stored with each score.
+     */
+    static final RoundReader<List<Score>> SCORES = new RoundReader<List<Score>>() {
+        @Override
+        public int count(List<Score> scores) {
+            return scores.size();
+        }
+
+        @Override
+        public int score(List<Score> scores, int round) {
+            // the adjusted gross score counts for rounds entered hole by hole, as in Score.updateDifferential
+            Score score = scores.get(round);
+            return score.getAdjustedScore() != null ? score.getAdjustedScore() : score.getScore();
+        }
+
+        @Override
+        public int par(List<Score> scores, int round) {
+            return scores.get(round).getPar();
+        }
+
+        @Override
+        public int slope(List<Score> scores, int round) {
+            return scores.get(round).getSlope();
+        }
+
+        @Override
+        public double differential(List<Score> scores, int round) {
+            // scores written before differentials were stored are computed from score, par and slope
+            Double stored = scores.get(round).getDifferential();
+            return stored != null ? stored : RoundReader.super.differential(scores, round);
+        }
+    };
+
     public double calculatePlayerHandicap(List<Score> scores) {
         if (scores == null || scores.isEmpty()) {
             return 0.0;
         }
 
-        double[] scoreValues = scores.stream().mapToDouble(Score::getScore).toArray();
-        double[] parValues = scores.stream().mapToDouble(Score::getPar).toArray();
-        double[] slopeValues = scores.stream().mapToDouble(Score::getSlope).toArray();
-
-        Double handicap = calculator.calculateHandicap(scoreValues, parValues, slopeValues);
-        return handicap != null ? handicap : 0.0;
+        return calculator.calculateHandicap(scores, SCORES, RESULT.get()).orElse(0.0);
     }
 }
@@ -1,23 +1,40 @@
 package com.golfhandicapcalculator.enterprise.service;
 
 import com.golfhandicapcalculator.enterprise.dto.Player;
+import com.golfhandicapcalculator.enterprise.dto.PlayerBatch;
 import com.golfhandicapcalculator.enterprise.dto.Score;
+import org.springframework.data.domain.Page;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface IPlayerServices {
 
     List<Player> getAllPlayers();
 
+    Page<Player> getPlayersPage(int page, int size);
+
+    Map<Long, Long> getScoreCounts(Collection<Long> playerIds);
+
     Player getPlayerById(Long playerId);
 
+    PlayerBatch getPlayersByIds(List<Long> playerIds);
+
     Player createPlayer(Player player);
 
     Player updatePlayer(Long playerId, Player player);
 
     void deletePlayer(Long playerId);
 
+    int deletePlayers(List<Long> playerIds);
+
+    int purgeScoresRecordedBefore(Instant cutoff);
+
     List<Score> getPlayerScores(Long playerId);
 
+    List<Double> getBestDifferentials(Long playerId, int window, int best);
+
     Score addScoreToPlayer(Long playerId, Score score);
 
     Score updatePlayerScore(Long playerId, Long scoreId, Score score);
@@ -0,0 +1,12 @@
+package com.golfhandicapcalculator.enterprise.service;
+
+/**
+ * Raised when a retry keeps waiting on the original request with the same {@code Idempotency-Key} for longer
+ * than {@code golf.idempotency.wait-seconds}.
+ */
+public class IdempotencyConflictException extends RuntimeException {
+
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+}
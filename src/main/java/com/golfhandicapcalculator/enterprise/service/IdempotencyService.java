@@ -0,0 +1,189 @@
+package com.golfhandicapcalculator.enterprise.service;
+
+import com.golfhandicapcalculator.enterprise.dao.IIdempotencyKeyDAO;
+import com.golfhandicapcalculator.enterprise.dao.IScoreDAO;
+import com.golfhandicapcalculator.enterprise.dto.Score;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Makes score submissions safe to retry. The first request with a given {@code Idempotency-Key} performs the
+ * write; retries with the same key get the original {@link Score} back from memory without touching the
+ * database or recomputing the handicap, and a retry that arrives while the original is still running waits
+ * for its result.
+ *
+ * Keys live in a bounded, expiring in-memory map. With {@code golf.idempotency.persistent=true} they are also
+ * written to the {@code idempotency_keys} table in the same transaction as the score, so retries are still
+ * recognised after a restart or on another node (those are answered with one primary-key read of the score).
+ */
+@Service
+public class IdempotencyService {
+
+    static final int MAX_KEY_LENGTH = 100;
+
+    private final IScoreDAO scoreDAO;
+    private final IIdempotencyKeyDAO idempotencyKeyDAO;
+    private final TransactionTemplate transactionTemplate;
+    private final long ttlMillis;
+    private final long waitMillis;
+    private final LongSupplier clock;
+    private final LinkedHashMap<String, Entry> entries;
+
+    @Autowired
+    public IdempotencyService(IScoreDAO scoreDAO,
+                              ObjectProvider<IIdempotencyKeyDAO> idempotencyKeyDAO,
+                              ObjectProvider<PlatformTransactionManager> transactionManager,
+                              @Value("${golf.idempotency.ttl-hours:24}") long ttlHours,
+                              @Value("${golf.idempotency.max-entries:10000}") int maxEntries,
+                              @Value("${golf.idempotency.wait-seconds:30}") long waitSeconds) {
+        this(scoreDAO, idempotencyKeyDAO.getIfAvailable(),
+                idempotencyKeyDAO.getIfAvailable() != null ? new TransactionTemplate(transactionManager.getObject()) : null,
+                TimeUnit.HOURS.toMillis(ttlHours), maxEntries, TimeUnit.SECONDS.toMillis(waitSeconds),
+                System::currentTimeMillis);
+    }
+
+    IdempotencyService(IScoreDAO scoreDAO, IIdempotencyKeyDAO idempotencyKeyDAO,
+                       TransactionTemplate transactionTemplate, long ttlMillis, int maxEntries, long waitMillis,
+                       LongSupplier clock) {
+        this.scoreDAO = scoreDAO;
+        this.idempotencyKeyDAO = idempotencyKeyDAO;
+        this.transactionTemplate = transactionTemplate;
+        this.ttlMillis = ttlMillis;
+        this.waitMillis = waitMillis;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<String, Entry>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Runs the score write once per player and idempotency key.
+     *
+     * @param playerId the player the score is submitted for
+     * @param idempotencyKey the client-chosen key, at most 100 characters
+     * @param write the write to perform the first time the key is seen
+     * @return the score saved by the first request with this key
+     */
+    public Score submitScore(Long playerId, String idempotencyKey, Supplier<Score> write) {
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        String key = playerId + ":" + idempotencyKey;
+        long now = clock.getAsLong();
+        Entry entry = new Entry(now + ttlMillis);
+        Entry existing;
+        synchronized (entries) {
+            existing = entries.get(key);
+            if (existing == null || existing.expiresAt <= now) {
+                // re-inserted rather than replaced so the map stays in expiry order
+                entries.remove(key);
+                entries.put(key, entry);
+                existing = null;
+            }
+        }
+        if (existing != null) {
+            return await(existing.result);
+        }
+
+        try {
+            Score saved = transactionTemplate != null ? writeDurably(playerId, key, write) : write.get();
+            entry.result.complete(saved);
+            return saved;
+        } catch (RuntimeException e) {
+            // a failed write does not consume the key, the client may retry it
+            synchronized (entries) {
+                entries.remove(key, entry);
+            }
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Forgets expired keys. Entries are kept in insertion order with a fixed lifetime, so only the head of the
+     * map needs to be inspected.
+     */
+    @Scheduled(fixedDelayString = "${golf.idempotency.purge-millis:60000}")
+    public void purgeExpired() {
+        long now = clock.getAsLong();
+        synchronized (entries) {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext() && iterator.next().expiresAt <= now) {
+                iterator.remove();
+            }
+        }
+        if (transactionTemplate != null) {
+            Instant cutoff = Instant.ofEpochMilli(now - ttlMillis);
+            transactionTemplate.execute(status -> idempotencyKeyDAO.deleteKeysCreatedBefore(cutoff));
+        }
+    }
+
+    private Score writeDurably(Long playerId, String key, Supplier<Score> write) {
+        try {
+            return transactionTemplate.execute(status -> {
+                Long scoreId = idempotencyKeyDAO.fetchScoreId(playerId, key);
+                if (scoreId != null) {
+                    return scoreDAO.fetchScoreById(scoreId);
+                }
+                Score saved = write.get();
+                idempotencyKeyDAO.saveKey(playerId, key, saved.getScoreId());
+                return saved;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // another node committed the same key first; our score was rolled back with the key
+            Score original = transactionTemplate.execute(status -> {
+                Long scoreId = idempotencyKeyDAO.fetchScoreId(playerId, key);
+                return scoreId != null ? scoreDAO.fetchScoreById(scoreId) : null;
+            });
+            if (original == null) {
+                throw e;
+            }
+            return original;
+        }
+    }
+
+    private Score await(CompletableFuture<Score> result) {
+        try {
+            return result.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyConflictException("A request with this Idempotency-Key is still in progress");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the original request", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static final class Entry {
+
+        private final long expiresAt;
+        private final CompletableFuture<Score> result = new CompletableFuture<>();
+
+        private Entry(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+    }
+}
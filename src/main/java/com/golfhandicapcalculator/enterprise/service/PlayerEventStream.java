@@ -0,0 +1,71 @@
+package com.golfhandicapcalculator.enterprise.service;
+
+import com.golfhandicapcalculator.enterprise.service.event.PlayerChangeEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.DirectProcessor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Single in-process publisher of committed player changes for streaming clients.
+ *
+ * Every committed change is emitted once into a hot processor and fanned out to all subscribers, so any
+ * number of dashboards cost one event rather than one polling query each. Each subscriber gets its own
+ * bounded buffer; when a slow consumer falls behind, its oldest pending events are dropped instead of
+ * holding back everyone else.
+ */
+@Service
+public class PlayerEventStream {
+
+    private static final Logger log = LoggerFactory.getLogger(PlayerEventStream.class);
+
+    private static final Set<PlayerChangeEvent.Type> STREAMED_TYPES = EnumSet.of(
+            PlayerChangeEvent.Type.PLAYER_CREATED,
+            PlayerChangeEvent.Type.PLAYER_UPDATED,
+            PlayerChangeEvent.Type.PLAYER_DELETED,
+            PlayerChangeEvent.Type.HANDICAP_UPDATED);
+
+    private final DirectProcessor<PlayerChangeEvent> processor = DirectProcessor.create();
+    private final FluxSink<PlayerChangeEvent> sink = processor.sink();
+    private final int subscriberBufferSize;
+
+    public PlayerEventStream(@Value("${golf.events.subscriber-buffer-size:256}") int subscriberBufferSize) {
+        this.subscriberBufferSize = subscriberBufferSize;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChange(PlayerChangeEvent event) {
+        if (STREAMED_TYPES.contains(event.getType())) {
+            sink.next(event);
+        } else if (event.getType() == PlayerChangeEvent.Type.PLAYERS_DELETED) {
+            // subscribers filter by player, so a bulk delete is streamed as one delete per player
+            for (Long playerId : event.getPlayerIds()) {
+                sink.next(PlayerChangeEvent.player(PlayerChangeEvent.Type.PLAYER_DELETED, playerId, null));
+            }
+        }
+    }
+
+    /**
+     * Returns a stream of committed changes, optionally restricted to the given players.
+     *
+     * @param playerIds players to include, or null/empty for all players
+     * @return an infinite Flux of change events
+     */
+    public Flux<PlayerChangeEvent> stream(Set<Long> playerIds) {
+        Flux<PlayerChangeEvent> events = processor;
+        if (playerIds != null && !playerIds.isEmpty()) {
+            events = events.filter(event -> playerIds.contains(event.getPlayerId()));
+        }
+        return events.onBackpressureBuffer(subscriberBufferSize,
+                dropped -> log.debug("Slow subscriber, dropped event for player {}", dropped.getPlayerId()),
+                BufferOverflowStrategy.DROP_OLDEST);
+    }
+}
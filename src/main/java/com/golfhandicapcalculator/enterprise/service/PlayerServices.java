@@ -3,31 +3,58 @@ package com.golfhandicapcalculator.enterprise.service;
 
 import com.golfhandicapcalculator.enterprise.dao.IPlayerDAO;
 import com.golfhandicapcalculator.enterprise.dao.IScoreDAO;
+import com.golfhandicapcalculator.enterprise.dto.Course;
 import com.golfhandicapcalculator.enterprise.dto.Player;
+import com.golfhandicapcalculator.enterprise.dto.PlayerBatch;
 import com.golfhandicapcalculator.enterprise.dto.Score;
+import com.golfhandicapcalculator.enterprise.dto.Scorecard;
+import com.golfhandicapcalculator.enterprise.service.event.PlayerChangeEvent;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @CacheConfig(cacheNames = {"player", "handicap"})
 @Transactional(readOnly = true)
 public class PlayerServices implements IPlayerServices {
 
+    static final int MAX_BATCH_SIZE = 500;
+
     private final IPlayerDAO playerDAO;
     private final IScoreDAO scoreDAO;
     private final HandicapService handicapService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CourseCatalog courseCatalog;
+    private final CacheManager cacheManager;
 
     @Autowired
-    public PlayerServices(IPlayerDAO playerDAO, IScoreDAO scoreDAO, HandicapService handicapService) {
+    public PlayerServices(IPlayerDAO playerDAO, IScoreDAO scoreDAO, HandicapService handicapService,
+                          ApplicationEventPublisher eventPublisher, CourseCatalog courseCatalog,
+                          CacheManager cacheManager) {
         this.playerDAO = playerDAO;
         this.scoreDAO = scoreDAO;
         this.handicapService = handicapService;
+        this.eventPublisher = eventPublisher;
+        this.courseCatalog = courseCatalog;
+        this.cacheManager = cacheManager;
     }
 
     @Override
@@ -35,12 +62,64 @@ public class PlayerServices implements IPlayerServices {
         return playerDAO.fetchAllPlayers();
     }
 
+    @Override
+    public Page<Player> getPlayersPage(int page, int size) {
+        List<Player> players = playerDAO.fetchPlayersPage(page, size);
+        return new PageImpl<>(players, PageRequest.of(page, size), playerDAO.countPlayers());
+    }
+
+    @Override
+    public Map<Long, Long> getScoreCounts(Collection<Long> playerIds) {
+        return scoreDAO.countScoresByPlayerIds(playerIds);
+    }
+
     @Override
     @Cacheable(key = "#playerId")
     public Player getPlayerById(Long playerId) {
         return playerDAO.fetchPlayer(playerId);
     }
 
+    @Override
+    public PlayerBatch getPlayersByIds(List<Long> playerIds) {
+        Set<Long> requested = new LinkedHashSet<>(playerIds);
+        requested.remove(null);
+        if (requested.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " players can be fetched at once");
+        }
+        // serve what getPlayerById has already cached, then load the rest with one IN query
+        Cache cache = cacheManager.getCache("player");
+        Map<Long, Player> found = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long playerId : requested) {
+            Player cached = cache != null ? cache.get(playerId, Player.class) : null;
+            if (cached != null) {
+                found.put(playerId, cached);
+            } else {
+                missing.add(playerId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (Player player : playerDAO.fetchPlayers(missing)) {
+                found.put(player.getPlayerId(), player);
+                if (cache != null) {
+                    cache.put(player.getPlayerId(), player);
+                }
+            }
+        }
+
+        List<Player> players = new ArrayList<>(found.size());
+        List<Long> notFound = new ArrayList<>();
+        for (Long playerId : requested) {
+            Player player = found.get(playerId);
+            if (player != null) {
+                players.add(player);
+            } else {
+                notFound.add(playerId);
+            }
+        }
+        return new PlayerBatch(players, notFound);
+    }
+
     @Override
     @Transactional
     @CachePut(key = "#result.playerId")
@@ -50,6 +129,8 @@ public class PlayerServices implements IPlayerServices {
         List<Score> scores = scoreDAO.fetchScoresByPlayerId(saved.getPlayerId());
         double newHandicap = handicapService.calculatePlayerHandicap(scores);
         playerDAO.updateHandicap(saved.getPlayerId(), newHandicap);
+        eventPublisher.publishEvent(PlayerChangeEvent.player(
+                PlayerChangeEvent.Type.PLAYER_CREATED, saved.getPlayerId(), newHandicap));
         return saved;
     }
 
@@ -58,7 +139,12 @@ public class PlayerServices implements IPlayerServices {
     @CachePut(key = "#playerId")
     public Player updatePlayer(Long playerId, Player player) {
         player.setPlayerId(playerId);
-        return playerDAO.updatePlayer(player);
+        Player updated = playerDAO.updatePlayer(player);
+        if (updated != null) {
+            eventPublisher.publishEvent(PlayerChangeEvent.player(
+                    PlayerChangeEvent.Type.PLAYER_UPDATED, playerId, updated.getHandicap()));
+        }
+        return updated;
     }
 
     @Override
@@ -68,6 +154,37 @@ public class PlayerServices implements IPlayerServices {
         // delete scores first to keep data consistent
         scoreDAO.deleteScoresByPlayerId(playerId);
         playerDAO.deletePlayer(playerId);
+        eventPublisher.publishEvent(PlayerChangeEvent.player(PlayerChangeEvent.Type.PLAYER_DELETED, playerId, null));
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(allEntries = true)
+    public int deletePlayers(List<Long> playerIds) {
+        if (playerIds.isEmpty()) {
+            return 0;
+        }
+        if (playerIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " players can be deleted at once");
+        }
+        // one statement for all scores, one for all players
+        scoreDAO.deleteScoresByPlayerIds(playerIds);
+        int deleted = playerDAO.deletePlayers(playerIds);
+        // one event for the batch, so the read models and the change log clean up in one statement each
+        eventPublisher.publishEvent(PlayerChangeEvent.playersDeleted(playerIds));
+        return deleted;
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(allEntries = true)
+    public int purgeScoresRecordedBefore(Instant cutoff) {
+        // archival purge: handicaps keep their current values until the player's next score
+        int purged = scoreDAO.deleteScoresRecordedBefore(cutoff);
+        if (purged > 0) {
+            eventPublisher.publishEvent(PlayerChangeEvent.purge(cutoff));
+        }
+        return purged;
     }
 
     @Override
@@ -75,16 +192,24 @@ public class PlayerServices implements IPlayerServices {
         return scoreDAO.fetchScoresByPlayerId(playerId);
     }
 
+    @Override
+    public List<Double> getBestDifferentials(Long playerId, int window, int best) {
+        return scoreDAO.fetchBestDifferentials(playerId, window, best);
+    }
+
     @Override
     @Transactional
     @CacheEvict(key = "#playerId")
     public Score addScoreToPlayer(Long playerId, Score score) {
         score.setPlayerId(playerId);
+        applyCourse(score);
+        applyScorecard(score);
+        score.updateDifferential();
         Score saved = scoreDAO.saveScore(score);
+        eventPublisher.publishEvent(PlayerChangeEvent.score(
+                PlayerChangeEvent.Type.SCORE_ADDED, playerId, saved.getScoreId()));
         // Recalculate handicap and persist
-        List<Score> scores = scoreDAO.fetchScoresByPlayerId(playerId);
-        double newHandicap = handicapService.calculatePlayerHandicap(scores);
-        playerDAO.updateHandicap(playerId, newHandicap);
+        recalculateHandicap(playerId);
         return saved;
     }
 
@@ -94,12 +219,59 @@ public class PlayerServices implements IPlayerServices {
     public Score updatePlayerScore(Long playerId, Long scoreId, Score score) {
         score.setPlayerId(playerId);
         score.setScoreId(scoreId);
+        applyCourse(score);
+        applyScorecard(score);
+        score.updateDifferential();
         Score updated = scoreDAO.updateScore(score);
         if (updated != null) {
-            List<Score> scores = scoreDAO.fetchScoresByPlayerId(playerId);
-            double newHandicap = handicapService.calculatePlayerHandicap(scores);
-            playerDAO.updateHandicap(playerId, newHandicap);
+            eventPublisher.publishEvent(PlayerChangeEvent.score(
+                    PlayerChangeEvent.Type.SCORE_UPDATED, playerId, scoreId));
+            recalculateHandicap(playerId);
         }
         return updated;
     }
+
+    private void applyCourse(Score score) {
+        if (score.getCourseId() == null) {
+            return;
+        }
+        Course course = courseCatalog.getCourse(score.getCourseId());
+        if (course == null) {
+            throw new IllegalArgumentException("No course with id " + score.getCourseId());
+        }
+        score.setCourse(course);
+        score.setPar(course.getPar());
+        score.setSlope(course.getSlope());
+    }
+
+    // a hole-by-hole round supplies the gross score and par; the differential uses its adjusted gross score
+    private void applyScorecard(Score score) {
+        Scorecard holes = score.getHoles();
+        if (holes == null) {
+            score.setAdjustedScore(null);
+            return;
+        }
+        if (score.getPar() != 0 && score.getPar() != holes.par()) {
+            throw new IllegalArgumentException("Scorecard par " + holes.par() + " does not match par "
+                    + score.getPar());
+        }
+        if (score.getScore() != 0 && score.getScore() != holes.total()) {
+            throw new IllegalArgumentException("Scorecard total " + holes.total() + " does not match score "
+                    + score.getScore());
+        }
+        score.setScore(holes.total());
+        score.setPar(holes.par());
+        // strokes received come from the handicap index the player had before this round
+        Player player = playerDAO.fetchPlayer(score.getPlayerId());
+        double handicapIndex = player != null ? player.getHandicap() : 0.0;
+        score.setAdjustedScore(holes.adjustedGross(Scorecard.courseHandicap(handicapIndex, score.getSlope())));
+    }
+
+    private void recalculateHandicap(Long playerId) {
+        List<Score> scores = scoreDAO.fetchScoresByPlayerId(playerId);
+        double newHandicap = handicapService.calculatePlayerHandicap(scores);
+        playerDAO.updateHandicap(playerId, newHandicap);
+        eventPublisher.publishEvent(PlayerChangeEvent.player(
+                PlayerChangeEvent.Type.HANDICAP_UPDATED, playerId, newHandicap));
+    }
 }
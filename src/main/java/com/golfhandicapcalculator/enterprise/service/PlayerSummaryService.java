@@ -0,0 +1,262 @@
+package com.golfhandicapcalculator.enterprise.service;
+
+import com.golfhandicapcalculator.enterprise.dao.IPlayerDAO;
+import com.golfhandicapcalculator.enterprise.dao.IPlayerSummaryDAO;
+import com.golfhandicapcalculator.enterprise.dao.IScoreDAO;
+import com.golfhandicapcalculator.enterprise.dto.Player;
+import com.golfhandicapcalculator.enterprise.dto.PlayerSummary;
+import com.golfhandicapcalculator.enterprise.dto.PlayerSummaryCheck;
+import com.golfhandicapcalculator.enterprise.service.event.PlayerChangeEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains and serves the player_summary read model.
+ *
+ * Summaries are refreshed inside the transaction that changed the player, so the read model commits together
+ * with the write; reads then come from a single row per player and never touch {@code scores}. A full rebuild
+ * and a consistency check walk all players in batches, each batch in its own transaction.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PlayerSummaryService {
+
+    private static final Logger log = LoggerFactory.getLogger(PlayerSummaryService.class);
+
+    static final int BATCH_SIZE = 500;
+    static final int MAX_REPORTED_IDS = 100;
+
+    private final IPlayerSummaryDAO summaryDAO;
+    private final IPlayerDAO playerDAO;
+    private final IScoreDAO scoreDAO;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean rebuildWhenEmpty;
+
+    @Autowired
+    public PlayerSummaryService(IPlayerSummaryDAO summaryDAO, IPlayerDAO playerDAO, IScoreDAO scoreDAO,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${golf.player-summary.rebuild-when-empty:true}") boolean rebuildWhenEmpty) {
+        this(summaryDAO, playerDAO, scoreDAO, new TransactionTemplate(transactionManager), rebuildWhenEmpty);
+    }
+
+    PlayerSummaryService(IPlayerSummaryDAO summaryDAO, IPlayerDAO playerDAO, IScoreDAO scoreDAO,
+                         TransactionTemplate transactionTemplate, boolean rebuildWhenEmpty) {
+        this.summaryDAO = summaryDAO;
+        this.playerDAO = playerDAO;
+        this.scoreDAO = scoreDAO;
+        this.transactionTemplate = transactionTemplate;
+        this.rebuildWhenEmpty = rebuildWhenEmpty;
+    }
+
+    @EventListener
+    @Transactional
+    public void onPlayerChange(PlayerChangeEvent event) {
+        switch (event.getType()) {
+            case PLAYER_CREATED:
+            case PLAYER_UPDATED:
+            case HANDICAP_UPDATED:
+                // score changes are always followed by HANDICAP_UPDATED, which refreshes the round columns too
+                refresh(event.getPlayerId(), event.getHandicap());
+                break;
+            case PLAYER_DELETED:
+                summaryDAO.deleteSummaries(Collections.singletonList(event.getPlayerId()));
+                break;
+            case PLAYERS_DELETED:
+                summaryDAO.deleteSummaries(event.getPlayerIds());
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Purges can touch every player, so the read model is rebuilt once the purge has committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true, condition = "#event.type.name() == 'SCORES_PURGED'")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onScoresPurged(PlayerChangeEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Fills the read model on startup when it is empty but players exist, e.g. right after it was introduced.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuildIfEmpty() {
+        if (rebuildWhenEmpty && summaryDAO.countSummaries() == 0 && playerDAO.countPlayers() > 0) {
+            log.info("Player summaries rebuilt for {} players", rebuild());
+        }
+    }
+
+    public PlayerSummary getSummary(Long playerId) {
+        return summaryDAO.fetchSummary(playerId);
+    }
+
+    public Page<PlayerSummary> getSummariesPage(int page, int size) {
+        List<PlayerSummary> summaries = summaryDAO.fetchSummariesPage(page, size);
+        return new PageImpl<>(summaries, PageRequest.of(page, size), summaryDAO.countSummaries());
+    }
+
+    /**
+     * Recomputes every summary from the players and scores, overwriting what is stored, and removes summaries
+     * of players that no longer exist. Existing rows keep being served while the rebuild runs.
+     *
+     * @return the number of players summarized
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long rebuild() {
+        return reconcile(true, true).getPlayersChecked();
+    }
+
+    /**
+     * Compares every stored summary with the summary computed from the players and scores.
+     *
+     * @param repair whether to overwrite missing and stale summaries and delete orphaned ones
+     * @return the differences found
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PlayerSummaryCheck checkConsistency(boolean repair) {
+        return reconcile(false, repair);
+    }
+
+    private void refresh(Long playerId, Double handicap) {
+        Player player = playerDAO.fetchPlayer(playerId);
+        if (player == null) {
+            return;
+        }
+        Map<Long, PlayerSummary> rounds = scoreDAO.summarizeScoresByPlayerIds(Collections.singletonList(playerId));
+        PlayerSummary summary = summarize(player, rounds.get(playerId));
+        // the event carries the handicap just written, which a bulk update may not have reflected in the entity
+        if (handicap != null) {
+            summary.setHandicap(handicap);
+        }
+        summaryDAO.saveSummaries(Collections.singletonList(summary));
+    }
+
+    private PlayerSummaryCheck reconcile(boolean overwriteAll, boolean repair) {
+        AtomicLong checked = new AtomicLong();
+        AtomicLong missing = new AtomicLong();
+        AtomicLong stale = new AtomicLong();
+        List<Long> missingIds = new ArrayList<>();
+        List<Long> staleIds = new ArrayList<>();
+        // both scans continue after the last id read, so every batch is a seek rather than an ever longer offset
+        AtomicLong lastPlayerId = new AtomicLong();
+        while (true) {
+            int read = transactionTemplate.execute(status -> {
+                List<Player> players = playerDAO.fetchPlayersAfter(lastPlayerId.get(), BATCH_SIZE);
+                if (players.isEmpty()) {
+                    return 0;
+                }
+                lastPlayerId.set(players.get(players.size() - 1).getPlayerId());
+                List<Long> playerIds = players.stream().map(Player::getPlayerId).collect(Collectors.toList());
+                Map<Long, PlayerSummary> rounds = scoreDAO.summarizeScoresByPlayerIds(playerIds);
+                Map<Long, PlayerSummary> stored = summaryDAO.fetchSummaries(playerIds).stream()
+                        .collect(Collectors.toMap(PlayerSummary::getPlayerId, summary -> summary));
+                List<PlayerSummary> writes = new ArrayList<>();
+                for (Player player : players) {
+                    PlayerSummary expected = summarize(player, rounds.get(player.getPlayerId()));
+                    PlayerSummary current = stored.get(player.getPlayerId());
+                    boolean differs = current == null || !sameContent(expected, current);
+                    if (current == null) {
+                        missing.incrementAndGet();
+                        addCapped(missingIds, player.getPlayerId());
+                    } else if (differs) {
+                        stale.incrementAndGet();
+                        addCapped(staleIds, player.getPlayerId());
+                    }
+                    if (overwriteAll || (repair && differs)) {
+                        writes.add(expected);
+                    }
+                }
+                summaryDAO.saveSummaries(writes);
+                return players.size();
+            });
+            checked.addAndGet(read);
+            if (read < BATCH_SIZE) {
+                break;
+            }
+        }
+
+        // summaries whose player is gone; deleted only after the scan so paging is not disturbed
+        List<Long> orphans = new ArrayList<>();
+        AtomicLong lastSummaryId = new AtomicLong();
+        while (true) {
+            int read = transactionTemplate.execute(status -> {
+                List<Long> summaryIds = summaryDAO.fetchSummariesAfter(lastSummaryId.get(), BATCH_SIZE).stream()
+                        .map(PlayerSummary::getPlayerId).collect(Collectors.toList());
+                if (summaryIds.isEmpty()) {
+                    return 0;
+                }
+                lastSummaryId.set(summaryIds.get(summaryIds.size() - 1));
+                Set<Long> existing = new HashSet<>();
+                playerDAO.fetchPlayers(summaryIds).forEach(player -> existing.add(player.getPlayerId()));
+                summaryIds.stream().filter(playerId -> !existing.contains(playerId)).forEach(orphans::add);
+                return summaryIds.size();
+            });
+            if (read < BATCH_SIZE) {
+                break;
+            }
+        }
+        if (repair) {
+            for (int from = 0; from < orphans.size(); from += BATCH_SIZE) {
+                List<Long> chunk = orphans.subList(from, Math.min(from + BATCH_SIZE, orphans.size()));
+                transactionTemplate.execute(status -> summaryDAO.deleteSummaries(chunk));
+            }
+        }
+
+        PlayerSummaryCheck result = new PlayerSummaryCheck(checked.get(), missing.get(), stale.get(), orphans.size(),
+                missingIds, staleIds, new ArrayList<>(orphans.subList(0, Math.min(MAX_REPORTED_IDS, orphans.size()))),
+                repair);
+        if (!overwriteAll && !result.isConsistent()) {
+            log.warn("Player summaries: {} missing, {} stale, {} orphaned{}", result.getMissingCount(),
+                    result.getStaleCount(), result.getOrphanedCount(), repair ? " (repaired)" : "");
+        }
+        return result;
+    }
+
+    private static PlayerSummary summarize(Player player, PlayerSummary rounds) {
+        PlayerSummary summary = rounds != null ? rounds : new PlayerSummary();
+        summary.setPlayerId(player.getPlayerId());
+        summary.setName(player.getName());
+        summary.setHandicap(player.getHandicap());
+        return summary;
+    }
+
+    private static boolean sameContent(PlayerSummary a, PlayerSummary b) {
+        return Objects.equals(a.getName(), b.getName())
+                && Double.compare(a.getHandicap(), b.getHandicap()) == 0
+                && a.getRoundCount() == b.getRoundCount()
+                && Objects.equals(a.getLastRoundAt(), b.getLastRoundAt())
+                && Objects.equals(a.getBestDifferential(), b.getBestDifferential())
+                && Objects.equals(a.getWorstDifferential(), b.getWorstDifferential());
+    }
+
+    private static void addCapped(List<Long> ids, Long playerId) {
+        if (ids.size() < MAX_REPORTED_IDS) {
+            ids.add(playerId);
+        }
+    }
+}
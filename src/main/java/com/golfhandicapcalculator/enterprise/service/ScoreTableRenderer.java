@@ -0,0 +1,53 @@
+package com.golfhandicapcalculator.enterprise.service;
+
+import com.golfhandicapcalculator.enterprise.dto.Score;
+import com.golfhandicapcalculator.enterprise.service.event.PlayerChangeEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Renders the score table fragment the home page loads when a player's scores are expanded.
+ * Rendered HTML is cached per player and evicted once a change to that player's scores commits.
+ */
+@Service
+public class ScoreTableRenderer {
+
+    static final String CACHE_NAME = "scoreTableFragment";
+
+    private final IPlayerServices playerServices;
+    private final ITemplateEngine templateEngine;
+
+    @Autowired
+    public ScoreTableRenderer(IPlayerServices playerServices, ITemplateEngine templateEngine) {
+        this.playerServices = playerServices;
+        this.templateEngine = templateEngine;
+    }
+
+    @Cacheable(cacheNames = CACHE_NAME, key = "#playerId")
+    public String render(Long playerId) {
+        List<Score> scores = playerServices.getPlayerScores(playerId);
+        Context context = new Context();
+        context.setVariable("scores", scores);
+        return templateEngine.process("fragments/score-table", Collections.singleton("scoreTable"), context);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true, condition = "#event.playerId != null")
+    @CacheEvict(cacheNames = CACHE_NAME, key = "#event.playerId")
+    public void onPlayerChange(PlayerChangeEvent event) {
+        // any committed change to the player evicts its fragment
+    }
+
+    @TransactionalEventListener(fallbackExecution = true, condition = "#event.playerId == null")
+    @CacheEvict(cacheNames = CACHE_NAME, allEntries = true)
+    public void onBulkChange(PlayerChangeEvent event) {
+        // purges affect every player, and a bulk delete names several
+    }
+}
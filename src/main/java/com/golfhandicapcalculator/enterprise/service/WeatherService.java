@@ -3,6 +3,7 @@ package com.golfhandicapcalculator.enterprise.service;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import com.fasterxml.jackson.databind.JsonNode;
+import reactor.core.publisher.Mono;
 
 @Service
 public class WeatherService {
@@ -18,32 +19,33 @@ public class WeatherService {
     }
 
     public String getWeather(String latitude, String longitude) {
-        try {
-            JsonNode response = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .queryParam("latitude", latitude)
-                            .queryParam("longitude", longitude)
-                            .queryParam("current_weather", "true")
-                            .queryParam("temperature_unit", "fahrenheit")
-                            .queryParam("windspeed_unit", "mph")
-                            .build())
-                    .retrieve()
-                    .bodyToMono(JsonNode.class)
-                    .block();
-
-            if (response != null && response.has("current_weather")) {
-                JsonNode current = response.get("current_weather");
-                double temp = current.get("temperature").asDouble();
-                double windSpeed = current.get("windspeed").asDouble();
-                int weatherCode = current.get("weathercode").asInt();
-                String description = getWeatherDescription(weatherCode);
-
-                return String.format("%.0f°F, %s, Wind: %.0f mph", temp, description, windSpeed);
-            }
-        } catch (Exception e) {
-            return "Weather unavailable";
-        }
-        return "Weather unavailable";
+        return getWeatherAsync(latitude, longitude).block();
+    }
+
+    // Non-blocking variant for the functional API running on the Netty event loop
+    public Mono<String> getWeatherAsync(String latitude, String longitude) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .queryParam("latitude", latitude)
+                        .queryParam("longitude", longitude)
+                        .queryParam("current_weather", "true")
+                        .queryParam("temperature_unit", "fahrenheit")
+                        .queryParam("windspeed_unit", "mph")
+                        .build())
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .filter(response -> response.has("current_weather"))
+                .map(response -> {
+                    JsonNode current = response.get("current_weather");
+                    double temp = current.get("temperature").asDouble();
+                    double windSpeed = current.get("windspeed").asDouble();
+                    int weatherCode = current.get("weathercode").asInt();
+                    String description = getWeatherDescription(weatherCode);
+
+                    return String.format("%.0f°F, %s, Wind: %.0f mph", temp, description, windSpeed);
+                })
+                .onErrorReturn("Weather unavailable")
+                .defaultIfEmpty("Weather unavailable");
     }
 
     private String getWeatherDescription(int code) {
@@ -0,0 +1,226 @@
+package com.golfhandicapcalculator.enterprise.service.cache;
+
+import com.golfhandicapcalculator.enterprise.service.event.PlayerChangeEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps the per-player caches of every application node consistent.
+ *
+ * {@code @CacheEvict}/{@code @CachePut} in PlayerServices only touch the local cache, so this bus turns each
+ * committed player change into an invalidation for the other nodes. Invalidations are collected for one flush
+ * interval, deduplicated by player and sent as a single batch through the {@link CacheInvalidationTransport};
+ * receiving nodes evict those players from the caches keyed by player ({@code caches}) and clear the caches
+ * that aggregate over all players ({@code cleared-caches}). A batch naming more players than
+ * {@code max-batch-size} is collapsed into clearing every one of them, as are bulk changes such as score purges.
+ *
+ * Invalidation lag is the time from the first change in a batch being committed to the batch being applied on
+ * a receiving node, measured with the nodes' wall clocks.
+ *
+ * Enabled with {@code golf.cache-invalidation.enabled=true}.
+ */
+@Service
+@Lazy(false)
+@ConditionalOnProperty(name = "golf.cache-invalidation.enabled", havingValue = "true")
+public class CacheInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    static final String CLEAR_ALL = "*";
+
+    private final CacheManager cacheManager;
+    private final CacheInvalidationTransport transport;
+    private final List<String> cacheNames;
+    private final List<String> clearedCacheNames;
+    private final int maxBatchSize;
+    private final LongSupplier clock;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Object lock = new Object();
+    private Set<Long> pendingPlayerIds = new LinkedHashSet<>();
+    private boolean pendingClear;
+    private long pendingSince;
+
+    private final LongAdder batchesSent = new LongAdder();
+    private final LongAdder batchesReceived = new LongAdder();
+    private final LongAdder totalLagMillis = new LongAdder();
+    private final AtomicLong lastLagMillis = new AtomicLong();
+    private final LongAccumulator maxLagMillis = new LongAccumulator(Math::max, 0);
+
+    @Autowired
+    public CacheInvalidationBus(CacheManager cacheManager, CacheInvalidationTransport transport,
+                                @Value("${golf.cache-invalidation.caches:player,handicap,scoreTableFragment}")
+                                        List<String> cacheNames,
+                                @Value("${golf.cache-invalidation.cleared-caches:clubStatistics}")
+                                        List<String> clearedCacheNames,
+                                @Value("${golf.cache-invalidation.max-batch-size:500}") int maxBatchSize) {
+        this(cacheManager, transport, cacheNames, clearedCacheNames, maxBatchSize, System::currentTimeMillis);
+    }
+
+    CacheInvalidationBus(CacheManager cacheManager, CacheInvalidationTransport transport, List<String> cacheNames,
+                         List<String> clearedCacheNames, int maxBatchSize, LongSupplier clock) {
+        this.cacheManager = cacheManager;
+        this.transport = transport;
+        this.cacheNames = cacheNames;
+        this.clearedCacheNames = clearedCacheNames;
+        this.maxBatchSize = maxBatchSize;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void start() {
+        transport.subscribe(this::receive);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChange(PlayerChangeEvent event) {
+        long now = clock.getAsLong();
+        synchronized (lock) {
+            if (!pendingClear && pendingPlayerIds.isEmpty()) {
+                pendingSince = now;
+            }
+            List<Long> playerIds = event.getPlayerIds() != null ? event.getPlayerIds()
+                    : Collections.singletonList(event.getPlayerId());
+            for (Long playerId : playerIds) {
+                if (playerId == null
+                        || (pendingPlayerIds.size() >= maxBatchSize && !pendingPlayerIds.contains(playerId))) {
+                    pendingClear = true;
+                    pendingPlayerIds.clear();
+                } else if (!pendingClear) {
+                    pendingPlayerIds.add(playerId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends the invalidations collected since the last flush as one batch. A batch the transport rejects is
+     * merged back into the pending set and retried with the next flush.
+     */
+    @Scheduled(fixedDelayString = "${golf.cache-invalidation.flush-millis:50}")
+    public void flush() {
+        Set<Long> playerIds;
+        boolean clear;
+        long since;
+        synchronized (lock) {
+            if (!pendingClear && pendingPlayerIds.isEmpty()) {
+                return;
+            }
+            playerIds = pendingPlayerIds;
+            clear = pendingClear;
+            since = pendingSince;
+            pendingPlayerIds = new LinkedHashSet<>();
+            pendingClear = false;
+        }
+        try {
+            transport.send(encode(nodeId, since, clear, playerIds));
+            batchesSent.increment();
+        } catch (RuntimeException e) {
+            log.warn("Could not broadcast cache invalidations, retrying with the next flush", e);
+            synchronized (lock) {
+                boolean empty = !pendingClear && pendingPlayerIds.isEmpty();
+                pendingSince = empty ? since : Math.min(since, pendingSince);
+                pendingClear |= clear;
+                if (pendingClear) {
+                    pendingPlayerIds.clear();
+                } else {
+                    pendingPlayerIds.addAll(playerIds);
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies a batch received from the transport. Batches sent by this node are ignored, its own caches were
+     * already updated by PlayerServices.
+     *
+     * @param payload the encoded batch
+     */
+    void receive(String payload) {
+        String[] parts = payload.split(";", 3);
+        if (parts.length != 3) {
+            log.warn("Ignoring malformed cache invalidation batch: {}", payload);
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+        boolean clear = CLEAR_ALL.equals(parts[2]);
+        for (String cacheName : cacheNames) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache == null) {
+                continue;
+            }
+            if (clear) {
+                cache.clear();
+            } else if (!parts[2].isEmpty()) {
+                for (String playerId : parts[2].split(",")) {
+                    cache.evict(Long.valueOf(playerId));
+                }
+            }
+        }
+        // aggregates cannot be evicted by player, any change clears them
+        for (String cacheName : clearedCacheNames) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        long lag = Math.max(0, clock.getAsLong() - Long.parseLong(parts[1]));
+        batchesReceived.increment();
+        totalLagMillis.add(lag);
+        lastLagMillis.set(lag);
+        maxLagMillis.accumulate(lag);
+    }
+
+    /**
+     * Returns the counters for the admin endpoint: batches sent and received, and the last, average and
+     * maximum invalidation lag in milliseconds over the received batches.
+     */
+    public Map<String, Long> getStatistics() {
+        long received = batchesReceived.sum();
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put("batchesSent", batchesSent.sum());
+        statistics.put("batchesReceived", received);
+        statistics.put("lastLagMillis", lastLagMillis.get());
+        statistics.put("averageLagMillis", received > 0 ? totalLagMillis.sum() / received : 0L);
+        statistics.put("maxLagMillis", maxLagMillis.get());
+        return statistics;
+    }
+
+    // nodeId;firstChangeMillis;* or nodeId;firstChangeMillis;id,id,...
+    static String encode(String nodeId, long since, boolean clear, Set<Long> playerIds) {
+        StringJoiner ids = new StringJoiner(",");
+        if (clear) {
+            ids.add(CLEAR_ALL);
+        } else {
+            for (Long playerId : playerIds) {
+                ids.add(playerId.toString());
+            }
+        }
+        return nodeId + ";" + since + ";" + ids;
+    }
+}
@@ -0,0 +1,25 @@
+package com.golfhandicapcalculator.enterprise.service.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries encoded invalidation batches between application nodes for {@link CacheInvalidationBus}.
+ * Every node must receive every batch, including the ones it sent itself (those are ignored by the bus).
+ */
+public interface CacheInvalidationTransport {
+
+    /**
+     * Delivers the batch to all nodes.
+     *
+     * @param payload the encoded batch
+     * @throws RuntimeException if the batch could not be handed over; the bus then retries it with the next flush
+     */
+    void send(String payload);
+
+    /**
+     * Registers the callback invoked for every batch received from any node.
+     *
+     * @param receiver callback taking the encoded batch
+     */
+    void subscribe(Consumer<String> receiver);
+}
@@ -0,0 +1,95 @@
+package com.golfhandicapcalculator.enterprise.service.cache;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.KafkaMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts invalidation batches through a Kafka topic. Each node reads the topic in its own consumer group
+ * starting at the latest offset, so every node sees every batch published while it is running; batches sent
+ * while a node was down do not matter because its local caches start empty.
+ *
+ * Connection settings come from the regular {@code spring.kafka.*} properties. A single-partition topic keeps
+ * batches in order.
+ */
+@Component
+@ConditionalOnExpression("'${golf.cache-invalidation.enabled:false}' == 'true' and '${golf.cache-invalidation.transport:kafka}' == 'kafka'")
+public class KafkaCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private final KafkaProperties kafkaProperties;
+    private final String topic;
+    private final long sendTimeoutMillis;
+    private final DefaultKafkaProducerFactory<String, String> producerFactory;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private KafkaMessageListenerContainer<String, String> container;
+
+    public KafkaCacheInvalidationTransport(ObjectProvider<KafkaProperties> kafkaProperties,
+                                           @Value("${golf.cache-invalidation.topic:golf-cache-invalidation}") String topic,
+                                           @Value("${golf.cache-invalidation.send-timeout-millis:5000}") long sendTimeoutMillis) {
+        // KafkaAutoConfiguration is excluded in the faststart profile; fall back to the defaults there
+        this.kafkaProperties = kafkaProperties.getIfAvailable(KafkaProperties::new);
+        this.topic = topic;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+        Map<String, Object> producerConfig = this.kafkaProperties.buildProducerProperties();
+        producerConfig.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerConfig.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        this.producerFactory = new DefaultKafkaProducerFactory<>(producerConfig);
+        this.kafkaTemplate = new KafkaTemplate<>(producerFactory);
+    }
+
+    @Override
+    public void send(String payload) {
+        try {
+            kafkaTemplate.send(topic, payload).get(sendTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing cache invalidations", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Could not publish cache invalidations to " + topic, e);
+        }
+    }
+
+    @Override
+    public synchronized void subscribe(Consumer<String> receiver) {
+        if (container != null) {
+            throw new IllegalStateException("Already subscribed");
+        }
+        Map<String, Object> consumerConfig = kafkaProperties.buildConsumerProperties();
+        consumerConfig.put(ConsumerConfig.GROUP_ID_CONFIG, "golf-cache-invalidation-" + UUID.randomUUID());
+        consumerConfig.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        consumerConfig.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerConfig.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        ContainerProperties containerProperties = new ContainerProperties(topic);
+        containerProperties.setMessageListener((MessageListener<String, String>) record -> receiver.accept(record.value()));
+        container = new KafkaMessageListenerContainer<>(new DefaultKafkaConsumerFactory<>(consumerConfig), containerProperties);
+        container.start();
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (container != null) {
+            container.stop();
+        }
+        producerFactory.destroy();
+    }
+}
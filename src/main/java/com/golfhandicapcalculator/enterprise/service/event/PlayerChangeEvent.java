@@ -0,0 +1,70 @@
+package com.golfhandicapcalculator.enterprise.service.event;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Published by PlayerServices whenever a player, one of their scores or their handicap changes.
+ * Listeners that must only see committed data use {@code @TransactionalEventListener}.
+ */
+@Getter
+public class PlayerChangeEvent {
+
+    public enum Type {
+        PLAYER_CREATED,
+        PLAYER_UPDATED,
+        PLAYER_DELETED,
+        PLAYERS_DELETED,
+        SCORE_ADDED,
+        SCORE_UPDATED,
+        SCORES_PURGED,
+        HANDICAP_UPDATED
+    }
+
+    private final Type type;
+    private final Long playerId;
+    private final Long scoreId;
+    private final Double handicap;
+    // only set for SCORES_PURGED: scores recorded before this instant were deleted
+    private final Instant purgedBefore;
+    // only set for PLAYERS_DELETED: one event for a bulk delete, so listeners can clean up with one statement
+    private final List<Long> playerIds;
+    private final long timestamp;
+
+    public PlayerChangeEvent(Type type, Long playerId, Long scoreId, Double handicap) {
+        this(type, playerId, scoreId, handicap, null, null);
+    }
+
+    private PlayerChangeEvent(Type type, Long playerId, Long scoreId, Double handicap, Instant purgedBefore,
+                              List<Long> playerIds) {
+        this.type = type;
+        this.playerId = playerId;
+        this.scoreId = scoreId;
+        this.handicap = handicap;
+        this.purgedBefore = purgedBefore;
+        this.playerIds = playerIds;
+        this.timestamp = System.currentTimeMillis();
+    }
+
+    public static PlayerChangeEvent player(Type type, Long playerId, Double handicap) {
+        return new PlayerChangeEvent(type, playerId, null, handicap);
+    }
+
+    public static PlayerChangeEvent score(Type type, Long playerId, Long scoreId) {
+        return new PlayerChangeEvent(type, playerId, scoreId, null);
+    }
+
+    public static PlayerChangeEvent purge(Instant purgedBefore) {
+        return new PlayerChangeEvent(Type.SCORES_PURGED, null, null, null, purgedBefore, null);
+    }
+
+    public static PlayerChangeEvent playersDeleted(Collection<Long> playerIds) {
+        return new PlayerChangeEvent(Type.PLAYERS_DELETED, null, null, null, null,
+                Collections.unmodifiableList(new ArrayList<>(playerIds)));
+    }
+}
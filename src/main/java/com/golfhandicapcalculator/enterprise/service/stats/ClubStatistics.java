@@ -0,0 +1,22 @@
+package com.golfhandicapcalculator.enterprise.service.stats;
+
+import lombok.Getter;
+import lombok.Setter;
+import java.util.Map;
+
+@Getter
+@Setter
+public class ClubStatistics {
+
+    private long playerCount;
+    private long roundCount;
+    private Double averageScoreToPar;
+
+    // number of rounds -> number of players who have played that many
+    private Map<Long, Long> roundsPerPlayer;
+
+    // whole-stroke handicap bucket (lower bound) -> number of players
+    private Map<Integer, Long> handicapDistribution;
+
+    private DifferentialStatistics differentials;
+}
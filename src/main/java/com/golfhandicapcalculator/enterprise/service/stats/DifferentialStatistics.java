@@ -0,0 +1,124 @@
+package com.golfhandicapcalculator.enterprise.service.stats;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Single-pass, mergeable summary of score differentials: count, mean and variance (Welford, merged with
+ * Chan's formula), extremes, and a 0.1-stroke histogram from which quantiles and the 1-stroke distribution
+ * are read. Partial results from parallel segments of a stream are combined with {@link #combine}.
+ */
+public class DifferentialStatistics {
+
+    static final double MIN_DIFFERENTIAL = -40.0;
+    static final double MAX_DIFFERENTIAL = 80.0;
+    static final int BINS_PER_STROKE = 10;
+    private static final int BIN_COUNT = (int) ((MAX_DIFFERENTIAL - MIN_DIFFERENTIAL) * BINS_PER_STROKE);
+
+    private long count;
+    private double mean;
+    private double m2;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private final long[] bins = new long[BIN_COUNT];
+
+    public void accept(double differential) {
+        count++;
+        double delta = differential - mean;
+        mean += delta / count;
+        m2 += delta * (differential - mean);
+        min = Math.min(min, differential);
+        max = Math.max(max, differential);
+        bins[bin(differential)]++;
+    }
+
+    public void combine(DifferentialStatistics other) {
+        if (other.count == 0) {
+            return;
+        }
+        if (count == 0) {
+            count = other.count;
+            mean = other.mean;
+            m2 = other.m2;
+        } else {
+            long total = count + other.count;
+            double delta = other.mean - mean;
+            mean += delta * other.count / total;
+            m2 += other.m2 + delta * delta * count * other.count / total;
+            count = total;
+        }
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        for (int i = 0; i < BIN_COUNT; i++) {
+            bins[i] += other.bins[i];
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public Double getMean() {
+        return count > 0 ? mean : null;
+    }
+
+    public Double getStandardDeviation() {
+        return count > 1 ? Math.sqrt(m2 / (count - 1)) : null;
+    }
+
+    public Double getMin() {
+        return count > 0 ? min : null;
+    }
+
+    public Double getMax() {
+        return count > 0 ? max : null;
+    }
+
+    public Double getP10() {
+        return quantile(0.10);
+    }
+
+    public Double getMedian() {
+        return quantile(0.50);
+    }
+
+    public Double getP90() {
+        return quantile(0.90);
+    }
+
+    /**
+     * Rounds per whole-stroke bucket, keyed by the bucket's lower bound.
+     */
+    public Map<Integer, Long> getHistogram() {
+        Map<Integer, Long> histogram = new TreeMap<>();
+        for (int i = 0; i < BIN_COUNT; i++) {
+            if (bins[i] > 0) {
+                int stroke = (int) Math.floor(MIN_DIFFERENTIAL + (double) i / BINS_PER_STROKE);
+                histogram.merge(stroke, bins[i], Long::sum);
+            }
+        }
+        return histogram;
+    }
+
+    // midpoint of the bin holding the q-th value, within 0.05 of a stroke
+    private Double quantile(double q) {
+        if (count == 0) {
+            return null;
+        }
+        long rank = Math.max(1, (long) Math.ceil(q * count));
+        long seen = 0;
+        for (int i = 0; i < BIN_COUNT; i++) {
+            seen += bins[i];
+            if (seen >= rank) {
+                double midpoint = MIN_DIFFERENTIAL + (i + 0.5) / BINS_PER_STROKE;
+                return Math.max(min, Math.min(max, midpoint));
+            }
+        }
+        return max;
+    }
+
+    private static int bin(double differential) {
+        int bin = (int) Math.floor((differential - MIN_DIFFERENTIAL) * BINS_PER_STROKE);
+        return Math.max(0, Math.min(BIN_COUNT - 1, bin));
+    }
+}
@@ -0,0 +1,64 @@
+-- Tables that live on every shard. Shard 0 is additionally kept up to date by Hibernate (ddl-auto);
+-- the other shards are created from this script at startup. Courses and the change log stay on shard 0
+-- only, so scores.course_id has no foreign key here; each shard's change_outbox is relayed into that log.
+CREATE TABLE IF NOT EXISTS players (
+    player_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    handicap DOUBLE NOT NULL,
+    club_id BIGINT,
+    INDEX idx_players_club (club_id)
+);
+
+CREATE TABLE IF NOT EXISTS scores (
+    score_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    score INT NOT NULL,
+    par INT NOT NULL,
+    slope INT NOT NULL,
+    recorded_at DATETIME(6),
+    differential DOUBLE,
+    adjusted_score INT,
+    scorecard VARBINARY(16),
+    player_id BIGINT NOT NULL,
+    course_id BIGINT,
+    INDEX idx_scores_player_differential (player_id, differential),
+    INDEX idx_scores_player_recorded (player_id, recorded_at),
+    CONSTRAINT fk_scores_player FOREIGN KEY (player_id) REFERENCES players (player_id)
+);
+
+CREATE TABLE IF NOT EXISTS handicap_history (
+    chunk_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    player_id BIGINT NOT NULL,
+    first_timestamp BIGINT NOT NULL,
+    last_timestamp BIGINT NOT NULL,
+    last_value INT NOT NULL,
+    point_count INT NOT NULL,
+    data VARBINARY(8192) NOT NULL,
+    INDEX idx_handicap_history_player_range (player_id, first_timestamp, last_timestamp)
+);
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key VARCHAR(150) PRIMARY KEY,
+    score_id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    INDEX idx_idempotency_keys_created (created_at)
+);
+
+CREATE TABLE IF NOT EXISTS player_summary (
+    player_id BIGINT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    handicap DOUBLE NOT NULL,
+    round_count BIGINT NOT NULL,
+    last_round_at DATETIME(6),
+    best_differential DOUBLE,
+    worst_differential DOUBLE
+);
+
+CREATE TABLE IF NOT EXISTS change_outbox (
+    outbox_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    entity_type VARCHAR(8) NOT NULL,
+    operation VARCHAR(8) NOT NULL,
+    entity_id BIGINT,
+    player_id BIGINT,
+    changed_at DATETIME(6) NOT NULL,
+    purged_before DATETIME(6)
+);
@@ -0,0 +1,162 @@
+package com.golfhandicapcalculator.enterprise;
+
+import com.golfhandicapcalculator.enterprise.dto.Score;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class BatchHandicapCalculatorTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    private final GolfHandicapCalculator calculator = new GolfHandicapCalculator();
+
+    @AfterClass
+    public static void shutDownPool() {
+        POOL.shutdown();
+    }
+
+    @Test
+    public void testCalculateHandicaps_matchesCalculatorForEveryPlayer() {
+        HandicapBatch batch = randomBatch(500, 40, 7L);
+
+        double[] handicaps = new BatchHandicapCalculator(POOL, Integer.MAX_VALUE).calculateHandicaps(batch);
+
+        assertMatchesCalculator(batch, handicaps);
+    }
+
+    @Test
+    public void testCalculateHandicaps_forkJoinGivesSameResultsAsSingleLoop() {
+        HandicapBatch batch = randomBatch(2_000, 60, 11L);
+
+        double[] sequential = new BatchHandicapCalculator(POOL, Integer.MAX_VALUE).calculateHandicaps(batch);
+        double[] parallel = new BatchHandicapCalculator(POOL, 100).calculateHandicaps(batch);
+
+        assertArrayEquals(sequential, parallel, 0.0);
+        assertMatchesCalculator(batch, parallel);
+    }
+
+    @Test
+    public void testCalculateHandicaps_singlePlayerAboveThresholdIsNotSplit() {
+        int[] scores = new int[1_000];
+        int[] pars = new int[1_000];
+        int[] slopes = new int[1_000];
+        Arrays.fill(scores, 85);
+        Arrays.fill(pars, 72);
+        Arrays.fill(slopes, 113);
+        HandicapBatch batch = new HandicapBatch(scores, pars, slopes, new int[]{0, 1_000});
+
+        assertEquals(13.0, new BatchHandicapCalculator(POOL, 10).calculateHandicaps(batch)[0], 0.0);
+    }
+
+    @Test
+    public void testCalculateHandicaps_playersWithoutRoundsHaveNoHandicap() {
+        HandicapBatch batch = new HandicapBatch(new int[]{85, 90}, new int[]{72, 72}, new int[]{113, 0},
+                new int[]{0, 0, 2, 2});
+
+        double[] handicaps = new BatchHandicapCalculator(POOL, 1).calculateHandicaps(batch);
+
+        assertFalse(batch.hasRounds(0));
+        assertEquals(0.0, handicaps[0], 0.0);
+        // ((85-72) + (90-72 at the baseline slope))/2 = 15.5
+        assertEquals(15.5, handicaps[1], 0.0);
+        assertTrue(batch.hasRounds(1));
+        assertFalse(batch.hasRounds(2));
+        assertEquals(0.0, handicaps[2], 0.0);
+    }
+
+    @Test
+    public void testCalculateHandicaps_reusesTheResultArray() {
+        HandicapBatch batch = randomBatch(50, 10, 3L);
+        double[] handicaps = new double[60];
+        Arrays.fill(handicaps, -1.0);
+
+        new BatchHandicapCalculator(POOL, 64).calculateHandicaps(batch, handicaps);
+
+        assertMatchesCalculator(batch, Arrays.copyOf(handicaps, 50));
+        assertEquals(-1.0, handicaps[50], 0.0);
+    }
+
+    @Test
+    public void testHandicapBatch_ofScores_countsTheAdjustedScoreLikeTheStoredDifferential() {
+        // Arrange: a scorecard round of 95 gross, 89 after the net double bogey cap, and a round entered as a total
+        Score scorecard = score(95, 72, 125);
+        scorecard.setAdjustedScore(89);
+        scorecard.updateDifferential();
+        Score total = score(84, 72, 113);
+        total.updateDifferential();
+
+        // Act
+        HandicapBatch batch = HandicapBatch.of(Arrays.asList(Arrays.asList(scorecard, total),
+                Collections.<Score>emptyList()));
+        double[] handicaps = new BatchHandicapCalculator(POOL, 64).calculateHandicaps(batch);
+
+        // Assert
+        double stored = new GolfHandicapCalculator().calculateHandicapFromDifferentials(
+                new double[]{scorecard.getDifferential(), total.getDifferential()});
+        assertEquals(stored, handicaps[0], 0.0);
+        assertFalse(batch.hasRounds(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCalculateHandicaps_withTooSmallResultArray_throws() {
+        new BatchHandicapCalculator(POOL, 64).calculateHandicaps(randomBatch(50, 10, 3L), new double[49]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testHandicapBatch_withDecreasingOffsets_throws() {
+        new HandicapBatch(new int[2], new int[2], new int[2], new int[]{0, 2, 1});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testHandicapBatch_withOffsetsBeyondTheArrays_throws() {
+        new HandicapBatch(new int[2], new int[2], new int[1], new int[]{0, 2});
+    }
+
+    private void assertMatchesCalculator(HandicapBatch batch, double[] handicaps) {
+        int[] offsets = batch.offsets();
+        for (int p = 0; p < batch.getPlayerCount(); p++) {
+            int[][] rounds = {
+                    Arrays.copyOfRange(batch.scores(), offsets[p], offsets[p + 1]),
+                    Arrays.copyOfRange(batch.pars(), offsets[p], offsets[p + 1]),
+                    Arrays.copyOfRange(batch.slopes(), offsets[p], offsets[p + 1])
+            };
+            double expected = calculator.calculateHandicap(rounds, GolfHandicapCalculator.INT_ARRAYS,
+                    new GolfHandicapCalculator.HandicapResult()).orElse(0);
+            assertEquals("player " + p, expected, handicaps[p], 0.0);
+        }
+    }
+
+    private static Score score(int value, int par, int slope) {
+        Score score = new Score();
+        score.setScore(value);
+        score.setPar(par);
+        score.setSlope(slope);
+        return score;
+    }
+
+    // some players have no rounds and some slopes are out of range
+    private static HandicapBatch randomBatch(int players, int maxRounds, long seed) {
+        Random random = new Random(seed);
+        int[] offsets = new int[players + 1];
+        for (int p = 0; p < players; p++) {
+            offsets[p + 1] = offsets[p] + random.nextInt(maxRounds + 1);
+        }
+        int rounds = offsets[players];
+        int[] scores = new int[rounds];
+        int[] pars = new int[rounds];
+        int[] slopes = new int[rounds];
+        for (int i = 0; i < rounds; i++) {
+            pars[i] = 70 + random.nextInt(3);
+            scores[i] = pars[i] - 2 + random.nextInt(30);
+            slopes[i] = 50 + random.nextInt(110);
+        }
+        return new HandicapBatch(scores, pars, slopes, offsets);
+    }
+}
@@ -1,5 +1,6 @@
 package com.golfhandicapcalculator.enterprise;
 
+import com.golfhandicapcalculator.enterprise.GolfHandicapCalculator.HandicapResult;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -82,4 +83,86 @@ public class GolfHandicapCalculatorTest {
         Double result = calculator.calculateHandicap(scores, pars, slopes);
         assertEquals(-5.5, result, 0.01);
     }
+
+    @Test
+    public void testCalculateHandicapFromDifferentials_matchesRawCalculation() {
+        double[] differentials = {
+                GolfHandicapCalculator.scoreDifferential(89, 72, 121),
+                GolfHandicapCalculator.scoreDifferential(85, 72, 113),
+                GolfHandicapCalculator.scoreDifferential(90, 72, 130)
+        };
+
+        Double result = calculator.calculateHandicapFromDifferentials(differentials);
+        assertEquals(calculator.calculateHandicap(new double[]{89, 85, 90}, new double[]{72, 72, 72},
+                new double[]{121, 113, 130}), result);
+    }
+
+    @Test
+    public void testCalculateHandicapFromDifferentials_withCount_usesOnlyThePrefix() {
+        double[] differentials = {10.0, 20.0, 99.0};
+
+        HandicapResult result = new HandicapResult();
+
+        assertEquals(15.0, calculator.calculateHandicapFromDifferentials(differentials, 2, result).getHandicap(), 0.0);
+        assertFalse(calculator.calculateHandicapFromDifferentials(differentials, 0, result).isPresent());
+    }
+
+    @Test
+    public void testScoreDifferential_withOutOfRangeSlope_usesBaseline() {
+        assertEquals(13.0, GolfHandicapCalculator.scoreDifferential(85, 72, 0), 0.001);
+        assertEquals(13.0, GolfHandicapCalculator.scoreDifferential(85, 72, 200), 0.001);
+    }
+
+    @Test
+    public void testCalculateHandicap_withRoundReader_matchesArrayCalculation() {
+        int[][] rounds = {{89, 85, 90}, {72, 72, 72}, {121, 113, 130}};
+
+        double result = calculator.calculateHandicap(rounds, GolfHandicapCalculator.INT_ARRAYS, new HandicapResult())
+                .getHandicap();
+        assertEquals(calculator.calculateHandicap(new double[]{89, 85, 90}, new double[]{72, 72, 72},
+                new double[]{121, 113, 130}), result, 0.0);
+    }
+
+    @Test
+    public void testCalculateHandicap_withRoundReaderAndUnequalLengths_usesShortestArray() {
+        int[][] rounds = {{85, 90, 95}, {72, 72}, {113, 113, 113}};
+
+        // ((85-72) + (90-72))/2 = 15.5
+        assertEquals(15.5, calculator.calculateHandicap(rounds, GolfHandicapCalculator.INT_ARRAYS, new HandicapResult())
+                .getHandicap(), 0.01);
+    }
+
+    @Test
+    public void testCalculateHandicap_withRoundReaderAndNoRounds_returnsNoHandicap() {
+        int[][] rounds = {{}, {}, {}};
+
+        HandicapResult result = calculator.calculateHandicap(rounds, GolfHandicapCalculator.INT_ARRAYS,
+                new HandicapResult());
+        assertFalse(result.isPresent());
+        assertEquals(-1.0, result.orElse(-1.0), 0.0);
+    }
+
+    @Test
+    public void testCalculateHandicap_withReusedResult_clearsThePreviousHandicap() {
+        HandicapResult result = new HandicapResult();
+
+        assertTrue(calculator.calculateHandicap(new int[][]{{85}, {72}, {113}}, GolfHandicapCalculator.INT_ARRAYS,
+                result).isPresent());
+        assertFalse(calculator.calculateHandicap(new int[][]{{}, {}, {}}, GolfHandicapCalculator.INT_ARRAYS, result)
+                .isPresent());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testHandicapResult_withoutHandicap_throwsOnRead() {
+        calculator.calculateHandicap(new int[][]{{}, {}, {}}, GolfHandicapCalculator.INT_ARRAYS, new HandicapResult())
+                .getHandicap();
+    }
+
+    @Test
+    public void testCalculateHandicap_withRoundReaderAndOutOfRangeSlope_usesBaseline() {
+        int[][] rounds = {{85}, {72}, {0}};
+
+        assertEquals(13.0, calculator.calculateHandicap(rounds, GolfHandicapCalculator.INT_ARRAYS, new HandicapResult())
+                .getHandicap(), 0.001);
+    }
 }
@@ -1,8 +1,10 @@
 package com.golfhandicapcalculator.enterprise;
 
 import com.golfhandicapcalculator.enterprise.dto.Player;
+import com.golfhandicapcalculator.enterprise.dto.PlayerBatch;
 import com.golfhandicapcalculator.enterprise.dto.Score;
 import com.golfhandicapcalculator.enterprise.service.IPlayerServices;
+import com.golfhandicapcalculator.enterprise.service.IdempotencyService;
 import com.golfhandicapcalculator.enterprise.service.WeatherService;
 import org.junit.Before;
 import org.junit.Test;
@@ -11,13 +13,20 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @RunWith(MockitoJUnitRunner.class)
 public class GolfHandicapControllerTest {
@@ -28,11 +37,14 @@ public class GolfHandicapControllerTest {
     @Mock
     private WeatherService weatherService;
 
+    @Mock
+    private IdempotencyService idempotencyService;
+
     private GolfHandicapController controller;
 
     @Before
     public void setUp() {
-        controller = new GolfHandicapController(playerServices, weatherService);
+        controller = new GolfHandicapController(playerServices, weatherService, idempotencyService);
     }
 
     @Test
@@ -74,6 +86,29 @@ public class GolfHandicapControllerTest {
         verify(playerServices, times(1)).getPlayerById(999L);
     }
 
+    @Test
+    public void testGetPlayers_withIds_returnsBatch() {
+        List<Long> ids = Arrays.asList(1L, 999L);
+        PlayerBatch batch = new PlayerBatch(Arrays.asList(createPlayer(1L, "John Doe", 15.5)), Arrays.asList(999L));
+        when(playerServices.getPlayersByIds(ids)).thenReturn(batch);
+
+        ResponseEntity<PlayerBatch> response = controller.getPlayers(ids);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(batch, response.getBody());
+    }
+
+    @Test
+    public void testGetPlayers_withNonNumericId_returnsBadRequest() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        mockMvc.perform(get("/api/players").param("ids", "1,abc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(containsString("ids")));
+
+        verify(playerServices, never()).getPlayersByIds(any());
+    }
+
     @Test
     public void testCreatePlayer_returnsCreatedPlayer() {
         Player newPlayer = createPlayer(null, "New Player", 0.0);
@@ -112,6 +147,18 @@ public class GolfHandicapControllerTest {
         verify(playerServices, times(1)).deletePlayer(1L);
     }
 
+    @Test
+    public void testDeletePlayers_returnsDeletedCount() {
+        List<Long> ids = Arrays.asList(1L, 2L);
+        when(playerServices.deletePlayers(ids)).thenReturn(2);
+
+        ResponseEntity<Map<String, Integer>> response = controller.deletePlayers(ids);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(Integer.valueOf(2), response.getBody().get("deleted"));
+        verify(playerServices, times(1)).deletePlayers(ids);
+    }
+
     @Test
     public void testGetPlayerScores_returnsListOfScores() {
         List<Score> scores = Arrays.asList(
@@ -134,12 +181,26 @@ public class GolfHandicapControllerTest {
         Score savedScore = createScore(1L, 88, 72, 113);
         when(playerServices.addScoreToPlayer(eq(1L), any(Score.class))).thenReturn(savedScore);
 
-        ResponseEntity<Score> response = controller.addScore(1L, newScore);
+        ResponseEntity<Score> response = controller.addScore(1L, null, newScore);
 
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
         assertNotNull(response.getBody());
         assertEquals(1L, response.getBody().getScoreId().longValue());
         verify(playerServices, times(1)).addScoreToPlayer(1L, newScore);
+        verifyNoInteractions(idempotencyService);
+    }
+
+    @Test
+    public void testAddScore_withIdempotencyKey_goesThroughIdempotencyService() {
+        Score newScore = createScore(null, 88, 72, 113);
+        Score savedScore = createScore(1L, 88, 72, 113);
+        when(idempotencyService.submitScore(eq(1L), eq("round-42"), any())).thenReturn(savedScore);
+
+        ResponseEntity<Score> response = controller.addScore(1L, "round-42", newScore);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertSame(savedScore, response.getBody());
+        verify(playerServices, never()).addScoreToPlayer(any(), any());
     }
 
     @Test
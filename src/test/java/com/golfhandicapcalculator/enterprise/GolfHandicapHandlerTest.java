@@ -0,0 +1,180 @@
+package com.golfhandicapcalculator.enterprise;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.golfhandicapcalculator.enterprise.dto.Player;
+import com.golfhandicapcalculator.enterprise.dto.PlayerBatch;
+import com.golfhandicapcalculator.enterprise.dto.Score;
+import com.golfhandicapcalculator.enterprise.service.IPlayerServices;
+import com.golfhandicapcalculator.enterprise.service.WeatherService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.transaction.PlatformTransactionManager;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Arrays;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GolfHandicapHandlerTest {
+
+    @Mock
+    private IPlayerServices playerServices;
+
+    @Mock
+    private WeatherService weatherService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private Scheduler workers;
+    private WebTestClient client;
+
+    @Before
+    public void setUp() {
+        workers = Schedulers.newBoundedElastic(2, 10, "golf-api-test");
+        GolfHandicapRouter router = new GolfHandicapRouter();
+        GolfHandicapHandler handler = new GolfHandicapHandler(playerServices, weatherService, new ObjectMapper(),
+                transactionManager, workers);
+        client = WebTestClient.bindToRouterFunction(router.golfHandicapRoutes(handler)).build();
+    }
+
+    @After
+    public void tearDown() {
+        workers.dispose();
+    }
+
+    @Test
+    public void testGetAllPlayers_returnsListOfPlayers() {
+        when(playerServices.getAllPlayers()).thenReturn(Arrays.asList(
+                createPlayer(1L, "John Doe", 15.5),
+                createPlayer(2L, "Jane Smith", 12.3)
+        ));
+
+        client.get().uri("/api/players").exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[1].name").isEqualTo("Jane Smith");
+
+        verify(transactionManager).getTransaction(argThat(definition -> definition.isReadOnly()));
+    }
+
+    @Test
+    public void testGetPlayer_withNonExistingId_returnsNotFound() {
+        when(playerServices.getPlayerById(999L)).thenReturn(null);
+
+        client.get().uri("/api/players/999").exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void testGetPlayers_withIds_returnsBatch() {
+        when(playerServices.getPlayersByIds(Arrays.asList(1L, 999L))).thenReturn(new PlayerBatch(
+                Arrays.asList(createPlayer(1L, "John Doe", 15.5)), Arrays.asList(999L)));
+
+        client.get().uri("/api/players?ids=1,999").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.players[0].name").isEqualTo("John Doe")
+                .jsonPath("$.notFound[0]").isEqualTo(999);
+    }
+
+    @Test
+    public void testGetPlayers_withNonNumericId_returnsBadRequest() {
+        client.get().uri("/api/players?ids=1,abc").exchange()
+                .expectStatus().isBadRequest()
+                .expectBody(String.class).isEqualTo("ids must be a number, not 'abc'");
+
+        verify(playerServices, never()).getPlayersByIds(any());
+    }
+
+    @Test
+    public void testGetPlayer_withNonNumericId_returnsBadRequest() {
+        client.get().uri("/api/players/abc").exchange()
+                .expectStatus().isBadRequest();
+
+        verify(playerServices, never()).getPlayerById(any());
+    }
+
+    @Test
+    public void testAddScore_returnsCreatedScore() {
+        Score saved = createScore(1L, 88, 72, 113);
+        when(playerServices.addScoreToPlayer(eq(1L), any(Score.class))).thenReturn(saved);
+
+        client.post().uri("/api/players/1/scores")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"score\":88,\"par\":72,\"slope\":113}")
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.scoreId").isEqualTo(1)
+                .jsonPath("$.score").isEqualTo(88);
+
+        verify(playerServices).addScoreToPlayer(eq(1L), argThat(score -> score.getScore() == 88));
+    }
+
+    @Test
+    public void testAddScore_ignoresClientRecordedAt() {
+        Score saved = createScore(1L, 88, 72, 113);
+        when(playerServices.addScoreToPlayer(eq(1L), any(Score.class))).thenReturn(saved);
+
+        client.post().uri("/api/players/1/scores")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"score\":88,\"par\":72,\"slope\":113,\"recordedAt\":\"2000-01-01T00:00:00Z\"}")
+                .exchange()
+                .expectStatus().isCreated();
+
+        verify(playerServices).addScoreToPlayer(eq(1L), argThat(score -> score.getRecordedAt() == null));
+    }
+
+    @Test
+    public void testDeletePlayer_returnsNoContent() {
+        client.delete().uri("/api/players/1").exchange()
+                .expectStatus().isNoContent();
+
+        verify(playerServices).deletePlayer(1L);
+    }
+
+    @Test
+    public void testGetWeather_returnsWeatherText() {
+        when(weatherService.getWeatherAsync("40.7128", "-74.0060")).thenReturn(Mono.just("Sunny, 75°F"));
+
+        client.get().uri("/api/weather?lat=40.7128&lon=-74.0060").exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("Sunny, 75°F");
+    }
+
+    @Test
+    public void testGetWeather_withoutCoordinates_returnsBadRequest() {
+        client.get().uri("/api/weather").exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    private Player createPlayer(Long id, String name, double handicap) {
+        Player player = new Player();
+        player.setPlayerId(id);
+        player.setName(name);
+        player.setHandicap(handicap);
+        return player;
+    }
+
+    private Score createScore(Long id, int score, int par, int slope) {
+        Score scoreObj = new Score();
+        scoreObj.setScoreId(id);
+        scoreObj.setScore(score);
+        scoreObj.setPar(par);
+        scoreObj.setSlope(slope);
+        return scoreObj;
+    }
+}
@@ -3,17 +3,22 @@ package com.golfhandicapcalculator.enterprise;
 import com.golfhandicapcalculator.enterprise.dto.Player;
 import com.golfhandicapcalculator.enterprise.dto.Score;
 import com.golfhandicapcalculator.enterprise.service.IPlayerServices;
+import com.golfhandicapcalculator.enterprise.service.ScoreTableRenderer;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.servlet.view.InternalResourceViewResolver;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -29,12 +34,15 @@ public class GolfHandicapWebControllerTest {
     @Mock
     private GolfHandicapCalculator calculator;
 
+    @Mock
+    private ScoreTableRenderer scoreTableRenderer;
+
     private GolfHandicapWebController webController;
     private MockMvc mockMvc;
 
     @Before
     public void setUp() {
-        webController = new GolfHandicapWebController(calculator, playerServices);
+        webController = new GolfHandicapWebController(calculator, playerServices, scoreTableRenderer, 2);
 
         // Configure view resolver to prevent circular view path errors
         InternalResourceViewResolver viewResolver = new InternalResourceViewResolver();
@@ -59,14 +67,40 @@ public class GolfHandicapWebControllerTest {
                 createPlayer(1L, "John Doe", 15.5),
                 createPlayer(2L, "Jane Smith", 12.3)
         );
-        when(playerServices.getAllPlayers()).thenReturn(players);
+        Map<Long, Long> scoreCounts = new HashMap<>();
+        scoreCounts.put(1L, 3L);
+        when(playerServices.getPlayersPage(0, 2)).thenReturn(new PageImpl<>(players, PageRequest.of(0, 2), 5));
+        when(playerServices.getScoreCounts(Arrays.asList(1L, 2L))).thenReturn(scoreCounts);
 
         mockMvc.perform(get("/golf-handicap"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("golf-handicap"))
-                .andExpect(model().attributeExists("players"));
+                .andExpect(model().attribute("players", players))
+                .andExpect(model().attribute("scoreCounts", scoreCounts))
+                .andExpect(model().attributeExists("page"));
+
+        verify(playerServices, never()).getAllPlayers();
+    }
 
-        verify(playerServices, times(1)).getAllPlayers();
+    @Test
+    public void testGolfHandicap_withPageParameter_loadsRequestedPage() throws Exception {
+        List<Player> players = Arrays.asList(createPlayer(5L, "Sam Lee", 8.0));
+        when(playerServices.getPlayersPage(2, 2)).thenReturn(new PageImpl<>(players, PageRequest.of(2, 2), 5));
+
+        mockMvc.perform(get("/golf-handicap").param("page", "2"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("players", players));
+
+        verify(playerServices).getScoreCounts(Arrays.asList(5L));
+    }
+
+    @Test
+    public void testScoreTable_returnsRenderedFragment() throws Exception {
+        when(scoreTableRenderer.render(1L)).thenReturn("<table class=\"scores-table\"></table>");
+
+        mockMvc.perform(get("/golf-handicap/players/1/scores"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("<table class=\"scores-table\"></table>"));
     }
 
     @Test
@@ -0,0 +1,71 @@
+package com.golfhandicapcalculator.enterprise;
+
+import com.golfhandicapcalculator.enterprise.config.SqlProfiler;
+
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Counts the SQL statements a request or service call executes on the calling thread and fails the test when
+ * the declared budget is exceeded. The failure lists the statements that ran, grouped by fingerprint.
+ */
+public class QueryBudget {
+
+    private final SqlProfiler profiler;
+
+    public QueryBudget(SqlProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * Runs the work and returns the number of SQL statements it executed.
+     */
+    public int count(Work work) throws Exception {
+        profiler.reset();
+        profiler.beginRequest();
+        SqlProfiler.RequestTally tally;
+        try {
+            work.run();
+        } finally {
+            tally = profiler.endRequest();
+        }
+        return tally.getStatements();
+    }
+
+    /**
+     * Runs the work and fails if it executed more than {@code budget} SQL statements.
+     *
+     * @return the number of statements executed
+     */
+    public int assertWithin(String description, int budget, Work work) throws Exception {
+        int statements = count(work);
+        if (statements > budget) {
+            fail(description + " executed " + statements + " SQL statements, budget is " + budget + ":\n"
+                    + executedStatements());
+        }
+        return statements;
+    }
+
+    /**
+     * Fails if the work executed a different number of statements than before the fixture grew, which is
+     * what an N+1 query looks like. Call right after running the work on the larger fixture.
+     */
+    public void assertUnchanged(String description, int before, int after) {
+        if (after != before) {
+            fail(description + " executed " + before + " SQL statements on the small fixture but " + after
+                    + " on the large one:\n" + executedStatements());
+        }
+    }
+
+    private String executedStatements() {
+        return profiler.topFingerprints(Integer.MAX_VALUE, "total").stream()
+                .map(snapshot -> "  " + snapshot.getCount() + "x " + snapshot.getFingerprint())
+                .collect(Collectors.joining("\n"));
+    }
+
+    @FunctionalInterface
+    public interface Work {
+        void run() throws Exception;
+    }
+}
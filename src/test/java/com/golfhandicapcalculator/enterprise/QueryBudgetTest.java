@@ -0,0 +1,264 @@
+package com.golfhandicapcalculator.enterprise;
+
+import com.golfhandicapcalculator.enterprise.config.SqlProfiler;
+import com.golfhandicapcalculator.enterprise.dao.PlayerRepository;
+import com.golfhandicapcalculator.enterprise.dao.ScoreRepository;
+import com.golfhandicapcalculator.enterprise.dto.Player;
+import com.golfhandicapcalculator.enterprise.dto.Score;
+import com.golfhandicapcalculator.enterprise.service.IPlayerServices;
+import com.golfhandicapcalculator.enterprise.service.PlayerSummaryService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * SQL statement budgets for the endpoints and service calls that list or load players.
+ *
+ * Each read is run against a small club and again after the club has grown, with cold caches both times; it
+ * must stay within its budget and issue the same number of statements, so an N+1 query fails the build.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query_budget;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration",
+        "golf.rate-limit.enabled=false",
+        "golf.differential.backfill-on-startup=false",
+        "golf.player-summary.rebuild-when-empty=false",
+        "golf.sql-profiling.enabled=true",
+        "golf.web.page-size=10"
+})
+public class QueryBudgetTest {
+
+    private static final int SMALL_CLUB = 3;
+    private static final int LARGE_CLUB = 40;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private SqlProfiler profiler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private ScoreRepository scoreRepository;
+
+    @Autowired
+    private PlayerSummaryService summaryService;
+
+    @Autowired
+    private IPlayerServices playerServices;
+
+    private MockMvc mockMvc;
+    private QueryBudget queryBudget;
+    private int seeded;
+
+    @Before
+    public void setUp() {
+        // the filters (rate limiting, request profiling) are left out so the test owns the statement tally
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+        queryBudget = new QueryBudget(profiler);
+        for (String table : new String[]{"scores", "handicap_history", "player_summary", "idempotency_keys",
+                "change_outbox", "change_log", "players"}) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+        seeded = 0;
+    }
+
+    @Test
+    public void testHomePage_withinBudgetRegardlessOfPlayerCount() throws Exception {
+        // one page of players, the player count, the score counts of the page
+        assertReadBudget("GET /golf-handicap", 3,
+                () -> mockMvc.perform(get("/golf-handicap")).andExpect(status().isOk()));
+    }
+
+    @Test
+    public void testListPlayers_withinBudgetRegardlessOfPlayerCount() throws Exception {
+        // the players, then every player's scores in one subselect
+        assertReadBudget("GET /api/players", 2,
+                () -> mockMvc.perform(get("/api/players")).andExpect(status().isOk()));
+    }
+
+    @Test
+    public void testPlayersByIds_withinBudgetRegardlessOfBatchSize() throws Exception {
+        // the players with one IN query, then their scores in one subselect
+        assertBatchReadBudget("GET /api/players?ids", 2, playerIds -> {
+            String ids = playerIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+            mockMvc.perform(get("/api/players").param("ids", ids)).andExpect(status().isOk());
+        });
+    }
+
+    @Test
+    public void testGetPlayer_withinBudgetRegardlessOfRounds() throws Exception {
+        // the player, then its scores
+        assertPlayerReadBudget("GET /api/players/{playerId}", 2, playerId ->
+                mockMvc.perform(get("/api/players/{playerId}", playerId)).andExpect(status().isOk()));
+    }
+
+    @Test
+    public void testGetPlayerScores_withinBudgetRegardlessOfRounds() throws Exception {
+        assertPlayerReadBudget("GET /api/players/{playerId}/scores", 1, playerId ->
+                mockMvc.perform(get("/api/players/{playerId}/scores", playerId)).andExpect(status().isOk()));
+    }
+
+    @Test
+    public void testScoreTableFragment_withinBudgetRegardlessOfRounds() throws Exception {
+        assertPlayerReadBudget("GET /golf-handicap/players/{playerId}/scores", 1, playerId ->
+                mockMvc.perform(get("/golf-handicap/players/{playerId}/scores", playerId)).andExpect(status().isOk()));
+    }
+
+    @Test
+    public void testPlayerSummaries_withinBudgetRegardlessOfPlayerCount() throws Exception {
+        // one page of summaries and their count
+        assertReadBudget("GET /api/player-summaries", 2,
+                () -> mockMvc.perform(get("/api/player-summaries").param("size", "25")).andExpect(status().isOk()));
+    }
+
+    @Test
+    public void testPlayerSummary_withinBudgetRegardlessOfRounds() throws Exception {
+        assertPlayerReadBudget("GET /api/player-summaries/{playerId}", 1, playerId ->
+                mockMvc.perform(get("/api/player-summaries/{playerId}", playerId)).andExpect(status().isOk()));
+    }
+
+    @Test
+    public void testPlayersPage_withinBudgetRegardlessOfPlayerCount() throws Exception {
+        assertReadBudget("IPlayerServices.getPlayersPage", 2, () -> playerServices.getPlayersPage(0, 10));
+    }
+
+    @Test
+    public void testScoreCounts_withinBudgetRegardlessOfPlayerCount() throws Exception {
+        assertBatchReadBudget("IPlayerServices.getScoreCounts", 1, playerServices::getScoreCounts);
+    }
+
+    @Test
+    public void testAddScore_withinBudget() throws Exception {
+        seedClub(SMALL_CLUB, 5);
+        Long playerId = seedPlayer("Regular", 30);
+        clearCaches();
+        // insert, handicap recalculation and update, player summary refresh, handicap history append,
+        // change outbox entries for the score and the player
+        queryBudget.assertWithin("POST /api/players/{playerId}/scores", 14, () ->
+                mockMvc.perform(post("/api/players/{playerId}/scores", playerId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"score\":84,\"par\":72,\"slope\":128}"))
+                        .andExpect(status().is2xxSuccessful()));
+    }
+
+    private void assertReadBudget(String description, int budget, QueryBudget.Work work) throws Exception {
+        seedClub(SMALL_CLUB, 5);
+        clearCaches();
+        int small = queryBudget.assertWithin(description, budget, work);
+        seedClub(LARGE_CLUB, 20);
+        clearCaches();
+        int large = queryBudget.count(work);
+        queryBudget.assertUnchanged(description, small, large);
+    }
+
+    private void assertBatchReadBudget(String description, int budget, BatchWork work) throws Exception {
+        seedClub(SMALL_CLUB, 5);
+        List<Long> few = allPlayerIds();
+        clearCaches();
+        int small = queryBudget.assertWithin(description, budget, () -> work.run(few));
+        seedClub(LARGE_CLUB, 20);
+        List<Long> many = allPlayerIds();
+        clearCaches();
+        int large = queryBudget.count(() -> work.run(many));
+        queryBudget.assertUnchanged(description, small, large);
+    }
+
+    private void assertPlayerReadBudget(String description, int budget, PlayerWork work) throws Exception {
+        seedClub(SMALL_CLUB, 5);
+        Long casual = seedPlayer("Casual", 2);
+        Long regular = seedPlayer("Regular", 40);
+        clearCaches();
+        int small = queryBudget.assertWithin(description, budget, () -> work.run(casual));
+        clearCaches();
+        int large = queryBudget.count(() -> work.run(regular));
+        queryBudget.assertUnchanged(description, small, large);
+    }
+
+    private List<Long> allPlayerIds() {
+        return playerRepository.findAll().stream().map(Player::getPlayerId).collect(Collectors.toList());
+    }
+
+    private void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    // players spread over four clubs with between 1 and maxRounds rounds each, summaries rebuilt afterwards
+    private void seedClub(int players, int maxRounds) {
+        for (int i = 0; i < players; i++) {
+            insertPlayer("Player " + (seeded + 1), 1 + seeded * 7 % maxRounds);
+        }
+        summaryService.rebuild();
+    }
+
+    private Long seedPlayer(String name, int rounds) {
+        Long playerId = insertPlayer(name, rounds);
+        summaryService.rebuild();
+        return playerId;
+    }
+
+    private Long insertPlayer(String name, int rounds) {
+        Player player = new Player();
+        player.setName(name);
+        player.setClubId((long) (seeded % 4 + 1));
+        player.setHandicap(5 + seeded * 3 % 25);
+        player = playerRepository.save(player);
+
+        List<Score> scores = new ArrayList<>();
+        Instant now = Instant.now();
+        for (int round = 0; round < rounds; round++) {
+            Score score = new Score();
+            score.setPlayer(player);
+            score.setPar(round % 3 == 0 ? 71 : 72);
+            score.setScore(score.getPar() + 4 + (seeded + round * 5) % 18);
+            score.setSlope(113 + (round * 11) % 30);
+            score.setRecordedAt(now.minus(rounds - round, ChronoUnit.DAYS));
+            scores.add(score);
+        }
+        scoreRepository.saveAll(scores);
+        seeded++;
+        return player.getPlayerId();
+    }
+
+    @FunctionalInterface
+    private interface BatchWork {
+        void run(List<Long> playerIds) throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface PlayerWork {
+        void run(Long playerId) throws Exception;
+    }
+}
@@ -0,0 +1,63 @@
+package com.golfhandicapcalculator.enterprise.config;
+
+import org.junit.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.Assert.*;
+
+public class RateLimitFilterTest {
+
+    private MockHttpServletResponse send(RateLimitFilter filter, String method, String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr("10.0.0.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static RateLimitFilter filter(int threadsAwaitingConnection) {
+        return new RateLimitFilter(new TokenBucketLimiter(1, 2), new TokenBucketLimiter(1, 1),
+                new TokenBucketLimiter(1, 1), 100, 5, () -> threadsAwaitingConnection);
+    }
+
+    @Test
+    public void testWrites_overTheLimit_return429WithRetryAfter() throws Exception {
+        RateLimitFilter filter = filter(0);
+
+        assertEquals(200, send(filter, "POST", "/api/players/1/scores").getStatus());
+        MockHttpServletResponse rejected = send(filter, "POST", "/api/players/1/scores");
+
+        assertEquals(429, rejected.getStatus());
+        assertEquals("1", rejected.getHeader("Retry-After"));
+    }
+
+    @Test
+    public void testReadsWritesAndWeather_useSeparateBuckets() throws Exception {
+        RateLimitFilter filter = filter(0);
+
+        assertEquals(200, send(filter, "POST", "/api/players").getStatus());
+        assertEquals(200, send(filter, "GET", "/api/players").getStatus());
+        assertEquals(200, send(filter, "GET", "/api/weather").getStatus());
+        assertEquals(429, send(filter, "GET", "/api/weather").getStatus());
+        assertEquals(200, send(filter, "GET", "/api/players/1").getStatus());
+    }
+
+    @Test
+    public void testSaturatedConnectionPool_sheds503() throws Exception {
+        RateLimitFilter filter = filter(5);
+
+        MockHttpServletResponse response = send(filter, "GET", "/api/players");
+
+        assertEquals(503, response.getStatus());
+        assertNotNull(response.getHeader("Retry-After"));
+    }
+
+    @Test
+    public void testNonApiRequests_areNotLimited() throws Exception {
+        RateLimitFilter filter = filter(5);
+
+        assertEquals(200, send(filter, "GET", "/golf-handicap").getStatus());
+    }
+}
@@ -0,0 +1,93 @@
+package com.golfhandicapcalculator.enterprise.config;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class ReplicaRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "SELECT lag_seconds FROM replication_status";
+
+    private JdbcTemplate primaryJdbc;
+    private JdbcTemplate replicaJdbc;
+    private ReadYourWritesTracker tracker;
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @Before
+    public void setUp() {
+        DataSource primary = embeddedDatabase("primary");
+        DataSource replica = embeddedDatabase("replica");
+        primaryJdbc = new JdbcTemplate(primary);
+        replicaJdbc = new JdbcTemplate(replica);
+        replicaJdbc.execute("CREATE TABLE replication_status (lag_seconds BIGINT)");
+        replicaJdbc.update("INSERT INTO replication_status VALUES (0)");
+
+        tracker = new ReadYourWritesTracker(60_000);
+        routingDataSource = new ReplicaRoutingDataSource(primary, Collections.singletonList(replica), tracker,
+                5, LAG_QUERY, "lag_seconds");
+        routingDataSource.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    public void testReadOnlyTransaction_isRoutedToReplica() {
+        assertEquals("replica", readOnly.execute(status -> currentSource()));
+    }
+
+    @Test
+    public void testWriteTransaction_isRoutedToPrimary() {
+        assertEquals("primary", readWrite.execute(status -> currentSource()));
+    }
+
+    @Test
+    public void testReadAfterWrite_staysOnPrimaryForSameClient() {
+        readWrite.execute(status -> jdbcTemplate.update("UPDATE source SET name = name"));
+
+        assertEquals("primary", readOnly.execute(status -> currentSource()));
+    }
+
+    @Test
+    public void testLaggingReplica_isTakenOutOfRotation() {
+        replicaJdbc.update("UPDATE replication_status SET lag_seconds = 30");
+        routingDataSource.checkReplicaLag();
+
+        assertTrue(routingDataSource.getHealthyReplicas().isEmpty());
+        assertEquals("primary", readOnly.execute(status -> currentSource()));
+
+        replicaJdbc.update("UPDATE replication_status SET lag_seconds = 1");
+        routingDataSource.checkReplicaLag();
+
+        assertEquals("replica", readOnly.execute(status -> currentSource()));
+    }
+
+    private String currentSource() {
+        return jdbcTemplate.queryForObject("SELECT name FROM source", String.class);
+    }
+
+    private DataSource embeddedDatabase(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE source (name VARCHAR(20))");
+        jdbc.update("INSERT INTO source VALUES (?)", name);
+        return dataSource;
+    }
+}
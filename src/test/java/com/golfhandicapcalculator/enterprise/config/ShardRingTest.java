@@ -0,0 +1,65 @@
+package com.golfhandicapcalculator.enterprise.config;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ShardRingTest {
+
+    private static final int CLUBS = 10_000;
+
+    @Test
+    public void testShardFor_isDeterministic() {
+        ShardRing first = new ShardRing(4, 64);
+        ShardRing second = new ShardRing(4, 64);
+
+        for (long club = 0; club < 1000; club++) {
+            assertEquals(first.shardFor(club), second.shardFor(club));
+        }
+    }
+
+    @Test
+    public void testShardFor_spreadsClubsOverAllShards() {
+        ShardRing ring = new ShardRing(4, 64);
+        int[] counts = new int[4];
+
+        for (long club = 0; club < CLUBS; club++) {
+            counts[ring.shardFor(club)]++;
+        }
+
+        for (int count : counts) {
+            assertTrue("unbalanced shard: " + count, count > CLUBS / 4 / 2 && count < CLUBS / 4 * 2);
+        }
+    }
+
+    @Test
+    public void testAddingShard_movesOnlyClubsOntoNewShard() {
+        ShardRing before = new ShardRing(4, 64);
+        ShardRing after = new ShardRing(5, 64);
+        int moved = 0;
+
+        for (long club = 0; club < CLUBS; club++) {
+            int oldShard = before.shardFor(club);
+            int newShard = after.shardFor(club);
+            if (oldShard != newShard) {
+                assertEquals(4, newShard);
+                moved++;
+            }
+        }
+
+        assertTrue("moved " + moved, moved > CLUBS / 10 && moved < CLUBS / 3);
+    }
+
+    @Test
+    public void testSingleShard_ownsEveryClub() {
+        ShardRing ring = new ShardRing(1, 8);
+
+        assertEquals(0, ring.shardFor(42L));
+        assertEquals(0, ring.shardFor(-7L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoShards_isRejected() {
+        new ShardRing(0, 64);
+    }
+}
@@ -0,0 +1,124 @@
+package com.golfhandicapcalculator.enterprise.config;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+public class ShardRouterTest {
+
+    private static final int SHARDS = 3;
+
+    private List<JdbcTemplate> shardJdbc;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private ShardRouter router;
+
+    @Before
+    public void setUp() {
+        List<DataSource> shards = new ArrayList<>();
+        shardJdbc = new ArrayList<>();
+        for (int i = 0; i < SHARDS; i++) {
+            DataSource shard = new DriverManagerDataSource(
+                    "jdbc:h2:mem:shard" + i + "_" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+            shards.add(shard);
+            shardJdbc.add(new JdbcTemplate(shard));
+        }
+        ShardSchemaInitializer.initialize(shards, new ClassPathResource("db/shard-schema.sql"));
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource(shards);
+        routingDataSource.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        router = new ShardRouter(new ShardRing(SHARDS, 64), Executors.newFixedThreadPool(SHARDS), transactionManager);
+    }
+
+    @After
+    public void tearDown() {
+        router.shutdown();
+    }
+
+    @Test
+    public void testInsertOnShard_generatesIdThatRoutesBack() {
+        for (int shard = 0; shard < SHARDS; shard++) {
+            long id = router.onShard(shard, () -> insertPlayer("Player"));
+
+            assertEquals(ShardRouter.firstIdOf(shard), id);
+            assertEquals(shard, router.shardForId(id));
+            assertEquals(Integer.valueOf(1), shardJdbc.get(shard).queryForObject(
+                    "SELECT COUNT(*) FROM players WHERE player_id = ?", Integer.class, id));
+        }
+    }
+
+    @Test
+    public void testOnEachShard_queriesEveryShard() {
+        router.onShard(1, () -> insertPlayer("A"));
+        router.onShard(2, () -> insertPlayer("B"));
+        router.onShard(2, () -> insertPlayer("C"));
+
+        List<Integer> counts = router.onEachShard(true,
+                shard -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM players", Integer.class));
+
+        assertEquals(Arrays.asList(0, 1, 2), counts);
+    }
+
+    @Test
+    public void testOnShardsOf_groupsIdsByShard() {
+        long first = router.onShard(0, () -> insertPlayer("A"));
+        long second = router.onShard(2, () -> insertPlayer("B"));
+        long third = router.onShard(2, () -> insertPlayer("C"));
+
+        List<Integer> found = router.onShardsOf(Arrays.asList(first, second, third), true,
+                ids -> jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM players WHERE player_id IN (" + ids.get(0) + ", " + ids.get(ids.size() - 1) + ")",
+                        Integer.class));
+
+        assertEquals(Arrays.asList(1, 2), found);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testTransactionPinnedToShard_rejectsOtherShard() {
+        transactionTemplate.execute(status -> {
+            router.onShard(1, () -> insertPlayer("A"));
+            return router.onShard(2, () -> insertPlayer("B"));
+        });
+    }
+
+    @Test
+    public void testTransactionPinnedToShard_allowsSameShard() {
+        int inserted = transactionTemplate.execute(status -> {
+            router.onShard(1, () -> insertPlayer("A"));
+            router.onShard(1, () -> insertPlayer("B"));
+            return router.onShard(1, () -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM players", Integer.class));
+        });
+
+        assertEquals(2, inserted);
+    }
+
+    @Test
+    public void testUnsharded_runsInline() {
+        assertFalse(ShardRouter.UNSHARDED.isSharded());
+        assertEquals(0, ShardRouter.UNSHARDED.shardForId(ShardRouter.firstIdOf(2)));
+        assertEquals(Arrays.asList(7), ShardRouter.UNSHARDED.onEachShard(true, shard -> 7));
+    }
+
+    private long insertPlayer(String name) {
+        jdbcTemplate.update("INSERT INTO players (name, handicap) VALUES (?, 0)", name);
+        return jdbcTemplate.queryForObject("SELECT MAX(player_id) FROM players", Long.class);
+    }
+}
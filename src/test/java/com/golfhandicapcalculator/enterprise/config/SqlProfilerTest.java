@@ -0,0 +1,153 @@
+package com.golfhandicapcalculator.enterprise.config;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class SqlProfilerTest {
+
+    private SqlProfiler profiler;
+
+    @Before
+    public void setUp() {
+        profiler = new SqlProfiler(200, 100);
+    }
+
+    @Test
+    public void testNormalize_replacesLiteralsAndInLists() {
+        assertEquals("select * from players where name = ? and handicap > ?",
+                SqlProfiler.normalize("select *  from players\n where name = 'O''Brien' and handicap > 12.5"));
+        assertEquals("select * from scores where player_id in (...)",
+                SqlProfiler.normalize("select * from scores where player_id in (?, ?,?)"));
+        assertEquals("select * from scores where player_id in (...)",
+                SqlProfiler.normalize("select * from scores where player_id in (1, 2, 3)"));
+    }
+
+    @Test
+    public void testNormalize_keepsIdentifiersContainingDigits() {
+        assertEquals("select s1_0.score from scores s1_0 where s1_0.player_id = ?",
+                SqlProfiler.normalize("select s1_0.score from scores s1_0 where s1_0.player_id = 7"));
+    }
+
+    @Test
+    public void testRecord_groupsStatementsByFingerprint() {
+        profiler.record("select * from players where player_id = 1", millis(2));
+        profiler.record("select * from players where player_id = 2", millis(4));
+        profiler.record("select * from scores where player_id = ?", millis(1));
+
+        List<SqlProfiler.FingerprintSnapshot> top = profiler.topFingerprints(10, "total");
+
+        assertEquals(2, top.size());
+        assertEquals("select * from players where player_id = ?", top.get(0).getFingerprint());
+        assertEquals(2, top.get(0).getCount());
+        assertEquals(6.0, top.get(0).getTotalMillis(), 0.001);
+        assertEquals(3.0, top.get(0).getMeanMillis(), 0.001);
+        assertEquals(4.0, top.get(0).getMaxMillis(), 0.001);
+    }
+
+    @Test
+    public void testTopFingerprints_ordersBySortKeyAndLimits() {
+        profiler.record("select 'a'", millis(10));
+        for (int i = 0; i < 10; i++) {
+            profiler.record("select 'b' from players", millis(3));
+        }
+        profiler.record("select 'c' from scores", millis(1));
+
+        assertEquals("select ?", profiler.topFingerprints(1, "mean").get(0).getFingerprint());
+        assertEquals("select ? from players", profiler.topFingerprints(1, "total").get(0).getFingerprint());
+        assertEquals(2, profiler.topFingerprints(2, "max").size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTopFingerprints_rejectsUnknownSortKey() {
+        profiler.topFingerprints(10, "median");
+    }
+
+    @Test
+    public void testHistogram_percentilesUseBucketUpperBounds() {
+        for (int i = 0; i < 98; i++) {
+            profiler.record("select 1", TimeUnit.MICROSECONDS.toNanos(800));
+        }
+        profiler.record("select 1", millis(40));
+        profiler.record("select 1", millis(4_000));
+
+        SqlProfiler.FingerprintSnapshot snapshot = profiler.topFingerprints(1, "mean").get(0);
+
+        assertEquals(1.0, snapshot.getP50Millis(), 0.001);
+        assertEquals(1.0, snapshot.getP95Millis(), 0.001);
+        assertEquals(50.0, snapshot.getP99Millis(), 0.001);
+        assertEquals(98L, (long) snapshot.getHistogram().get("1.0"));
+        assertEquals(1L, (long) snapshot.getHistogram().get("+Inf"));
+    }
+
+    @Test
+    public void testRecord_boundsTheNumberOfFingerprints() {
+        SqlProfiler small = new SqlProfiler(200, 2);
+        small.record("select * from a", millis(1));
+        small.record("select * from b", millis(1));
+        small.record("select * from c", millis(1));
+        small.record("select * from d", millis(1));
+
+        List<SqlProfiler.FingerprintSnapshot> top = small.topFingerprints(10, "total");
+
+        assertEquals(3, top.size());
+        assertEquals(SqlProfiler.OTHER_FINGERPRINT, top.get(0).getFingerprint());
+        assertEquals(2, top.get(0).getCount());
+    }
+
+    @Test
+    public void testRequestTally_countsOnlyStatementsOfTheCurrentRequest() {
+        profiler.record("select 1", millis(1));
+        profiler.beginRequest();
+        profiler.record("select 2", millis(1));
+        profiler.record("select 3", millis(2));
+        SqlProfiler.RequestTally tally = profiler.endRequest();
+        profiler.record("select 4", millis(1));
+
+        assertEquals(2, tally.getStatements());
+        assertEquals(3.0, tally.getMillis(), 0.001);
+        assertEquals(0, profiler.endRequest().getStatements());
+    }
+
+    @Test
+    public void testRecordRequest_aggregatesPerEndpoint() {
+        SqlProfiler.RequestTally tally = tally(4);
+        profiler.recordRequest("GET /api/players", tally);
+        profiler.recordRequest("GET /api/players", tally(2));
+        profiler.recordRequest("GET /api/players/{playerId}", tally(1));
+
+        List<SqlProfiler.RequestSnapshot> requests = profiler.requestStatistics();
+
+        assertEquals("GET /api/players", requests.get(0).getEndpoint());
+        assertEquals(2, requests.get(0).getRequests());
+        assertEquals(3.0, requests.get(0).getMeanStatements(), 0.001);
+        assertEquals(4, requests.get(0).getMaxStatements());
+    }
+
+    @Test
+    public void testReset_discardsStatistics() {
+        profiler.record("select 1", millis(1));
+        profiler.recordRequest("GET /api/players", tally(1));
+
+        profiler.reset();
+
+        assertTrue(profiler.topFingerprints(10, "mean").isEmpty());
+        assertTrue(profiler.requestStatistics().isEmpty());
+    }
+
+    private SqlProfiler.RequestTally tally(int statements) {
+        profiler.beginRequest();
+        for (int i = 0; i < statements; i++) {
+            profiler.record("select 1", millis(1));
+        }
+        return profiler.endRequest();
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
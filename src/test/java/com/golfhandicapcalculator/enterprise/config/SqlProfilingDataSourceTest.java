@@ -0,0 +1,91 @@
+package com.golfhandicapcalculator.enterprise.config;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class SqlProfilingDataSourceTest {
+
+    private SqlProfiler profiler;
+    private DataSource target;
+    private JdbcTemplate jdbcTemplate;
+
+    @Before
+    public void setUp() {
+        profiler = new SqlProfiler(200, 100);
+        target = new DriverManagerDataSource(
+                "jdbc:h2:mem:profiling_" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(new SqlProfilingDataSource(target, profiler));
+        jdbcTemplate.execute("create table players (player_id bigint primary key, name varchar(100))");
+        profiler.reset();
+    }
+
+    @Test
+    public void testPreparedStatements_areRecordedByFingerprint() {
+        jdbcTemplate.update("insert into players (player_id, name) values (?, ?)", 1L, "Ann");
+        jdbcTemplate.update("insert into players (player_id, name) values (?, ?)", 2L, "Bob");
+        jdbcTemplate.queryForObject("select name from players where player_id = ?", String.class, 1L);
+
+        List<String> fingerprints = profiler.topFingerprints(10, "total").stream()
+                .map(SqlProfiler.FingerprintSnapshot::getFingerprint).collect(Collectors.toList());
+        long inserts = profiler.topFingerprints(10, "total").stream()
+                .filter(snapshot -> snapshot.getFingerprint().startsWith("insert")).findFirst().get().getCount();
+
+        assertEquals(2, fingerprints.size());
+        assertTrue(fingerprints.contains("select name from players where player_id = ?"));
+        assertEquals(2, inserts);
+    }
+
+    @Test
+    public void testPlainStatements_normalizeLiterals() {
+        jdbcTemplate.execute("insert into players (player_id, name) values (3, 'Cy')");
+        jdbcTemplate.queryForList("select name from players where player_id in (1, 2, 3)");
+
+        List<String> fingerprints = profiler.topFingerprints(10, "total").stream()
+                .map(SqlProfiler.FingerprintSnapshot::getFingerprint).collect(Collectors.toList());
+
+        assertTrue(fingerprints.contains("insert into players (player_id, name) values (?, ?)"));
+        assertTrue(fingerprints.contains("select name from players where player_id in (...)"));
+    }
+
+    @Test
+    public void testBatch_isRecordedAsOneExecution() {
+        jdbcTemplate.batchUpdate("insert into players (player_id, name) values (?, ?)",
+                Arrays.asList(new Object[]{4L, "Di"}, new Object[]{5L, "Ed"}, new Object[]{6L, "Flo"}));
+
+        List<SqlProfiler.FingerprintSnapshot> top = profiler.topFingerprints(10, "total");
+
+        assertEquals(1, top.size());
+        assertEquals(1, top.get(0).getCount());
+    }
+
+    @Test
+    public void testRequestTally_countsStatementsOnTheRequestThread() {
+        profiler.beginRequest();
+        jdbcTemplate.queryForList("select name from players");
+        jdbcTemplate.update("insert into players (player_id, name) values (?, ?)", 7L, "Gus");
+
+        assertEquals(2, profiler.endRequest().getStatements());
+    }
+
+    @Test(expected = org.springframework.dao.DataAccessException.class)
+    public void testFailedStatements_propagateTheDriverException() {
+        jdbcTemplate.queryForList("select missing_column from players");
+    }
+
+    @Test
+    public void testUnwrap_reachesTheTargetDataSource() throws Exception {
+        DataSource profiling = new SqlProfilingDataSource(target, profiler);
+
+        assertTrue(profiling.isWrapperFor(DriverManagerDataSource.class));
+        assertSame(target, profiling.unwrap(DriverManagerDataSource.class));
+    }
+}
@@ -0,0 +1,64 @@
+package com.golfhandicapcalculator.enterprise.config;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+public class TokenBucketLimiterTest {
+
+    private AtomicLong now;
+    private TokenBucketLimiter limiter;
+
+    @Before
+    public void setUp() {
+        now = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+        limiter = new TokenBucketLimiter(2, 3, now::get); // 2 per second, bursts of 3
+    }
+
+    @Test
+    public void testTryAcquire_allowsBurstThenRejects() {
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertEquals(0, limiter.tryAcquire("a"));
+
+        long wait = limiter.tryAcquire("a");
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), wait);
+    }
+
+    @Test
+    public void testTryAcquire_refillsAtConfiguredRate() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("a");
+        }
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a") > 0);
+    }
+
+    @Test
+    public void testTryAcquire_keepsClientsSeparate() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("a");
+        }
+
+        assertTrue(limiter.tryAcquire("a") > 0);
+        assertEquals(0, limiter.tryAcquire("b"));
+    }
+
+    @Test
+    public void testEvictIdle_removesOnlyRefilledClients() {
+        limiter.tryAcquire("a");
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        limiter.tryAcquire("b");
+
+        limiter.evictIdle();
+
+        assertEquals(1, limiter.trackedClients());
+    }
+}
@@ -0,0 +1,90 @@
+package com.golfhandicapcalculator.enterprise.dao.history;
+
+import com.golfhandicapcalculator.enterprise.dto.HandicapHistoryChunk;
+import com.golfhandicapcalculator.enterprise.dto.HandicapPoint;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class HandicapHistoryCodecTest {
+
+    private static final long START = Instant.parse("2024-04-01T12:00:00Z").getEpochSecond();
+    private static final long WEEK = 7 * 24 * 3600;
+
+    @Test
+    public void testAppendAndDecode_roundTripsPoints() {
+        HandicapHistoryChunk chunk = HandicapHistoryCodec.newChunk(1L, START);
+        HandicapHistoryCodec.append(chunk, START, HandicapHistoryCodec.quantize(15.4));
+        HandicapHistoryCodec.append(chunk, START + WEEK, HandicapHistoryCodec.quantize(14.87));
+        HandicapHistoryCodec.append(chunk, START + 2 * WEEK, HandicapHistoryCodec.quantize(-1.25));
+
+        List<HandicapPoint> points = new ArrayList<>();
+        HandicapHistoryCodec.decode(chunk, Long.MIN_VALUE, Long.MAX_VALUE, points);
+
+        assertEquals(3, points.size());
+        assertEquals(Instant.ofEpochSecond(START + WEEK), points.get(1).getTimestamp());
+        assertEquals(14.87, points.get(1).getHandicap(), 0.0001);
+        assertEquals(-1.25, points.get(2).getHandicap(), 0.0001);
+        assertEquals(START + 2 * WEEK, chunk.getLastTimestamp());
+        assertEquals(-125, chunk.getLastValue());
+    }
+
+    @Test
+    public void testAppend_typicalPointTakesAFewBytes() {
+        HandicapHistoryChunk chunk = HandicapHistoryCodec.newChunk(1L, START);
+        double handicap = 18.0;
+        for (int i = 0; i < 100; i++) {
+            handicap += (i % 2 == 0 ? -0.35 : 0.2);
+            HandicapHistoryCodec.append(chunk, START + i * WEEK, HandicapHistoryCodec.quantize(handicap));
+        }
+
+        // weekly deltas need 3 bytes, small handicap steps 1 byte
+        assertTrue("bytes per point: " + chunk.getData().length / 100.0, chunk.getData().length <= 100 * 5);
+        assertEquals(100, chunk.getPointCount());
+    }
+
+    @Test
+    public void testDecode_returnsOnlyPointsInRange() {
+        HandicapHistoryChunk chunk = HandicapHistoryCodec.newChunk(1L, START);
+        for (int i = 0; i < 10; i++) {
+            HandicapHistoryCodec.append(chunk, START + i * WEEK, 1000 + i);
+        }
+
+        List<HandicapPoint> points = new ArrayList<>();
+        HandicapHistoryCodec.decode(chunk, START + 3 * WEEK, START + 5 * WEEK, points);
+
+        assertEquals(3, points.size());
+        assertEquals(10.03, points.get(0).getHandicap(), 0.0001);
+        assertEquals(10.05, points.get(2).getHandicap(), 0.0001);
+    }
+
+    @Test
+    public void testAppend_clampsTimestampsThatGoBackwards() {
+        HandicapHistoryChunk chunk = HandicapHistoryCodec.newChunk(1L, START);
+        HandicapHistoryCodec.append(chunk, START + 10, 500);
+        HandicapHistoryCodec.append(chunk, START + 5, 450);
+
+        List<HandicapPoint> points = new ArrayList<>();
+        HandicapHistoryCodec.decode(chunk, Long.MIN_VALUE, Long.MAX_VALUE, points);
+
+        assertEquals(points.get(0).getTimestamp(), points.get(1).getTimestamp());
+        assertEquals(4.5, points.get(1).getHandicap(), 0.0001);
+    }
+
+    @Test
+    public void testHasRoom_falseWhenChunkIsFull() {
+        HandicapHistoryChunk chunk = HandicapHistoryCodec.newChunk(1L, START);
+        int appended = 0;
+        while (HandicapHistoryCodec.hasRoom(chunk)) {
+            HandicapHistoryCodec.append(chunk, START + appended * WEEK, appended % 2 == 0 ? 100000 : -100000);
+            appended++;
+        }
+
+        assertTrue(chunk.getData().length <= HandicapHistoryCodec.MAX_CHUNK_BYTES);
+        assertEquals(appended, chunk.getPointCount());
+    }
+}
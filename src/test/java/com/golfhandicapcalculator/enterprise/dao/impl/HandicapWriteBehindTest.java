@@ -0,0 +1,85 @@
+package com.golfhandicapcalculator.enterprise.dao.impl;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class HandicapWriteBehindTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private HandicapWriteBehind writeBehind;
+
+    @Before
+    public void setUp() {
+        writeBehind = new HandicapWriteBehind(jdbcTemplate, 60_000, 1000, 2);
+    }
+
+    @Test
+    public void testPut_coalescesUpdatesForSamePlayer() {
+        writeBehind.put(1L, 15.0);
+        writeBehind.put(1L, 14.2);
+        writeBehind.put(1L, 13.9);
+
+        assertEquals(13.9, writeBehind.pending(1L), 0.001);
+        assertEquals(1, writeBehind.flush());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(eq(HandicapWriteBehind.UPDATE_SQL), batch.capture());
+        assertEquals(1, batch.getValue().size());
+        assertEquals(13.9, (Double) batch.getValue().get(0)[0], 0.001);
+        assertEquals(1L, batch.getValue().get(0)[1]);
+    }
+
+    @Test
+    public void testFlush_splitsIntoBatchesAndClearsPending() {
+        writeBehind.put(1L, 10.0);
+        writeBehind.put(2L, 11.0);
+        writeBehind.put(3L, 12.0);
+
+        assertEquals(3, writeBehind.flush());
+
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+        assertFalse(writeBehind.hasPending());
+        assertNull(writeBehind.pending(1L));
+    }
+
+    @Test
+    public void testFlush_keepsEntriesWhenWriteFails() {
+        writeBehind.put(1L, 10.0);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new RuntimeException("Database error"));
+
+        try {
+            writeBehind.flush();
+            fail("expected flush to fail");
+        } catch (RuntimeException expected) {
+            // entry must survive for the next attempt
+        }
+
+        assertEquals(10.0, writeBehind.pending(1L), 0.001);
+    }
+
+    @Test
+    public void testDiscard_dropsPendingUpdate() {
+        writeBehind.put(1L, 10.0);
+        writeBehind.discard(1L);
+
+        assertEquals(0, writeBehind.flush());
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
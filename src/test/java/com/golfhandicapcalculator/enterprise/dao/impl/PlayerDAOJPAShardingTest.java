@@ -0,0 +1,149 @@
+package com.golfhandicapcalculator.enterprise.dao.impl;
+
+import com.golfhandicapcalculator.enterprise.config.ShardRouter;
+import com.golfhandicapcalculator.enterprise.dao.IPlayerDAO;
+import com.golfhandicapcalculator.enterprise.dao.IScoreDAO;
+import com.golfhandicapcalculator.enterprise.dto.Player;
+import com.golfhandicapcalculator.enterprise.dto.Score;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * PlayerDAOJPA against two H2 shards. The reads run outside any transaction, as they do when a response is
+ * serialized, so players whose scores were left lazy by a shard fan-out fail here.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:player_shard0;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration",
+        "golf.sharding.enabled=true",
+        "golf.sharding.urls=jdbc:h2:mem:player_shard1;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "golf.rate-limit.enabled=false",
+        "golf.differential.backfill-on-startup=false",
+        "golf.player-summary.rebuild-when-empty=false"
+})
+public class PlayerDAOJPAShardingTest {
+
+    private static final int SHARDS = 2;
+
+    @Autowired
+    private IPlayerDAO playerDAO;
+
+    @Autowired
+    private IScoreDAO scoreDAO;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    private List<Player> players;
+
+    @Before
+    public void setUp() {
+        List<Long> existing = playerDAO.fetchAllPlayers().stream().map(Player::getPlayerId)
+                .collect(Collectors.toList());
+        scoreDAO.deleteScoresByPlayerIds(existing);
+        playerDAO.deletePlayers(existing);
+        players = new ArrayList<>();
+        for (int shard = 0; shard < SHARDS; shard++) {
+            Player player = createPlayer("Player " + shard, clubOnShard(shard));
+            createScore(player.getPlayerId(), 85);
+            createScore(player.getPlayerId(), 90);
+            players.add(player);
+        }
+    }
+
+    @Test
+    public void testFetchAllPlayers_loadsScoresOnEveryShard() {
+        assertScoresLoaded(playerDAO.fetchAllPlayers());
+    }
+
+    @Test
+    public void testFetchPlayersPage_loadsScoresOnEveryShard() {
+        assertScoresLoaded(playerDAO.fetchPlayersPage(0, 10));
+    }
+
+    @Test
+    public void testFetchPlayers_loadsScoresOnEveryShard() {
+        assertScoresLoaded(playerDAO.fetchPlayers(players.stream().map(Player::getPlayerId)
+                .collect(Collectors.toList())));
+    }
+
+    @Test
+    public void testUpdatePlayer_withoutClub_staysOnItsShard() {
+        for (Player player : players) {
+            Player update = new Player();
+            update.setPlayerId(player.getPlayerId());
+            update.setName("Renamed");
+
+            assertNotNull(playerDAO.updatePlayer(update));
+            assertEquals("Renamed", playerDAO.fetchPlayer(player.getPlayerId()).getName());
+        }
+    }
+
+    @Test
+    public void testUpdatePlayer_toAClubOnTheSameShard_isAllowed() {
+        Player player = players.get(1);
+        long otherClub = player.getClubId() + 1;
+        while (shardRouter.shardForClub(otherClub) != 1) {
+            otherClub++;
+        }
+        player.setClubId(otherClub);
+
+        assertEquals(Long.valueOf(otherClub), playerDAO.updatePlayer(player).getClubId());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUpdatePlayer_toAClubOnAnotherShard_isRejected() {
+        Player player = players.get(1);
+        player.setClubId(clubOnShard(0));
+
+        playerDAO.updatePlayer(player);
+    }
+
+    private void assertScoresLoaded(List<Player> fetched) {
+        assertEquals(SHARDS, fetched.size());
+        for (int shard = 0; shard < SHARDS; shard++) {
+            assertEquals(shard, shardRouter.shardForId(fetched.get(shard).getPlayerId()));
+            assertEquals(2, fetched.get(shard).getScores().size());
+        }
+    }
+
+    private long clubOnShard(int shard) {
+        long clubId = 1;
+        while (shardRouter.shardForClub(clubId) != shard) {
+            clubId++;
+        }
+        return clubId;
+    }
+
+    private Player createPlayer(String name, long clubId) {
+        Player player = new Player();
+        player.setName(name);
+        player.setClubId(clubId);
+        return playerDAO.savePlayer(player);
+    }
+
+    private Score createScore(Long playerId, int value) {
+        Score score = new Score();
+        score.setPlayerId(playerId);
+        score.setScore(value);
+        score.setPar(72);
+        score.setSlope(113);
+        return scoreDAO.saveScore(score);
+    }
+}
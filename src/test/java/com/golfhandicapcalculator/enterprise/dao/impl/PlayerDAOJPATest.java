@@ -0,0 +1,73 @@
+package com.golfhandicapcalculator.enterprise.dao.impl;
+
+import com.golfhandicapcalculator.enterprise.dao.PlayerRepository;
+import com.golfhandicapcalculator.enterprise.dto.Player;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PlayerDAOJPATest {
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Spy
+    private HandicapWriteBehind handicapWriteBehind = new HandicapWriteBehind(mock(JdbcTemplate.class), 60_000, 1000, 2);
+
+    @InjectMocks
+    private PlayerDAOJPA playerDAO;
+
+    private Player stored;
+
+    @Before
+    public void setUp() {
+        stored = createPlayer(1L, "John Doe", 20.0);
+        handicapWriteBehind.put(1L, 12.0);
+    }
+
+    @Test
+    public void testFetchPlayer_overlaysPendingHandicapWithoutTouchingTheEntity() {
+        when(playerRepository.findById(1L)).thenReturn(Optional.of(stored));
+
+        Player player = playerDAO.fetchPlayer(1L);
+
+        assertEquals(12.0, player.getHandicap(), 0.0);
+        assertEquals("John Doe", player.getName());
+        assertSame(stored.getScores(), player.getScores());
+        // a managed entity changed here would be flushed as an UPDATE when the caller's transaction commits
+        assertEquals(20.0, stored.getHandicap(), 0.0);
+    }
+
+    @Test
+    public void testFetchAllPlayers_overlaysPendingHandicapsOnCopies() {
+        Player other = createPlayer(2L, "Jane Smith", 8.0);
+        when(playerRepository.findAll()).thenReturn(Arrays.asList(stored, other));
+
+        List<Player> players = playerDAO.fetchAllPlayers();
+
+        assertEquals(12.0, players.get(0).getHandicap(), 0.0);
+        assertEquals(20.0, stored.getHandicap(), 0.0);
+        assertSame(other, players.get(1));
+    }
+
+    private Player createPlayer(Long id, String name, double handicap) {
+        Player player = new Player();
+        player.setPlayerId(id);
+        player.setName(name);
+        player.setHandicap(handicap);
+        return player;
+    }
+}
@@ -0,0 +1,377 @@
+package com.golfhandicapcalculator.enterprise.dao.journal;
+
+import com.golfhandicapcalculator.enterprise.dto.ChangeLogEntry;
+import com.golfhandicapcalculator.enterprise.dto.Course;
+import com.golfhandicapcalculator.enterprise.dto.HandicapPoint;
+import com.golfhandicapcalculator.enterprise.dto.Player;
+import com.golfhandicapcalculator.enterprise.dto.Score;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class JournalStoreTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private JournalStore store;
+
+    @Before
+    public void setUp() throws IOException {
+        store = open();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        store.close();
+    }
+
+    @Test
+    public void testReopen_replaysPlayersScoresAndHandicaps() throws IOException {
+        Player player = store.savePlayer(createPlayer("John Doe", 0.0));
+        store.saveScore(createScore(player.getPlayerId(), 85, 72, 113));
+        store.saveScore(createScore(player.getPlayerId(), 90, 72, 120));
+        store.updateHandicap(player.getPlayerId(), 15.25);
+
+        store.close();
+        store = open();
+
+        Player replayed = store.player(player.getPlayerId());
+        assertNotNull(replayed);
+        assertEquals("John Doe", replayed.getName());
+        assertEquals(15.25, replayed.getHandicap(), 0.0001);
+        assertEquals(2, store.scoresByPlayer(player.getPlayerId()).size());
+    }
+
+    @Test
+    public void testReopen_replaysClubIds() throws IOException {
+        Player member = createPlayer("Club Member", 0.0);
+        member.setClubId(7L);
+        Player withoutClub = store.savePlayer(createPlayer("No Club", 0.0));
+        member = store.savePlayer(member);
+
+        store.close();
+        store = open();
+
+        assertEquals(Long.valueOf(7L), store.player(member.getPlayerId()).getClubId());
+        assertNull(store.player(withoutClub.getPlayerId()).getClubId());
+    }
+
+    @Test
+    public void testReopen_continuesIdSequence() throws IOException {
+        Player first = store.savePlayer(createPlayer("First", 0.0));
+
+        store.close();
+        store = open();
+
+        Player second = store.savePlayer(createPlayer("Second", 0.0));
+        assertTrue(second.getPlayerId() > first.getPlayerId());
+    }
+
+    @Test
+    public void testDeletePlayer_removesPlayerAndScoresAfterReplay() throws IOException {
+        Player player = store.savePlayer(createPlayer("John Doe", 0.0));
+        Score score = store.saveScore(createScore(player.getPlayerId(), 85, 72, 113));
+        store.deletePlayer(player.getPlayerId());
+
+        store.close();
+        store = open();
+
+        assertNull(store.player(player.getPlayerId()));
+        assertNull(store.score(score.getScoreId()));
+    }
+
+    @Test
+    public void testTornTail_isDiscardedOnReplay() throws IOException {
+        Player player = store.savePlayer(createPlayer("John Doe", 0.0));
+        store.close();
+
+        Path journal = folder.getRoot().toPath().resolve("journal.log");
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            // a frame header announcing more bytes than were ever written
+            channel.write(ByteBuffer.allocate(10).putInt(64).putInt(12345).put((byte) 1).flip());
+        }
+
+        store = open();
+        assertNotNull(store.player(player.getPlayerId()));
+        Player next = store.savePlayer(createPlayer("Jane Smith", 0.0));
+
+        store.close();
+        store = open();
+        assertNotNull(store.player(next.getPlayerId()));
+    }
+
+    @Test
+    public void testSnapshot_compactsJournalAndKeepsLaterWrites() throws IOException {
+        Player player = store.savePlayer(createPlayer("John Doe", 0.0));
+        store.saveScore(createScore(player.getPlayerId(), 85, 72, 113));
+        store.snapshot();
+        store.saveScore(createScore(player.getPlayerId(), 88, 72, 113));
+
+        store.close();
+        store = open();
+
+        assertEquals(2, store.scoresByPlayer(player.getPlayerId()).size());
+    }
+
+    @Test
+    public void testReopen_countsOnlyJournalRecordsTowardTheNextSnapshot() throws IOException {
+        store.close();
+        store = open(3);
+        Player player = store.savePlayer(createPlayer("John Doe", 0.0));
+        store.saveScore(createScore(player.getPlayerId(), 85, 72, 113));
+        store.snapshot();
+
+        store.close();
+        store = open(3);
+        store.saveScore(createScore(player.getPlayerId(), 88, 72, 113));
+
+        // the records loaded from the snapshot must not bring the next snapshot forward
+        Path journal = folder.getRoot().toPath().resolve("journal.log");
+        assertTrue(Files.size(journal) > JournalCodec.JOURNAL_HEADER_SIZE);
+    }
+
+    @Test
+    public void testReads_returnCopiesOfTheStoredState() {
+        Player player = store.savePlayer(createPlayer("John Doe", 12.0));
+        Score score = store.saveScore(createScore(player.getPlayerId(), 85, 72, 113));
+
+        Player read = store.player(player.getPlayerId());
+        read.setName("Changed");
+        read.setHandicap(1.0);
+        read.getScores().clear();
+        store.score(score.getScoreId()).setScore(70);
+        store.scoresByPlayer(player.getPlayerId()).get(0).setPar(60);
+        store.allPlayers().get(0).getScores().clear();
+
+        Player stored = store.player(player.getPlayerId());
+        assertEquals("John Doe", stored.getName());
+        assertEquals(12.0, stored.getHandicap(), 0.0);
+        assertEquals(1, stored.getScores().size());
+        assertEquals(85, store.score(score.getScoreId()).getScore());
+        assertEquals(72, store.scoresByPlayer(player.getPlayerId()).get(0).getPar());
+        assertEquals(player.getPlayerId(), store.score(score.getScoreId()).getPlayerId());
+    }
+
+    @Test
+    public void testScorecardAndAdjustedScore_surviveReplayAndSnapshot() throws IOException {
+        Player player = store.savePlayer(createPlayer("John Doe", 0.0));
+        byte[] card = new byte[16];
+        Arrays.fill(card, (byte) 0x45);
+        Score carded = createScore(player.getPlayerId(), 95, 72, 113);
+        carded.setScorecard(card);
+        carded.setAdjustedScore(90);
+        carded = store.saveScore(carded);
+        store.snapshot();
+        Score later = createScore(player.getPlayerId(), 96, 72, 113);
+        later.setScorecard(card);
+        later.setAdjustedScore(91);
+        later = store.saveScore(later);
+
+        store.close();
+        store = open();
+
+        for (Score saved : Arrays.asList(carded, later)) {
+            Score replayed = store.score(saved.getScoreId());
+            assertArrayEquals(card, replayed.getScorecard());
+            assertEquals(saved.getAdjustedScore(), replayed.getAdjustedScore());
+            assertEquals(saved.getDifferential(), replayed.getDifferential());
+        }
+    }
+
+    @Test
+    public void testBulkDeleteAndPurge_surviveReplay() throws IOException {
+        Player first = store.savePlayer(createPlayer("John Doe", 0.0));
+        Player second = store.savePlayer(createPlayer("Jane Smith", 0.0));
+        Player third = store.savePlayer(createPlayer("Alice Jones", 0.0));
+        Score old = createScore(third.getPlayerId(), 95, 72, 113);
+        old.setRecordedAt(Instant.parse("2020-01-01T00:00:00Z"));
+        store.saveScore(old);
+        store.saveScore(createScore(third.getPlayerId(), 85, 72, 113));
+
+        assertEquals(2, store.deletePlayers(Arrays.asList(first.getPlayerId(), second.getPlayerId())));
+        assertEquals(1, store.purgeScoresBefore(Instant.parse("2021-01-01T00:00:00Z")));
+
+        store.close();
+        store = open();
+
+        assertNull(store.player(first.getPlayerId()));
+        assertNull(store.player(second.getPlayerId()));
+        assertEquals(1, store.scoresByPlayer(third.getPlayerId()).size());
+    }
+
+    @Test
+    public void testHandicapHistory_survivesReplayAndSnapshot() throws IOException {
+        Player player = store.savePlayer(createPlayer("John Doe", 0.0));
+        Instant start = Instant.parse("2025-06-01T00:00:00Z");
+        store.appendHistoryPoint(player.getPlayerId(), start, 18.0);
+        store.appendHistoryPoint(player.getPlayerId(), start.plusSeconds(86_400), 17.4);
+        store.snapshot();
+        store.appendHistoryPoint(player.getPlayerId(), start.plusSeconds(2 * 86_400), 16.9);
+        // unchanged handicaps are not stored
+        store.appendHistoryPoint(player.getPlayerId(), start.plusSeconds(3 * 86_400), 16.9);
+
+        store.close();
+        store = open();
+
+        List<HandicapPoint> points = store.historyPoints(player.getPlayerId(), start, start.plusSeconds(10 * 86_400));
+        assertEquals(3, points.size());
+        assertEquals(start, points.get(0).getTimestamp());
+        assertEquals(17.4, points.get(1).getHandicap(), 0.0);
+        assertEquals(16.9, points.get(2).getHandicap(), 0.0);
+    }
+
+    @Test
+    public void testDeleteHistory_survivesReplay() throws IOException {
+        Player player = store.savePlayer(createPlayer("John Doe", 0.0));
+        Instant at = Instant.parse("2025-06-01T00:00:00Z");
+        store.appendHistoryPoint(player.getPlayerId(), at, 18.0);
+        store.deleteHistory(player.getPlayerId());
+
+        store.close();
+        store = open();
+
+        assertTrue(store.historyPoints(player.getPlayerId(), at, at.plusSeconds(60)).isEmpty());
+    }
+
+    @Test
+    public void testDeleteHistories_surviveReplay() throws IOException {
+        Player first = store.savePlayer(createPlayer("John Doe", 0.0));
+        Player second = store.savePlayer(createPlayer("Jane Smith", 0.0));
+        Player kept = store.savePlayer(createPlayer("Alice Jones", 0.0));
+        Instant at = Instant.parse("2025-06-01T00:00:00Z");
+        for (Player player : Arrays.asList(first, second, kept)) {
+            store.appendHistoryPoint(player.getPlayerId(), at, 18.0);
+        }
+
+        assertEquals(2, store.deleteHistories(Arrays.asList(first.getPlayerId(), second.getPlayerId())));
+
+        store.close();
+        store = open();
+
+        assertTrue(store.historyPoints(first.getPlayerId(), at, at.plusSeconds(60)).isEmpty());
+        assertTrue(store.historyPoints(second.getPlayerId(), at, at.plusSeconds(60)).isEmpty());
+        assertEquals(1, store.historyPoints(kept.getPlayerId(), at, at.plusSeconds(60)).size());
+    }
+
+    @Test
+    public void testCourses_surviveReplayAndSnapshot() throws IOException {
+        Course withoutTee = store.saveCourse(createCourse("Pine Valley", null));
+        store.snapshot();
+        Course withTee = store.saveCourse(createCourse("Augusta", "Blue"));
+
+        store.close();
+        store = open();
+
+        assertNull(store.course(withoutTee.getCourseId()).getTee());
+        assertEquals("Pine Valley", store.course(withoutTee.getCourseId()).getName());
+        Course replayed = store.course(withTee.getCourseId());
+        assertEquals("Blue", replayed.getTee());
+        assertEquals(72, replayed.getPar());
+        assertEquals(120, replayed.getSlope());
+        assertEquals(71.2, replayed.getRating(), 0.0);
+        assertTrue(store.saveCourse(createCourse("Oakmont", null)).getCourseId() > withTee.getCourseId());
+    }
+
+    @Test
+    public void testChangeLogCompaction_survivesReplay() throws IOException {
+        Instant at = Instant.parse("2025-06-01T00:00:00Z");
+        store.appendChanges(Arrays.asList(
+                createChange(ChangeLogEntry.EntityType.PLAYER, ChangeLogEntry.Operation.INSERT, 100L, 100L, at),
+                createChange(ChangeLogEntry.EntityType.PLAYER, ChangeLogEntry.Operation.UPDATE, 100L, 100L, at),
+                createChange(ChangeLogEntry.EntityType.SCORE, ChangeLogEntry.Operation.INSERT, 200L, 101L, at),
+                createChange(ChangeLogEntry.EntityType.PLAYER, ChangeLogEntry.Operation.DELETE, 101L, 101L, at)));
+
+        assertEquals(2, store.deleteChangesSupersededBefore(at.plusSeconds(60)));
+
+        store.close();
+        store = open();
+
+        List<ChangeLogEntry> changes = store.changesAfter(0, 10);
+        assertEquals(2, changes.size());
+        assertEquals(Long.valueOf(2L), changes.get(0).getChangeId());
+        assertEquals(ChangeLogEntry.Operation.DELETE, changes.get(1).getOperation());
+        assertEquals(Long.valueOf(4L), store.lastChangeId());
+    }
+
+    @Test
+    public void testChangeIds_keepIncreasingAfterTheNewestEntryIsCompactedAway() throws IOException {
+        Instant at = Instant.parse("2025-06-01T00:00:00Z");
+        store.appendChanges(Arrays.asList(
+                createChange(ChangeLogEntry.EntityType.PLAYER, ChangeLogEntry.Operation.INSERT, 100L, 100L, at),
+                createChange(ChangeLogEntry.EntityType.PLAYER, ChangeLogEntry.Operation.DELETE, 100L, 100L, at)));
+        assertEquals(1, store.deleteChangesSupersededBefore(at.plusSeconds(60)));
+        assertEquals(1, store.deleteChangeTombstonesBefore(at.plusSeconds(60)));
+        store.snapshot();
+
+        store.close();
+        store = open();
+
+        assertNull(store.lastChangeId());
+        store.appendChanges(Collections.singletonList(
+                createChange(ChangeLogEntry.EntityType.PLAYER, ChangeLogEntry.Operation.INSERT, 102L, 102L, at)));
+        assertEquals(Long.valueOf(3L), store.lastChangeId());
+    }
+
+    private JournalStore open() throws IOException {
+        return open(1000);
+    }
+
+    private JournalStore open(long snapshotThreshold) throws IOException {
+        JournalStore journalStore = new JournalStore(folder.getRoot().getAbsolutePath(), 0, snapshotThreshold);
+        journalStore.open();
+        return journalStore;
+    }
+
+    private Player createPlayer(String name, double handicap) {
+        Player player = new Player();
+        player.setName(name);
+        player.setHandicap(handicap);
+        return player;
+    }
+
+    private Course createCourse(String name, String tee) {
+        Course course = new Course();
+        course.setName(name);
+        course.setTee(tee);
+        course.setPar(72);
+        course.setSlope(120);
+        course.setRating(71.2);
+        return course;
+    }
+
+    private ChangeLogEntry createChange(ChangeLogEntry.EntityType entityType, ChangeLogEntry.Operation operation,
+                                        Long entityId, Long playerId, Instant changedAt) {
+        ChangeLogEntry entry = new ChangeLogEntry();
+        entry.setEntityType(entityType);
+        entry.setOperation(operation);
+        entry.setEntityId(entityId);
+        entry.setPlayerId(playerId);
+        entry.setChangedAt(changedAt);
+        return entry;
+    }
+
+    private Score createScore(Long playerId, int score, int par, int slope) {
+        Score scoreObj = new Score();
+        scoreObj.setPlayerId(playerId);
+        scoreObj.setScore(score);
+        scoreObj.setPar(par);
+        scoreObj.setSlope(slope);
+        return scoreObj;
+    }
+}
@@ -0,0 +1,92 @@
+package com.golfhandicapcalculator.enterprise.dto;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class ScorecardTest {
+
+    private static final int[] PARS = {4, 4, 3, 5, 4, 4, 3, 4, 5, 4, 3, 4, 5, 4, 4, 3, 4, 5};
+
+    @Test
+    public void testOf_roundTripsEveryHoleThroughSixteenBytes() {
+        int[] strokes = new int[Scorecard.HOLES];
+        int[] pars = new int[Scorecard.HOLES];
+        for (int hole = 0; hole < Scorecard.HOLES; hole++) {
+            strokes[hole] = 1 + hole * 5 % Scorecard.MAX_STROKES;
+            pars[hole] = 3 + hole % 4;
+        }
+        strokes[17] = Scorecard.MAX_STROKES;
+
+        Scorecard card = Scorecard.of(strokes, pars);
+
+        assertEquals(Scorecard.BYTES, card.toBytes().length);
+        assertArrayEquals(strokes, card.strokes());
+        assertArrayEquals(pars, card.pars());
+        assertEquals(Arrays.stream(strokes).sum(), card.total());
+        assertEquals(Arrays.stream(pars).sum(), card.par());
+    }
+
+    @Test
+    public void testWrap_readsThePackedBytesWithoutCopying() {
+        byte[] packed = Scorecard.of(PARS, PARS).toBytes();
+
+        Scorecard card = Scorecard.wrap(packed);
+
+        assertSame(packed, card.toBytes());
+        assertEquals(72, card.total());
+        assertEquals(5, card.strokes(3));
+        assertEquals(5, card.par(17));
+    }
+
+    @Test
+    public void testAdjustedGross_capsEachHoleAtNetDoubleBogey() {
+        int[] strokes = PARS.clone();
+        strokes[0] = 9;  // par 4
+        strokes[17] = 9; // par 5
+        Scorecard card = Scorecard.of(strokes, PARS);
+
+        assertEquals(72 + 5 + 4, card.total());
+        // double bogey on both holes, also for plus handicaps
+        assertEquals(72 + 2 + 2, card.adjustedGross(0));
+        assertEquals(72 + 2 + 2, card.adjustedGross(-3));
+        // one stroke received, on the first hole
+        assertEquals(72 + 3 + 2, card.adjustedGross(1));
+        // 19 strokes: one on every hole and a second on the first
+        assertEquals(72 + 4 + 3, card.adjustedGross(19));
+    }
+
+    @Test
+    public void testCourseHandicap_scalesBySlopeWithBaselineForUnratedCourses() {
+        assertEquals(10, Scorecard.courseHandicap(10.0, 113));
+        assertEquals(13, Scorecard.courseHandicap(10.0, 150));
+        assertEquals(10, Scorecard.courseHandicap(10.0, 0));
+        assertEquals(-2, Scorecard.courseHandicap(-1.6, 113));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOf_withNineHoles_throws() {
+        Scorecard.of(new int[9], new int[9]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOf_withTooManyStrokes_throws() {
+        int[] strokes = PARS.clone();
+        strokes[4] = Scorecard.MAX_STROKES + 1;
+        Scorecard.of(strokes, PARS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOf_withParSeven_throws() {
+        int[] pars = PARS.clone();
+        pars[4] = 7;
+        Scorecard.of(PARS, pars);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrap_withWrongLength_throws() {
+        Scorecard.wrap(new byte[12]);
+    }
+}
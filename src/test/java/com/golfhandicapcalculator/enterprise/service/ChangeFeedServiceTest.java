@@ -0,0 +1,249 @@
+package com.golfhandicapcalculator.enterprise.service;
+
+import com.golfhandicapcalculator.enterprise.dao.impl.ChangeLogDAOMock;
+import com.golfhandicapcalculator.enterprise.dto.ChangeFeedPage;
+import com.golfhandicapcalculator.enterprise.dto.ChangeLogEntry;
+import com.golfhandicapcalculator.enterprise.dto.ChangeLogEntry.EntityType;
+import com.golfhandicapcalculator.enterprise.dto.ChangeLogEntry.Operation;
+import com.golfhandicapcalculator.enterprise.service.event.PlayerChangeEvent;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class ChangeFeedServiceTest {
+
+    private static final long COMPACT_AFTER_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final long RETENTION_MILLIS = TimeUnit.DAYS.toMillis(7);
+
+    private ChangeLogDAOMock changeLogDAO;
+    private ChangeFeedService changeFeedService;
+    private long now;
+
+    @Before
+    public void setUp() {
+        changeLogDAO = new ChangeLogDAOMock();
+        now = System.currentTimeMillis();
+        changeFeedService = new ChangeFeedService(changeLogDAO, 100, 1000, COMPACT_AFTER_MILLIS, RETENTION_MILLIS,
+                () -> now);
+    }
+
+    @Test
+    public void testOnPlayerChange_recordsEveryWrite() {
+        // Arrange
+        Instant cutoff = Instant.parse("2020-01-01T00:00:00Z");
+
+        // Act
+        changeFeedService.onPlayerChange(PlayerChangeEvent.player(PlayerChangeEvent.Type.PLAYER_CREATED, 1L, 0.0));
+        changeFeedService.onPlayerChange(PlayerChangeEvent.score(PlayerChangeEvent.Type.SCORE_ADDED, 1L, 7L));
+        changeFeedService.onPlayerChange(PlayerChangeEvent.player(PlayerChangeEvent.Type.HANDICAP_UPDATED, 1L, 12.0));
+        changeFeedService.onPlayerChange(PlayerChangeEvent.score(PlayerChangeEvent.Type.SCORE_UPDATED, 1L, 7L));
+        changeFeedService.onPlayerChange(PlayerChangeEvent.player(PlayerChangeEvent.Type.PLAYER_DELETED, 1L, null));
+        changeFeedService.onPlayerChange(PlayerChangeEvent.purge(cutoff));
+        changeFeedService.relay();
+        List<ChangeLogEntry> changes = changeFeedService.readChanges(0, 100).getChanges();
+
+        // Assert
+        assertEquals("PLAYER INSERT 1, SCORE INSERT 7, PLAYER UPDATE 1, SCORE UPDATE 7, PLAYER DELETE 1,"
+                + " SCORE PURGE null", describe(changes));
+        assertEquals(Long.valueOf(1L), changes.get(1).getPlayerId());
+        assertEquals(cutoff, changes.get(5).getPurgedBefore());
+        assertNull(changes.get(0).getPurgedBefore());
+    }
+
+    @Test
+    public void testOnPlayerChange_bulkDelete_recordsADeletePerPlayer() {
+        // Act
+        changeFeedService.onPlayerChange(PlayerChangeEvent.playersDeleted(Arrays.asList(1L, 2L)));
+        changeFeedService.relay();
+        List<ChangeLogEntry> changes = changeFeedService.readChanges(0, 100).getChanges();
+
+        // Assert
+        assertEquals("PLAYER DELETE 1, PLAYER DELETE 2", describe(changes));
+        assertEquals(Long.valueOf(2L), changes.get(1).getPlayerId());
+    }
+
+    @Test
+    public void testReadChanges_pagesInChangeIdOrder() {
+        // Arrange
+        for (long playerId = 1; playerId <= 5; playerId++) {
+            append(EntityType.PLAYER, Operation.INSERT, playerId, playerId, now - 60_000);
+        }
+
+        // Act
+        ChangeFeedPage first = changeFeedService.readChanges(0, 3);
+        ChangeFeedPage second = changeFeedService.readChanges(first.getNextCursor(), 3);
+        ChangeFeedPage caughtUp = changeFeedService.readChanges(second.getNextCursor(), 3);
+
+        // Assert
+        assertEquals("PLAYER INSERT 1, PLAYER INSERT 2, PLAYER INSERT 3", describe(first.getChanges()));
+        assertTrue(first.isHasMore());
+        assertEquals("PLAYER INSERT 4, PLAYER INSERT 5", describe(second.getChanges()));
+        assertFalse(second.isHasMore());
+        assertTrue(caughtUp.getChanges().isEmpty());
+        assertEquals(second.getNextCursor(), caughtUp.getNextCursor());
+    }
+
+    @Test
+    public void testReadChanges_servesRecordedChangesOnceRelayed() {
+        // Arrange: the first change is relayed, the second is still in the outbox
+        append(EntityType.PLAYER, Operation.INSERT, 1L, 1L, now - 60_000);
+        record(EntityType.PLAYER, Operation.INSERT, 2L, 2L, now - 30_000);
+
+        // Act
+        ChangeFeedPage beforeRelay = changeFeedService.readChanges(0, 10);
+        changeFeedService.relay();
+        ChangeFeedPage afterRelay = changeFeedService.readChanges(beforeRelay.getNextCursor(), 10);
+
+        // Assert: the cursor stops at the last relayed change and resumes with the next one
+        assertEquals("PLAYER INSERT 1", describe(beforeRelay.getChanges()));
+        assertEquals(1L, beforeRelay.getNextCursor());
+        assertEquals("PLAYER INSERT 2", describe(afterRelay.getChanges()));
+        assertEquals(2L, afterRelay.getNextCursor());
+    }
+
+    @Test
+    public void testCompact_keepsTheLatestEntryPerRecord() {
+        // Arrange
+        long old = now - COMPACT_AFTER_MILLIS - 60_000;
+        append(EntityType.PLAYER, Operation.INSERT, 1L, 1L, old);
+        append(EntityType.SCORE, Operation.INSERT, 10L, 1L, old);
+        append(EntityType.PLAYER, Operation.UPDATE, 1L, 1L, old);
+        append(EntityType.SCORE, Operation.UPDATE, 10L, 1L, now - 60_000);
+        append(EntityType.PLAYER, Operation.UPDATE, 1L, 1L, now - 60_000);
+
+        // Act
+        changeFeedService.compact();
+
+        // Assert
+        assertEquals("SCORE UPDATE 10, PLAYER UPDATE 1", describe(changeLogDAO.fetchChangesAfter(0, 100)));
+    }
+
+    @Test
+    public void testCompact_playerDeleteSupersedesTheirScoresUntilItExpires() {
+        // Arrange
+        long old = now - RETENTION_MILLIS - 60_000;
+        append(EntityType.PLAYER, Operation.INSERT, 1L, 1L, old);
+        append(EntityType.SCORE, Operation.INSERT, 10L, 1L, old);
+        append(EntityType.SCORE, Operation.INSERT, 20L, 2L, old);
+        append(EntityType.PLAYER, Operation.DELETE, 1L, 1L, now - COMPACT_AFTER_MILLIS - 60_000);
+
+        // Act
+        changeFeedService.compact();
+        List<ChangeLogEntry> afterCompaction = changeLogDAO.fetchChangesAfter(0, 100);
+        now += RETENTION_MILLIS;
+        changeFeedService.compact();
+
+        // Assert
+        assertEquals("SCORE INSERT 20, PLAYER DELETE 1", describe(afterCompaction));
+        assertEquals("SCORE INSERT 20", describe(changeLogDAO.fetchChangesAfter(0, 100)));
+    }
+
+    @Test
+    public void testCompact_purgeSupersedesTheScoresItCoversUntilItExpires() {
+        // Arrange
+        long old = now - RETENTION_MILLIS - 60_000;
+        long purgedBefore = old + 1_000;
+        append(EntityType.PLAYER, Operation.INSERT, 1L, 1L, old);
+        append(EntityType.SCORE, Operation.INSERT, 10L, 1L, old);
+        append(EntityType.SCORE, Operation.INSERT, 20L, 1L, purgedBefore + 1_000);
+        ChangeLogEntry purge = new ChangeLogEntry();
+        purge.setEntityType(EntityType.SCORE);
+        purge.setOperation(Operation.PURGE);
+        purge.setChangedAt(Instant.ofEpochMilli(now - COMPACT_AFTER_MILLIS - 60_000));
+        purge.setPurgedBefore(Instant.ofEpochMilli(purgedBefore));
+        changeLogDAO.recordChange(purge);
+        changeLogDAO.relayChanges(Integer.MAX_VALUE);
+
+        // Act
+        changeFeedService.compact();
+        List<ChangeLogEntry> afterCompaction = changeLogDAO.fetchChangesAfter(0, 100);
+        now += RETENTION_MILLIS;
+        changeFeedService.compact();
+
+        // Assert
+        assertEquals("PLAYER INSERT 1, SCORE INSERT 20, SCORE PURGE null", describe(afterCompaction));
+        // the purged round must not come back once the purge itself has expired
+        assertEquals("PLAYER INSERT 1, SCORE INSERT 20", describe(changeLogDAO.fetchChangesAfter(0, 100)));
+    }
+
+    @Test(expected = ChangeFeedCursorExpiredException.class)
+    public void testReadChanges_cursorOlderThanTheRetention_throws() {
+        append(EntityType.PLAYER, Operation.INSERT, 1L, 1L, now - RETENTION_MILLIS - 60_000);
+        append(EntityType.PLAYER, Operation.DELETE, 2L, 2L, now - RETENTION_MILLIS - 30_000);
+        append(EntityType.PLAYER, Operation.INSERT, 3L, 3L, now - 60_000);
+
+        changeFeedService.readChanges(1, 10);
+    }
+
+    @Test
+    public void testReadChanges_cursorAtTheRetentionHorizon_isServed() {
+        // Arrange
+        append(EntityType.PLAYER, Operation.INSERT, 1L, 1L, now - RETENTION_MILLIS - 60_000);
+        append(EntityType.PLAYER, Operation.INSERT, 2L, 2L, now - 60_000);
+
+        // Act
+        ChangeFeedPage fromStart = changeFeedService.readChanges(0, 10);
+        ChangeFeedPage fromHorizon = changeFeedService.readChanges(1, 10);
+
+        // Assert
+        assertEquals(2, fromStart.getChanges().size());
+        assertEquals("PLAYER INSERT 2", describe(fromHorizon.getChanges()));
+    }
+
+    @Test
+    public void testReadChanges_idleLogOlderThanTheRetention_expiresOnlyStaleCursors() {
+        // Arrange
+        append(EntityType.PLAYER, Operation.INSERT, 1L, 1L, now - RETENTION_MILLIS - 60_000);
+        append(EntityType.PLAYER, Operation.DELETE, 2L, 2L, now - RETENTION_MILLIS - 30_000);
+
+        // Act
+        ChangeFeedPage caughtUp = changeFeedService.readChanges(2, 10);
+
+        // Assert
+        assertTrue(caughtUp.getChanges().isEmpty());
+        try {
+            changeFeedService.readChanges(1, 10);
+            fail("a cursor before the last expired change must be rejected");
+        } catch (ChangeFeedCursorExpiredException expected) {
+            // consumer has to resynchronise
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReadChanges_limitAboveMaximum_throws() {
+        changeFeedService.readChanges(0, 101);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReadChanges_negativeCursor_throws() {
+        changeFeedService.readChanges(-1, 10);
+    }
+
+    private void append(EntityType entityType, Operation operation, Long entityId, Long playerId, long changedAt) {
+        record(entityType, operation, entityId, playerId, changedAt);
+        changeLogDAO.relayChanges(Integer.MAX_VALUE);
+    }
+
+    private void record(EntityType entityType, Operation operation, Long entityId, Long playerId, long changedAt) {
+        ChangeLogEntry entry = new ChangeLogEntry();
+        entry.setEntityType(entityType);
+        entry.setOperation(operation);
+        entry.setEntityId(entityId);
+        entry.setPlayerId(playerId);
+        entry.setChangedAt(Instant.ofEpochMilli(changedAt));
+        changeLogDAO.recordChange(entry);
+    }
+
+    private static String describe(List<ChangeLogEntry> changes) {
+        return changes.stream()
+                .map(change -> change.getEntityType() + " " + change.getOperation() + " " + change.getEntityId())
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,76 @@
+package com.golfhandicapcalculator.enterprise.service;
+
+import com.golfhandicapcalculator.enterprise.dao.IStatisticsDAO;
+import com.golfhandicapcalculator.enterprise.service.stats.ClubStatistics;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.DoubleStream;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ClubStatisticsServiceTest {
+
+    @Mock
+    private IStatisticsDAO statisticsDAO;
+
+    private ClubStatisticsService statisticsService;
+
+    @Before
+    public void setUp() {
+        statisticsService = new ClubStatisticsService(statisticsDAO);
+    }
+
+    @Test
+    public void testGetStatistics_combinesAggregatesAndDifferentialReduction() {
+        // Arrange
+        Map<Long, Long> roundsPerPlayer = new HashMap<>();
+        roundsPerPlayer.put(3L, 2L);
+        roundsPerPlayer.put(20L, 1L);
+        Map<Integer, Long> handicaps = new HashMap<>();
+        handicaps.put(12, 4L);
+        when(statisticsDAO.countPlayers()).thenReturn(4L);
+        when(statisticsDAO.countRounds()).thenReturn(26L);
+        when(statisticsDAO.averageScoreToPar()).thenReturn(15.2);
+        when(statisticsDAO.countPlayersByRoundsPlayed()).thenReturn(roundsPerPlayer);
+        when(statisticsDAO.countPlayersByHandicap()).thenReturn(handicaps);
+        when(statisticsDAO.streamDifferentials()).thenReturn(DoubleStream.of(12.0, 14.0, 16.0));
+
+        // Act
+        ClubStatistics result = statisticsService.getStatistics();
+
+        // Assert
+        assertEquals(4L, result.getPlayerCount());
+        assertEquals(26L, result.getRoundCount());
+        assertEquals(15.2, result.getAverageScoreToPar(), 0.001);
+        assertEquals(Long.valueOf(1), result.getRoundsPerPlayer().get(0L)); // the player without rounds
+        assertEquals(Long.valueOf(2), result.getRoundsPerPlayer().get(3L));
+        assertEquals(handicaps, result.getHandicapDistribution());
+        assertEquals(3, result.getDifferentials().getCount());
+        assertEquals(14.0, result.getDifferentials().getMean(), 0.001);
+    }
+
+    @Test
+    public void testGetStatistics_withNoRounds_returnsEmptyDistributions() {
+        // Arrange
+        when(statisticsDAO.countPlayers()).thenReturn(0L);
+        when(statisticsDAO.countPlayersByRoundsPlayed()).thenReturn(new HashMap<>());
+        when(statisticsDAO.countPlayersByHandicap()).thenReturn(new HashMap<>());
+        when(statisticsDAO.streamDifferentials()).thenReturn(DoubleStream.empty());
+
+        // Act
+        ClubStatistics result = statisticsService.getStatistics();
+
+        // Assert
+        assertTrue(result.getRoundsPerPlayer().isEmpty());
+        assertEquals(0, result.getDifferentials().getCount());
+        assertNull(result.getAverageScoreToPar());
+    }
+}
@@ -0,0 +1,71 @@
+package com.golfhandicapcalculator.enterprise.service;
+
+import com.golfhandicapcalculator.enterprise.dao.ICourseDAO;
+import com.golfhandicapcalculator.enterprise.dto.Course;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CourseCatalogTest {
+
+    @Mock
+    private ICourseDAO courseDAO;
+
+    private CourseCatalog courseCatalog;
+
+    @Before
+    public void setUp() {
+        courseCatalog = new CourseCatalog(courseDAO);
+    }
+
+    @Test
+    public void testRegisterCourse_withValidCourse_savesCourse() {
+        // Arrange
+        Course course = createCourse("Pine Valley", 72, 120);
+        when(courseDAO.saveCourse(course)).thenReturn(course);
+
+        // Act
+        Course result = courseCatalog.registerCourse(course);
+
+        // Assert
+        assertSame(course, result);
+        verify(courseDAO, times(1)).saveCourse(course);
+    }
+
+    @Test
+    public void testRegisterCourse_withSlopeOutOfRange_throwsAndDoesNotSave() {
+        // Arrange
+        Course course = createCourse("Pine Valley", 72, 160);
+
+        // Act
+        try {
+            courseCatalog.registerCourse(course);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // Assert
+            assertTrue(expected.getMessage().contains("slope"));
+        }
+        verify(courseDAO, never()).saveCourse(any());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRegisterCourse_withoutName_throws() {
+        // Act
+        courseCatalog.registerCourse(createCourse(" ", 72, 120));
+    }
+
+    private Course createCourse(String name, int par, int slope) {
+        Course course = new Course();
+        course.setName(name);
+        course.setPar(par);
+        course.setSlope(slope);
+        return course;
+    }
+}
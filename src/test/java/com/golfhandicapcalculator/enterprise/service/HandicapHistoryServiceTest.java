@@ -0,0 +1,118 @@
+package com.golfhandicapcalculator.enterprise.service;
+
+import com.golfhandicapcalculator.enterprise.dao.IHandicapHistoryDAO;
+import com.golfhandicapcalculator.enterprise.dto.HandicapPoint;
+import com.golfhandicapcalculator.enterprise.service.event.PlayerChangeEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class HandicapHistoryServiceTest {
+
+    private static final Instant FROM = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private IHandicapHistoryDAO historyDAO;
+
+    private HandicapHistoryService historyService;
+
+    @Before
+    public void setUp() {
+        historyService = new HandicapHistoryService(historyDAO);
+    }
+
+    @Test
+    public void testOnPlayerChange_handicapUpdated_appendsPoint() {
+        // Arrange
+        PlayerChangeEvent event = PlayerChangeEvent.player(PlayerChangeEvent.Type.HANDICAP_UPDATED, 1L, 14.2);
+
+        // Act
+        historyService.onPlayerChange(event);
+
+        // Assert
+        verify(historyDAO, times(1)).appendPoint(1L, Instant.ofEpochMilli(event.getTimestamp()), 14.2);
+    }
+
+    @Test
+    public void testOnPlayerChange_scoreAdded_doesNotAppend() {
+        // Act
+        historyService.onPlayerChange(PlayerChangeEvent.score(PlayerChangeEvent.Type.SCORE_ADDED, 1L, 5L));
+
+        // Assert
+        verify(historyDAO, never()).appendPoint(any(), any(), anyDouble());
+    }
+
+    @Test
+    public void testOnPlayerChange_playerDeleted_deletesHistory() {
+        // Act
+        historyService.onPlayerChange(PlayerChangeEvent.player(PlayerChangeEvent.Type.PLAYER_DELETED, 1L, null));
+
+        // Assert
+        verify(historyDAO, times(1)).deleteHistory(1L);
+    }
+
+    @Test
+    public void testOnPlayerChange_playersDeleted_deletesHistoriesInOneCall() {
+        // Act
+        historyService.onPlayerChange(PlayerChangeEvent.playersDeleted(Arrays.asList(1L, 2L, 3L)));
+
+        // Assert
+        verify(historyDAO, times(1)).deleteHistories(Arrays.asList(1L, 2L, 3L));
+        verify(historyDAO, never()).deleteHistory(any());
+    }
+
+    @Test
+    public void testGetTrend_withFewPoints_returnsAllPoints() {
+        // Arrange
+        List<HandicapPoint> points = createDailyPoints(10);
+        when(historyDAO.fetchPoints(1L, FROM, TO)).thenReturn(points);
+
+        // Act
+        List<HandicapPoint> result = historyService.getTrend(1L, FROM, TO, 200);
+
+        // Assert
+        assertEquals(points, result);
+    }
+
+    @Test
+    public void testGetTrend_withManyPoints_downsamplesKeepingFirstAndLast() {
+        // Arrange
+        List<HandicapPoint> points = createDailyPoints(365);
+        when(historyDAO.fetchPoints(eq(1L), eq(FROM), eq(TO))).thenReturn(points);
+
+        // Act
+        List<HandicapPoint> result = historyService.getTrend(1L, FROM, TO, 50);
+
+        // Assert
+        assertTrue(result.size() <= 50);
+        assertTrue(result.size() >= 45);
+        assertSame(points.get(0), result.get(0));
+        assertSame(points.get(364), result.get(result.size() - 1));
+        for (int i = 1; i < result.size(); i++) {
+            assertTrue(result.get(i).getTimestamp().isAfter(result.get(i - 1).getTimestamp()));
+        }
+    }
+
+    private List<HandicapPoint> createDailyPoints(int count) {
+        List<HandicapPoint> points = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            points.add(new HandicapPoint(FROM.plusSeconds(i * 86400L), 20.0 - i * 0.01));
+        }
+        return points;
+    }
+}
@@ -0,0 +1,221 @@
+package com.golfhandicapcalculator.enterprise.service;
+
+import com.golfhandicapcalculator.enterprise.GolfHandicapCalculator;
+import com.golfhandicapcalculator.enterprise.dto.HandicapProjection;
+import com.golfhandicapcalculator.enterprise.dto.Player;
+import com.golfhandicapcalculator.enterprise.dto.Score;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class HandicapProjectionServiceTest {
+
+    @Mock
+    private IPlayerServices playerServices;
+
+    private ForkJoinPool pool;
+    private HandicapProjectionService projectionService;
+
+    @Before
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+        projectionService = new HandicapProjectionService(playerServices, new GolfHandicapCalculator(), pool,
+                20_000, 200_000, 50, 10_000);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testProject_withConstantHistory_projectsTheSameHandicap() {
+        // Arrange: every round is 13 over par at the standard slope
+        when(playerServices.getPlayerScores(1L)).thenReturn(createScores(new int[]{85, 85, 85}));
+
+        // Act
+        HandicapProjection projection = projectionService.project(1L, 5, null, 13.0, 7L);
+
+        // Assert
+        assertEquals(13.0, projection.getCurrentHandicap(), 0.0);
+        assertEquals(20_000, projection.getSimulations());
+        assertTrue(projection.isComplete());
+        assertTrue(projection.getPercentiles().values().stream().allMatch(handicap -> handicap == 13.0));
+        assertEquals(1.0, projection.getTargetProbability(), 0.0);
+    }
+
+    @Test
+    public void testProject_bandsAreOrderedAndWithinTheRecordedRange() {
+        // Arrange: differentials of 8 to 24
+        when(playerServices.getPlayerScores(1L)).thenReturn(createScores(new int[]{80, 84, 88, 92, 96}));
+
+        // Act
+        HandicapProjection projection = projectionService.project(1L, 10, null, null, 7L);
+
+        // Assert
+        List<Double> bands = new ArrayList<>(projection.getPercentiles().values());
+        assertEquals(5, bands.size());
+        for (int i = 1; i < bands.size(); i++) {
+            assertTrue(bands.get(i - 1) <= bands.get(i));
+        }
+        assertTrue(bands.get(0) >= 8.0 && bands.get(4) <= 24.0);
+        assertEquals(16.0, projection.getPercentiles().get("p50"), 1.0);
+        assertNull(projection.getTargetProbability());
+    }
+
+    @Test
+    public void testProject_withSeed_isRepeatable() {
+        // Arrange
+        when(playerServices.getPlayerScores(1L)).thenReturn(createScores(new int[]{80, 84, 88, 92, 96}));
+
+        // Act
+        HandicapProjection first = projectionService.project(1L, 10, 50_000, 14.0, 42L);
+        HandicapProjection second = projectionService.project(1L, 10, 50_000, 14.0, 42L);
+
+        // Assert
+        assertEquals(first.getPercentiles(), second.getPercentiles());
+        assertEquals(first.getMeanHandicap(), second.getMeanHandicap(), 0.0);
+        assertEquals(first.getTargetProbability(), second.getTargetProbability());
+    }
+
+    @Test
+    public void testProject_withSeed_staysWithinTheLatencyBudget() {
+        // Arrange: a budget that is spent before the first chunk finishes
+        when(playerServices.getPlayerScores(1L)).thenReturn(createScores(new int[]{80, 84, 88, 92, 96}));
+        HandicapProjectionService noBudget = new HandicapProjectionService(playerServices,
+                new GolfHandicapCalculator(), pool, 20_000, 200_000, 50, 0);
+
+        // Act
+        HandicapProjection projection = noBudget.project(1L, 10, 200_000, null, 42L);
+
+        // Assert: the seed does not buy more than the first chunk
+        assertTrue(projection.getSimulations() < 200_000);
+        assertFalse(projection.isComplete());
+    }
+
+    @Test
+    public void testSimulate_fromTheHistoryTotal_matchesSummingEveryPath() {
+        // Arrange
+        double[] history = {8.0, 11.5, 16.0, 20.5, 24.0};
+        double historyTotal = 80.0;
+        GolfHandicapCalculator calculator = new GolfHandicapCalculator();
+        SplittableRandom expectedRandom = new SplittableRandom(3).split();
+        double[] expected = new double[100];
+        for (int simulation = 0; simulation < expected.length; simulation++) {
+            double[] path = Arrays.copyOf(history, history.length + 4);
+            for (int round = history.length; round < path.length; round++) {
+                path[round] = history[expectedRandom.nextInt(history.length)];
+            }
+            expected[simulation] = calculator.calculateHandicapFromDifferentials(path, path.length,
+                    new GolfHandicapCalculator.HandicapResult()).getHandicap();
+        }
+        Arrays.sort(expected);
+
+        // Act
+        double[] results = projectionService.simulate(history, historyTotal, 4, 100, new SplittableRandom(3),
+                Long.MAX_VALUE);
+
+        // Assert
+        assertArrayEquals(expected, results, 0.0);
+    }
+
+    @Test
+    public void testProject_withTarget_reportsRequiredScores() {
+        // Arrange: differentials 10 and 20, most recent round on a par 70, slope 130 course
+        List<Score> scores = createScores(new int[]{82, 92});
+        scores.get(1).setPar(70);
+        scores.get(1).setSlope(130);
+        scores.get(1).setDifferential(20.0);
+        when(playerServices.getPlayerScores(1L)).thenReturn(scores);
+
+        // Act
+        HandicapProjection projection = projectionService.project(1L, 2, 1_000, 12.0, 7L);
+
+        // Assert: (12 * 4 - 30) / 2 = 9 strokes of differential, 70 + 9 * 130 / 113 = 80.4
+        assertEquals(9.0, projection.getRequiredAverageDifferential(), 0.0);
+        assertEquals(80.4, projection.getRequiredAverageScore(), 0.0);
+        assertEquals(Integer.valueOf(70), projection.getCoursePar());
+        assertEquals(Integer.valueOf(130), projection.getCourseSlope());
+    }
+
+    @Test
+    public void testSimulate_afterTheDeadline_keepsOnlyTheFirstChunk() {
+        // Act
+        double[] results = projectionService.simulate(new double[]{10.0, 20.0}, 30.0, 5, 100_000,
+                new SplittableRandom(1), System.nanoTime() - 1);
+
+        // Assert
+        assertTrue(results.length >= HandicapProjectionService.CHUNK_SIZE);
+        assertTrue(results.length < 100_000);
+        for (int i = 1; i < results.length; i++) {
+            assertTrue(results[i - 1] <= results[i]);
+        }
+    }
+
+    @Test
+    public void testPercentiles_useNearestRank() {
+        double[] sorted = new double[100];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i + 1;
+        }
+
+        assertEquals(5.0, HandicapProjectionService.percentiles(sorted).get("p5"), 0.0);
+        assertEquals(50.0, HandicapProjectionService.percentiles(sorted).get("p50"), 0.0);
+        assertEquals(95.0, HandicapProjectionService.percentiles(sorted).get("p95"), 0.0);
+    }
+
+    @Test
+    public void testProject_unknownPlayer_returnsNull() {
+        when(playerServices.getPlayerScores(9L)).thenReturn(Collections.emptyList());
+        when(playerServices.getPlayerById(9L)).thenReturn(null);
+
+        assertNull(projectionService.project(9L, 5, null, null, null));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testProject_playerWithoutRounds_throws() {
+        when(playerServices.getPlayerScores(1L)).thenReturn(Collections.emptyList());
+        when(playerServices.getPlayerById(1L)).thenReturn(new Player());
+
+        projectionService.project(1L, 5, null, null, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testProject_tooManyRounds_throws() {
+        projectionService.project(1L, 51, null, null, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testProject_tooManySimulations_throws() {
+        projectionService.project(1L, 5, 200_001, null, null);
+    }
+
+    // par 72 at the standard slope, one day apart
+    private List<Score> createScores(int[] scoreValues) {
+        List<Score> scores = new ArrayList<>();
+        for (int i = 0; i < scoreValues.length; i++) {
+            Score score = new Score();
+            score.setScore(scoreValues[i]);
+            score.setPar(72);
+            score.setSlope(113);
+            score.setRecordedAt(Instant.parse("2025-06-01T00:00:00Z").plusSeconds(86_400L * i));
+            scores.add(score);
+        }
+        return scores;
+    }
+}
@@ -1,6 +1,7 @@
 package com.golfhandicapcalculator.enterprise.service;
 
 import com.golfhandicapcalculator.enterprise.GolfHandicapCalculator;
+import com.golfhandicapcalculator.enterprise.GolfHandicapCalculator.HandicapResult;
 import com.golfhandicapcalculator.enterprise.dto.Score;
 import org.junit.Before;
 import org.junit.Test;
@@ -13,6 +14,8 @@ import java.util.List;
 
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.*;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -36,15 +39,17 @@ public class HandicapServiceTest {
                 new int[]{72, 72, 72},
                 new int[]{113, 113, 113}
         );
-        when(calculator.calculateHandicap(any(double[].class), any(double[].class), any(double[].class)))
-                .thenReturn(15.5);
+        when(calculator.calculateHandicap(eq(scores), same(HandicapService.SCORES), any(HandicapResult.class)))
+                .thenAnswer(invocation -> result(invocation.getArgument(2), 15.5));
 
         // Act
         double result = handicapService.calculatePlayerHandicap(scores);
 
         // Assert
         assertEquals(15.5, result, 0.01);
-        verify(calculator, times(1)).calculateHandicap(any(double[].class), any(double[].class), any(double[].class));
+        verify(calculator, times(1)).calculateHandicap(eq(scores), same(HandicapService.SCORES),
+                any(HandicapResult.class));
+        verify(calculator, never()).calculateHandicap(any(double[].class), any(double[].class), any(double[].class));
     }
 
     @Test
@@ -54,19 +59,19 @@ public class HandicapServiceTest {
 
         // Assert
         assertEquals(0.0, result, 0.01);
-        verify(calculator, never()).calculateHandicap(any(), any(), any());
+        verifyNoInteractions(calculator);
     }
 
     @Test
-    public void testCalculatePlayerHandicap_whenCalculatorReturnsNull_returnsZero() {
+    public void testCalculatePlayerHandicap_whenCalculatorReturnsNoHandicap_returnsZero() {
         // Arrange
         List<Score> scores = createScores(
                 new int[]{85},
                 new int[]{72},
                 new int[]{113}
         );
-        when(calculator.calculateHandicap(any(double[].class), any(double[].class), any(double[].class)))
-                .thenReturn(null);
+        when(calculator.calculateHandicap(eq(scores), same(HandicapService.SCORES), any(HandicapResult.class)))
+                .thenAnswer(invocation -> result(invocation.getArgument(2)));
 
         // Act
         double result = handicapService.calculatePlayerHandicap(scores);
@@ -75,6 +80,58 @@ public class HandicapServiceTest {
         assertEquals(0.0, result, 0.01);
     }
 
+    @Test
+    public void testScoresReader_withStoredDifferentials_skipsRecomputation() {
+        // Arrange
+        List<Score> scores = createScores(
+                new int[]{85, 90},
+                new int[]{72, 72},
+                new int[]{113, 113}
+        );
+        scores.get(0).setDifferential(12.5);
+
+        // Act & Assert: the stored value wins, the missing one is computed
+        assertEquals(2, HandicapService.SCORES.count(scores));
+        assertEquals(12.5, HandicapService.SCORES.differential(scores, 0), 0.001);
+        assertEquals(18.0, HandicapService.SCORES.differential(scores, 1), 0.001);
+    }
+
+    @Test
+    public void testScoresReader_withAdjustedScore_readsItInsteadOfTheGross() {
+        // Arrange: a scorecard round without a stored differential yet
+        List<Score> scores = createScores(new int[]{95}, new int[]{72}, new int[]{113});
+        scores.get(0).setAdjustedScore(89);
+
+        // Act & Assert
+        assertEquals(89, HandicapService.SCORES.score(scores, 0));
+        assertEquals(17.0, HandicapService.SCORES.differential(scores, 0), 0.001);
+    }
+
+    @Test
+    public void testCalculatePlayerHandicap_withRealCalculator_matchesArrayCalculation() {
+        // Arrange
+        GolfHandicapCalculator realCalculator = new GolfHandicapCalculator();
+        List<Score> scores = createScores(
+                new int[]{89, 85, 90},
+                new int[]{72, 72, 72},
+                new int[]{121, 113, 130}
+        );
+        scores.get(1).updateDifferential();
+
+        // Act
+        double result = new HandicapService(realCalculator).calculatePlayerHandicap(scores);
+
+        // Assert
+        assertEquals(realCalculator.calculateHandicap(new double[]{89, 85, 90}, new double[]{72, 72, 72},
+                new double[]{121, 113, 130}), result, 0.0);
+    }
+
+    // Fills the result the way the calculator does for the given differentials
+    private static HandicapResult result(HandicapResult result, double... differentials) {
+        return new GolfHandicapCalculator().calculateHandicapFromDifferentials(differentials, differentials.length,
+                result);
+    }
+
     // Helper method to create Score objects
     private List<Score> createScores(int[] scoreValues, int[] parValues, int[] slopeValues) {
         List<Score> scores = new ArrayList<>();
@@ -0,0 +1,152 @@
+package com.golfhandicapcalculator.enterprise.service;
+
+import com.golfhandicapcalculator.enterprise.dto.Score;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+public class IdempotencyServiceTest {
+
+    private static final long TTL_MILLIS = 60_000;
+
+    private AtomicLong now;
+    private AtomicInteger writes;
+    private IdempotencyService idempotencyService;
+
+    @Before
+    public void setUp() {
+        now = new AtomicLong(1_000_000);
+        writes = new AtomicInteger();
+        idempotencyService = new IdempotencyService(null, null, null, TTL_MILLIS, 2, 5_000, now::get);
+    }
+
+    private Supplier<Score> write(long scoreId) {
+        return () -> {
+            writes.incrementAndGet();
+            Score score = new Score();
+            score.setScoreId(scoreId);
+            return score;
+        };
+    }
+
+    @Test
+    public void testSubmitScore_withRepeatedKey_returnsOriginalScoreWithoutWriting() {
+        Score first = idempotencyService.submitScore(1L, "round-1", write(10L));
+        Score retry = idempotencyService.submitScore(1L, "round-1", write(11L));
+
+        assertSame(first, retry);
+        assertEquals(1, writes.get());
+    }
+
+    @Test
+    public void testSubmitScore_keysAreScopedPerPlayer() {
+        idempotencyService.submitScore(1L, "round-1", write(10L));
+        Score other = idempotencyService.submitScore(2L, "round-1", write(11L));
+
+        assertEquals(11L, other.getScoreId().longValue());
+        assertEquals(2, writes.get());
+    }
+
+    @Test
+    public void testSubmitScore_afterExpiry_writesAgain() {
+        idempotencyService.submitScore(1L, "round-1", write(10L));
+        now.addAndGet(TTL_MILLIS);
+
+        Score again = idempotencyService.submitScore(1L, "round-1", write(11L));
+
+        assertEquals(11L, again.getScoreId().longValue());
+    }
+
+    @Test
+    public void testSubmitScore_evictsOldestKeyWhenFull() {
+        idempotencyService.submitScore(1L, "a", write(10L));
+        idempotencyService.submitScore(1L, "b", write(11L));
+        idempotencyService.submitScore(1L, "c", write(12L));
+
+        idempotencyService.submitScore(1L, "a", write(13L));
+
+        assertEquals(4, writes.get());
+    }
+
+    @Test
+    public void testSubmitScore_failedWrite_doesNotConsumeKey() {
+        try {
+            idempotencyService.submitScore(1L, "round-1", () -> {
+                throw new IllegalArgumentException("Unknown course");
+            });
+            fail("expected the write failure to propagate");
+        } catch (IllegalArgumentException expected) {
+            // the client sees the original error
+        }
+
+        Score retry = idempotencyService.submitScore(1L, "round-1", write(10L));
+
+        assertEquals(10L, retry.getScoreId().longValue());
+    }
+
+    @Test
+    public void testSubmitScore_concurrentRetry_waitsForOriginalResult() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Score> original = executor.submit(() -> idempotencyService.submitScore(1L, "round-1", () -> {
+                writing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return write(10L).get();
+            }));
+            assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+            Thread releaser = new Thread(() -> {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                release.countDown();
+            });
+            releaser.start();
+            Score retry = idempotencyService.submitScore(1L, "round-1", write(11L));
+
+            assertSame(original.get(5, TimeUnit.SECONDS), retry);
+            assertEquals(1, writes.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testPurgeExpired_dropsExpiredKeys() {
+        idempotencyService.submitScore(1L, "round-1", write(10L));
+        now.addAndGet(TTL_MILLIS);
+
+        idempotencyService.purgeExpired();
+        idempotencyService.submitScore(1L, "round-1", write(11L));
+
+        assertEquals(2, writes.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSubmitScore_withOverlongKey_throwsException() {
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i <= IdempotencyService.MAX_KEY_LENGTH; i++) {
+            key.append('k');
+        }
+
+        idempotencyService.submitScore(1L, key.toString(), write(10L));
+    }
+}
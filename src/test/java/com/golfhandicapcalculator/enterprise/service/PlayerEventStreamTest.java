@@ -0,0 +1,74 @@
+package com.golfhandicapcalculator.enterprise.service;
+
+import com.golfhandicapcalculator.enterprise.service.event.PlayerChangeEvent;
+import org.junit.Test;
+import reactor.core.Disposable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.Assert.*;
+
+public class PlayerEventStreamTest {
+
+    private final PlayerEventStream eventStream = new PlayerEventStream(16);
+
+    @Test
+    public void testStream_fansOutToAllSubscribers() {
+        List<PlayerChangeEvent> first = new CopyOnWriteArrayList<>();
+        List<PlayerChangeEvent> second = new CopyOnWriteArrayList<>();
+        Disposable a = eventStream.stream(null).subscribe(first::add);
+        Disposable b = eventStream.stream(null).subscribe(second::add);
+
+        eventStream.onPlayerChange(handicapEvent(1L, 12.5));
+
+        a.dispose();
+        b.dispose();
+        assertEquals(1, first.size());
+        assertEquals(1, second.size());
+        assertEquals(12.5, first.get(0).getHandicap(), 0.01);
+    }
+
+    @Test
+    public void testStream_filtersByPlayerIds() {
+        List<PlayerChangeEvent> received = new CopyOnWriteArrayList<>();
+        Disposable subscription = eventStream.stream(Collections.singleton(2L)).subscribe(received::add);
+
+        eventStream.onPlayerChange(handicapEvent(1L, 10.0));
+        eventStream.onPlayerChange(handicapEvent(2L, 11.0));
+
+        subscription.dispose();
+        assertEquals(1, received.size());
+        assertEquals(2L, received.get(0).getPlayerId().longValue());
+    }
+
+    @Test
+    public void testStream_skipsScoreEvents() {
+        List<PlayerChangeEvent> received = new CopyOnWriteArrayList<>();
+        Disposable subscription = eventStream.stream(null).subscribe(received::add);
+
+        eventStream.onPlayerChange(PlayerChangeEvent.score(PlayerChangeEvent.Type.SCORE_ADDED, 1L, 5L));
+
+        subscription.dispose();
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    public void testStream_splitsBulkDeleteIntoOneEventPerPlayer() {
+        List<PlayerChangeEvent> received = new CopyOnWriteArrayList<>();
+        Disposable subscription = eventStream.stream(Collections.singleton(2L)).subscribe(received::add);
+
+        eventStream.onPlayerChange(PlayerChangeEvent.playersDeleted(Arrays.asList(1L, 2L, 3L)));
+
+        subscription.dispose();
+        assertEquals(1, received.size());
+        assertEquals(PlayerChangeEvent.Type.PLAYER_DELETED, received.get(0).getType());
+        assertEquals(2L, received.get(0).getPlayerId().longValue());
+    }
+
+    private PlayerChangeEvent handicapEvent(Long playerId, double handicap) {
+        return PlayerChangeEvent.player(PlayerChangeEvent.Type.HANDICAP_UPDATED, playerId, handicap);
+    }
+}
@@ -3,14 +3,23 @@ package com.golfhandicapcalculator.enterprise.service;
 import com.golfhandicapcalculator.enterprise.dao.IPlayerDAO;
 import com.golfhandicapcalculator.enterprise.dao.IScoreDAO;
 import com.golfhandicapcalculator.enterprise.service.HandicapService;
+import com.golfhandicapcalculator.enterprise.dto.Course;
 import com.golfhandicapcalculator.enterprise.dto.Player;
+import com.golfhandicapcalculator.enterprise.dto.PlayerBatch;
 import com.golfhandicapcalculator.enterprise.dto.Score;
+import com.golfhandicapcalculator.enterprise.dto.Scorecard;
+import com.golfhandicapcalculator.enterprise.service.event.PlayerChangeEvent;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -31,11 +40,21 @@ public class PlayerServicesTest {
     @Mock
     private HandicapService handicapService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CourseCatalog courseCatalog;
+
+    private ConcurrentMapCacheManager cacheManager;
+
     private PlayerServices playerServices;
 
     @Before
     public void setUp() {
-        playerServices = new PlayerServices(playerDAO, scoreDAO, handicapService);
+        cacheManager = new ConcurrentMapCacheManager("player", "handicap");
+        playerServices = new PlayerServices(playerDAO, scoreDAO, handicapService, eventPublisher, courseCatalog,
+                cacheManager);
     }
 
     // Player CRUD Tests
@@ -58,6 +77,67 @@ public class PlayerServicesTest {
         verify(playerDAO, times(1)).fetchAllPlayers();
     }
 
+    @Test
+    public void testGetPlayersPage_returnsPageWithTotalCount() {
+        // Arrange
+        List<Player> pagePlayers = Arrays.asList(createPlayer(3L, "Sam Lee", 8.0));
+        when(playerDAO.fetchPlayersPage(1, 2)).thenReturn(pagePlayers);
+        when(playerDAO.countPlayers()).thenReturn(3L);
+
+        // Act
+        Page<Player> result = playerServices.getPlayersPage(1, 2);
+
+        // Assert
+        assertEquals(pagePlayers, result.getContent());
+        assertEquals(2, result.getTotalPages());
+        assertFalse(result.hasNext());
+        verify(playerDAO, never()).fetchAllPlayers();
+    }
+
+    @Test
+    public void testGetPlayersByIds_loadsOnlyUncachedPlayersAndKeepsRequestOrder() {
+        // Arrange
+        Player cached = createPlayer(2L, "Jane Smith", 12.3);
+        cacheManager.getCache("player").put(2L, cached);
+        when(playerDAO.fetchPlayers(Arrays.asList(3L, 1L, 99L)))
+                .thenReturn(Arrays.asList(createPlayer(1L, "John Doe", 15.5), createPlayer(3L, "Sam Lee", 8.0)));
+
+        // Act
+        PlayerBatch result = playerServices.getPlayersByIds(Arrays.asList(3L, 2L, 1L, 99L, 2L));
+
+        // Assert
+        assertEquals(3, result.getPlayers().size());
+        assertEquals(3L, result.getPlayers().get(0).getPlayerId().longValue());
+        assertSame(cached, result.getPlayers().get(1));
+        assertEquals(1L, result.getPlayers().get(2).getPlayerId().longValue());
+        assertEquals(Arrays.asList(99L), result.getNotFound());
+        assertNotNull(cacheManager.getCache("player").get(1L));
+    }
+
+    @Test
+    public void testGetPlayersByIds_withAllPlayersCached_skipsTheDatabase() {
+        // Arrange
+        cacheManager.getCache("player").put(1L, createPlayer(1L, "John Doe", 15.5));
+
+        // Act
+        PlayerBatch result = playerServices.getPlayersByIds(Arrays.asList(1L));
+
+        // Assert
+        assertEquals(1, result.getPlayers().size());
+        assertTrue(result.getNotFound().isEmpty());
+        verify(playerDAO, never()).fetchPlayers(any());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetPlayersByIds_withTooManyIds_throwsException() {
+        List<Long> playerIds = new ArrayList<>();
+        for (long id = 1; id <= PlayerServices.MAX_BATCH_SIZE + 1; id++) {
+            playerIds.add(id);
+        }
+
+        playerServices.getPlayersByIds(playerIds);
+    }
+
     @Test
     public void testCreatePlayer_savesAndReturnsPlayer() {
         // Arrange
@@ -128,6 +208,141 @@ public class PlayerServicesTest {
         verify(scoreDAO, times(1)).saveScore(newScore);
     }
 
+    @Test
+    public void testAddScoreToPlayer_withCourseId_usesCourseParAndSlope() {
+        // Arrange
+        Course course = new Course();
+        course.setCourseId(300L);
+        course.setPar(71);
+        course.setSlope(130);
+        when(courseCatalog.getCourse(300L)).thenReturn(course);
+        when(scoreDAO.saveScore(any(Score.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        Score newScore = new Score();
+        newScore.setScore(84);
+        newScore.setCourseId(300L);
+
+        // Act
+        Score result = playerServices.addScoreToPlayer(10L, newScore);
+
+        // Assert
+        assertEquals(71, result.getPar());
+        assertEquals(130, result.getSlope());
+        assertSame(course, result.getCourse());
+        assertEquals((84 - 71) * 113.0 / 130, result.getDifferential(), 0.0001);
+    }
+
+    @Test
+    public void testAddScoreToPlayer_withScorecard_usesAdjustedGrossForDifferential() {
+        // Arrange: bogey golf on a par 72 with a 10 on the first hole, for a 10 handicap
+        int[] pars = {4, 4, 3, 5, 4, 4, 3, 4, 5, 4, 3, 4, 5, 4, 4, 3, 4, 5};
+        int[] strokes = new int[pars.length];
+        for (int hole = 0; hole < pars.length; hole++) {
+            strokes[hole] = pars[hole] + 1;
+        }
+        strokes[0] = 10;
+        when(playerDAO.fetchPlayer(10L)).thenReturn(createPlayer(10L, "John Doe", 10.0));
+        when(scoreDAO.saveScore(any(Score.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        Score newScore = new Score();
+        newScore.setSlope(113);
+        newScore.setHoles(Scorecard.of(strokes, pars));
+
+        // Act
+        Score result = playerServices.addScoreToPlayer(10L, newScore);
+
+        // Assert: the 10 counts as net double bogey, 4 + 2 + 1 received stroke
+        assertEquals(72, result.getPar());
+        assertEquals(72 + 17 + 6, result.getScore());
+        assertEquals(Integer.valueOf(72 + 17 + 3), result.getAdjustedScore());
+        assertEquals(20.0, result.getDifferential(), 0.0001);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddScoreToPlayer_withScorecardForAnotherPar_throws() {
+        // Arrange
+        Course course = new Course();
+        course.setCourseId(300L);
+        course.setPar(71);
+        course.setSlope(130);
+        when(courseCatalog.getCourse(300L)).thenReturn(course);
+        int[] fours = new int[Scorecard.HOLES];
+        Arrays.fill(fours, 4);
+        Score newScore = new Score();
+        newScore.setCourseId(300L);
+        newScore.setHoles(Scorecard.of(fours, fours));
+
+        // Act
+        playerServices.addScoreToPlayer(10L, newScore);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddScoreToPlayer_withUnknownCourseId_throws() {
+        // Arrange
+        Score newScore = new Score();
+        newScore.setScore(84);
+        newScore.setCourseId(999L);
+
+        // Act
+        playerServices.addScoreToPlayer(10L, newScore);
+    }
+
+    @Test
+    public void testAddScoreToPlayer_publishesScoreAndHandicapEvents() {
+        // Arrange
+        Score savedScore = createScore(1L, 88, 72, 113);
+        when(scoreDAO.saveScore(any(Score.class))).thenReturn(savedScore);
+        when(handicapService.calculatePlayerHandicap(any())).thenReturn(16.0);
+
+        // Act
+        playerServices.addScoreToPlayer(10L, createScore(null, 88, 72, 113));
+
+        // Assert
+        ArgumentCaptor<PlayerChangeEvent> events = ArgumentCaptor.forClass(PlayerChangeEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertEquals(PlayerChangeEvent.Type.SCORE_ADDED, events.getAllValues().get(0).getType());
+        PlayerChangeEvent handicapEvent = events.getAllValues().get(1);
+        assertEquals(PlayerChangeEvent.Type.HANDICAP_UPDATED, handicapEvent.getType());
+        assertEquals(10L, handicapEvent.getPlayerId().longValue());
+        assertEquals(16.0, handicapEvent.getHandicap(), 0.01);
+        verify(playerDAO, times(1)).updateHandicap(10L, 16.0);
+    }
+
+    @Test
+    public void testDeletePlayers_deletesScoresAndPlayersInBulk() {
+        // Arrange
+        List<Long> playerIds = Arrays.asList(1L, 2L, 3L);
+        when(playerDAO.deletePlayers(playerIds)).thenReturn(3);
+
+        // Act
+        int deleted = playerServices.deletePlayers(playerIds);
+
+        // Assert
+        assertEquals(3, deleted);
+        verify(scoreDAO, times(1)).deleteScoresByPlayerIds(playerIds);
+        verify(playerDAO, times(1)).deletePlayers(playerIds);
+        verify(scoreDAO, never()).deleteScoresByPlayerId(any());
+        ArgumentCaptor<PlayerChangeEvent> event = ArgumentCaptor.forClass(PlayerChangeEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        assertEquals(PlayerChangeEvent.Type.PLAYERS_DELETED, event.getValue().getType());
+        assertEquals(playerIds, event.getValue().getPlayerIds());
+    }
+
+    @Test
+    public void testDeletePlayers_withTooManyIds_throwsWithoutDeleting() {
+        List<Long> playerIds = new ArrayList<>();
+        for (long id = 1; id <= PlayerServices.MAX_BATCH_SIZE + 1; id++) {
+            playerIds.add(id);
+        }
+
+        try {
+            playerServices.deletePlayers(playerIds);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // rejected before any statement runs
+        }
+        verify(scoreDAO, never()).deleteScoresByPlayerIds(any());
+        verify(playerDAO, never()).deletePlayers(any());
+    }
+
     // Helper Methods
 
     private Player createPlayer(Long id, String name, double handicap) {
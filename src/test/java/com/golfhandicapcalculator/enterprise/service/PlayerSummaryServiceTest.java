@@ -0,0 +1,201 @@
+package com.golfhandicapcalculator.enterprise.service;
+
+import com.golfhandicapcalculator.enterprise.dao.impl.PlayerDAOMock;
+import com.golfhandicapcalculator.enterprise.dao.impl.PlayerSummaryDAOMock;
+import com.golfhandicapcalculator.enterprise.dao.impl.ScoreDAOMock;
+import com.golfhandicapcalculator.enterprise.dto.Player;
+import com.golfhandicapcalculator.enterprise.dto.PlayerSummary;
+import com.golfhandicapcalculator.enterprise.dto.PlayerSummaryCheck;
+import com.golfhandicapcalculator.enterprise.dto.Score;
+import com.golfhandicapcalculator.enterprise.service.event.PlayerChangeEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+public class PlayerSummaryServiceTest {
+
+    private static final Long SEEDED_PLAYER = 100L;
+
+    private PlayerDAOMock playerDAO;
+    private ScoreDAOMock scoreDAO;
+    private PlayerSummaryDAOMock summaryDAO;
+    private PlayerSummaryService summaryService;
+
+    @Before
+    public void setUp() {
+        playerDAO = new PlayerDAOMock();
+        scoreDAO = new ScoreDAOMock();
+        summaryDAO = new PlayerSummaryDAOMock();
+        summaryService = new PlayerSummaryService(summaryDAO, playerDAO, scoreDAO,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), true);
+    }
+
+    @Test
+    public void testHandicapUpdated_storesSummaryWithRounds() {
+        // Arrange
+        Player player = savePlayer("Bob Smith", 0.0);
+        saveScore(player.getPlayerId(), 90, Instant.parse("2024-05-01T10:00:00Z"));
+        saveScore(player.getPlayerId(), 80, Instant.parse("2024-06-01T10:00:00Z"));
+
+        // Act
+        summaryService.onPlayerChange(PlayerChangeEvent.player(
+                PlayerChangeEvent.Type.HANDICAP_UPDATED, player.getPlayerId(), 7.5));
+
+        // Assert
+        PlayerSummary summary = summaryService.getSummary(player.getPlayerId());
+        assertEquals("Bob Smith", summary.getName());
+        assertEquals(7.5, summary.getHandicap(), 0.0001);
+        assertEquals(2, summary.getRoundCount());
+        assertEquals(Instant.parse("2024-06-01T10:00:00Z"), summary.getLastRoundAt());
+        assertEquals((80 - 72) * 113 / 113.0, summary.getBestDifferential(), 0.0001);
+        assertEquals((90 - 72) * 113 / 113.0, summary.getWorstDifferential(), 0.0001);
+    }
+
+    @Test
+    public void testPlayerWithoutScores_hasEmptyRoundColumns() {
+        // Arrange
+        Player player = savePlayer("New Player", 0.0);
+
+        // Act
+        summaryService.onPlayerChange(PlayerChangeEvent.player(
+                PlayerChangeEvent.Type.PLAYER_CREATED, player.getPlayerId(), 0.0));
+
+        // Assert
+        PlayerSummary summary = summaryService.getSummary(player.getPlayerId());
+        assertEquals(0, summary.getRoundCount());
+        assertNull(summary.getLastRoundAt());
+        assertNull(summary.getBestDifferential());
+    }
+
+    @Test
+    public void testPlayerDeleted_removesSummary() {
+        // Arrange
+        summaryService.onPlayerChange(PlayerChangeEvent.player(
+                PlayerChangeEvent.Type.PLAYER_CREATED, SEEDED_PLAYER, 15.4));
+
+        // Act
+        summaryService.onPlayerChange(PlayerChangeEvent.player(
+                PlayerChangeEvent.Type.PLAYER_DELETED, SEEDED_PLAYER, null));
+
+        // Assert
+        assertNull(summaryService.getSummary(SEEDED_PLAYER));
+    }
+
+    @Test
+    public void testPlayersDeleted_removesEverySummary() {
+        // Arrange
+        summaryService.onPlayerChange(PlayerChangeEvent.player(
+                PlayerChangeEvent.Type.PLAYER_CREATED, SEEDED_PLAYER, 15.4));
+
+        // Act
+        summaryService.onPlayerChange(PlayerChangeEvent.playersDeleted(Arrays.asList(SEEDED_PLAYER, 999L)));
+
+        // Assert
+        assertNull(summaryService.getSummary(SEEDED_PLAYER));
+    }
+
+    @Test
+    public void testScoreAdded_waitsForHandicapUpdate() {
+        // Act
+        summaryService.onPlayerChange(PlayerChangeEvent.score(PlayerChangeEvent.Type.SCORE_ADDED, SEEDED_PLAYER, 5L));
+
+        // Assert
+        assertEquals(0, summaryDAO.countSummaries());
+    }
+
+    @Test
+    public void testCheckConsistency_reportsMissingStaleAndOrphaned() {
+        // Arrange
+        Player player = savePlayer("Bob Smith", 3.0);
+        summaryService.rebuild();
+        summaryDAO.fetchSummary(player.getPlayerId()).setHandicap(99.0);
+        summaryDAO.deleteSummaries(Collections.singletonList(SEEDED_PLAYER));
+        PlayerSummary orphan = new PlayerSummary();
+        orphan.setPlayerId(999L);
+        orphan.setName("Gone");
+        summaryDAO.saveSummaries(Collections.singletonList(orphan));
+
+        // Act
+        PlayerSummaryCheck check = summaryService.checkConsistency(false);
+
+        // Assert
+        assertFalse(check.isConsistent());
+        assertEquals(2, check.getPlayersChecked());
+        assertEquals(Collections.singletonList(SEEDED_PLAYER), check.getMissingPlayerIds());
+        assertEquals(Collections.singletonList(player.getPlayerId()), check.getStalePlayerIds());
+        assertEquals(Collections.singletonList(999L), check.getOrphanedPlayerIds());
+        assertNotNull(summaryDAO.fetchSummary(999L));
+    }
+
+    @Test
+    public void testCheckConsistency_withRepair_fixesDifferences() {
+        // Arrange
+        savePlayer("Bob Smith", 3.0);
+        PlayerSummary orphan = new PlayerSummary();
+        orphan.setPlayerId(999L);
+        orphan.setName("Gone");
+        summaryDAO.saveSummaries(Collections.singletonList(orphan));
+
+        // Act
+        PlayerSummaryCheck repaired = summaryService.checkConsistency(true);
+
+        // Assert
+        assertEquals(2, repaired.getMissingCount());
+        assertEquals(1, repaired.getOrphanedCount());
+        assertTrue(summaryService.checkConsistency(false).isConsistent());
+        assertEquals(2, summaryDAO.countSummaries());
+    }
+
+    @Test
+    public void testRebuildIfEmpty_fillsReadModel() {
+        // Act
+        summaryService.rebuildIfEmpty();
+
+        // Assert
+        PlayerSummary summary = summaryService.getSummary(SEEDED_PLAYER);
+        assertEquals("Alice Jones", summary.getName());
+        assertEquals(1, summary.getRoundCount());
+    }
+
+    @Test
+    public void testRebuild_continuesPastTheFirstBatch() {
+        // Arrange: the seeded player plus enough players for a third, partial batch
+        int players = 2 * PlayerSummaryService.BATCH_SIZE + 10;
+        for (int i = 1; i < players; i++) {
+            savePlayer("Player " + i, 0.0);
+        }
+
+        // Act
+        long checked = summaryService.rebuild();
+
+        // Assert
+        assertEquals(players, checked);
+        assertTrue(summaryService.checkConsistency(false).isConsistent());
+    }
+
+    private Player savePlayer(String name, double handicap) {
+        Player player = new Player();
+        player.setName(name);
+        player.setHandicap(handicap);
+        return playerDAO.savePlayer(player);
+    }
+
+    private void saveScore(Long playerId, int strokes, Instant recordedAt) {
+        Score score = new Score();
+        score.setPlayerId(playerId);
+        score.setScore(strokes);
+        score.setPar(72);
+        score.setSlope(113);
+        score.setRecordedAt(recordedAt);
+        score.updateDifferential();
+        scoreDAO.saveScore(score);
+    }
+}
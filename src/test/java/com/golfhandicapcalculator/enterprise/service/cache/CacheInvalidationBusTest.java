@@ -0,0 +1,177 @@
+package com.golfhandicapcalculator.enterprise.service.cache;
+
+import com.golfhandicapcalculator.enterprise.service.event.PlayerChangeEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.*;
+
+public class CacheInvalidationBusTest {
+
+    private InMemoryTransport transport;
+    private AtomicLong clock;
+    private ConcurrentMapCacheManager localCaches;
+    private ConcurrentMapCacheManager remoteCaches;
+    private CacheInvalidationBus local;
+    private CacheInvalidationBus remote;
+
+    @Before
+    public void setUp() {
+        transport = new InMemoryTransport();
+        clock = new AtomicLong(1_000);
+        localCaches = new ConcurrentMapCacheManager("player", "handicap", "clubStatistics");
+        remoteCaches = new ConcurrentMapCacheManager("player", "handicap", "clubStatistics");
+        local = new CacheInvalidationBus(localCaches, transport, Arrays.asList("player", "handicap"),
+                Collections.singletonList("clubStatistics"), 3, clock::get);
+        remote = new CacheInvalidationBus(remoteCaches, transport, Arrays.asList("player", "handicap"),
+                Collections.singletonList("clubStatistics"), 3, clock::get);
+        local.start();
+        remote.start();
+    }
+
+    @Test
+    public void testPlayerChange_evictsPlayerOnOtherNode() {
+        Cache player = remoteCaches.getCache("player");
+        Cache handicap = remoteCaches.getCache("handicap");
+        player.put(1L, "stale");
+        player.put(2L, "fresh");
+        handicap.put(1L, 12.5);
+
+        local.onPlayerChange(PlayerChangeEvent.player(PlayerChangeEvent.Type.PLAYER_UPDATED, 1L, 10.0));
+        local.flush();
+
+        assertNull(player.get(1L));
+        assertNull(handicap.get(1L));
+        assertNotNull(player.get(2L));
+    }
+
+    @Test
+    public void testPlayerChange_clearsAggregateCachesOnOtherNode() {
+        Cache statistics = remoteCaches.getCache("clubStatistics");
+        statistics.put("club", "stale");
+
+        local.onPlayerChange(PlayerChangeEvent.score(PlayerChangeEvent.Type.SCORE_ADDED, 1L, 5L));
+        local.flush();
+
+        assertNull(statistics.get("club"));
+    }
+
+    @Test
+    public void testRepeatedChanges_areSentAsOneDeduplicatedBatch() {
+        local.onPlayerChange(PlayerChangeEvent.score(PlayerChangeEvent.Type.SCORE_ADDED, 1L, 5L));
+        local.onPlayerChange(PlayerChangeEvent.player(PlayerChangeEvent.Type.HANDICAP_UPDATED, 1L, 9.0));
+        local.onPlayerChange(PlayerChangeEvent.score(PlayerChangeEvent.Type.SCORE_ADDED, 2L, 6L));
+        local.flush();
+        local.flush();
+
+        assertEquals(1, transport.sent.size());
+        assertTrue(transport.sent.get(0).endsWith(";1,2"));
+    }
+
+    @Test
+    public void testBulkChange_clearsCachesOnOtherNode() {
+        remoteCaches.getCache("player").put(1L, "stale");
+        remoteCaches.getCache("clubStatistics").put("club", "stale");
+
+        local.onPlayerChange(new PlayerChangeEvent(PlayerChangeEvent.Type.SCORES_PURGED, null, null, null));
+        local.flush();
+
+        assertNull(remoteCaches.getCache("player").get(1L));
+        assertNull(remoteCaches.getCache("clubStatistics").get("club"));
+        assertTrue(transport.sent.get(0).endsWith(";*"));
+    }
+
+    @Test
+    public void testBulkDelete_evictsEachPlayerOnOtherNode() {
+        Cache player = remoteCaches.getCache("player");
+        player.put(1L, "stale");
+        player.put(2L, "stale");
+        player.put(3L, "fresh");
+
+        local.onPlayerChange(PlayerChangeEvent.playersDeleted(Arrays.asList(1L, 2L)));
+        local.flush();
+
+        assertNull(player.get(1L));
+        assertNull(player.get(2L));
+        assertNotNull(player.get(3L));
+        assertTrue(transport.sent.get(0).endsWith(";1,2"));
+    }
+
+    @Test
+    public void testBatchOverLimit_collapsesIntoClear() {
+        for (long playerId = 1; playerId <= 4; playerId++) {
+            local.onPlayerChange(PlayerChangeEvent.player(PlayerChangeEvent.Type.PLAYER_UPDATED, playerId, 1.0));
+        }
+        local.flush();
+
+        assertTrue(transport.sent.get(0).endsWith(";*"));
+    }
+
+    @Test
+    public void testOwnBatch_isIgnored() {
+        localCaches.getCache("player").put(1L, "just written");
+
+        local.onPlayerChange(PlayerChangeEvent.player(PlayerChangeEvent.Type.PLAYER_UPDATED, 1L, 10.0));
+        local.flush();
+
+        assertNotNull(localCaches.getCache("player").get(1L));
+        assertEquals(Long.valueOf(0), local.getStatistics().get("batchesReceived"));
+    }
+
+    @Test
+    public void testFailedSend_isRetriedWithNextFlush() {
+        transport.failNext = true;
+        local.onPlayerChange(PlayerChangeEvent.player(PlayerChangeEvent.Type.PLAYER_UPDATED, 1L, 10.0));
+        local.flush();
+        local.onPlayerChange(PlayerChangeEvent.player(PlayerChangeEvent.Type.PLAYER_UPDATED, 2L, 10.0));
+        local.flush();
+
+        assertEquals(1, transport.sent.size());
+        assertTrue(transport.sent.get(0).endsWith(";1,2"));
+    }
+
+    @Test
+    public void testInvalidationLag_isMeasuredFromFirstChange() {
+        local.onPlayerChange(PlayerChangeEvent.player(PlayerChangeEvent.Type.PLAYER_UPDATED, 1L, 10.0));
+        clock.addAndGet(40);
+        local.onPlayerChange(PlayerChangeEvent.player(PlayerChangeEvent.Type.PLAYER_UPDATED, 2L, 10.0));
+        clock.addAndGet(10);
+        local.flush();
+
+        assertEquals(Long.valueOf(1), remote.getStatistics().get("batchesReceived"));
+        assertEquals(Long.valueOf(50), remote.getStatistics().get("lastLagMillis"));
+        assertEquals(Long.valueOf(50), remote.getStatistics().get("maxLagMillis"));
+        assertEquals(Long.valueOf(1), local.getStatistics().get("batchesSent"));
+    }
+
+    private static class InMemoryTransport implements CacheInvalidationTransport {
+
+        private final List<Consumer<String>> receivers = new ArrayList<>();
+        private final List<String> sent = new ArrayList<>();
+        private boolean failNext;
+
+        @Override
+        public void send(String payload) {
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("broker unavailable");
+            }
+            sent.add(payload);
+            receivers.forEach(receiver -> receiver.accept(payload));
+        }
+
+        @Override
+        public void subscribe(Consumer<String> receiver) {
+            receivers.add(receiver);
+        }
+    }
+}
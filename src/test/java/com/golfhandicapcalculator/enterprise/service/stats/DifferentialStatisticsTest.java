@@ -0,0 +1,70 @@
+package com.golfhandicapcalculator.enterprise.service.stats;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.stream.DoubleStream;
+
+import static org.junit.Assert.*;
+
+public class DifferentialStatisticsTest {
+
+    @Test
+    public void testAccept_computesMeanDeviationAndExtremes() {
+        DifferentialStatistics statistics = collect(DoubleStream.of(10.0, 12.0, 14.0, 16.0), false);
+
+        assertEquals(4, statistics.getCount());
+        assertEquals(13.0, statistics.getMean(), 1e-9);
+        assertEquals(Math.sqrt(20.0 / 3), statistics.getStandardDeviation(), 1e-9);
+        assertEquals(10.0, statistics.getMin(), 1e-9);
+        assertEquals(16.0, statistics.getMax(), 1e-9);
+    }
+
+    @Test
+    public void testCombine_parallelMatchesSequential() {
+        double[] values = new Random(42).doubles(200_000, -5, 45).toArray();
+
+        DifferentialStatistics sequential = collect(DoubleStream.of(values), false);
+        DifferentialStatistics parallel = collect(DoubleStream.of(values), true);
+
+        assertEquals(sequential.getCount(), parallel.getCount());
+        assertEquals(sequential.getMean(), parallel.getMean(), 1e-9);
+        assertEquals(sequential.getStandardDeviation(), parallel.getStandardDeviation(), 1e-9);
+        assertEquals(sequential.getMedian(), parallel.getMedian());
+        assertEquals(sequential.getHistogram(), parallel.getHistogram());
+    }
+
+    @Test
+    public void testQuantiles_areAccurateToTheHistogramResolution() {
+        DifferentialStatistics statistics = collect(DoubleStream.iterate(0.0, d -> d + 0.01).limit(2001), true);
+
+        assertEquals(2.0, statistics.getP10(), 0.1);
+        assertEquals(10.0, statistics.getMedian(), 0.1);
+        assertEquals(18.0, statistics.getP90(), 0.1);
+    }
+
+    @Test
+    public void testHistogram_groupsByWholeStroke() {
+        DifferentialStatistics statistics = collect(DoubleStream.of(-0.5, 0.2, 0.9, 13.4, 13.99), false);
+
+        assertEquals(Long.valueOf(1), statistics.getHistogram().get(-1));
+        assertEquals(Long.valueOf(2), statistics.getHistogram().get(0));
+        assertEquals(Long.valueOf(2), statistics.getHistogram().get(13));
+        assertEquals(3, statistics.getHistogram().size());
+    }
+
+    @Test
+    public void testEmpty_returnsNullSummaries() {
+        DifferentialStatistics statistics = collect(DoubleStream.empty(), true);
+
+        assertEquals(0, statistics.getCount());
+        assertNull(statistics.getMean());
+        assertNull(statistics.getMedian());
+        assertTrue(statistics.getHistogram().isEmpty());
+    }
+
+    private DifferentialStatistics collect(DoubleStream values, boolean parallel) {
+        return (parallel ? values.parallel() : values).collect(
+                DifferentialStatistics::new, DifferentialStatistics::accept, DifferentialStatistics::combine);
+    }
+}